@@ -0,0 +1,105 @@
+package babysteps.codec;
+
+import babysteps.core.ImmutableList;
+import babysteps.core.Result;
+import babysteps.fp.Tuple2;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures encoding and decoding throughput of {@link Codecs} against Java serialization.
+ *
+ * <p>Run with {@code ./gradlew :codec:jmh}. The payload is a list of {@code size} results that
+ * are either an {@code (id, count)} tuple or an error message, the shape of a typical cache entry.
+ * The Java serialization baseline writes the same data as serializable JDK entries and strings,
+ * because the babysteps types are not {@link java.io.Serializable}. The codec benchmarks encode
+ * into a reused direct buffer, so their {@code gc.alloc.rate.norm} only counts the decoded values.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CodecBenchmark {
+  private static final BinaryCodec<ImmutableList<Result<Tuple2<String, Long>, String>>> CODEC =
+      Codecs.list(
+          Codecs.result(Codecs.tuple2(Codecs.strings(), Codecs.varLongs()), Codecs.strings()));
+
+  @Param({"10", "1000"})
+  private int size;
+
+  private ImmutableList<Result<Tuple2<String, Long>, String>> values;
+  private ByteBuffer buffer;
+  private ArrayList<Object> serializable;
+  private byte[] serialized;
+
+  @Setup
+  public void setUp() throws IOException {
+    final var builder = ImmutableList.<Result<Tuple2<String, Long>, String>>builder(size);
+    serializable = new ArrayList<>(size);
+    for (int index = 0; index < size; index++) {
+      if (index % 10 == 9) {
+        builder.add(Result.err("missing item-" + index));
+        serializable.add("missing item-" + index);
+      } else {
+        builder.add(Result.ok(new Tuple2<>("item-" + index, index * 31L)));
+        serializable.add(new AbstractMap.SimpleImmutableEntry<>("item-" + index, index * 31L));
+      }
+    }
+    values = builder.build();
+    buffer = ByteBuffer.allocateDirect(CODEC.sizeOf(values));
+    CODEC.write(buffer, values);
+    serialized = javaSerialize();
+  }
+
+  @Benchmark
+  public int encode() {
+    buffer.clear();
+    CODEC.write(buffer, values);
+    return buffer.position();
+  }
+
+  @Benchmark
+  public ImmutableList<Result<Tuple2<String, Long>, String>> decode() {
+    return CODEC.read(buffer.rewind());
+  }
+
+  @Benchmark
+  public byte[] javaSerializationEncode() throws IOException {
+    return javaSerialize();
+  }
+
+  @Benchmark
+  public Object javaSerializationDecode() throws IOException, ClassNotFoundException {
+    try (var input = new ObjectInputStream(new ByteArrayInputStream(serialized))) {
+      return input.readObject();
+    }
+  }
+
+  private byte[] javaSerialize() throws IOException {
+    final var bytes = new ByteArrayOutputStream();
+    try (var output = new ObjectOutputStream(bytes)) {
+      output.writeObject(serializable);
+    }
+    return bytes.toByteArray();
+  }
+}
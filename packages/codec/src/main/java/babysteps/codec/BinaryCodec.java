@@ -0,0 +1,132 @@
+package babysteps.codec;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Typed binary encoding of values of one type.
+ *
+ * <p>A codec writes a value at the buffer's position and advances the position past the bytes it
+ * wrote; reading consumes exactly the bytes written for one value. The encoding carries no schema
+ * or type names, so both sides must agree on the codec, which is built by composing the element
+ * codecs in {@link Codecs}.
+ *
+ * <p>Technical background: {@link #sizeOf(Object)} returns the exact number of bytes {@link
+ * #write(ByteBuffer, Object)} will produce, so callers can allocate or reserve buffer space up
+ * front and encode straight into a pooled or direct buffer without intermediate byte arrays.
+ *
+ * <p>Sample usage:
+ *
+ * <pre>{@code
+ * BinaryCodec<Result<Tuple2<String, Long>, String>> codec =
+ *     Codecs.result(Codecs.tuple2(Codecs.strings(), Codecs.varLongs()), Codecs.strings());
+ *
+ * ByteBuffer buffer = ByteBuffer.allocate(codec.sizeOf(value));
+ * codec.write(buffer, value);
+ * Result<Tuple2<String, Long>, String> copy = codec.read(buffer.flip());
+ * }</pre>
+ *
+ * @param <T> encoded value type
+ */
+public interface BinaryCodec<T> {
+  /**
+   * Creates a codec from its three operations.
+   *
+   * @param writer writes a value at the buffer's position and advances it
+   * @param reader reads one value at the buffer's position and advances past it
+   * @param sizer returns the exact number of bytes {@code writer} writes for a value
+   * @param <T> encoded value type
+   * @return codec combining the operations
+   * @throws NullPointerException if any argument is {@code null}
+   */
+  static <T> @NonNull BinaryCodec<T> of(
+      @NonNull BiConsumer<? super ByteBuffer, ? super T> writer,
+      @NonNull Function<? super ByteBuffer, ? extends T> reader,
+      @NonNull ToIntFunction<? super T> sizer) {
+    Objects.requireNonNull(writer, "writer");
+    Objects.requireNonNull(reader, "reader");
+    Objects.requireNonNull(sizer, "sizer");
+    return new BinaryCodec<>() {
+      @Override
+      public void write(@NonNull ByteBuffer buffer, T value) {
+        writer.accept(buffer, value);
+      }
+
+      @Override
+      public T read(@NonNull ByteBuffer buffer) {
+        return reader.apply(buffer);
+      }
+
+      @Override
+      public int sizeOf(T value) {
+        return sizer.applyAsInt(value);
+      }
+    };
+  }
+
+  /**
+   * Writes a value at the buffer's position and advances the position.
+   *
+   * @param buffer target buffer
+   * @param value value to encode
+   * @throws java.nio.BufferOverflowException if the buffer has fewer than {@link
+   *     #sizeOf(Object)} bytes remaining
+   */
+  void write(@NonNull ByteBuffer buffer, T value);
+
+  /**
+   * Reads one value at the buffer's position and advances the position past it.
+   *
+   * @param buffer source buffer
+   * @return decoded value
+   * @throws java.nio.BufferUnderflowException if the buffer ends before the value does
+   * @throws IllegalArgumentException if the bytes are not a valid encoding
+   */
+  T read(@NonNull ByteBuffer buffer);
+
+  /**
+   * Returns the exact number of bytes {@link #write(ByteBuffer, Object)} writes for a value.
+   *
+   * @param value value to measure
+   * @return encoded size in bytes
+   */
+  int sizeOf(T value);
+
+  /**
+   * Adapts this codec to another type through a pair of conversions.
+   *
+   * <p>Typical use is encoding a record as a tuple of its components.
+   *
+   * @param decoder conversion applied after reading
+   * @param encoder conversion applied before writing and measuring
+   * @param <U> adapted value type
+   * @return codec for the adapted type
+   * @throws NullPointerException if {@code decoder} or {@code encoder} is {@code null}
+   */
+  default <U> @NonNull BinaryCodec<U> xmap(
+      @NonNull Function<? super T, ? extends U> decoder,
+      @NonNull Function<? super U, ? extends T> encoder) {
+    Objects.requireNonNull(decoder, "decoder");
+    Objects.requireNonNull(encoder, "encoder");
+    return of(
+        (buffer, value) -> write(buffer, encoder.apply(value)),
+        buffer -> decoder.apply(read(buffer)),
+        value -> sizeOf(encoder.apply(value)));
+  }
+
+  /**
+   * Encodes a value into a new heap buffer of exactly the required size.
+   *
+   * @param value value to encode
+   * @return buffer positioned at zero whose remaining bytes are the encoding
+   */
+  default @NonNull ByteBuffer encode(T value) {
+    final var buffer = ByteBuffer.allocate(sizeOf(value));
+    write(buffer, value);
+    return buffer.flip();
+  }
+}
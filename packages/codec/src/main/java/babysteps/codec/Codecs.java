@@ -0,0 +1,586 @@
+package babysteps.codec;
+
+import babysteps.core.Either;
+import babysteps.core.ImmutableList;
+import babysteps.core.Option;
+import babysteps.core.Result;
+import babysteps.core.Try;
+import babysteps.core.Validated;
+import babysteps.fp.Tuple2;
+import babysteps.fp.Tuple3;
+import babysteps.fp.Tuple4;
+import babysteps.fp.Tuple5;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Factories for {@link BinaryCodec}s of primitives, strings and the babysteps value types.
+ *
+ * <p>Codecs compose: the codec of an {@code Option<ImmutableList<String>>} is {@code
+ * option(list(strings()))}. Sum types start with a one-byte tag, with {@code 0} for the first case
+ * ({@code None}, {@code Ok}, {@code Left}, {@code Success}) and {@code 1} for the second. Lengths
+ * and counts are unsigned varints and tuples are their components back to back, so an encoding
+ * holds no field names or type information.
+ *
+ * <p>Element codecs do not accept {@code null} unless wrapped with {@link
+ * #nullable(BinaryCodec)}; this also applies to {@code null}s held by {@code Some}, {@code Ok} and
+ * the other cases.
+ */
+public final class Codecs {
+  private Codecs() {}
+
+  private static final BinaryCodec<Boolean> BOOLEANS =
+      BinaryCodec.of(
+          (buffer, value) -> buffer.put((byte) (value ? 1 : 0)),
+          buffer -> tag(buffer, "Boolean") == 1,
+          value -> 1);
+
+  private static final BinaryCodec<Integer> VAR_INTS =
+      BinaryCodec.of(
+          (buffer, value) -> Varints.writeUnsignedInt(buffer, Varints.zigZag(value)),
+          buffer -> Varints.unZigZag(Varints.readUnsignedInt(buffer)),
+          value -> Varints.sizeOfUnsignedInt(Varints.zigZag(value)));
+
+  private static final BinaryCodec<Long> VAR_LONGS =
+      BinaryCodec.of(
+          (buffer, value) -> Varints.writeUnsignedLong(buffer, Varints.zigZag(value)),
+          buffer -> Varints.unZigZag(Varints.readUnsignedLong(buffer)),
+          value -> Varints.sizeOfUnsignedLong(Varints.zigZag(value)));
+
+  private static final BinaryCodec<Double> DOUBLES =
+      BinaryCodec.of(
+          (buffer, value) -> buffer.putDouble(value), ByteBuffer::getDouble, value -> Double.BYTES);
+
+  private static final BinaryCodec<String> STRINGS =
+      BinaryCodec.of(Codecs::writeString, Codecs::readString, Codecs::sizeOfString);
+
+  /**
+   * Returns a codec that stores a {@link Boolean} in one byte.
+   *
+   * @return boolean codec
+   */
+  public static @NonNull BinaryCodec<Boolean> booleans() {
+    return BOOLEANS;
+  }
+
+  /**
+   * Returns a codec that stores an {@link Integer} as a zigzag varint of one to five bytes.
+   *
+   * @return variable-length int codec
+   */
+  public static @NonNull BinaryCodec<Integer> varInts() {
+    return VAR_INTS;
+  }
+
+  /**
+   * Returns a codec that stores a {@link Long} as a zigzag varint of one to ten bytes.
+   *
+   * @return variable-length long codec
+   */
+  public static @NonNull BinaryCodec<Long> varLongs() {
+    return VAR_LONGS;
+  }
+
+  /**
+   * Returns a codec that stores a {@link Double} in eight bytes of the buffer's byte order.
+   *
+   * @return double codec
+   */
+  public static @NonNull BinaryCodec<Double> doubles() {
+    return DOUBLES;
+  }
+
+  /**
+   * Returns a codec that stores a {@link String} as a varint byte length followed by UTF-8.
+   *
+   * <p>Strings are encoded character by character directly into the buffer. Unpaired surrogates
+   * are written as {@code '?'}, as {@link String#getBytes(java.nio.charset.Charset)} does.
+   *
+   * @return string codec
+   */
+  public static @NonNull BinaryCodec<String> strings() {
+    return STRINGS;
+  }
+
+  /**
+   * Returns a codec that also accepts {@code null} by prefixing a presence byte.
+   *
+   * @param codec codec of non-null values
+   * @param <T> value type
+   * @return null-tolerant codec
+   * @throws NullPointerException if {@code codec} is {@code null}
+   */
+  public static <T> @NonNull BinaryCodec<@Nullable T> nullable(@NonNull BinaryCodec<T> codec) {
+    Objects.requireNonNull(codec, "codec");
+    return BinaryCodec.of(
+        (buffer, value) -> {
+          if (value == null) {
+            buffer.put((byte) 0);
+          } else {
+            buffer.put((byte) 1);
+            codec.write(buffer, value);
+          }
+        },
+        buffer -> tag(buffer, "nullable") == 0 ? null : codec.read(buffer),
+        value -> value == null ? 1 : 1 + codec.sizeOf(value));
+  }
+
+  /**
+   * Returns a codec for {@link Option}: tag {@code 0} for {@code None}, or tag {@code 1} and the
+   * value for {@code Some}.
+   *
+   * @param codec codec of the value
+   * @param <T> value type
+   * @return option codec
+   * @throws NullPointerException if {@code codec} is {@code null}
+   */
+  public static <T> @NonNull BinaryCodec<Option<T>> option(@NonNull BinaryCodec<T> codec) {
+    Objects.requireNonNull(codec, "codec");
+    return BinaryCodec.of(
+        (buffer, option) -> {
+          if (option instanceof Option.Some<T> some) {
+            buffer.put((byte) 1);
+            codec.write(buffer, some.value());
+          } else {
+            buffer.put((byte) 0);
+          }
+        },
+        buffer -> tag(buffer, "Option") == 0 ? Option.none() : Option.some(codec.read(buffer)),
+        option -> option instanceof Option.Some<T> some ? 1 + codec.sizeOf(some.value()) : 1);
+  }
+
+  /**
+   * Returns a codec for {@link Result}: tag {@code 0} and the value for {@code Ok}, or tag {@code
+   * 1} and the error for {@code Err}.
+   *
+   * @param okCodec codec of the success value
+   * @param errCodec codec of the error
+   * @param <T> success value type
+   * @param <E> error type
+   * @return result codec
+   * @throws NullPointerException if {@code okCodec} or {@code errCodec} is {@code null}
+   */
+  public static <T, E> @NonNull BinaryCodec<Result<T, E>> result(
+      @NonNull BinaryCodec<T> okCodec, @NonNull BinaryCodec<E> errCodec) {
+    Objects.requireNonNull(okCodec, "okCodec");
+    Objects.requireNonNull(errCodec, "errCodec");
+    return BinaryCodec.of(
+        (buffer, result) -> {
+          switch (result) {
+            case Result.Ok<T, E> ok -> {
+              buffer.put((byte) 0);
+              okCodec.write(buffer, ok.value());
+            }
+            case Result.Err<T, E> err -> {
+              buffer.put((byte) 1);
+              errCodec.write(buffer, err.error());
+            }
+          }
+        },
+        buffer ->
+            tag(buffer, "Result") == 0
+                ? Result.ok(okCodec.read(buffer))
+                : Result.err(errCodec.read(buffer)),
+        result ->
+            switch (result) {
+              case Result.Ok<T, E> ok -> 1 + okCodec.sizeOf(ok.value());
+              case Result.Err<T, E> err -> 1 + errCodec.sizeOf(err.error());
+            });
+  }
+
+  /**
+   * Returns a codec for {@link Either}: tag {@code 0} and the value for {@code Left}, or tag
+   * {@code 1} and the value for {@code Right}.
+   *
+   * @param leftCodec codec of left values
+   * @param rightCodec codec of right values
+   * @param <L> left type
+   * @param <R> right type
+   * @return either codec
+   * @throws NullPointerException if {@code leftCodec} or {@code rightCodec} is {@code null}
+   */
+  public static <L, R> @NonNull BinaryCodec<Either<L, R>> either(
+      @NonNull BinaryCodec<L> leftCodec, @NonNull BinaryCodec<R> rightCodec) {
+    Objects.requireNonNull(leftCodec, "leftCodec");
+    Objects.requireNonNull(rightCodec, "rightCodec");
+    return BinaryCodec.of(
+        (buffer, either) -> {
+          switch (either) {
+            case Either.Left<L, R> left -> {
+              buffer.put((byte) 0);
+              leftCodec.write(buffer, left.value());
+            }
+            case Either.Right<L, R> right -> {
+              buffer.put((byte) 1);
+              rightCodec.write(buffer, right.value());
+            }
+          }
+        },
+        buffer ->
+            tag(buffer, "Either") == 0
+                ? Either.left(leftCodec.read(buffer))
+                : Either.right(rightCodec.read(buffer)),
+        either ->
+            switch (either) {
+              case Either.Left<L, R> left -> 1 + leftCodec.sizeOf(left.value());
+              case Either.Right<L, R> right -> 1 + rightCodec.sizeOf(right.value());
+            });
+  }
+
+  /**
+   * Returns a codec for {@link Try}: tag {@code 0} and the value for {@code Success}, or tag
+   * {@code 1} and the error for {@code Failure}.
+   *
+   * <p>Exceptions have no portable binary form, so the caller decides what survives the trip, for
+   * example {@code strings().xmap(IllegalStateException::new, Throwable::toString)}.
+   *
+   * @param valueCodec codec of success values
+   * @param errorCodec codec of failure causes
+   * @param <T> success value type
+   * @return try codec
+   * @throws NullPointerException if {@code valueCodec} or {@code errorCodec} is {@code null}
+   */
+  public static <T> @NonNull BinaryCodec<Try<T>> tryOf(
+      @NonNull BinaryCodec<T> valueCodec, @NonNull BinaryCodec<Throwable> errorCodec) {
+    Objects.requireNonNull(valueCodec, "valueCodec");
+    Objects.requireNonNull(errorCodec, "errorCodec");
+    return BinaryCodec.of(
+        (buffer, attempt) -> {
+          switch (attempt) {
+            case Try.Success<T> success -> {
+              buffer.put((byte) 0);
+              valueCodec.write(buffer, success.value());
+            }
+            case Try.Failure<T> failure -> {
+              buffer.put((byte) 1);
+              errorCodec.write(buffer, failure.error());
+            }
+          }
+        },
+        buffer ->
+            tag(buffer, "Try") == 0
+                ? Try.success(valueCodec.read(buffer))
+                : Try.failure(errorCodec.read(buffer)),
+        attempt ->
+            switch (attempt) {
+              case Try.Success<T> success -> 1 + valueCodec.sizeOf(success.value());
+              case Try.Failure<T> failure -> 1 + errorCodec.sizeOf(failure.error());
+            });
+  }
+
+  /**
+   * Returns a codec for {@link Validated}: tag {@code 0} and the value for {@code Ok}, or tag
+   * {@code 1}, the error count and the errors for {@code Err}.
+   *
+   * @param okCodec codec of the success value
+   * @param errCodec codec of each error
+   * @param <T> success value type
+   * @param <E> error type
+   * @return validated codec
+   * @throws NullPointerException if {@code okCodec} or {@code errCodec} is {@code null}
+   */
+  public static <T, E> @NonNull BinaryCodec<Validated<T, E>> validated(
+      @NonNull BinaryCodec<T> okCodec, @NonNull BinaryCodec<E> errCodec) {
+    Objects.requireNonNull(okCodec, "okCodec");
+    Objects.requireNonNull(errCodec, "errCodec");
+    return BinaryCodec.of(
+        (buffer, validated) -> {
+          switch (validated) {
+            case Validated.Ok<T, E> ok -> {
+              buffer.put((byte) 0);
+              okCodec.write(buffer, ok.value());
+            }
+            case Validated.Err<T, E> err -> {
+              buffer.put((byte) 1);
+              Varints.writeLength(buffer, err.errors().size());
+              for (final var error : err.errors()) {
+                errCodec.write(buffer, error);
+              }
+            }
+          }
+        },
+        buffer -> {
+          if (tag(buffer, "Validated") == 0) {
+            return Validated.ok(okCodec.read(buffer));
+          }
+          final var count = Varints.readLength(buffer);
+          if (count == 0) {
+            throw new IllegalArgumentException("Validated.Err must hold at least one error");
+          }
+          final var errors = new ArrayList<E>(Math.min(count, buffer.remaining()));
+          for (int index = 0; index < count; index++) {
+            errors.add(errCodec.read(buffer));
+          }
+          return Validated.errs(errors);
+        },
+        validated -> {
+          switch (validated) {
+            case Validated.Ok<T, E> ok -> {
+              return 1 + okCodec.sizeOf(ok.value());
+            }
+            case Validated.Err<T, E> err -> {
+              var size = 1 + Varints.sizeOfUnsignedInt(err.errors().size());
+              for (final var error : err.errors()) {
+                size += errCodec.sizeOf(error);
+              }
+              return size;
+            }
+          }
+        });
+  }
+
+  /**
+   * Returns a codec for {@link ImmutableList}: the element count followed by the elements.
+   *
+   * @param codec codec of each element
+   * @param <T> element type
+   * @return list codec
+   * @throws NullPointerException if {@code codec} is {@code null}
+   */
+  public static <T> @NonNull BinaryCodec<ImmutableList<T>> list(@NonNull BinaryCodec<T> codec) {
+    Objects.requireNonNull(codec, "codec");
+    return BinaryCodec.of(
+        (buffer, list) -> {
+          Varints.writeLength(buffer, list.size());
+          list.forEach(value -> codec.write(buffer, value));
+        },
+        buffer -> {
+          final var count = Varints.readLength(buffer);
+          final var builder = ImmutableList.<T>builder(Math.min(count, buffer.remaining()));
+          for (int index = 0; index < count; index++) {
+            builder.add(codec.read(buffer));
+          }
+          return builder.build();
+        },
+        list ->
+            list.foldInt(
+                Varints.sizeOfUnsignedInt(list.size()),
+                (size, value) -> size + codec.sizeOf(value)));
+  }
+
+  /**
+   * Returns a codec for {@link Tuple2} that writes the components back to back.
+   *
+   * @param first codec of the first component
+   * @param second codec of the second component
+   * @param <A> first component type
+   * @param <B> second component type
+   * @return tuple codec
+   * @throws NullPointerException if any codec is {@code null}
+   */
+  public static <A, B> @NonNull BinaryCodec<Tuple2<A, B>> tuple2(
+      @NonNull BinaryCodec<A> first, @NonNull BinaryCodec<B> second) {
+    Objects.requireNonNull(first, "first");
+    Objects.requireNonNull(second, "second");
+    return BinaryCodec.of(
+        (buffer, tuple) -> {
+          first.write(buffer, tuple.first());
+          second.write(buffer, tuple.second());
+        },
+        buffer -> new Tuple2<>(first.read(buffer), second.read(buffer)),
+        tuple -> first.sizeOf(tuple.first()) + second.sizeOf(tuple.second()));
+  }
+
+  /**
+   * Returns a codec for {@link Tuple3} that writes the components back to back.
+   *
+   * @param first codec of the first component
+   * @param second codec of the second component
+   * @param third codec of the third component
+   * @param <A> first component type
+   * @param <B> second component type
+   * @param <C> third component type
+   * @return tuple codec
+   * @throws NullPointerException if any codec is {@code null}
+   */
+  public static <A, B, C> @NonNull BinaryCodec<Tuple3<A, B, C>> tuple3(
+      @NonNull BinaryCodec<A> first,
+      @NonNull BinaryCodec<B> second,
+      @NonNull BinaryCodec<C> third) {
+    Objects.requireNonNull(first, "first");
+    Objects.requireNonNull(second, "second");
+    Objects.requireNonNull(third, "third");
+    return BinaryCodec.of(
+        (buffer, tuple) -> {
+          first.write(buffer, tuple.first());
+          second.write(buffer, tuple.second());
+          third.write(buffer, tuple.third());
+        },
+        buffer -> new Tuple3<>(first.read(buffer), second.read(buffer), third.read(buffer)),
+        tuple ->
+            first.sizeOf(tuple.first())
+                + second.sizeOf(tuple.second())
+                + third.sizeOf(tuple.third()));
+  }
+
+  /**
+   * Returns a codec for {@link Tuple4} that writes the components back to back.
+   *
+   * @param first codec of the first component
+   * @param second codec of the second component
+   * @param third codec of the third component
+   * @param fourth codec of the fourth component
+   * @param <A> first component type
+   * @param <B> second component type
+   * @param <C> third component type
+   * @param <D> fourth component type
+   * @return tuple codec
+   * @throws NullPointerException if any codec is {@code null}
+   */
+  public static <A, B, C, D> @NonNull BinaryCodec<Tuple4<A, B, C, D>> tuple4(
+      @NonNull BinaryCodec<A> first,
+      @NonNull BinaryCodec<B> second,
+      @NonNull BinaryCodec<C> third,
+      @NonNull BinaryCodec<D> fourth) {
+    Objects.requireNonNull(first, "first");
+    Objects.requireNonNull(second, "second");
+    Objects.requireNonNull(third, "third");
+    Objects.requireNonNull(fourth, "fourth");
+    return BinaryCodec.of(
+        (buffer, tuple) -> {
+          first.write(buffer, tuple.first());
+          second.write(buffer, tuple.second());
+          third.write(buffer, tuple.third());
+          fourth.write(buffer, tuple.fourth());
+        },
+        buffer ->
+            new Tuple4<>(
+                first.read(buffer), second.read(buffer), third.read(buffer), fourth.read(buffer)),
+        tuple ->
+            first.sizeOf(tuple.first())
+                + second.sizeOf(tuple.second())
+                + third.sizeOf(tuple.third())
+                + fourth.sizeOf(tuple.fourth()));
+  }
+
+  /**
+   * Returns a codec for {@link Tuple5} that writes the components back to back.
+   *
+   * @param first codec of the first component
+   * @param second codec of the second component
+   * @param third codec of the third component
+   * @param fourth codec of the fourth component
+   * @param fifth codec of the fifth component
+   * @param <A> first component type
+   * @param <B> second component type
+   * @param <C> third component type
+   * @param <D> fourth component type
+   * @param <E> fifth component type
+   * @return tuple codec
+   * @throws NullPointerException if any codec is {@code null}
+   */
+  public static <A, B, C, D, E> @NonNull BinaryCodec<Tuple5<A, B, C, D, E>> tuple5(
+      @NonNull BinaryCodec<A> first,
+      @NonNull BinaryCodec<B> second,
+      @NonNull BinaryCodec<C> third,
+      @NonNull BinaryCodec<D> fourth,
+      @NonNull BinaryCodec<E> fifth) {
+    Objects.requireNonNull(first, "first");
+    Objects.requireNonNull(second, "second");
+    Objects.requireNonNull(third, "third");
+    Objects.requireNonNull(fourth, "fourth");
+    Objects.requireNonNull(fifth, "fifth");
+    return BinaryCodec.of(
+        (buffer, tuple) -> {
+          first.write(buffer, tuple.first());
+          second.write(buffer, tuple.second());
+          third.write(buffer, tuple.third());
+          fourth.write(buffer, tuple.fourth());
+          fifth.write(buffer, tuple.fifth());
+        },
+        buffer ->
+            new Tuple5<>(
+                first.read(buffer),
+                second.read(buffer),
+                third.read(buffer),
+                fourth.read(buffer),
+                fifth.read(buffer)),
+        tuple ->
+            first.sizeOf(tuple.first())
+                + second.sizeOf(tuple.second())
+                + third.sizeOf(tuple.third())
+                + fourth.sizeOf(tuple.fourth())
+                + fifth.sizeOf(tuple.fifth()));
+  }
+
+  private static int tag(@NonNull ByteBuffer buffer, @NonNull String type) {
+    final var tag = buffer.get();
+    if (tag != 0 && tag != 1) {
+      throw new IllegalArgumentException("Unknown " + type + " tag: " + tag);
+    }
+    return tag;
+  }
+
+  private static void writeString(@NonNull ByteBuffer buffer, @NonNull String value) {
+    Varints.writeLength(buffer, sizeOfUtf8(value));
+    final var length = value.length();
+    for (int index = 0; index < length; index++) {
+      final var current = value.charAt(index);
+      if (current < 0x80) {
+        buffer.put((byte) current);
+      } else if (current < 0x800) {
+        buffer.put((byte) (0xC0 | (current >>> 6)));
+        buffer.put((byte) (0x80 | (current & 0x3F)));
+      } else if (Character.isHighSurrogate(current)
+          && index + 1 < length
+          && Character.isLowSurrogate(value.charAt(index + 1))) {
+        final var codePoint = Character.toCodePoint(current, value.charAt(++index));
+        buffer.put((byte) (0xF0 | (codePoint >>> 18)));
+        buffer.put((byte) (0x80 | ((codePoint >>> 12) & 0x3F)));
+        buffer.put((byte) (0x80 | ((codePoint >>> 6) & 0x3F)));
+        buffer.put((byte) (0x80 | (codePoint & 0x3F)));
+      } else if (Character.isSurrogate(current)) {
+        buffer.put((byte) '?');
+      } else {
+        buffer.put((byte) (0xE0 | (current >>> 12)));
+        buffer.put((byte) (0x80 | ((current >>> 6) & 0x3F)));
+        buffer.put((byte) (0x80 | (current & 0x3F)));
+      }
+    }
+  }
+
+  private static @NonNull String readString(@NonNull ByteBuffer buffer) {
+    final var length = Varints.readLength(buffer);
+    if (length > buffer.remaining()) {
+      throw new BufferUnderflowException();
+    }
+    final var start = buffer.position();
+    buffer.position(start + length);
+    if (buffer.hasArray()) {
+      return new String(
+          buffer.array(), buffer.arrayOffset() + start, length, StandardCharsets.UTF_8);
+    }
+    return StandardCharsets.UTF_8.decode(buffer.slice(start, length)).toString();
+  }
+
+  private static int sizeOfString(@NonNull String value) {
+    final var utf8Length = sizeOfUtf8(value);
+    return Varints.sizeOfUnsignedInt(utf8Length) + utf8Length;
+  }
+
+  private static int sizeOfUtf8(@NonNull String value) {
+    final var length = value.length();
+    var size = length;
+    for (int index = 0; index < length; index++) {
+      final var current = value.charAt(index);
+      if (current >= 0x800) {
+        if (Character.isHighSurrogate(current)
+            && index + 1 < length
+            && Character.isLowSurrogate(value.charAt(index + 1))) {
+          size += 2;
+          index++;
+        } else if (!Character.isSurrogate(current)) {
+          size += 2;
+        }
+      } else if (current >= 0x80) {
+        size++;
+      }
+    }
+    return size;
+  }
+}
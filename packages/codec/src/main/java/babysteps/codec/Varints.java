@@ -0,0 +1,93 @@
+package babysteps.codec;
+
+import java.nio.ByteBuffer;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Variable-length integer encoding shared by the codecs.
+ *
+ * <p>Values are written seven bits at a time, least significant group first, with the high bit of
+ * each byte marking that another byte follows. Signed values are zigzag-mapped first so that small
+ * negative numbers stay short.
+ */
+final class Varints {
+  private Varints() {}
+
+  static void writeUnsignedInt(@NonNull ByteBuffer buffer, int value) {
+    var remaining = value;
+    while ((remaining & ~0x7F) != 0) {
+      buffer.put((byte) ((remaining & 0x7F) | 0x80));
+      remaining >>>= 7;
+    }
+    buffer.put((byte) remaining);
+  }
+
+  static int readUnsignedInt(@NonNull ByteBuffer buffer) {
+    var result = 0;
+    for (int shift = 0; shift < 35; shift += 7) {
+      final var current = buffer.get();
+      result |= (current & 0x7F) << shift;
+      if (current >= 0) {
+        return result;
+      }
+    }
+    throw new IllegalArgumentException("Malformed varint: more than 5 bytes");
+  }
+
+  static int sizeOfUnsignedInt(int value) {
+    return (31 - Integer.numberOfLeadingZeros(value | 1)) / 7 + 1;
+  }
+
+  static void writeUnsignedLong(@NonNull ByteBuffer buffer, long value) {
+    var remaining = value;
+    while ((remaining & ~0x7FL) != 0) {
+      buffer.put((byte) ((remaining & 0x7F) | 0x80));
+      remaining >>>= 7;
+    }
+    buffer.put((byte) remaining);
+  }
+
+  static long readUnsignedLong(@NonNull ByteBuffer buffer) {
+    var result = 0L;
+    for (int shift = 0; shift < 70; shift += 7) {
+      final var current = buffer.get();
+      result |= (long) (current & 0x7F) << shift;
+      if (current >= 0) {
+        return result;
+      }
+    }
+    throw new IllegalArgumentException("Malformed varint: more than 10 bytes");
+  }
+
+  static int sizeOfUnsignedLong(long value) {
+    return (63 - Long.numberOfLeadingZeros(value | 1)) / 7 + 1;
+  }
+
+  static void writeLength(@NonNull ByteBuffer buffer, int length) {
+    writeUnsignedInt(buffer, length);
+  }
+
+  static int readLength(@NonNull ByteBuffer buffer) {
+    final var length = readUnsignedInt(buffer);
+    if (length < 0) {
+      throw new IllegalArgumentException("Negative length: " + length);
+    }
+    return length;
+  }
+
+  static int zigZag(int value) {
+    return (value << 1) ^ (value >> 31);
+  }
+
+  static int unZigZag(int value) {
+    return (value >>> 1) ^ -(value & 1);
+  }
+
+  static long zigZag(long value) {
+    return (value << 1) ^ (value >> 63);
+  }
+
+  static long unZigZag(long value) {
+    return (value >>> 1) ^ -(value & 1);
+  }
+}
@@ -0,0 +1,76 @@
+package babysteps.codec;
+
+import babysteps.fp.Tuple2;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(SoftAssertionsExtension.class)
+class BinaryCodecTest {
+  @InjectSoftAssertions private SoftAssertions softly;
+
+  /** Record encoded through a tuple of its components. */
+  private record Point(int x, int y) {}
+
+  @Test
+  void of_expectedOperationsDelegated() {
+    // Arrange
+    final var sut =
+        BinaryCodec.<Short>of(
+            (buffer, value) -> buffer.putShort(value), ByteBuffer::getShort, value -> 2);
+
+    // Act
+    final var result = sut.encode((short) 513);
+
+    // Assert
+    softly.assertThat(result.remaining()).isEqualTo(2);
+    softly.assertThat(sut.read(result)).isEqualTo((short) 513);
+  }
+
+  @Test
+  void xmap_withRecord_expectedTupleEncoding() {
+    // Arrange
+    final var sut =
+        Codecs.tuple2(Codecs.varInts(), Codecs.varInts())
+            .xmap(
+                tuple -> new Point(tuple.first(), tuple.second()),
+                point -> new Tuple2<>(point.x(), point.y()));
+
+    // Act
+    final var result = sut.encode(new Point(3, -200));
+
+    // Assert
+    softly.assertThat(result.remaining()).isEqualTo(3);
+    softly.assertThat(sut.read(result)).isEqualTo(new Point(3, -200));
+  }
+
+  @Test
+  void write_withTooSmallBuffer_expectedException() {
+    // Arrange
+    final var sut = Codecs.doubles();
+    final var buffer = ByteBuffer.allocate(4);
+
+    // Act
+    final ThrowingCallable action = () -> sut.write(buffer, 1.0);
+
+    // Assert
+    softly.assertThatThrownBy(action).isInstanceOf(BufferOverflowException.class);
+  }
+
+  @Test
+  void xmap_withNull_expectedException() {
+    // Arrange
+    final var sut = Codecs.varInts();
+
+    // Act
+    final ThrowingCallable action = () -> sut.<Integer>xmap(null, value -> value);
+
+    // Assert
+    softly.assertThatThrownBy(action).isInstanceOf(NullPointerException.class);
+  }
+}
@@ -0,0 +1,310 @@
+package babysteps.codec;
+
+import babysteps.core.Either;
+import babysteps.core.ImmutableList;
+import babysteps.core.Option;
+import babysteps.core.Result;
+import babysteps.core.Try;
+import babysteps.core.Validated;
+import babysteps.fp.Tuple2;
+import babysteps.fp.Tuple3;
+import babysteps.fp.Tuple4;
+import babysteps.fp.Tuple5;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(SoftAssertionsExtension.class)
+class CodecsTest {
+  @InjectSoftAssertions private SoftAssertions softly;
+
+  private static <T> T roundTrip(BinaryCodec<T> codec, T value) {
+    return codec.read(codec.encode(value));
+  }
+
+  @Test
+  void varInts_expectedShortEncodingForSmallMagnitudes() {
+    // Arrange
+    final var sut = Codecs.varInts();
+
+    // Act
+    final var result = sut.encode(-1);
+
+    // Assert
+    softly.assertThat(result.remaining()).isEqualTo(1);
+    softly.assertThat(sut.sizeOf(63)).isEqualTo(1);
+    softly.assertThat(sut.sizeOf(64)).isEqualTo(2);
+    softly.assertThat(sut.sizeOf(Integer.MIN_VALUE)).isEqualTo(5);
+    softly.assertThat(roundTrip(sut, Integer.MIN_VALUE)).isEqualTo(Integer.MIN_VALUE);
+    softly.assertThat(roundTrip(sut, Integer.MAX_VALUE)).isEqualTo(Integer.MAX_VALUE);
+  }
+
+  @Test
+  void varLongs_withExtremes_expectedSameValues() {
+    // Arrange
+    final var sut = Codecs.varLongs();
+
+    // Act
+    final var result = roundTrip(sut, Long.MIN_VALUE);
+
+    // Assert
+    softly.assertThat(result).isEqualTo(Long.MIN_VALUE);
+    softly.assertThat(roundTrip(sut, Long.MAX_VALUE)).isEqualTo(Long.MAX_VALUE);
+    softly.assertThat(roundTrip(sut, 0L)).isZero();
+    softly.assertThat(sut.sizeOf(Long.MIN_VALUE)).isEqualTo(10);
+  }
+
+  @Test
+  void strings_withNonAsciiText_expectedUtf8Encoding() {
+    // Arrange
+    final var sut = Codecs.strings();
+    final var value = "aé€😀";
+
+    // Act
+    final var result = sut.encode(value);
+
+    // Assert
+    final var expected = value.getBytes(StandardCharsets.UTF_8);
+    softly.assertThat(result.get()).isEqualTo((byte) expected.length);
+    softly.assertThat(result.slice()).isEqualTo(ByteBuffer.wrap(expected));
+    softly.assertThat(sut.read(result.rewind())).isEqualTo(value);
+  }
+
+  @Test
+  void strings_withUnpairedSurrogate_expectedReplacement() {
+    // Arrange
+    final var sut = Codecs.strings();
+
+    // Act
+    final var result = roundTrip(sut, "x\ud83dy");
+
+    // Assert
+    softly.assertThat(result).isEqualTo("x?y");
+  }
+
+  @Test
+  void strings_fromDirectBuffer_expectedSameValue() {
+    // Arrange
+    final var sut = Codecs.strings();
+    final var buffer = ByteBuffer.allocateDirect(32);
+    sut.write(buffer, "déjà vu");
+
+    // Act
+    final var result = sut.read(buffer.flip());
+
+    // Assert
+    softly.assertThat(result).isEqualTo("déjà vu");
+    softly.assertThat(buffer.hasRemaining()).isFalse();
+  }
+
+  @Test
+  void option_expectedTaggedEncoding() {
+    // Arrange
+    final var sut = Codecs.option(Codecs.varInts());
+
+    // Act
+    final var result = sut.encode(Option.none());
+
+    // Assert
+    softly.assertThat(result.remaining()).isEqualTo(1);
+    softly.assertThat(result.get(0)).isZero();
+    softly.assertThat(roundTrip(sut, Option.none())).isEqualTo(Option.none());
+    softly.assertThat(roundTrip(sut, Option.some(42))).isEqualTo(Option.some(42));
+  }
+
+  @Test
+  void nullable_withSomeNull_expectedSomeNull() {
+    // Arrange
+    final var sut = Codecs.option(Codecs.nullable(Codecs.strings()));
+
+    // Act
+    final var result = roundTrip(sut, Option.some(null));
+
+    // Assert
+    softly.assertThat(result).isEqualTo(Option.some(null));
+    softly.assertThat(sut.sizeOf(Option.some(null))).isEqualTo(2);
+  }
+
+  @Test
+  void result_expectedOkAndErrRoundTrip() {
+    // Arrange
+    final var sut = Codecs.result(Codecs.varLongs(), Codecs.strings());
+
+    // Act
+    final var result = roundTrip(sut, Result.ok(7L));
+
+    // Assert
+    softly.assertThat(result).isEqualTo(Result.ok(7L));
+    softly.assertThat(roundTrip(sut, Result.err("boom"))).isEqualTo(Result.err("boom"));
+  }
+
+  @Test
+  void either_expectedLeftAndRightRoundTrip() {
+    // Arrange
+    final var sut = Codecs.either(Codecs.strings(), Codecs.doubles());
+
+    // Act
+    final var result = roundTrip(sut, Either.right(2.5));
+
+    // Assert
+    softly.assertThat(result).isEqualTo(Either.right(2.5));
+    softly.assertThat(roundTrip(sut, Either.left("left"))).isEqualTo(Either.left("left"));
+  }
+
+  @Test
+  void tryOf_withFailure_expectedErrorCodecApplied() {
+    // Arrange
+    final var sut =
+        Codecs.tryOf(
+            Codecs.booleans(),
+            Codecs.strings().<Throwable>xmap(IllegalStateException::new, Throwable::getMessage));
+
+    // Act
+    final var result = roundTrip(sut, Try.failure(new IllegalArgumentException("bad input")));
+
+    // Assert
+    softly.assertThat(result.getCause()).isInstanceOf(IllegalStateException.class);
+    softly.assertThat(result.getCause()).hasMessage("bad input");
+    softly.assertThat(roundTrip(sut, Try.success(true))).isEqualTo(Try.success(true));
+  }
+
+  @Test
+  void validated_withErrors_expectedAllErrors() {
+    // Arrange
+    final var sut = Codecs.validated(Codecs.varInts(), Codecs.strings());
+
+    // Act
+    final var result = roundTrip(sut, Validated.errs(List.of("too short", "no digit")));
+
+    // Assert
+    softly.assertThat(result).isEqualTo(Validated.errs(List.of("too short", "no digit")));
+    softly.assertThat(roundTrip(sut, Validated.ok(3))).isEqualTo(Validated.ok(3));
+  }
+
+  @Test
+  void validated_withZeroErrors_expectedException() {
+    // Arrange
+    final var sut = Codecs.validated(Codecs.varInts(), Codecs.strings());
+    final var buffer = ByteBuffer.wrap(new byte[] {1, 0});
+
+    // Act
+    final ThrowingCallable action = () -> sut.read(buffer);
+
+    // Assert
+    softly
+        .assertThatThrownBy(action)
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Validated.Err must hold at least one error");
+  }
+
+  @Test
+  void list_expectedLengthPrefixedElements() {
+    // Arrange
+    final var sut = Codecs.list(Codecs.varInts());
+    final var value = ImmutableList.fromList(IntStream.range(0, 1_000).boxed().toList());
+
+    // Act
+    final var result = roundTrip(sut, value);
+
+    // Assert
+    softly.assertThat(result).isEqualTo(value);
+    softly.assertThat(sut.sizeOf(ImmutableList.of(1, 2, 3))).isEqualTo(4);
+    softly.assertThat(roundTrip(sut, ImmutableList.empty())).isEqualTo(ImmutableList.empty());
+  }
+
+  @Test
+  void tuples_expectedComponentsBackToBack() {
+    // Arrange
+    final var pair = Codecs.tuple2(Codecs.strings(), Codecs.varInts());
+    final var triple = Codecs.tuple3(Codecs.varInts(), Codecs.varInts(), Codecs.booleans());
+
+    // Act
+    final var result = roundTrip(pair, new Tuple2<>("id", 9));
+
+    // Assert
+    softly.assertThat(result).isEqualTo(new Tuple2<>("id", 9));
+    softly.assertThat(pair.sizeOf(new Tuple2<>("id", 9))).isEqualTo(4);
+    softly
+        .assertThat(roundTrip(triple, new Tuple3<>(1, -1, true)))
+        .isEqualTo(new Tuple3<>(1, -1, true));
+  }
+
+  @Test
+  void tuple5_withNestedCodecs_expectedSameValue() {
+    // Arrange
+    final var quadruple =
+        Codecs.tuple4(Codecs.varInts(), Codecs.strings(), Codecs.doubles(), Codecs.booleans());
+    final var sut =
+        Codecs.tuple5(
+            Codecs.option(Codecs.strings()),
+            Codecs.result(Codecs.varLongs(), Codecs.strings()),
+            Codecs.list(Codecs.strings()),
+            quadruple,
+            Codecs.either(Codecs.varInts(), Codecs.strings()));
+    final var value =
+        new Tuple5<>(
+            Option.some("x"),
+            Result.<Long, String>err("e"),
+            ImmutableList.of("a", "b"),
+            new Tuple4<>(1, "two", 3.0, false),
+            Either.<Integer, String>left(5));
+
+    // Act
+    final var result = roundTrip(sut, value);
+
+    // Assert
+    softly.assertThat(result).isEqualTo(value);
+    softly.assertThat(sut.encode(value).remaining()).isEqualTo(sut.sizeOf(value));
+  }
+
+  @Test
+  void read_withUnknownTag_expectedException() {
+    // Arrange
+    final var sut = Codecs.result(Codecs.varInts(), Codecs.strings());
+
+    // Act
+    final ThrowingCallable action = () -> sut.read(ByteBuffer.wrap(new byte[] {2, 0}));
+
+    // Assert
+    softly
+        .assertThatThrownBy(action)
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Unknown Result tag: 2");
+  }
+
+  @Test
+  void read_withTruncatedString_expectedException() {
+    // Arrange
+    final var sut = Codecs.strings();
+
+    // Act
+    final ThrowingCallable action = () -> sut.read(ByteBuffer.wrap(new byte[] {5, 'a', 'b'}));
+
+    // Assert
+    softly.assertThatThrownBy(action).isInstanceOf(BufferUnderflowException.class);
+  }
+
+  @Test
+  void varInts_withOverlongEncoding_expectedException() {
+    // Arrange
+    final var sut = Codecs.varInts();
+    final var buffer = ByteBuffer.wrap(new byte[] {-1, -1, -1, -1, -1, 1});
+
+    // Act
+    final ThrowingCallable action = () -> sut.read(buffer);
+
+    // Assert
+    softly
+        .assertThatThrownBy(action)
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Malformed varint: more than 5 bytes");
+  }
+}
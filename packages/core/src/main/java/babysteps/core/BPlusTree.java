@@ -0,0 +1,609 @@
+package babysteps.core;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.BiConsumer;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Copy-on-write B+-tree backing {@link ImmutableSortedMap}.
+ *
+ * <p>Technical background: entries live in {@link Leaf} nodes that keep up to {@link #MAX_WIDTH}
+ * keys and values in two sorted arrays. A {@link Branch} holds up to {@link #MAX_WIDTH} children
+ * and one separator key between each pair of neighbours: every key of {@code children[i]} is less
+ * than {@code separators[i]}, which is less than or equal to every key of {@code children[i + 1]}.
+ * Wide nodes keep the tree shallow (four levels hold a million entries) and make each binary
+ * search scan one small contiguous array.
+ *
+ * <p>Updates copy the nodes on the path from the root to the touched leaf and share every other
+ * node with the previous version. An update may leave a node with one entry too many or with fewer
+ * than {@link #MIN_WIDTH} entries; the parent then splits it, or joins it with a neighbour and
+ * splits the result again if it is too wide. Only the root may be narrower than {@link #MIN_WIDTH}.
+ * Branches cache the number of entries below them, so ranks and range sizes take {@code O(log n)}.
+ */
+final class BPlusTree {
+  static final int MAX_WIDTH = 32;
+  static final int MIN_WIDTH = MAX_WIDTH / 2;
+
+  /** Marker returned by {@link Node#find} when the key is absent. */
+  static final Object NOT_FOUND = new Object();
+
+  /** Shared empty root. */
+  static final Leaf EMPTY_LEAF = new Leaf(new Object[0], new Object[0]);
+
+  private BPlusTree() {}
+
+  /**
+   * Inserts or replaces an entry below the root, growing the tree by one level when needed.
+   *
+   * @param root current root
+   * @param key key to insert
+   * @param value value to store
+   * @param comparator key order
+   * @return new root, or {@code root} when the key already maps to the same value instance
+   */
+  static @NonNull Node put(
+      @NonNull Node root,
+      @NonNull Object key,
+      @Nullable Object value,
+      @NonNull Comparator<Object> comparator) {
+    final var updated = root.put(key, value, comparator);
+    if (updated.width() <= MAX_WIDTH) {
+      return updated;
+    }
+    final var split = updated.split();
+    return new Branch(
+        new Object[] {split.separator()}, new Node[] {split.left(), split.right()});
+  }
+
+  /**
+   * Removes an entry below the root, dropping a root branch that is left with one child.
+   *
+   * @param root current root
+   * @param key key to remove
+   * @param comparator key order
+   * @return new root, or {@code root} when the key is absent
+   */
+  static @NonNull Node remove(
+      @NonNull Node root, @NonNull Object key, @NonNull Comparator<Object> comparator) {
+    var updated = root.remove(key, comparator);
+    while (updated instanceof Branch branch && branch.width() == 1) {
+      updated = branch.children[0];
+    }
+    return updated;
+  }
+
+  /**
+   * Builds a tree bottom-up from entries that are sorted and free of duplicate keys.
+   *
+   * <p>Entries are spread evenly over the fewest leaves that hold them, and the same is done for
+   * every branch level, so the result satisfies the width bounds in {@code O(n)} time.
+   *
+   * @param keys sorted keys
+   * @param values values matching {@code keys}
+   * @param count number of entries to use
+   * @return root of the built tree
+   */
+  static @NonNull Node build(
+      @NonNull Object @NonNull [] keys, @Nullable Object @NonNull [] values, int count) {
+    if (count == 0) {
+      return EMPTY_LEAF;
+    }
+    final var leafCount = (count + MAX_WIDTH - 1) / MAX_WIDTH;
+    var level = new Node[leafCount];
+    for (int index = 0; index < leafCount; index++) {
+      final var from = (int) ((long) index * count / leafCount);
+      final var to = (int) ((long) (index + 1) * count / leafCount);
+      level[index] =
+          new Leaf(Arrays.copyOfRange(keys, from, to), Arrays.copyOfRange(values, from, to));
+    }
+    while (level.length > 1) {
+      final var groupCount = (level.length + MAX_WIDTH - 1) / MAX_WIDTH;
+      final var parents = new Node[groupCount];
+      for (int index = 0; index < groupCount; index++) {
+        final var from = (int) ((long) index * level.length / groupCount);
+        final var to = (int) ((long) (index + 1) * level.length / groupCount);
+        final var children = Arrays.copyOfRange(level, from, to);
+        final var separators = new Object[children.length - 1];
+        for (int child = 1; child < children.length; child++) {
+          separators[child - 1] = children[child].firstKey();
+        }
+        parents[index] = new Branch(separators, children);
+      }
+      level = parents;
+    }
+    return level[0];
+  }
+
+  /**
+   * Returns the number of entries whose key is less than {@code key}, or not greater than it when
+   * {@code inclusive} is set.
+   *
+   * @param node root to search
+   * @param key key to compare with
+   * @param inclusive whether entries equal to {@code key} are counted
+   * @param comparator key order
+   * @return rank of the key
+   */
+  static int rank(
+      @NonNull Node node,
+      @NonNull Object key,
+      boolean inclusive,
+      @NonNull Comparator<Object> comparator) {
+    var rank = 0;
+    var current = node;
+    while (current instanceof Branch branch) {
+      final var child = branch.childIndex(key, comparator);
+      for (int index = 0; index < child; index++) {
+        rank += branch.children[index].size();
+      }
+      current = branch.children[child];
+    }
+    final var leaf = (Leaf) current;
+    final var found = search(leaf.keys, key, comparator);
+    if (found < 0) {
+      return rank - found - 1;
+    }
+    return rank + (inclusive ? found + 1 : found);
+  }
+
+  /**
+   * Returns the leaf position of the entry at the given rank.
+   *
+   * @param node root to search
+   * @param rank rank in {@code [0, node.size())}
+   * @return leaf and index of the entry
+   */
+  static @NonNull Position at(@NonNull Node node, int rank) {
+    var remaining = rank;
+    var current = node;
+    while (current instanceof Branch branch) {
+      var child = 0;
+      while (remaining >= branch.children[child].size()) {
+        remaining -= branch.children[child].size();
+        child++;
+      }
+      current = branch.children[child];
+    }
+    return new Position((Leaf) current, remaining);
+  }
+
+  /**
+   * Applies the action to every entry below the node in key order.
+   *
+   * @param node subtree root
+   * @param action action to apply
+   */
+  static void forEach(
+      @NonNull Node node, @NonNull BiConsumer<@NonNull Object, @Nullable Object> action) {
+    if (node instanceof Branch branch) {
+      for (final var child : branch.children) {
+        forEach(child, action);
+      }
+      return;
+    }
+    final var leaf = (Leaf) node;
+    for (int index = 0; index < leaf.keys.length; index++) {
+      action.accept(leaf.keys[index], leaf.values[index]);
+    }
+  }
+
+  private static int search(
+      @NonNull Object @NonNull [] keys,
+      @NonNull Object key,
+      @NonNull Comparator<Object> comparator) {
+    int low = 0;
+    int high = keys.length - 1;
+    while (low <= high) {
+      final var middle = (low + high) >>> 1;
+      final var order = comparator.compare(keys[middle], key);
+      if (order < 0) {
+        low = middle + 1;
+      } else if (order > 0) {
+        high = middle - 1;
+      } else {
+        return middle;
+      }
+    }
+    return -(low + 1);
+  }
+
+  private static <E> E @NonNull [] inserted(E @NonNull [] array, int index, E element) {
+    final var copy = Arrays.copyOf(array, array.length + 1);
+    System.arraycopy(array, index, copy, index + 1, array.length - index);
+    copy[index] = element;
+    return copy;
+  }
+
+  private static <E> E @NonNull [] removed(E @NonNull [] array, int index) {
+    final var copy = Arrays.copyOf(array, array.length - 1);
+    System.arraycopy(array, index + 1, copy, index, array.length - index - 1);
+    return copy;
+  }
+
+  private static <E> E @NonNull [] concat(E @NonNull [] left, E @NonNull [] right) {
+    final var copy = Arrays.copyOf(left, left.length + right.length);
+    System.arraycopy(right, 0, copy, left.length, right.length);
+    return copy;
+  }
+
+  /**
+   * Leaf and index of one entry.
+   *
+   * @param leaf leaf holding the entry
+   * @param index index of the entry in the leaf
+   */
+  record Position(@NonNull Leaf leaf, int index) {}
+
+  /**
+   * Result of splitting a node that grew one entry too wide.
+   *
+   * @param left lower half
+   * @param separator smallest key of {@code right}
+   * @param right upper half
+   */
+  private record Split(@NonNull Node left, @NonNull Object separator, @NonNull Node right) {}
+
+  /** Immutable tree node. */
+  abstract static sealed class Node permits Leaf, Branch {
+    /**
+     * Returns the number of entries stored below this node.
+     *
+     * @return subtree size
+     */
+    abstract int size();
+
+    /**
+     * Returns the number of keys of a leaf or children of a branch.
+     *
+     * @return node width
+     */
+    abstract int width();
+
+    /**
+     * Returns the value mapped to the key, or {@link #NOT_FOUND}.
+     *
+     * @param key key to look up
+     * @param comparator key order
+     * @return mapped value or {@link #NOT_FOUND}
+     */
+    abstract @Nullable Object find(@NonNull Object key, @NonNull Comparator<Object> comparator);
+
+    /**
+     * Returns a node with the entry inserted or replaced; the result may be one entry too wide.
+     *
+     * @param key key to insert
+     * @param value value to store
+     * @param comparator key order
+     * @return updated node, or this node when nothing changed
+     */
+    abstract @NonNull Node put(
+        @NonNull Object key, @Nullable Object value, @NonNull Comparator<Object> comparator);
+
+    /**
+     * Returns a node without the key; the result may be narrower than {@link #MIN_WIDTH}.
+     *
+     * @param key key to remove
+     * @param comparator key order
+     * @return updated node, or this node when the key is absent
+     */
+    abstract @NonNull Node remove(@NonNull Object key, @NonNull Comparator<Object> comparator);
+
+    abstract @NonNull Object firstKey();
+
+    abstract @NonNull Split split();
+
+    /**
+     * Joins this node with its right neighbour on the same level.
+     *
+     * @param separator parent separator between the two nodes
+     * @param right right neighbour of the same kind
+     * @return node holding the entries of both
+     */
+    abstract @NonNull Node join(@NonNull Object separator, @NonNull Node right);
+  }
+
+  /** Node holding sorted keys and their values. */
+  static final class Leaf extends Node {
+    final @NonNull Object @NonNull [] keys;
+    final @Nullable Object @NonNull [] values;
+
+    private Leaf(@NonNull Object @NonNull [] keys, @Nullable Object @NonNull [] values) {
+      this.keys = keys;
+      this.values = values;
+    }
+
+    @Override
+    int size() {
+      return keys.length;
+    }
+
+    @Override
+    int width() {
+      return keys.length;
+    }
+
+    @Override
+    @Nullable Object find(@NonNull Object key, @NonNull Comparator<Object> comparator) {
+      final var index = search(keys, key, comparator);
+      return index < 0 ? NOT_FOUND : values[index];
+    }
+
+    @Override
+    @NonNull Node put(
+        @NonNull Object key, @Nullable Object value, @NonNull Comparator<Object> comparator) {
+      final var index = search(keys, key, comparator);
+      if (index >= 0) {
+        if (values[index] == value) {
+          return this;
+        }
+        final var updated = values.clone();
+        updated[index] = value;
+        return new Leaf(keys, updated);
+      }
+      final var insertion = -index - 1;
+      return new Leaf(inserted(keys, insertion, key), inserted(values, insertion, value));
+    }
+
+    @Override
+    @NonNull Node remove(@NonNull Object key, @NonNull Comparator<Object> comparator) {
+      final var index = search(keys, key, comparator);
+      if (index < 0) {
+        return this;
+      }
+      return new Leaf(removed(keys, index), removed(values, index));
+    }
+
+    @Override
+    @NonNull Object firstKey() {
+      return keys[0];
+    }
+
+    @Override
+    @NonNull Split split() {
+      final var middle = keys.length / 2;
+      final var left =
+          new Leaf(Arrays.copyOfRange(keys, 0, middle), Arrays.copyOfRange(values, 0, middle));
+      final var right =
+          new Leaf(
+              Arrays.copyOfRange(keys, middle, keys.length),
+              Arrays.copyOfRange(values, middle, keys.length));
+      return new Split(left, right.keys[0], right);
+    }
+
+    @Override
+    @NonNull Node join(@NonNull Object separator, @NonNull Node right) {
+      final var leaf = (Leaf) right;
+      return new Leaf(concat(keys, leaf.keys), concat(values, leaf.values));
+    }
+  }
+
+  /** Node holding children separated by keys. */
+  static final class Branch extends Node {
+    final @NonNull Object @NonNull [] separators;
+    final @NonNull Node @NonNull [] children;
+    private final int size;
+
+    private Branch(@NonNull Object @NonNull [] separators, @NonNull Node @NonNull [] children) {
+      this.separators = separators;
+      this.children = children;
+      var total = 0;
+      for (final var child : children) {
+        total += child.size();
+      }
+      this.size = total;
+    }
+
+    @Override
+    int size() {
+      return size;
+    }
+
+    @Override
+    int width() {
+      return children.length;
+    }
+
+    /** Returns the index of the child whose key range contains {@code key}. */
+    int childIndex(@NonNull Object key, @NonNull Comparator<Object> comparator) {
+      int low = 0;
+      int high = separators.length;
+      while (low < high) {
+        final var middle = (low + high) >>> 1;
+        if (comparator.compare(separators[middle], key) <= 0) {
+          low = middle + 1;
+        } else {
+          high = middle;
+        }
+      }
+      return low;
+    }
+
+    @Override
+    @Nullable Object find(@NonNull Object key, @NonNull Comparator<Object> comparator) {
+      return children[childIndex(key, comparator)].find(key, comparator);
+    }
+
+    @Override
+    @NonNull Node put(
+        @NonNull Object key, @Nullable Object value, @NonNull Comparator<Object> comparator) {
+      final var index = childIndex(key, comparator);
+      final var child = children[index];
+      final var updated = child.put(key, value, comparator);
+      if (updated == child) {
+        return this;
+      }
+      if (updated.width() <= MAX_WIDTH) {
+        return withChild(index, updated);
+      }
+      final var split = updated.split();
+      final var newChildren = inserted(children, index + 1, split.right());
+      newChildren[index] = split.left();
+      return new Branch(inserted(separators, index, split.separator()), newChildren);
+    }
+
+    @Override
+    @NonNull Node remove(@NonNull Object key, @NonNull Comparator<Object> comparator) {
+      final var index = childIndex(key, comparator);
+      final var child = children[index];
+      final var updated = child.remove(key, comparator);
+      if (updated == child) {
+        return this;
+      }
+      if (updated.width() >= MIN_WIDTH || children.length == 1) {
+        return withChild(index, updated);
+      }
+      final var left = index > 0 ? index - 1 : index;
+      final var leftNode = left == index ? updated : children[left];
+      final var rightNode = left == index ? children[index + 1] : updated;
+      final var joined = leftNode.join(separators[left], rightNode);
+      if (joined.width() <= MAX_WIDTH) {
+        final var newChildren = removed(children, left + 1);
+        newChildren[left] = joined;
+        return new Branch(removed(separators, left), newChildren);
+      }
+      final var split = joined.split();
+      final var newChildren = children.clone();
+      newChildren[left] = split.left();
+      newChildren[left + 1] = split.right();
+      final var newSeparators = separators.clone();
+      newSeparators[left] = split.separator();
+      return new Branch(newSeparators, newChildren);
+    }
+
+    @Override
+    @NonNull Object firstKey() {
+      return children[0].firstKey();
+    }
+
+    @Override
+    @NonNull Split split() {
+      final var middle = children.length / 2;
+      final var left =
+          new Branch(
+              Arrays.copyOfRange(separators, 0, middle - 1),
+              Arrays.copyOfRange(children, 0, middle));
+      final var right =
+          new Branch(
+              Arrays.copyOfRange(separators, middle, separators.length),
+              Arrays.copyOfRange(children, middle, children.length));
+      return new Split(left, separators[middle - 1], right);
+    }
+
+    @Override
+    @NonNull Node join(@NonNull Object separator, @NonNull Node right) {
+      final var branch = (Branch) right;
+      return new Branch(
+          concat(inserted(separators, separators.length, separator), branch.separators),
+          concat(children, branch.children));
+    }
+
+    private @NonNull Branch withChild(int index, @NonNull Node child) {
+      final var newChildren = children.clone();
+      newChildren[index] = child;
+      return new Branch(separators, newChildren);
+    }
+  }
+
+  /**
+   * In-order iterator over a rank range that keeps the path to the current leaf on a stack.
+   *
+   * @param <E> produced element type
+   */
+  abstract static class Cursor<E> implements Iterator<E> {
+    private final @NonNull Branch @NonNull [] branches;
+    private final int @NonNull [] childIndices;
+    private int depth;
+    private @NonNull Leaf leaf;
+    private int index;
+    private int remaining;
+
+    /**
+     * Creates a cursor over the entries with ranks in {@code [from, to)}.
+     *
+     * @param root tree root
+     * @param from first rank, inclusive
+     * @param to last rank, exclusive
+     */
+    Cursor(@NonNull Node root, int from, int to) {
+      var height = 0;
+      for (var node = root; node instanceof Branch branch; node = branch.children[0]) {
+        height++;
+      }
+      this.branches = new Branch[height];
+      this.childIndices = new int[height];
+      this.remaining = Math.max(0, to - from);
+      var rank = Math.min(from, root.size());
+      var current = root;
+      while (current instanceof Branch branch) {
+        var child = 0;
+        while (child < branch.children.length - 1 && rank >= branch.children[child].size()) {
+          rank -= branch.children[child].size();
+          child++;
+        }
+        branches[depth] = branch;
+        childIndices[depth] = child;
+        depth++;
+        current = branch.children[child];
+      }
+      this.leaf = (Leaf) current;
+      this.index = rank;
+    }
+
+    /**
+     * Converts an entry to the produced element.
+     *
+     * @param key entry key
+     * @param value entry value
+     * @return element to return from {@link #next()}
+     */
+    abstract E element(@NonNull Object key, @Nullable Object value);
+
+    /**
+     * Returns the number of entries the cursor has yet to produce.
+     *
+     * @return remaining entry count
+     */
+    int remaining() {
+      return remaining;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return remaining > 0;
+    }
+
+    @Override
+    public E next() {
+      if (remaining <= 0) {
+        throw new NoSuchElementException();
+      }
+      if (index == leaf.keys.length) {
+        advanceLeaf();
+      }
+      remaining--;
+      final var result = element(leaf.keys[index], leaf.values[index]);
+      index++;
+      return result;
+    }
+
+    private void advanceLeaf() {
+      while (childIndices[depth - 1] == branches[depth - 1].children.length - 1) {
+        depth--;
+      }
+      childIndices[depth - 1]++;
+      var current = branches[depth - 1].children[childIndices[depth - 1]];
+      while (current instanceof Branch branch) {
+        branches[depth] = branch;
+        childIndices[depth] = 0;
+        depth++;
+        current = branch.children[0];
+      }
+      leaf = (Leaf) current;
+      index = 0;
+    }
+  }
+}
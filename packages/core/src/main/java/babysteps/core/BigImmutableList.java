@@ -0,0 +1,706 @@
+package babysteps.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Immutable list with {@code long} indices for datasets beyond {@link Integer#MAX_VALUE}
+ * elements.
+ *
+ * <p>Unlike {@link ImmutableList}, the size and every index are {@code long}s, and the elements
+ * live in many small fixed-size arrays instead of structures sized by the whole list. Bulk
+ * operations are available sequentially ({@link #map(Function)}, {@link #filter(Predicate)},
+ * {@link #fold(Object, BiFunction)}) and chunk-parallel ({@link #parMap(Function)}, {@link
+ * #parFilter(Predicate)}, {@link #parReduce(Object, BiFunction, BinaryOperator)}).
+ *
+ * <p>Technical background: elements are stored in chunks of 32,768 references, all full except
+ * the last. A chunk takes 128 KiB with compressed references and 256 KiB without, below the
+ * smallest G1 humongous threshold of 512 KiB, so building even a multi-billion-element list never
+ * triggers humongous allocations of element storage. An index is split into a chunk
+ * number and an offset with a shift and a mask, so {@link #get(long)} costs two array reads.
+ * Parallel operations hand whole chunks to fork-join tasks, so workers never share an array.
+ *
+ * <p>Sample usage:
+ *
+ * <pre>{@code
+ * BigImmutableList<Trade> trades = BigImmutableList.fromIterable(loader.allTrades());
+ * long large = trades.parFilter(trade -> trade.notional() > 1_000_000).size();
+ * Trade last = trades.get(trades.size() - 1);
+ * }</pre>
+ *
+ * @param <T> element type, possibly nullable
+ */
+public final class BigImmutableList<T> implements Iterable<@Nullable T> {
+  static final int CHUNK_SHIFT = 15;
+  static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+  private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+  private static final int INITIAL_CHUNK_CAPACITY = 16;
+
+  private static final BigImmutableList<?> EMPTY = new BigImmutableList<>(new Object[0][], 0);
+
+  private final @Nullable Object @NonNull [] @NonNull [] chunks;
+  private final long size;
+
+  private BigImmutableList(@Nullable Object @NonNull [] @NonNull [] chunks, long size) {
+    this.chunks = chunks;
+    this.size = size;
+  }
+
+  /**
+   * Returns an empty list.
+   *
+   * @param <T> element type
+   * @return empty list
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> @NonNull BigImmutableList<T> empty() {
+    return (BigImmutableList<T>) EMPTY;
+  }
+
+  /**
+   * Creates a list of the values in iteration order.
+   *
+   * @param values source values; may contain {@code null}
+   * @param <T> element type
+   * @return list of the values
+   * @throws NullPointerException if {@code values} is {@code null}
+   */
+  public static <T> @NonNull BigImmutableList<T> fromIterable(
+      @NonNull Iterable<? extends @Nullable T> values) {
+    Objects.requireNonNull(values, "values");
+    final var builder = BigImmutableList.<T>builder();
+    for (final var value : values) {
+      builder.add(value);
+    }
+    return builder.build();
+  }
+
+  /**
+   * Creates a builder for a list of unknown size.
+   *
+   * @param <T> element type
+   * @return new empty builder
+   */
+  public static <T> @NonNull Builder<T> builder() {
+    return new Builder<>();
+  }
+
+  /**
+   * Returns true if the list is empty.
+   *
+   * @return true when the list has no elements
+   */
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Returns the number of elements.
+   *
+   * @return size of the list
+   */
+  public long size() {
+    return size;
+  }
+
+  /**
+   * Returns the element at the given index.
+   *
+   * @param index index to read
+   * @return element at index
+   * @throws IndexOutOfBoundsException if {@code index} is out of range
+   */
+  public @Nullable T get(long index) {
+    return element(Objects.checkIndex(index, size));
+  }
+
+  /**
+   * Returns the element at the given index as an {@link Option}.
+   *
+   * @param index index to read
+   * @return {@link Option#some(Object)} when the index is valid, otherwise {@link Option#none()}
+   */
+  public @NonNull Option<T> getOption(long index) {
+    if (index < 0 || index >= size) {
+      return Option.none();
+    }
+    return Option.some(element(index));
+  }
+
+  /**
+   * Returns the element at the given index or a fallback when out of range.
+   *
+   * @param index index to read
+   * @param fallback fallback value to use when out of bounds
+   * @return element at index or fallback
+   */
+  public @Nullable T getOrElse(long index, @Nullable T fallback) {
+    if (index < 0 || index >= size) {
+      return fallback;
+    }
+    return element(index);
+  }
+
+  /**
+   * Maps each element sequentially.
+   *
+   * @param mapper mapper to apply
+   * @param <U> mapped element type
+   * @return list of mapped values
+   * @throws NullPointerException if {@code mapper} is {@code null}
+   */
+  public <U> @NonNull BigImmutableList<U> map(
+      @NonNull Function<? super @Nullable T, ? extends @Nullable U> mapper) {
+    Objects.requireNonNull(mapper, "mapper");
+    final var mapped = new Object[chunks.length][];
+    for (int chunk = 0; chunk < chunks.length; chunk++) {
+      mapped[chunk] = mapChunk(chunks[chunk], mapper);
+    }
+    return new BigImmutableList<>(mapped, size);
+  }
+
+  /**
+   * Filters elements sequentially.
+   *
+   * @param predicate filter predicate
+   * @return list of matching elements in encounter order
+   * @throws NullPointerException if {@code predicate} is {@code null}
+   */
+  public @NonNull BigImmutableList<T> filter(@NonNull Predicate<? super @Nullable T> predicate) {
+    Objects.requireNonNull(predicate, "predicate");
+    final var builder = BigImmutableList.<T>builder();
+    forEach(
+        value -> {
+          if (predicate.test(value)) {
+            builder.add(value);
+          }
+        });
+    return builder.build();
+  }
+
+  /**
+   * Folds the list left-to-right.
+   *
+   * @param initial initial accumulator value, possibly {@code null}
+   * @param folder folding function
+   * @param <U> accumulator type
+   * @return folded result
+   * @throws NullPointerException if {@code folder} is {@code null}
+   */
+  public <U> @Nullable U fold(
+      @Nullable U initial,
+      @NonNull BiFunction<? super @Nullable U, ? super @Nullable T, ? extends U> folder) {
+    Objects.requireNonNull(folder, "folder");
+    var accumulator = initial;
+    for (final var chunk : chunks) {
+      for (final var value : chunk) {
+        @SuppressWarnings("unchecked")
+        final var element = (T) value;
+        accumulator = folder.apply(accumulator, element);
+      }
+    }
+    return accumulator;
+  }
+
+  /**
+   * Maps each element in parallel using {@link ParallelOptions#defaults()}.
+   *
+   * @param mapper mapper to apply; must be safe to call from multiple threads
+   * @param <U> mapped element type
+   * @return list of mapped values in encounter order
+   * @throws NullPointerException if {@code mapper} is {@code null}
+   * @see #parMap(Function, ParallelOptions)
+   */
+  public <U> @NonNull BigImmutableList<U> parMap(
+      @NonNull Function<? super @Nullable T, ? extends @Nullable U> mapper) {
+    return parMap(mapper, ParallelOptions.defaults());
+  }
+
+  /**
+   * Maps each element in parallel.
+   *
+   * <p>Lists smaller than {@link ParallelOptions#threshold()} are mapped sequentially, exactly like
+   * {@link #map(Function)}. Larger lists are mapped chunk by chunk by fork-join tasks in {@link
+   * ParallelOptions#pool()}; every mapped chunk becomes the chunk at the same position of the
+   * result, so nothing is copied afterwards.
+   *
+   * @param mapper mapper to apply; must be safe to call from multiple threads
+   * @param options pool and size threshold to use
+   * @param <U> mapped element type
+   * @return list of mapped values in encounter order
+   * @throws NullPointerException if {@code mapper} or {@code options} is {@code null}
+   */
+  public <U> @NonNull BigImmutableList<U> parMap(
+      @NonNull Function<? super @Nullable T, ? extends @Nullable U> mapper,
+      @NonNull ParallelOptions options) {
+    Objects.requireNonNull(mapper, "mapper");
+    Objects.requireNonNull(options, "options");
+    if (size < options.threshold()) {
+      return map(mapper);
+    }
+    final var mapped =
+        inChunks(options, Object[][]::new, chunk -> mapChunk(chunks[chunk], mapper));
+    return new BigImmutableList<>(mapped, size);
+  }
+
+  /**
+   * Filters elements in parallel using {@link ParallelOptions#defaults()}.
+   *
+   * @param predicate filter predicate; must be safe to call from multiple threads
+   * @return list of matching elements in encounter order
+   * @throws NullPointerException if {@code predicate} is {@code null}
+   * @see #parFilter(Predicate, ParallelOptions)
+   */
+  public @NonNull BigImmutableList<T> parFilter(@NonNull Predicate<? super @Nullable T> predicate) {
+    return parFilter(predicate, ParallelOptions.defaults());
+  }
+
+  /**
+   * Filters elements in parallel.
+   *
+   * <p>Lists smaller than {@link ParallelOptions#threshold()} are filtered sequentially, exactly
+   * like {@link #filter(Predicate)}. Larger lists are filtered chunk by chunk in parallel and the
+   * survivors are then packed into full chunks again.
+   *
+   * @param predicate filter predicate; must be safe to call from multiple threads
+   * @param options pool and size threshold to use
+   * @return list of matching elements in encounter order
+   * @throws NullPointerException if {@code predicate} or {@code options} is {@code null}
+   */
+  public @NonNull BigImmutableList<T> parFilter(
+      @NonNull Predicate<? super @Nullable T> predicate, @NonNull ParallelOptions options) {
+    Objects.requireNonNull(predicate, "predicate");
+    Objects.requireNonNull(options, "options");
+    if (size < options.threshold()) {
+      return filter(predicate);
+    }
+    final var filtered =
+        inChunks(options, Object[][]::new, chunk -> filterChunk(chunks[chunk], predicate));
+    final var builder = BigImmutableList.<T>builder();
+    for (final var chunk : filtered) {
+      builder.addChunk(chunk);
+    }
+    return builder.build();
+  }
+
+  /**
+   * Reduces the list in parallel using {@link ParallelOptions#defaults()}.
+   *
+   * @param identity identity value of {@code combiner}, also the initial value of every chunk
+   * @param accumulator folds one element into a partial result
+   * @param combiner combines two partial results
+   * @param <U> result type
+   * @return reduced result
+   * @throws NullPointerException if {@code accumulator} or {@code combiner} is {@code null}
+   * @see #parReduce(Object, BiFunction, BinaryOperator, ParallelOptions)
+   */
+  public <U> @Nullable U parReduce(
+      @Nullable U identity,
+      @NonNull BiFunction<? super @Nullable U, ? super @Nullable T, ? extends @Nullable U>
+          accumulator,
+      @NonNull BinaryOperator<@Nullable U> combiner) {
+    return parReduce(identity, accumulator, combiner, ParallelOptions.defaults());
+  }
+
+  /**
+   * Reduces the list in parallel.
+   *
+   * <p>Each chunk is folded left-to-right starting from {@code identity}, and the partial results
+   * are combined left-to-right in encounter order, following the contract of {@link
+   * java.util.stream.Stream#reduce(Object, BiFunction, BinaryOperator)}. Lists smaller than {@link
+   * ParallelOptions#threshold()} are folded sequentially on the calling thread.
+   *
+   * @param identity identity value of {@code combiner}, also the initial value of every chunk
+   * @param accumulator folds one element into a partial result
+   * @param combiner combines two partial results
+   * @param options pool and size threshold to use
+   * @param <U> result type
+   * @return reduced result
+   * @throws NullPointerException if {@code accumulator}, {@code combiner} or {@code options} is
+   *     {@code null}
+   */
+  public <U> @Nullable U parReduce(
+      @Nullable U identity,
+      @NonNull BiFunction<? super @Nullable U, ? super @Nullable T, ? extends @Nullable U>
+          accumulator,
+      @NonNull BinaryOperator<@Nullable U> combiner,
+      @NonNull ParallelOptions options) {
+    Objects.requireNonNull(accumulator, "accumulator");
+    Objects.requireNonNull(combiner, "combiner");
+    Objects.requireNonNull(options, "options");
+    if (size < options.threshold()) {
+      return fold(identity, accumulator);
+    }
+    final var partials =
+        inChunks(
+            options,
+            Object[]::new,
+            chunk -> {
+              @Nullable U partial = identity;
+              for (final var value : chunks[chunk]) {
+                @SuppressWarnings("unchecked")
+                final var element = (T) value;
+                partial = accumulator.apply(partial, element);
+              }
+              return partial;
+            });
+    @SuppressWarnings("unchecked")
+    @Nullable U result = (U) partials[0];
+    for (int index = 1; index < partials.length; index++) {
+      @SuppressWarnings("unchecked")
+      final var partial = (U) partials[index];
+      result = combiner.apply(result, partial);
+    }
+    return result;
+  }
+
+  /**
+   * Returns a sequential {@link Stream} of the elements.
+   *
+   * @return stream of elements
+   */
+  public @NonNull Stream<@Nullable T> stream() {
+    return StreamSupport.stream(spliterator(), false);
+  }
+
+  /**
+   * Returns a possibly parallel {@link Stream} of the elements.
+   *
+   * <p>The stream splits at chunk boundaries, so every thread traverses whole arrays.
+   *
+   * @return parallel stream of elements
+   */
+  public @NonNull Stream<@Nullable T> parallelStream() {
+    return StreamSupport.stream(spliterator(), true);
+  }
+
+  @Override
+  public void forEach(@NonNull Consumer<? super @Nullable T> action) {
+    Objects.requireNonNull(action, "action");
+    for (final var chunk : chunks) {
+      for (final var value : chunk) {
+        @SuppressWarnings("unchecked")
+        final var element = (T) value;
+        action.accept(element);
+      }
+    }
+  }
+
+  @Override
+  public @NonNull Iterator<@Nullable T> iterator() {
+    return new Iterator<>() {
+      private long index;
+
+      @Override
+      public boolean hasNext() {
+        return index < size;
+      }
+
+      @Override
+      public @Nullable T next() {
+        if (index >= size) {
+          throw new NoSuchElementException();
+        }
+        return element(index++);
+      }
+    };
+  }
+
+  @Override
+  public @NonNull Spliterator<@Nullable T> spliterator() {
+    return new ChunkSpliterator(0, size);
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
+    if (!(other instanceof BigImmutableList<?> that) || size != that.size) {
+      return false;
+    }
+    for (int chunk = 0; chunk < chunks.length; chunk++) {
+      if (!Arrays.equals(chunks[chunk], that.chunks[chunk])) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns a hash code computed like {@link java.util.List#hashCode()}.
+   *
+   * @return hash code of the elements
+   */
+  @Override
+  public int hashCode() {
+    var result = 1;
+    for (final var chunk : chunks) {
+      for (final var value : chunk) {
+        result = 31 * result + Objects.hashCode(value);
+      }
+    }
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    return "BigImmutableList(size=" + size + ")";
+  }
+
+  @SuppressWarnings("unchecked")
+  private @Nullable T element(long index) {
+    return (T) chunks[(int) (index >>> CHUNK_SHIFT)][(int) index & CHUNK_MASK];
+  }
+
+  private <R> R @NonNull [] inChunks(
+      @NonNull ParallelOptions options,
+      @NonNull IntFunction<R[]> generator,
+      @NonNull IntFunction<R> work) {
+    final var results = generator.apply(chunks.length);
+    options.pool().invoke(new ChunkRangeTask<>(0, chunks.length, results, work));
+    return results;
+  }
+
+  private static <T, U> @Nullable Object @NonNull [] mapChunk(
+      @Nullable Object @NonNull [] chunk,
+      @NonNull Function<? super @Nullable T, ? extends @Nullable U> mapper) {
+    final var mapped = new Object[chunk.length];
+    for (int index = 0; index < chunk.length; index++) {
+      @SuppressWarnings("unchecked")
+      final var element = (T) chunk[index];
+      mapped[index] = mapper.apply(element);
+    }
+    return mapped;
+  }
+
+  private static <T> @Nullable Object @NonNull [] filterChunk(
+      @Nullable Object @NonNull [] chunk, @NonNull Predicate<? super @Nullable T> predicate) {
+    final var kept = new Object[chunk.length];
+    var count = 0;
+    for (final var value : chunk) {
+      @SuppressWarnings("unchecked")
+      final var element = (T) value;
+      if (predicate.test(element)) {
+        kept[count++] = element;
+      }
+    }
+    return count == kept.length ? kept : Arrays.copyOf(kept, count);
+  }
+
+  /**
+   * Computes one result per chunk by splitting the chunk range in halves.
+   *
+   * @param <R> chunk result type
+   */
+  @SuppressWarnings("serial")
+  private static final class ChunkRangeTask<R> extends RecursiveAction {
+    private final int from;
+    private final int to;
+    private final R @NonNull [] results;
+    private final @NonNull IntFunction<R> work;
+
+    private ChunkRangeTask(
+        int from, int to, R @NonNull [] results, @NonNull IntFunction<R> work) {
+      this.from = from;
+      this.to = to;
+      this.results = results;
+      this.work = work;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from == 1) {
+        results[from] = work.apply(from);
+        return;
+      }
+      final var middle = (from + to) >>> 1;
+      invokeAll(
+          new ChunkRangeTask<>(from, middle, results, work),
+          new ChunkRangeTask<>(middle, to, results, work));
+    }
+  }
+
+  /** Spliterator over an index range that prefers to split at chunk boundaries. */
+  private final class ChunkSpliterator implements Spliterator<@Nullable T> {
+    private long index;
+    private final long end;
+
+    private ChunkSpliterator(long index, long end) {
+      this.index = index;
+      this.end = end;
+    }
+
+    @Override
+    public boolean tryAdvance(@NonNull Consumer<? super @Nullable T> action) {
+      Objects.requireNonNull(action, "action");
+      if (index >= end) {
+        return false;
+      }
+      action.accept(element(index++));
+      return true;
+    }
+
+    @Override
+    public void forEachRemaining(@NonNull Consumer<? super @Nullable T> action) {
+      Objects.requireNonNull(action, "action");
+      while (index < end) {
+        final var chunk = chunks[(int) (index >>> CHUNK_SHIFT)];
+        final var from = (int) index & CHUNK_MASK;
+        final var to = (int) Math.min(CHUNK_SIZE, from + (end - index));
+        for (int offset = from; offset < to; offset++) {
+          @SuppressWarnings("unchecked")
+          final var element = (T) chunk[offset];
+          action.accept(element);
+        }
+        index += to - from;
+      }
+    }
+
+    @Override
+    public @Nullable Spliterator<@Nullable T> trySplit() {
+      final var remaining = end - index;
+      if (remaining < 2) {
+        return null;
+      }
+      final var middle = index + remaining / 2;
+      final var aligned = middle & ~(long) CHUNK_MASK;
+      final var split = aligned > index ? aligned : middle;
+      final var prefix = new ChunkSpliterator(index, split);
+      index = split;
+      return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+      return end - index;
+    }
+
+    @Override
+    public int characteristics() {
+      return ORDERED | SIZED | SUBSIZED | IMMUTABLE;
+    }
+  }
+
+  /**
+   * Mutable builder that fills chunks in order.
+   *
+   * <p>The chunk being filled starts small and doubles until it reaches 32,768 elements, so small
+   * lists stay small. A builder may keep being used after {@link #build()}; later additions are
+   * never visible through lists it has already built.
+   *
+   * @param <T> element type
+   */
+  public static final class Builder<T> {
+    private final @NonNull ArrayList<@Nullable Object @NonNull []> full = new ArrayList<>();
+    private @Nullable Object @NonNull [] current = new Object[0];
+    private int count;
+
+    private Builder() {}
+
+    /**
+     * Adds a value after the values added so far.
+     *
+     * @param value value to add; may be {@code null}
+     * @return this builder
+     */
+    public @NonNull Builder<T> add(@Nullable T value) {
+      ensureCapacity(count + 1);
+      current[count++] = value;
+      if (count == CHUNK_SIZE) {
+        sealCurrent();
+      }
+      return this;
+    }
+
+    /**
+     * Adds all values in iteration order.
+     *
+     * @param values values to add; may contain {@code null}
+     * @return this builder
+     * @throws NullPointerException if {@code values} is {@code null}
+     */
+    public @NonNull Builder<T> addAll(@NonNull Iterable<? extends @Nullable T> values) {
+      Objects.requireNonNull(values, "values");
+      for (final var value : values) {
+        add(value);
+      }
+      return this;
+    }
+
+    /**
+     * Returns the number of values added so far.
+     *
+     * @return current size
+     */
+    public long size() {
+      return (long) full.size() * CHUNK_SIZE + count;
+    }
+
+    /**
+     * Creates a list of the values added so far.
+     *
+     * <p>Full chunks are shared with the list; only the partially filled last chunk is copied.
+     *
+     * @return immutable list of the added values
+     */
+    public @NonNull BigImmutableList<T> build() {
+      final var size = size();
+      if (size == 0) {
+        return empty();
+      }
+      final var chunks = full.toArray(new Object[full.size() + (count == 0 ? 0 : 1)][]);
+      if (count != 0) {
+        chunks[full.size()] = Arrays.copyOf(current, count);
+      }
+      return new BigImmutableList<>(chunks, size);
+    }
+
+    /** Appends a chunk-sized or smaller array that nothing else references. */
+    private void addChunk(@Nullable Object @NonNull [] values) {
+      if (count == 0 && values.length == CHUNK_SIZE) {
+        full.add(values);
+        return;
+      }
+      var offset = 0;
+      while (offset < values.length) {
+        final var copied = Math.min(values.length - offset, CHUNK_SIZE - count);
+        ensureCapacity(count + copied);
+        System.arraycopy(values, offset, current, count, copied);
+        count += copied;
+        offset += copied;
+        if (count == CHUNK_SIZE) {
+          sealCurrent();
+        }
+      }
+    }
+
+    private void ensureCapacity(int needed) {
+      if (needed > current.length) {
+        final var grown = Math.max(needed, Math.max(INITIAL_CHUNK_CAPACITY, 2 * current.length));
+        current = Arrays.copyOf(current, Math.min(CHUNK_SIZE, grown));
+      }
+    }
+
+    private void sealCurrent() {
+      full.add(current);
+      current = new Object[0];
+      count = 0;
+    }
+  }
+}
@@ -0,0 +1,726 @@
+package babysteps.core;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Compressed hash-array mapped prefix trie (CHAMP) backing {@link ImmutableMap}.
+ *
+ * <p>Technical background: a key's 32-bit hash is consumed five bits per level, selecting one of
+ * 32 slots. Each {@link BitmapNode} keeps two bitmaps, one for slots that hold an inline key/value
+ * pair and one for slots that hold a child node, and stores only the occupied slots in a single
+ * compact array: all pairs first, then all children. Keys whose full hashes are equal end up in a
+ * {@link CollisionNode} below the last bitmap level.
+ *
+ * <p>Updates copy the nodes on the path from the root to the touched slot (at most seven small
+ * arrays) and share every other node with the previous version. Removals inline a child that is
+ * left with a single pair into its parent, so the trie never keeps chains of one-element nodes.
+ * Every node caches the number of pairs below it, so sizes are known in constant time.
+ *
+ * <p>Bulk operations ({@link #merge}, {@link #intersect}, {@link #difference}) walk both tries in
+ * lockstep. Subtrees that occur on only one side, or on both sides by identity, are reused or
+ * dropped as a whole without visiting their entries, so combining two versions of the same trie
+ * costs time proportional to the nodes in which they differ.
+ */
+final class ChampTrie {
+  static final int BITS = 5;
+  static final int MASK = (1 << BITS) - 1;
+
+  /** Marker returned by {@link Node#find} when the key is absent. */
+  static final Object NOT_FOUND = new Object();
+
+  /** Shared empty root. */
+  static final BitmapNode EMPTY_NODE = new BitmapNode(0, 0, new Object[0], 0);
+
+  /** Upper bound of the node depth: seven bitmap levels and one collision level. */
+  private static final int MAX_DEPTH = Integer.SIZE / BITS + 2;
+
+  private ChampTrie() {}
+
+  static int hash(@Nullable Object key) {
+    return Objects.hashCode(key);
+  }
+
+  /**
+   * Merges two nodes at the same level; entries of {@code right} win unless a resolver is given.
+   *
+   * @param left left node
+   * @param right right node
+   * @param shift hash shift of both nodes
+   * @param resolver combines {@code (leftValue, rightValue)} for shared keys; {@code null} keeps
+   *     the right value
+   * @return merged node
+   */
+  static @NonNull Node merge(
+      @NonNull Node left,
+      @NonNull Node right,
+      int shift,
+      @Nullable BinaryOperator<@Nullable Object> resolver) {
+    if (left == right && resolver == null) {
+      return left;
+    }
+    if (left instanceof BitmapNode leftBitmap && right instanceof BitmapNode rightBitmap) {
+      return mergeBitmaps(leftBitmap, rightBitmap, shift, resolver);
+    }
+    var result = left;
+    for (int index = 0; index < right.payloadArity(); index++) {
+      final var key = right.key(index);
+      result = result.put(key, right.value(index), hash(key), shift, resolver);
+    }
+    return result;
+  }
+
+  /**
+   * Keeps the pairs of {@code left} whose keys also occur in {@code right}.
+   *
+   * @param left left node
+   * @param right right node
+   * @param shift hash shift of both nodes
+   * @return intersected node, or {@code left} when all of its pairs are kept
+   */
+  static @NonNull Node intersect(@NonNull Node left, @NonNull Node right, int shift) {
+    if (left == right || left.size() == 0) {
+      return left;
+    }
+    if (right.size() == 0) {
+      return EMPTY_NODE;
+    }
+    if (!(left instanceof BitmapNode leftBitmap && right instanceof BitmapNode rightBitmap)) {
+      return retain(left, right, shift, true);
+    }
+    final var slots =
+        (leftBitmap.dataMap | leftBitmap.nodeMap) & (rightBitmap.dataMap | rightBitmap.nodeMap);
+    final var builder = new NodeBuilder(Integer.bitCount(slots));
+    for (int remaining = slots; remaining != 0; remaining &= remaining - 1) {
+      final var bit = remaining & -remaining;
+      if ((leftBitmap.dataMap & bit) != 0) {
+        final var index = leftBitmap.dataIndex(bit);
+        final var key = leftBitmap.key(index);
+        if (rightBitmap.find(key, hash(key), shift) != NOT_FOUND) {
+          builder.addData(bit, key, leftBitmap.value(index));
+        }
+      } else if ((rightBitmap.dataMap & bit) != 0) {
+        final var key = rightBitmap.key(rightBitmap.dataIndex(bit));
+        final var value = leftBitmap.nodeAt(bit).find(key, hash(key), shift + BITS);
+        if (value != NOT_FOUND) {
+          builder.addData(bit, key, value);
+        }
+      } else {
+        builder.addChild(
+            bit, intersect(leftBitmap.nodeAt(bit), rightBitmap.nodeAt(bit), shift + BITS));
+      }
+    }
+    return builder.buildOr(leftBitmap);
+  }
+
+  /**
+   * Keeps the pairs of {@code left} whose keys do not occur in {@code right}.
+   *
+   * @param left left node
+   * @param right right node
+   * @param shift hash shift of both nodes
+   * @return remaining node, or {@code left} when all of its pairs are kept
+   */
+  static @NonNull Node difference(@NonNull Node left, @NonNull Node right, int shift) {
+    if (left == right) {
+      return EMPTY_NODE;
+    }
+    if (left.size() == 0 || right.size() == 0) {
+      return left;
+    }
+    if (!(left instanceof BitmapNode leftBitmap && right instanceof BitmapNode rightBitmap)) {
+      return retain(left, right, shift, false);
+    }
+    final var slots = leftBitmap.dataMap | leftBitmap.nodeMap;
+    final var builder = new NodeBuilder(Integer.bitCount(slots));
+    for (int remaining = slots; remaining != 0; remaining &= remaining - 1) {
+      final var bit = remaining & -remaining;
+      if ((leftBitmap.dataMap & bit) != 0) {
+        final var index = leftBitmap.dataIndex(bit);
+        final var key = leftBitmap.key(index);
+        if (rightBitmap.find(key, hash(key), shift) == NOT_FOUND) {
+          builder.addData(bit, key, leftBitmap.value(index));
+        }
+      } else if ((rightBitmap.dataMap & bit) != 0) {
+        final var key = rightBitmap.key(rightBitmap.dataIndex(bit));
+        builder.addChild(bit, leftBitmap.nodeAt(bit).remove(key, hash(key), shift + BITS));
+      } else if ((rightBitmap.nodeMap & bit) != 0) {
+        builder.addChild(
+            bit, difference(leftBitmap.nodeAt(bit), rightBitmap.nodeAt(bit), shift + BITS));
+      } else {
+        builder.addChild(bit, leftBitmap.nodeAt(bit));
+      }
+    }
+    return builder.buildOr(leftBitmap);
+  }
+
+  /** Filters the pairs of a collision node by their presence in {@code right}. */
+  private static @NonNull Node retain(
+      @NonNull Node left, @NonNull Node right, int shift, boolean present) {
+    final var kept = new Object[2 * left.payloadArity()];
+    var length = 0;
+    for (int index = 0; index < left.payloadArity(); index++) {
+      final var key = left.key(index);
+      if ((right.find(key, hash(key), shift) != NOT_FOUND) == present) {
+        kept[length++] = key;
+        kept[length++] = left.value(index);
+      }
+    }
+    if (length == kept.length) {
+      return left;
+    }
+    if (length == 0) {
+      return EMPTY_NODE;
+    }
+    return new CollisionNode(hash(left.key(0)), Arrays.copyOf(kept, length));
+  }
+
+  private static @NonNull Node mergeBitmaps(
+      @NonNull BitmapNode left,
+      @NonNull BitmapNode right,
+      int shift,
+      @Nullable BinaryOperator<@Nullable Object> resolver) {
+    final BinaryOperator<@Nullable Object> flipped =
+        resolver == null
+            ? (existing, incoming) -> existing
+            : (existing, incoming) -> resolver.apply(incoming, existing);
+    final var slots = left.dataMap | left.nodeMap | right.dataMap | right.nodeMap;
+    final var builder = new NodeBuilder(Integer.bitCount(slots));
+    for (int remaining = slots; remaining != 0; remaining &= remaining - 1) {
+      final var bit = remaining & -remaining;
+      if ((left.dataMap & bit) != 0) {
+        final var index = left.dataIndex(bit);
+        final var leftKey = left.key(index);
+        final var leftValue = left.value(index);
+        if ((right.dataMap & bit) != 0) {
+          final var rightIndex = right.dataIndex(bit);
+          final var rightKey = right.key(rightIndex);
+          final var rightValue = right.value(rightIndex);
+          if (Objects.equals(leftKey, rightKey)) {
+            builder.addData(
+                bit,
+                leftKey,
+                resolver == null ? rightValue : resolver.apply(leftValue, rightValue));
+          } else {
+            builder.addChild(
+                bit,
+                pair(
+                    leftKey,
+                    leftValue,
+                    hash(leftKey),
+                    rightKey,
+                    rightValue,
+                    hash(rightKey),
+                    shift + BITS));
+          }
+        } else if ((right.nodeMap & bit) != 0) {
+          builder.addChild(
+              bit, right.nodeAt(bit).put(leftKey, leftValue, hash(leftKey), shift + BITS, flipped));
+        } else {
+          builder.addData(bit, leftKey, leftValue);
+        }
+      } else if ((left.nodeMap & bit) != 0) {
+        final var leftNode = left.nodeAt(bit);
+        if ((right.dataMap & bit) != 0) {
+          final var index = right.dataIndex(bit);
+          final var rightKey = right.key(index);
+          builder.addChild(
+              bit,
+              leftNode.put(rightKey, right.value(index), hash(rightKey), shift + BITS, resolver));
+        } else if ((right.nodeMap & bit) != 0) {
+          builder.addChild(bit, merge(leftNode, right.nodeAt(bit), shift + BITS, resolver));
+        } else {
+          builder.addChild(bit, leftNode);
+        }
+      } else if ((right.dataMap & bit) != 0) {
+        final var index = right.dataIndex(bit);
+        builder.addData(bit, right.key(index), right.value(index));
+      } else {
+        builder.addChild(bit, right.nodeAt(bit));
+      }
+    }
+    return builder.build();
+  }
+
+  /** Creates the smallest subtree at {@code shift} that holds two distinct keys. */
+  private static @NonNull Node pair(
+      @Nullable Object firstKey,
+      @Nullable Object firstValue,
+      int firstHash,
+      @Nullable Object secondKey,
+      @Nullable Object secondValue,
+      int secondHash,
+      int shift) {
+    if (shift >= Integer.SIZE) {
+      return new CollisionNode(
+          firstHash, new Object[] {firstKey, firstValue, secondKey, secondValue});
+    }
+    final var firstMask = mask(firstHash, shift);
+    final var secondMask = mask(secondHash, shift);
+    if (firstMask != secondMask) {
+      final var content =
+          firstMask < secondMask
+              ? new Object[] {firstKey, firstValue, secondKey, secondValue}
+              : new Object[] {secondKey, secondValue, firstKey, firstValue};
+      return new BitmapNode((1 << firstMask) | (1 << secondMask), 0, content, 2);
+    }
+    final var child =
+        pair(firstKey, firstValue, firstHash, secondKey, secondValue, secondHash, shift + BITS);
+    return new BitmapNode(0, 1 << firstMask, new Object[] {child}, 2);
+  }
+
+  private static int mask(int hash, int shift) {
+    return (hash >>> shift) & MASK;
+  }
+
+  /** Collects the slots of a new bitmap node in ascending bit order. */
+  private static final class NodeBuilder {
+    private final Object @NonNull [] data;
+    private final Object @NonNull [] nodes;
+    private int dataMap;
+    private int nodeMap;
+    private int dataCount;
+    private int nodeCount;
+    private int size;
+
+    private NodeBuilder(int capacity) {
+      data = new Object[2 * capacity];
+      nodes = new Object[capacity];
+    }
+
+    private void addData(int bit, @Nullable Object key, @Nullable Object value) {
+      dataMap |= bit;
+      data[2 * dataCount] = key;
+      data[2 * dataCount + 1] = value;
+      dataCount++;
+      size++;
+    }
+
+    /** Adds a child, dropping it when empty and inlining it when it holds a single pair. */
+    private void addChild(int bit, @NonNull Node node) {
+      if (node.isSingleton()) {
+        addData(bit, node.key(0), node.value(0));
+      } else if (node.size() > 0) {
+        nodeMap |= bit;
+        nodes[nodeCount++] = node;
+        size += node.size();
+      }
+    }
+
+    private @NonNull Node build() {
+      if (size == 0) {
+        return EMPTY_NODE;
+      }
+      final var content = new Object[2 * dataCount + nodeCount];
+      System.arraycopy(data, 0, content, 0, 2 * dataCount);
+      System.arraycopy(nodes, 0, content, 2 * dataCount, nodeCount);
+      return new BitmapNode(dataMap, nodeMap, content, size);
+    }
+
+    /** Returns {@code original} instead of an equal-sized subset of it. */
+    private @NonNull Node buildOr(@NonNull Node original) {
+      return size == original.size() ? original : build();
+    }
+  }
+
+  /** Trie node. */
+  abstract static class Node {
+    abstract int payloadArity();
+
+    abstract @Nullable Object key(int index);
+
+    abstract @Nullable Object value(int index);
+
+    abstract int nodeArity();
+
+    abstract @NonNull Node node(int index);
+
+    /**
+     * Looks up a key.
+     *
+     * @return the mapped value, or {@link #NOT_FOUND}
+     */
+    abstract @Nullable Object find(@Nullable Object key, int hash, int shift);
+
+    /**
+     * Inserts or replaces a key.
+     *
+     * @param resolver combines {@code (existingValue, newValue)} when the key is present; {@code
+     *     null} replaces the existing value
+     * @return updated node, or this node when nothing changed
+     */
+    abstract @NonNull Node put(
+        @Nullable Object key,
+        @Nullable Object value,
+        int hash,
+        int shift,
+        @Nullable BinaryOperator<@Nullable Object> resolver);
+
+    /**
+     * Removes a key.
+     *
+     * @return updated node, or this node when the key is absent
+     */
+    abstract @NonNull Node remove(@Nullable Object key, int hash, int shift);
+
+    /**
+     * Returns the number of pairs in this subtree.
+     *
+     * @return cached subtree size
+     */
+    abstract int size();
+
+    final boolean isSingleton() {
+      return nodeArity() == 0 && payloadArity() == 1;
+    }
+
+    final void forEach(@NonNull BiConsumer<@Nullable Object, @Nullable Object> action) {
+      for (int index = 0; index < payloadArity(); index++) {
+        action.accept(key(index), value(index));
+      }
+      for (int index = 0; index < nodeArity(); index++) {
+        node(index).forEach(action);
+      }
+    }
+  }
+
+  /** Node that stores up to 32 slots addressed by five hash bits. */
+  static final class BitmapNode extends Node {
+    private final int dataMap;
+    private final int nodeMap;
+    private final Object @NonNull [] content;
+    private final int size;
+
+    BitmapNode(int dataMap, int nodeMap, Object @NonNull [] content, int size) {
+      this.dataMap = dataMap;
+      this.nodeMap = nodeMap;
+      this.content = content;
+      this.size = size;
+    }
+
+    @Override
+    int size() {
+      return size;
+    }
+
+    @Override
+    int payloadArity() {
+      return Integer.bitCount(dataMap);
+    }
+
+    @Override
+    @Nullable Object key(int index) {
+      return content[2 * index];
+    }
+
+    @Override
+    @Nullable Object value(int index) {
+      return content[2 * index + 1];
+    }
+
+    @Override
+    int nodeArity() {
+      return Integer.bitCount(nodeMap);
+    }
+
+    @Override
+    @NonNull Node node(int index) {
+      return (Node) content[2 * payloadArity() + index];
+    }
+
+    private int dataIndex(int bit) {
+      return Integer.bitCount(dataMap & (bit - 1));
+    }
+
+    private int nodeIndex(int bit) {
+      return Integer.bitCount(nodeMap & (bit - 1));
+    }
+
+    private @NonNull Node nodeAt(int bit) {
+      return node(nodeIndex(bit));
+    }
+
+    @Override
+    @Nullable Object find(@Nullable Object key, int hash, int shift) {
+      final var bit = 1 << mask(hash, shift);
+      if ((dataMap & bit) != 0) {
+        final var index = dataIndex(bit);
+        return Objects.equals(key, key(index)) ? value(index) : NOT_FOUND;
+      }
+      if ((nodeMap & bit) != 0) {
+        return nodeAt(bit).find(key, hash, shift + BITS);
+      }
+      return NOT_FOUND;
+    }
+
+    @Override
+    @NonNull Node put(
+        @Nullable Object key,
+        @Nullable Object value,
+        int hash,
+        int shift,
+        @Nullable BinaryOperator<@Nullable Object> resolver) {
+      final var bit = 1 << mask(hash, shift);
+      if ((dataMap & bit) != 0) {
+        final var index = dataIndex(bit);
+        final var existingKey = key(index);
+        final var existingValue = value(index);
+        if (Objects.equals(existingKey, key)) {
+          final var resolved = resolver == null ? value : resolver.apply(existingValue, value);
+          if (resolved == existingValue) {
+            return this;
+          }
+          final var copy = content.clone();
+          copy[2 * index + 1] = resolved;
+          return new BitmapNode(dataMap, nodeMap, copy, size);
+        }
+        final var child =
+            pair(existingKey, existingValue, hash(existingKey), key, value, hash, shift + BITS);
+        return migrateToNode(bit, index, child);
+      }
+      if ((nodeMap & bit) != 0) {
+        final var child = nodeAt(bit);
+        final var updated = child.put(key, value, hash, shift + BITS, resolver);
+        return updated == child ? this : withNode(bit, updated);
+      }
+      final var index = dataIndex(bit);
+      final var copy = new Object[content.length + 2];
+      System.arraycopy(content, 0, copy, 0, 2 * index);
+      copy[2 * index] = key;
+      copy[2 * index + 1] = value;
+      System.arraycopy(content, 2 * index, copy, 2 * index + 2, content.length - 2 * index);
+      return new BitmapNode(dataMap | bit, nodeMap, copy, size + 1);
+    }
+
+    @Override
+    @NonNull Node remove(@Nullable Object key, int hash, int shift) {
+      final var bit = 1 << mask(hash, shift);
+      if ((dataMap & bit) != 0) {
+        final var index = dataIndex(bit);
+        if (!Objects.equals(key, key(index))) {
+          return this;
+        }
+        final var copy = new Object[content.length - 2];
+        System.arraycopy(content, 0, copy, 0, 2 * index);
+        System.arraycopy(content, 2 * index + 2, copy, 2 * index, copy.length - 2 * index);
+        return new BitmapNode(dataMap ^ bit, nodeMap, copy, size - 1);
+      }
+      if ((nodeMap & bit) != 0) {
+        final var child = nodeAt(bit);
+        final var updated = child.remove(key, hash, shift + BITS);
+        if (updated == child) {
+          return this;
+        }
+        if (!updated.isSingleton()) {
+          return withNode(bit, updated);
+        }
+        if (shift > 0 && dataMap == 0 && Integer.bitCount(nodeMap) == 1) {
+          return updated;
+        }
+        return migrateToData(bit, child, updated.key(0), updated.value(0));
+      }
+      return this;
+    }
+
+    private @NonNull Node withNode(int bit, @NonNull Node node) {
+      final var copy = content.clone();
+      final var index = nodeIndex(bit);
+      final var replaced = node(index);
+      copy[2 * payloadArity() + index] = node;
+      return new BitmapNode(dataMap, nodeMap, copy, size - replaced.size() + node.size());
+    }
+
+    private @NonNull Node migrateToNode(int bit, int dataIndex, @NonNull Node node) {
+      final var dataLength = 2 * payloadArity();
+      final var nodeIndex = nodeIndex(bit);
+      final var copy = new Object[content.length - 1];
+      System.arraycopy(content, 0, copy, 0, 2 * dataIndex);
+      System.arraycopy(
+          content, 2 * dataIndex + 2, copy, 2 * dataIndex, dataLength - 2 * dataIndex - 2);
+      System.arraycopy(content, dataLength, copy, dataLength - 2, nodeIndex);
+      copy[dataLength - 2 + nodeIndex] = node;
+      System.arraycopy(
+          content,
+          dataLength + nodeIndex,
+          copy,
+          dataLength - 1 + nodeIndex,
+          content.length - dataLength - nodeIndex);
+      return new BitmapNode(dataMap ^ bit, nodeMap | bit, copy, size - 1 + node.size());
+    }
+
+    private @NonNull Node migrateToData(
+        int bit, @NonNull Node replaced, @Nullable Object key, @Nullable Object value) {
+      final var dataLength = 2 * payloadArity();
+      final var dataIndex = dataIndex(bit);
+      final var nodeIndex = nodeIndex(bit);
+      final var copy = new Object[content.length + 1];
+      System.arraycopy(content, 0, copy, 0, 2 * dataIndex);
+      copy[2 * dataIndex] = key;
+      copy[2 * dataIndex + 1] = value;
+      System.arraycopy(
+          content, 2 * dataIndex, copy, 2 * dataIndex + 2, dataLength - 2 * dataIndex);
+      System.arraycopy(content, dataLength, copy, dataLength + 2, nodeIndex);
+      System.arraycopy(
+          content,
+          dataLength + nodeIndex + 1,
+          copy,
+          dataLength + 2 + nodeIndex,
+          content.length - dataLength - nodeIndex - 1);
+      return new BitmapNode(dataMap | bit, nodeMap ^ bit, copy, size - replaced.size() + 1);
+    }
+  }
+
+  /** Node that stores keys whose 32-bit hashes are all equal. */
+  static final class CollisionNode extends Node {
+    private final int hash;
+    private final Object @NonNull [] content;
+
+    CollisionNode(int hash, Object @NonNull [] content) {
+      this.hash = hash;
+      this.content = content;
+    }
+
+    @Override
+    int payloadArity() {
+      return content.length / 2;
+    }
+
+    @Override
+    @Nullable Object key(int index) {
+      return content[2 * index];
+    }
+
+    @Override
+    @Nullable Object value(int index) {
+      return content[2 * index + 1];
+    }
+
+    @Override
+    int nodeArity() {
+      return 0;
+    }
+
+    @Override
+    int size() {
+      return payloadArity();
+    }
+
+    @Override
+    @NonNull Node node(int index) {
+      throw new IndexOutOfBoundsException(index);
+    }
+
+    private int indexOf(@Nullable Object key) {
+      for (int index = 0; index < payloadArity(); index++) {
+        if (Objects.equals(key, key(index))) {
+          return index;
+        }
+      }
+      return -1;
+    }
+
+    @Override
+    @Nullable Object find(@Nullable Object key, int hash, int shift) {
+      final var index = indexOf(key);
+      return index < 0 ? NOT_FOUND : value(index);
+    }
+
+    @Override
+    @NonNull Node put(
+        @Nullable Object key,
+        @Nullable Object value,
+        int hash,
+        int shift,
+        @Nullable BinaryOperator<@Nullable Object> resolver) {
+      final var index = indexOf(key);
+      if (index >= 0) {
+        final var existingValue = value(index);
+        final var resolved = resolver == null ? value : resolver.apply(existingValue, value);
+        if (resolved == existingValue) {
+          return this;
+        }
+        final var copy = content.clone();
+        copy[2 * index + 1] = resolved;
+        return new CollisionNode(this.hash, copy);
+      }
+      final var copy = new Object[content.length + 2];
+      System.arraycopy(content, 0, copy, 0, content.length);
+      copy[content.length] = key;
+      copy[content.length + 1] = value;
+      return new CollisionNode(this.hash, copy);
+    }
+
+    @Override
+    @NonNull Node remove(@Nullable Object key, int hash, int shift) {
+      final var index = indexOf(key);
+      if (index < 0) {
+        return this;
+      }
+      final var copy = new Object[content.length - 2];
+      System.arraycopy(content, 0, copy, 0, 2 * index);
+      System.arraycopy(content, 2 * index + 2, copy, 2 * index, copy.length - 2 * index);
+      return new CollisionNode(this.hash, copy);
+    }
+  }
+
+  /**
+   * Depth-first cursor over the pairs of a trie that keeps an explicit stack of nodes.
+   *
+   * @param <E> produced element type
+   */
+  abstract static class Cursor<E> implements Iterator<E> {
+    private final @NonNull Node[] stack = new Node[MAX_DEPTH];
+    private final int[] nextChild = new int[MAX_DEPTH];
+    private int depth;
+    private @NonNull Node current;
+    private int nextPayload;
+
+    Cursor(@NonNull Node root) {
+      stack[0] = root;
+      current = root;
+    }
+
+    /**
+     * Creates the element for one pair.
+     *
+     * @param key key of the pair
+     * @param value value of the pair
+     * @return produced element
+     */
+    abstract E element(@Nullable Object key, @Nullable Object value);
+
+    @Override
+    public final boolean hasNext() {
+      while (nextPayload >= current.payloadArity()) {
+        while (depth >= 0 && nextChild[depth] >= stack[depth].nodeArity()) {
+          depth--;
+        }
+        if (depth < 0) {
+          return false;
+        }
+        final var child = stack[depth].node(nextChild[depth]++);
+        depth++;
+        stack[depth] = child;
+        nextChild[depth] = 0;
+        current = child;
+        nextPayload = 0;
+      }
+      return true;
+    }
+
+    @Override
+    public final E next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      final var index = nextPayload++;
+      return element(current.key(index), current.value(index));
+    }
+  }
+}
@@ -0,0 +1,149 @@
+package babysteps.core;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Persistent singly linked stack backing {@link ImmutableQueue} and {@link ImmutableDeque}.
+ *
+ * <p>{@link #push(Object)} and {@link #tail()} run in constant time and share the remaining cells,
+ * and every cell records the length of the list it starts so that {@link #size()} is constant
+ * too.
+ *
+ * @param <T> element type, possibly nullable
+ */
+final class ConsList<T> implements Iterable<@Nullable T> {
+  private static final ConsList<?> EMPTY = new ConsList<>(null, null, 0);
+
+  private final @Nullable T head;
+  private final @Nullable ConsList<T> tail;
+  private final int size;
+
+  private ConsList(@Nullable T head, @Nullable ConsList<T> tail, int size) {
+    this.head = head;
+    this.tail = tail;
+    this.size = size;
+  }
+
+  /**
+   * Returns the empty list.
+   *
+   * @param <T> element type
+   * @return empty list
+   */
+  static <T> @NonNull ConsList<T> empty() {
+    @SuppressWarnings("unchecked")
+    final var casted = (ConsList<T>) EMPTY;
+    return casted;
+  }
+
+  int size() {
+    return size;
+  }
+
+  boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Returns the first element; the list must not be empty.
+   *
+   * @return first element
+   */
+  @Nullable T head() {
+    return head;
+  }
+
+  /**
+   * Returns the list without its first element; the list must not be empty.
+   *
+   * @return remaining cells
+   */
+  @NonNull ConsList<T> tail() {
+    return tail;
+  }
+
+  /**
+   * Returns a list with the value in front of this list's cells.
+   *
+   * @param value value to push
+   * @return longer list sharing this list
+   */
+  @NonNull ConsList<T> push(@Nullable T value) {
+    return new ConsList<>(value, this, size + 1);
+  }
+
+  /**
+   * Returns the elements in reverse order in {@code O(n)} time.
+   *
+   * @return reversed list
+   */
+  @NonNull ConsList<T> reversed() {
+    return reverseOnto(size, empty());
+  }
+
+  /**
+   * Returns the first {@code count} elements, copied in reverse order, pushed onto {@code onto}.
+   *
+   * @param count number of elements to move, at most {@link #size()}
+   * @param onto list to push onto
+   * @return {@code onto} with the moved elements on top, the last moved one first
+   */
+  @NonNull ConsList<T> reverseOnto(int count, @NonNull ConsList<T> onto) {
+    var result = onto;
+    var current = this;
+    for (int index = 0; index < count; index++) {
+      result = result.push(current.head);
+      current = current.tail;
+    }
+    return result;
+  }
+
+  /**
+   * Returns a copy of the first {@code count} elements in {@code O(count)} time.
+   *
+   * @param count number of elements to keep, at most {@link #size()}
+   * @return prefix of this list
+   */
+  @NonNull ConsList<T> take(int count) {
+    return reverseOnto(count, empty()).reversed();
+  }
+
+  /**
+   * Returns the list without its first {@code count} elements.
+   *
+   * @param count number of elements to skip, at most {@link #size()}
+   * @return suffix of this list
+   */
+  @NonNull ConsList<T> drop(int count) {
+    var current = this;
+    for (int index = 0; index < count; index++) {
+      current = current.tail;
+    }
+    return current;
+  }
+
+  @Override
+  public @NonNull Iterator<@Nullable T> iterator() {
+    return new Iterator<>() {
+      private ConsList<T> current = ConsList.this;
+
+      @Override
+      public boolean hasNext() {
+        return current.size > 0;
+      }
+
+      @Override
+      public @Nullable T next() {
+        if (current.size == 0) {
+          throw new NoSuchElementException();
+        }
+        final var value = current.head;
+        current = current.tail;
+        return value;
+      }
+    };
+  }
+}
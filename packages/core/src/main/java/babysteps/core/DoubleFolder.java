@@ -0,0 +1,11 @@
+package babysteps.core;
+
+/**
+ * Folds one element into a primitive {@code double} accumulator without boxing.
+ *
+ * @param <T> element type
+ */
+@FunctionalInterface
+public interface DoubleFolder<T> {
+  double apply(double accumulator, T value);
+}
@@ -0,0 +1,134 @@
+package babysteps.core;
+
+import java.nio.ByteBuffer;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Encodes values of one type into a fixed number of bytes.
+ *
+ * <p>Codecs describe the record layout of an {@link OffHeapList}. Every value occupies exactly
+ * {@link #byteSize()} bytes, so element {@code i} lives at a computable offset and can be decoded
+ * without reading any other element.
+ *
+ * <p>Implementations must only use the absolute {@code get} and {@code put} methods of {@link
+ * ByteBuffer}, which leave the buffer's position untouched, and must not keep references to the
+ * buffer. The buffers they receive are little-endian.
+ *
+ * <p>Sample usage:
+ *
+ * <pre>{@code
+ * FixedWidthCodec<Tick> ticks = new FixedWidthCodec<>() {
+ *   public int byteSize() {
+ *     return 16;
+ *   }
+ *
+ *   public void write(ByteBuffer buffer, int offset, Tick tick) {
+ *     buffer.putLong(offset, tick.id()).putDouble(offset + 8, tick.value());
+ *   }
+ *
+ *   public Tick read(ByteBuffer buffer, int offset) {
+ *     return new Tick(buffer.getLong(offset), buffer.getDouble(offset + 8));
+ *   }
+ * };
+ * }</pre>
+ *
+ * @param <T> encoded value type
+ */
+public interface FixedWidthCodec<T> {
+  /**
+   * Returns the number of bytes every encoded value occupies.
+   *
+   * @return positive record width in bytes
+   */
+  int byteSize();
+
+  /**
+   * Writes a value at the given offset.
+   *
+   * @param buffer target buffer
+   * @param offset offset of the first byte to write
+   * @param value value to encode
+   */
+  void write(@NonNull ByteBuffer buffer, int offset, T value);
+
+  /**
+   * Reads the value stored at the given offset.
+   *
+   * @param buffer source buffer
+   * @param offset offset of the first byte to read
+   * @return decoded value
+   */
+  T read(@NonNull ByteBuffer buffer, int offset);
+
+  /**
+   * Returns a codec that stores non-null {@link Integer} values in four bytes.
+   *
+   * @return int codec
+   */
+  static @NonNull FixedWidthCodec<Integer> ints() {
+    return new FixedWidthCodec<>() {
+      @Override
+      public int byteSize() {
+        return Integer.BYTES;
+      }
+
+      @Override
+      public void write(@NonNull ByteBuffer buffer, int offset, Integer value) {
+        buffer.putInt(offset, value);
+      }
+
+      @Override
+      public Integer read(@NonNull ByteBuffer buffer, int offset) {
+        return buffer.getInt(offset);
+      }
+    };
+  }
+
+  /**
+   * Returns a codec that stores non-null {@link Long} values in eight bytes.
+   *
+   * @return long codec
+   */
+  static @NonNull FixedWidthCodec<Long> longs() {
+    return new FixedWidthCodec<>() {
+      @Override
+      public int byteSize() {
+        return Long.BYTES;
+      }
+
+      @Override
+      public void write(@NonNull ByteBuffer buffer, int offset, Long value) {
+        buffer.putLong(offset, value);
+      }
+
+      @Override
+      public Long read(@NonNull ByteBuffer buffer, int offset) {
+        return buffer.getLong(offset);
+      }
+    };
+  }
+
+  /**
+   * Returns a codec that stores non-null {@link Double} values in eight bytes.
+   *
+   * @return double codec
+   */
+  static @NonNull FixedWidthCodec<Double> doubles() {
+    return new FixedWidthCodec<>() {
+      @Override
+      public int byteSize() {
+        return Double.BYTES;
+      }
+
+      @Override
+      public void write(@NonNull ByteBuffer buffer, int offset, Double value) {
+        buffer.putDouble(offset, value);
+      }
+
+      @Override
+      public Double read(@NonNull ByteBuffer buffer, int offset) {
+        return buffer.getDouble(offset);
+      }
+    };
+  }
+}
@@ -0,0 +1,304 @@
+package babysteps.core;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Persistent double-ended queue.
+ *
+ * <p>Values can be added and removed at both ends in amortized constant time, and {@link
+ * #reverse()} takes constant time. Update methods return new deques and never modify the receiver.
+ *
+ * <p>Technical background: the deque is made of two persistent linked lists, one holding the
+ * front half in order and one holding the back half newest first. Whenever one side runs out while
+ * the other still holds at least two values, the other side is split in the middle and its inner
+ * half is reversed onto the empty side. After a split, both sides hold about half of the values,
+ * so a further split needs as many removals as the split moved. Like {@link ImmutableQueue}, the
+ * bound is amortized over a single line of updates.
+ *
+ * <p>Sample usage:
+ *
+ * <pre>{@code
+ * ImmutableDeque<Page> history = ImmutableDeque.<Page>empty().append(home).append(search);
+ * Option<ImmutableDeque.Popped<Page>> back = history.popLast();
+ * }</pre>
+ *
+ * @param <T> element type, possibly nullable
+ */
+public final class ImmutableDeque<T> implements Iterable<@Nullable T> {
+  private static final ImmutableDeque<?> EMPTY =
+      new ImmutableDeque<>(ConsList.empty(), ConsList.empty());
+
+  /** First values in order; only empty when {@link #rear} holds at most one value. */
+  private final @NonNull ConsList<T> front;
+
+  /** Last values, newest first; only empty when {@link #front} holds at most one value. */
+  private final @NonNull ConsList<T> rear;
+
+  private ImmutableDeque(@NonNull ConsList<T> front, @NonNull ConsList<T> rear) {
+    this.front = front;
+    this.rear = rear;
+  }
+
+  /**
+   * Returns an empty deque.
+   *
+   * @param <T> element type
+   * @return empty deque
+   */
+  public static <T> @NonNull ImmutableDeque<T> empty() {
+    @SuppressWarnings("unchecked")
+    final var casted = (ImmutableDeque<T>) EMPTY;
+    return casted;
+  }
+
+  /**
+   * Creates a deque holding the values from first to last.
+   *
+   * @param values values of the deque
+   * @param <T> element type
+   * @return deque of the values
+   * @throws NullPointerException if {@code values} is {@code null}
+   */
+  @SafeVarargs
+  public static <T> @NonNull ImmutableDeque<T> of(@Nullable T... values) {
+    Objects.requireNonNull(values, "values");
+    return fromIterable(Arrays.asList(values));
+  }
+
+  /**
+   * Creates a deque holding the values in iteration order, such as the elements of an {@link
+   * ImmutableList} from first to last.
+   *
+   * @param values source iterable
+   * @param <T> element type
+   * @return deque of the values
+   * @throws NullPointerException if {@code values} is {@code null}
+   */
+  public static <T> @NonNull ImmutableDeque<T> fromIterable(
+      @NonNull Iterable<? extends @Nullable T> values) {
+    Objects.requireNonNull(values, "values");
+    var rear = ConsList.<T>empty();
+    for (final var value : values) {
+      rear = rear.push(value);
+    }
+    return balanced(ConsList.empty(), rear);
+  }
+
+  /**
+   * Returns true if the deque is empty.
+   *
+   * @return true when the deque has no elements
+   */
+  public boolean isEmpty() {
+    return front.isEmpty() && rear.isEmpty();
+  }
+
+  /**
+   * Returns the number of elements.
+   *
+   * @return size of the deque
+   */
+  public int size() {
+    return front.size() + rear.size();
+  }
+
+  /**
+   * Returns the first value.
+   *
+   * @return {@link Option#some(Object)} with the first value, or {@link Option#none()} when empty
+   */
+  public @NonNull Option<T> peekFirst() {
+    if (!front.isEmpty()) {
+      return Option.some(front.head());
+    }
+    return rear.isEmpty() ? Option.none() : Option.some(rear.head());
+  }
+
+  /**
+   * Returns the last value.
+   *
+   * @return {@link Option#some(Object)} with the last value, or {@link Option#none()} when empty
+   */
+  public @NonNull Option<T> peekLast() {
+    if (!rear.isEmpty()) {
+      return Option.some(rear.head());
+    }
+    return front.isEmpty() ? Option.none() : Option.some(front.head());
+  }
+
+  /**
+   * Returns a deque with the value added before the first value.
+   *
+   * @param value value to add
+   * @return longer deque
+   */
+  public @NonNull ImmutableDeque<T> prepend(@Nullable T value) {
+    return balanced(front.push(value), rear);
+  }
+
+  /**
+   * Returns a deque with the value added after the last value.
+   *
+   * @param value value to add
+   * @return longer deque
+   */
+  public @NonNull ImmutableDeque<T> append(@Nullable T value) {
+    return balanced(front, rear.push(value));
+  }
+
+  /**
+   * Removes the first value.
+   *
+   * @return {@link Option#some(Object)} with the value and the remaining deque, or {@link
+   *     Option#none()} when empty
+   */
+  public @NonNull Option<Popped<T>> popFirst() {
+    if (front.isEmpty()) {
+      return rear.isEmpty() ? Option.none() : Option.some(new Popped<>(rear.head(), empty()));
+    }
+    return Option.some(new Popped<>(front.head(), balanced(front.tail(), rear)));
+  }
+
+  /**
+   * Removes the last value.
+   *
+   * @return {@link Option#some(Object)} with the value and the remaining deque, or {@link
+   *     Option#none()} when empty
+   */
+  public @NonNull Option<Popped<T>> popLast() {
+    if (rear.isEmpty()) {
+      return front.isEmpty() ? Option.none() : Option.some(new Popped<>(front.head(), empty()));
+    }
+    return Option.some(new Popped<>(rear.head(), balanced(front, rear.tail())));
+  }
+
+  /**
+   * Returns the deque with its values in reverse order in constant time.
+   *
+   * @return reversed deque
+   */
+  public @NonNull ImmutableDeque<T> reverse() {
+    if (size() <= 1) {
+      return this;
+    }
+    return new ImmutableDeque<>(rear, front);
+  }
+
+  /**
+   * Returns the elements from first to last.
+   *
+   * @return immutable list of the elements
+   */
+  public @NonNull ImmutableList<T> toImmutableList() {
+    final var builder = ImmutableList.<T>builder(size());
+    for (final var value : this) {
+      builder.add(value);
+    }
+    return builder.build();
+  }
+
+  /**
+   * Returns a sequential stream of the elements from first to last.
+   *
+   * @return ordered, sized stream
+   */
+  public @NonNull Stream<@Nullable T> stream() {
+    return StreamSupport.stream(
+        Spliterators.spliterator(
+            iterator(), size(), Spliterator.ORDERED | Spliterator.IMMUTABLE),
+        false);
+  }
+
+  @Override
+  public @NonNull Iterator<@Nullable T> iterator() {
+    final var frontIterator = front.iterator();
+    return new Iterator<>() {
+      private @Nullable Iterator<@Nullable T> rearIterator;
+
+      @Override
+      public boolean hasNext() {
+        return frontIterator.hasNext() || rearIterator().hasNext();
+      }
+
+      @Override
+      public @Nullable T next() {
+        return frontIterator.hasNext() ? frontIterator.next() : rearIterator().next();
+      }
+
+      private @NonNull Iterator<@Nullable T> rearIterator() {
+        if (rearIterator == null) {
+          rearIterator = rear.reversed().iterator();
+        }
+        return rearIterator;
+      }
+    };
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
+    if (!(other instanceof ImmutableDeque<?> that) || size() != that.size()) {
+      return false;
+    }
+    final var left = iterator();
+    final var right = that.iterator();
+    while (left.hasNext()) {
+      if (!Objects.equals(left.next(), right.next())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public int hashCode() {
+    int hash = 1;
+    for (final var value : this) {
+      hash = 31 * hash + Objects.hashCode(value);
+    }
+    return hash;
+  }
+
+  @Override
+  public String toString() {
+    return "ImmutableDeque" + toImmutableList().toList();
+  }
+
+  /**
+   * Creates a deque, splitting one side when the other is empty and it holds two or more values.
+   */
+  private static <T> @NonNull ImmutableDeque<T> balanced(
+      @NonNull ConsList<T> front, @NonNull ConsList<T> rear) {
+    if (front.isEmpty() && rear.isEmpty()) {
+      return empty();
+    }
+    if (front.isEmpty() && rear.size() > 1) {
+      final var kept = rear.size() / 2;
+      return new ImmutableDeque<>(rear.drop(kept).reversed(), rear.take(kept));
+    }
+    if (rear.isEmpty() && front.size() > 1) {
+      final var kept = front.size() / 2;
+      return new ImmutableDeque<>(front.take(kept), front.drop(kept).reversed());
+    }
+    return new ImmutableDeque<>(front, rear);
+  }
+
+  /**
+   * Result of {@link #popFirst()} and {@link #popLast()}.
+   *
+   * @param value removed value, possibly {@code null}
+   * @param remaining deque without the value
+   * @param <T> element type
+   */
+  public record Popped<T>(@Nullable T value, @NonNull ImmutableDeque<T> remaining) {}
+}
@@ -0,0 +1,477 @@
+package babysteps.core;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.OptionalDouble;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleUnaryOperator;
+import java.util.stream.DoubleStream;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Immutable list of {@code double} values.
+ *
+ * <p>Primitive-specialized sibling of {@link ImmutableList}. Elements are stored unboxed in a
+ * single {@code double[]} ({@code 8} bytes per element instead of a reference plus a boxed {@link
+ * Double}), and bulk operations run without boxing. {@link ImmutableList#mapToDouble} and {@link
+ * #stream()} convert between the two representations without boxing either.
+ *
+ * <p>Technical background: the backing array is never exposed or mutated after construction.
+ * Operations that change the contents copy the array, which makes single-element updates {@code
+ * O(n)}; build larger lists in bulk with {@link #fromStream} or {@link #of}.
+ *
+ * <p>Sample usage:
+ *
+ * <pre>{@code
+ * ImmutableDoubleList prices = ImmutableDoubleList.of(9.5, 12.0, 7.25);
+ * double total = prices.sum();
+ * }</pre>
+ */
+public final class ImmutableDoubleList {
+  private static final ImmutableDoubleList EMPTY = new ImmutableDoubleList(new double[0]);
+
+  private final double @NonNull [] values;
+
+  private ImmutableDoubleList(double @NonNull [] values) {
+    this.values = values;
+  }
+
+  /**
+   * Returns an empty list.
+   *
+   * @return empty list
+   */
+  public static @NonNull ImmutableDoubleList empty() {
+    return EMPTY;
+  }
+
+  /**
+   * Creates a list from values.
+   *
+   * @param values values to copy
+   * @return list containing the provided values
+   * @throws NullPointerException if {@code values} is {@code null}
+   */
+  public static @NonNull ImmutableDoubleList of(double... values) {
+    Objects.requireNonNull(values, "values");
+    return wrap(values.clone());
+  }
+
+  /**
+   * Creates a list from the elements of a stream.
+   *
+   * @param values stream to drain
+   * @return list of the streamed values in encounter order
+   * @throws NullPointerException if {@code values} is {@code null}
+   */
+  public static @NonNull ImmutableDoubleList fromStream(@NonNull DoubleStream values) {
+    Objects.requireNonNull(values, "values");
+    return wrap(values.toArray());
+  }
+
+  /**
+   * Creates a list by unboxing the elements of an {@link ImmutableList}.
+   *
+   * @param values boxed values
+   * @return list of the unboxed values
+   * @throws NullPointerException if {@code values} is {@code null} or contains {@code null}
+   */
+  public static @NonNull ImmutableDoubleList fromBoxed(@NonNull ImmutableList<Double> values) {
+    Objects.requireNonNull(values, "values");
+    final var array = new double[values.size()];
+    var index = 0;
+    for (final var value : values) {
+      array[index++] = Objects.requireNonNull(value, "value");
+    }
+    return wrap(array);
+  }
+
+  /**
+   * Returns true if the list is empty.
+   *
+   * @return true when the list has no elements
+   */
+  public boolean isEmpty() {
+    return values.length == 0;
+  }
+
+  /**
+   * Returns the number of elements.
+   *
+   * @return size of the list
+   */
+  public int size() {
+    return values.length;
+  }
+
+  /**
+   * Returns the element at the given index.
+   *
+   * @param index index to read
+   * @return element at index
+   * @throws IndexOutOfBoundsException if {@code index} is out of range
+   */
+  public double get(int index) {
+    return values[Objects.checkIndex(index, values.length)];
+  }
+
+  /**
+   * Returns the element at the given index or a fallback when out of range.
+   *
+   * @param index index to read
+   * @param fallback fallback value to use when out of bounds
+   * @return element at index or fallback
+   */
+  public double getOrElse(int index, double fallback) {
+    if (index < 0 || index >= values.length) {
+      return fallback;
+    }
+    return values[index];
+  }
+
+  /**
+   * Returns true if the list contains the provided value.
+   *
+   * @param value value to look for
+   * @return true if the value is present
+   */
+  public boolean contains(double value) {
+    return indexOf(value) >= 0;
+  }
+
+  /**
+   * Returns the index of the first occurrence of the value.
+   *
+   * @param value value to look for
+   * @return index or {@code -1} when absent
+   */
+  public int indexOf(double value) {
+    for (int index = 0; index < values.length; index++) {
+      if (Double.compare(values[index], value) == 0) {
+        return index;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Searches this list, which must be sorted in ascending order, for the value.
+   *
+   * @param value value to look for
+   * @return index of the value, or {@code -(insertionPoint + 1)} when absent; the result is
+   *     undefined when the list is not sorted
+   * @see Arrays#binarySearch(double[], double)
+   */
+  public int binarySearch(double value) {
+    return Arrays.binarySearch(values, value);
+  }
+
+  /**
+   * Returns a list with the value appended.
+   *
+   * @param value value to append
+   * @return new list with the value at the end
+   */
+  public @NonNull ImmutableDoubleList append(double value) {
+    final var array = Arrays.copyOf(values, values.length + 1);
+    array[values.length] = value;
+    return new ImmutableDoubleList(array);
+  }
+
+  /**
+   * Returns a list with the value at the given index replaced.
+   *
+   * @param index index to replace
+   * @param value new value
+   * @return new list with the replaced value
+   * @throws IndexOutOfBoundsException if {@code index} is out of range
+   */
+  public @NonNull ImmutableDoubleList set(int index, double value) {
+    Objects.checkIndex(index, values.length);
+    final var array = values.clone();
+    array[index] = value;
+    return new ImmutableDoubleList(array);
+  }
+
+  /**
+   * Returns a list with the elements of {@code other} appended.
+   *
+   * @param other list to append
+   * @return concatenated list
+   * @throws NullPointerException if {@code other} is {@code null}
+   */
+  public @NonNull ImmutableDoubleList concat(@NonNull ImmutableDoubleList other) {
+    Objects.requireNonNull(other, "other");
+    if (other.isEmpty()) {
+      return this;
+    }
+    if (isEmpty()) {
+      return other;
+    }
+    final var array = Arrays.copyOf(values, values.length + other.values.length);
+    System.arraycopy(other.values, 0, array, values.length, other.values.length);
+    return new ImmutableDoubleList(array);
+  }
+
+  /**
+   * Returns the first {@code count} elements.
+   *
+   * @param count maximum number of elements
+   * @return list of at most {@code count} elements
+   */
+  public @NonNull ImmutableDoubleList take(int count) {
+    if (count >= values.length) {
+      return this;
+    }
+    return wrap(Arrays.copyOf(values, Math.max(count, 0)));
+  }
+
+  /**
+   * Returns the list without its first {@code count} elements.
+   *
+   * @param count number of elements to skip
+   * @return remaining elements
+   */
+  public @NonNull ImmutableDoubleList drop(int count) {
+    if (count <= 0) {
+      return this;
+    }
+    return wrap(Arrays.copyOfRange(values, Math.min(count, values.length), values.length));
+  }
+
+  /**
+   * Keeps only the elements that match the predicate.
+   *
+   * @param predicate filter predicate
+   * @return list of matching elements
+   * @throws NullPointerException if {@code predicate} is {@code null}
+   */
+  public @NonNull ImmutableDoubleList filter(@NonNull DoublePredicate predicate) {
+    Objects.requireNonNull(predicate, "predicate");
+    final var array = new double[values.length];
+    var size = 0;
+    for (final var value : values) {
+      if (predicate.test(value)) {
+        array[size++] = value;
+      }
+    }
+    if (size == values.length) {
+      return this;
+    }
+    return wrap(Arrays.copyOf(array, size));
+  }
+
+  /**
+   * Maps each element to another {@code double}.
+   *
+   * @param mapper mapper to apply
+   * @return list of mapped values
+   * @throws NullPointerException if {@code mapper} is {@code null}
+   */
+  public @NonNull ImmutableDoubleList map(@NonNull DoubleUnaryOperator mapper) {
+    Objects.requireNonNull(mapper, "mapper");
+    if (isEmpty()) {
+      return this;
+    }
+    final var array = new double[values.length];
+    for (int index = 0; index < values.length; index++) {
+      array[index] = mapper.applyAsDouble(values[index]);
+    }
+    return new ImmutableDoubleList(array);
+  }
+
+  /**
+   * Maps each element to an object.
+   *
+   * @param mapper mapper to apply
+   * @param <U> mapped element type
+   * @return immutable list of mapped values
+   * @throws NullPointerException if {@code mapper} is {@code null}
+   */
+  public <U> @NonNull ImmutableList<U> mapToObj(
+      @NonNull DoubleFunction<? extends @Nullable U> mapper) {
+    Objects.requireNonNull(mapper, "mapper");
+    final var builder = ImmutableList.<U>builder(values.length);
+    for (final var value : values) {
+      builder.add(mapper.apply(value));
+    }
+    return builder.build();
+  }
+
+  /**
+   * Folds the list into a single value by applying {@code folder} left-to-right.
+   *
+   * @param initial initial accumulator value
+   * @param folder folding function
+   * @return folded result
+   * @throws NullPointerException if {@code folder} is {@code null}
+   */
+  public double fold(double initial, @NonNull DoubleBinaryOperator folder) {
+    Objects.requireNonNull(folder, "folder");
+    var accumulator = initial;
+    for (final var value : values) {
+      accumulator = folder.applyAsDouble(accumulator, value);
+    }
+    return accumulator;
+  }
+
+  /**
+   * Returns a list sorted in ascending order.
+   *
+   * <p>Elements are ordered as by {@link Double#compare(double, double)}: {@code -0.0} sorts before
+   * {@code 0.0} and {@code NaN} sorts last.
+   *
+   * @return sorted list
+   */
+  public @NonNull ImmutableDoubleList sorted() {
+    if (values.length <= 1) {
+      return this;
+    }
+    final var array = values.clone();
+    Arrays.sort(array);
+    return new ImmutableDoubleList(array);
+  }
+
+  /**
+   * Returns a list with distinct elements, preserving encounter order.
+   *
+   * <p>Runs in {@code O(n log n)} without boxing: a sorted, de-duplicated copy of the elements acts
+   * as the lookup table that records which values have already been kept.
+   *
+   * <p>Elements are compared as by {@link Double#compare(double, double)}, so {@code NaN} equals
+   * itself and {@code -0.0} differs from {@code 0.0}.
+   *
+   * @return list of distinct elements
+   */
+  public @NonNull ImmutableDoubleList distinct() {
+    if (values.length <= 1) {
+      return this;
+    }
+    final var sorted = values.clone();
+    Arrays.sort(sorted);
+    var unique = 0;
+    for (int index = 0; index < sorted.length; index++) {
+      if (index == 0 || Double.compare(sorted[index], sorted[index - 1]) != 0) {
+        sorted[unique++] = sorted[index];
+      }
+    }
+    if (unique == values.length) {
+      return this;
+    }
+    final var seen = new boolean[unique];
+    final var array = new double[unique];
+    var size = 0;
+    for (final var value : values) {
+      final var slot = Arrays.binarySearch(sorted, 0, unique, value);
+      if (!seen[slot]) {
+        seen[slot] = true;
+        array[size++] = value;
+      }
+    }
+    return new ImmutableDoubleList(array);
+  }
+
+  /**
+   * Returns the sum of the elements.
+   *
+   * <p>Uses the same compensated summation as {@link DoubleStream#sum()}.
+   *
+   * @return sum, or zero for an empty list
+   */
+  public double sum() {
+    return Arrays.stream(values).sum();
+  }
+
+  /**
+   * Returns the smallest element.
+   *
+   * @return smallest element, or an empty optional for an empty list
+   */
+  public @NonNull OptionalDouble min() {
+    if (isEmpty()) {
+      return OptionalDouble.empty();
+    }
+    var min = values[0];
+    for (int index = 1; index < values.length; index++) {
+      min = Math.min(min, values[index]);
+    }
+    return OptionalDouble.of(min);
+  }
+
+  /**
+   * Returns the largest element.
+   *
+   * @return largest element, or an empty optional for an empty list
+   */
+  public @NonNull OptionalDouble max() {
+    if (isEmpty()) {
+      return OptionalDouble.empty();
+    }
+    var max = values[0];
+    for (int index = 1; index < values.length; index++) {
+      max = Math.max(max, values[index]);
+    }
+    return OptionalDouble.of(max);
+  }
+
+  /**
+   * Returns a sequential stream over the elements.
+   *
+   * @return {@link DoubleStream} of the elements
+   */
+  public @NonNull DoubleStream stream() {
+    return Arrays.stream(values);
+  }
+
+  /**
+   * Returns a copy of the elements as an array.
+   *
+   * @return new array containing all elements
+   */
+  public double @NonNull [] toArray() {
+    return values.clone();
+  }
+
+  /**
+   * Returns the elements boxed into an {@link ImmutableList}.
+   *
+   * @return immutable list of boxed elements
+   */
+  public @NonNull ImmutableList<Double> toImmutableList() {
+    return mapToObj(value -> value);
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
+    return other instanceof ImmutableDoubleList that && Arrays.equals(values, that.values);
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(values);
+  }
+
+  @Override
+  public String toString() {
+    return "ImmutableDoubleList" + Arrays.toString(values);
+  }
+
+  /**
+   * Wraps an array without copying it; the caller must not modify the array afterwards.
+   *
+   * @param values array to take ownership of
+   * @return list backed by the array
+   */
+  static @NonNull ImmutableDoubleList wrap(double @NonNull [] values) {
+    if (values.length == 0) {
+      return EMPTY;
+    }
+    return new ImmutableDoubleList(values);
+  }
+}
@@ -0,0 +1,476 @@
+package babysteps.core;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.OptionalInt;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Immutable list of {@code int} values.
+ *
+ * <p>Primitive-specialized sibling of {@link ImmutableList}. Elements are stored unboxed in a
+ * single {@code int[]} ({@code 4} bytes per element instead of a reference plus a boxed {@link
+ * Integer}), and bulk operations run without boxing. {@link ImmutableList#mapToInt} and {@link
+ * #stream()} convert between the two representations without boxing either.
+ *
+ * <p>Technical background: the backing array is never exposed or mutated after construction.
+ * Operations that change the contents copy the array, which makes single-element updates {@code
+ * O(n)}; build larger lists in bulk with {@link #fromStream} or {@link #of}.
+ *
+ * <p>Sample usage:
+ *
+ * <pre>{@code
+ * ImmutableIntList ports = ImmutableIntList.of(8080, 443, 8080, 22).distinct().sorted();
+ * long total = ports.sum();
+ * }</pre>
+ */
+public final class ImmutableIntList {
+  private static final ImmutableIntList EMPTY = new ImmutableIntList(new int[0]);
+
+  private final int @NonNull [] values;
+
+  private ImmutableIntList(int @NonNull [] values) {
+    this.values = values;
+  }
+
+  /**
+   * Returns an empty list.
+   *
+   * @return empty list
+   */
+  public static @NonNull ImmutableIntList empty() {
+    return EMPTY;
+  }
+
+  /**
+   * Creates a list from values.
+   *
+   * @param values values to copy
+   * @return list containing the provided values
+   * @throws NullPointerException if {@code values} is {@code null}
+   */
+  public static @NonNull ImmutableIntList of(int... values) {
+    Objects.requireNonNull(values, "values");
+    return wrap(values.clone());
+  }
+
+  /**
+   * Creates a list from the elements of a stream.
+   *
+   * @param values stream to drain
+   * @return list of the streamed values in encounter order
+   * @throws NullPointerException if {@code values} is {@code null}
+   */
+  public static @NonNull ImmutableIntList fromStream(@NonNull IntStream values) {
+    Objects.requireNonNull(values, "values");
+    return wrap(values.toArray());
+  }
+
+  /**
+   * Creates a list by unboxing the elements of an {@link ImmutableList}.
+   *
+   * @param values boxed values
+   * @return list of the unboxed values
+   * @throws NullPointerException if {@code values} is {@code null} or contains {@code null}
+   */
+  public static @NonNull ImmutableIntList fromBoxed(@NonNull ImmutableList<Integer> values) {
+    Objects.requireNonNull(values, "values");
+    final var array = new int[values.size()];
+    var index = 0;
+    for (final var value : values) {
+      array[index++] = Objects.requireNonNull(value, "value");
+    }
+    return wrap(array);
+  }
+
+  /**
+   * Returns true if the list is empty.
+   *
+   * @return true when the list has no elements
+   */
+  public boolean isEmpty() {
+    return values.length == 0;
+  }
+
+  /**
+   * Returns the number of elements.
+   *
+   * @return size of the list
+   */
+  public int size() {
+    return values.length;
+  }
+
+  /**
+   * Returns the element at the given index.
+   *
+   * @param index index to read
+   * @return element at index
+   * @throws IndexOutOfBoundsException if {@code index} is out of range
+   */
+  public int get(int index) {
+    return values[Objects.checkIndex(index, values.length)];
+  }
+
+  /**
+   * Returns the element at the given index or a fallback when out of range.
+   *
+   * @param index index to read
+   * @param fallback fallback value to use when out of bounds
+   * @return element at index or fallback
+   */
+  public int getOrElse(int index, int fallback) {
+    if (index < 0 || index >= values.length) {
+      return fallback;
+    }
+    return values[index];
+  }
+
+  /**
+   * Returns true if the list contains the provided value.
+   *
+   * @param value value to look for
+   * @return true if the value is present
+   */
+  public boolean contains(int value) {
+    return indexOf(value) >= 0;
+  }
+
+  /**
+   * Returns the index of the first occurrence of the value.
+   *
+   * @param value value to look for
+   * @return index or {@code -1} when absent
+   */
+  public int indexOf(int value) {
+    for (int index = 0; index < values.length; index++) {
+      if (values[index] == value) {
+        return index;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Searches this list, which must be sorted in ascending order, for the value.
+   *
+   * @param value value to look for
+   * @return index of the value, or {@code -(insertionPoint + 1)} when absent; the result is
+   *     undefined when the list is not sorted
+   * @see Arrays#binarySearch(int[], int)
+   */
+  public int binarySearch(int value) {
+    return Arrays.binarySearch(values, value);
+  }
+
+  /**
+   * Returns a list with the value appended.
+   *
+   * @param value value to append
+   * @return new list with the value at the end
+   */
+  public @NonNull ImmutableIntList append(int value) {
+    final var array = Arrays.copyOf(values, values.length + 1);
+    array[values.length] = value;
+    return new ImmutableIntList(array);
+  }
+
+  /**
+   * Returns a list with the value at the given index replaced.
+   *
+   * @param index index to replace
+   * @param value new value
+   * @return new list with the replaced value
+   * @throws IndexOutOfBoundsException if {@code index} is out of range
+   */
+  public @NonNull ImmutableIntList set(int index, int value) {
+    Objects.checkIndex(index, values.length);
+    final var array = values.clone();
+    array[index] = value;
+    return new ImmutableIntList(array);
+  }
+
+  /**
+   * Returns a list with the elements of {@code other} appended.
+   *
+   * @param other list to append
+   * @return concatenated list
+   * @throws NullPointerException if {@code other} is {@code null}
+   */
+  public @NonNull ImmutableIntList concat(@NonNull ImmutableIntList other) {
+    Objects.requireNonNull(other, "other");
+    if (other.isEmpty()) {
+      return this;
+    }
+    if (isEmpty()) {
+      return other;
+    }
+    final var array = Arrays.copyOf(values, values.length + other.values.length);
+    System.arraycopy(other.values, 0, array, values.length, other.values.length);
+    return new ImmutableIntList(array);
+  }
+
+  /**
+   * Returns the first {@code count} elements.
+   *
+   * @param count maximum number of elements
+   * @return list of at most {@code count} elements
+   */
+  public @NonNull ImmutableIntList take(int count) {
+    if (count >= values.length) {
+      return this;
+    }
+    return wrap(Arrays.copyOf(values, Math.max(count, 0)));
+  }
+
+  /**
+   * Returns the list without its first {@code count} elements.
+   *
+   * @param count number of elements to skip
+   * @return remaining elements
+   */
+  public @NonNull ImmutableIntList drop(int count) {
+    if (count <= 0) {
+      return this;
+    }
+    return wrap(Arrays.copyOfRange(values, Math.min(count, values.length), values.length));
+  }
+
+  /**
+   * Keeps only the elements that match the predicate.
+   *
+   * @param predicate filter predicate
+   * @return list of matching elements
+   * @throws NullPointerException if {@code predicate} is {@code null}
+   */
+  public @NonNull ImmutableIntList filter(@NonNull IntPredicate predicate) {
+    Objects.requireNonNull(predicate, "predicate");
+    final var array = new int[values.length];
+    var size = 0;
+    for (final var value : values) {
+      if (predicate.test(value)) {
+        array[size++] = value;
+      }
+    }
+    if (size == values.length) {
+      return this;
+    }
+    return wrap(Arrays.copyOf(array, size));
+  }
+
+  /**
+   * Maps each element to another {@code int}.
+   *
+   * @param mapper mapper to apply
+   * @return list of mapped values
+   * @throws NullPointerException if {@code mapper} is {@code null}
+   */
+  public @NonNull ImmutableIntList map(@NonNull IntUnaryOperator mapper) {
+    Objects.requireNonNull(mapper, "mapper");
+    if (isEmpty()) {
+      return this;
+    }
+    final var array = new int[values.length];
+    for (int index = 0; index < values.length; index++) {
+      array[index] = mapper.applyAsInt(values[index]);
+    }
+    return new ImmutableIntList(array);
+  }
+
+  /**
+   * Maps each element to an object.
+   *
+   * @param mapper mapper to apply
+   * @param <U> mapped element type
+   * @return immutable list of mapped values
+   * @throws NullPointerException if {@code mapper} is {@code null}
+   */
+  public <U> @NonNull ImmutableList<U> mapToObj(
+      @NonNull IntFunction<? extends @Nullable U> mapper) {
+    Objects.requireNonNull(mapper, "mapper");
+    final var builder = ImmutableList.<U>builder(values.length);
+    for (final var value : values) {
+      builder.add(mapper.apply(value));
+    }
+    return builder.build();
+  }
+
+  /**
+   * Folds the list into a single value by applying {@code folder} left-to-right.
+   *
+   * @param initial initial accumulator value
+   * @param folder folding function
+   * @return folded result
+   * @throws NullPointerException if {@code folder} is {@code null}
+   */
+  public int fold(int initial, @NonNull IntBinaryOperator folder) {
+    Objects.requireNonNull(folder, "folder");
+    var accumulator = initial;
+    for (final var value : values) {
+      accumulator = folder.applyAsInt(accumulator, value);
+    }
+    return accumulator;
+  }
+
+  /**
+   * Returns a list sorted in ascending order.
+   *
+   * @return sorted list
+   */
+  public @NonNull ImmutableIntList sorted() {
+    if (values.length <= 1) {
+      return this;
+    }
+    final var array = values.clone();
+    Arrays.sort(array);
+    return new ImmutableIntList(array);
+  }
+
+  /**
+   * Returns a list with distinct elements, preserving encounter order.
+   *
+   * <p>Runs in {@code O(n log n)} without boxing: a sorted, de-duplicated copy of the elements acts
+   * as the lookup table that records which values have already been kept.
+   *
+   * @return list of distinct elements
+   */
+  public @NonNull ImmutableIntList distinct() {
+    if (values.length <= 1) {
+      return this;
+    }
+    final var sorted = values.clone();
+    Arrays.sort(sorted);
+    var unique = 0;
+    for (int index = 0; index < sorted.length; index++) {
+      if (index == 0 || sorted[index] != sorted[index - 1]) {
+        sorted[unique++] = sorted[index];
+      }
+    }
+    if (unique == values.length) {
+      return this;
+    }
+    final var seen = new boolean[unique];
+    final var array = new int[unique];
+    var size = 0;
+    for (final var value : values) {
+      final var slot = Arrays.binarySearch(sorted, 0, unique, value);
+      if (!seen[slot]) {
+        seen[slot] = true;
+        array[size++] = value;
+      }
+    }
+    return new ImmutableIntList(array);
+  }
+
+  /**
+   * Returns the sum of the elements.
+   *
+   * <p>The sum is accumulated as a {@code long}, so it does not overflow for any list that fits
+   * in memory.
+   *
+   * @return sum, or zero for an empty list
+   */
+  public long sum() {
+    long sum = 0;
+    for (final var value : values) {
+      sum += value;
+    }
+    return sum;
+  }
+
+  /**
+   * Returns the smallest element.
+   *
+   * @return smallest element, or an empty optional for an empty list
+   */
+  public @NonNull OptionalInt min() {
+    if (isEmpty()) {
+      return OptionalInt.empty();
+    }
+    var min = values[0];
+    for (int index = 1; index < values.length; index++) {
+      min = Math.min(min, values[index]);
+    }
+    return OptionalInt.of(min);
+  }
+
+  /**
+   * Returns the largest element.
+   *
+   * @return largest element, or an empty optional for an empty list
+   */
+  public @NonNull OptionalInt max() {
+    if (isEmpty()) {
+      return OptionalInt.empty();
+    }
+    var max = values[0];
+    for (int index = 1; index < values.length; index++) {
+      max = Math.max(max, values[index]);
+    }
+    return OptionalInt.of(max);
+  }
+
+  /**
+   * Returns a sequential stream over the elements.
+   *
+   * @return {@link IntStream} of the elements
+   */
+  public @NonNull IntStream stream() {
+    return Arrays.stream(values);
+  }
+
+  /**
+   * Returns a copy of the elements as an array.
+   *
+   * @return new array containing all elements
+   */
+  public int @NonNull [] toArray() {
+    return values.clone();
+  }
+
+  /**
+   * Returns the elements boxed into an {@link ImmutableList}.
+   *
+   * @return immutable list of boxed elements
+   */
+  public @NonNull ImmutableList<Integer> toImmutableList() {
+    return mapToObj(value -> value);
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
+    return other instanceof ImmutableIntList that && Arrays.equals(values, that.values);
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(values);
+  }
+
+  @Override
+  public String toString() {
+    return "ImmutableIntList" + Arrays.toString(values);
+  }
+
+  /**
+   * Wraps an array without copying it; the caller must not modify the array afterwards.
+   *
+   * @param values array to take ownership of
+   * @return list backed by the array
+   */
+  static @NonNull ImmutableIntList wrap(int @NonNull [] values) {
+    if (values.length == 0) {
+      return EMPTY;
+    }
+    return new ImmutableIntList(values);
+  }
+}
@@ -1,17 +1,30 @@
 package babysteps.core;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.AbstractList;
 import java.util.ArrayList;
-import java.util.Collection;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Spliterator;
 import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.IntFunction;
 import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collector;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
 
@@ -21,16 +34,66 @@ import org.jspecify.annotations.Nullable;
  * <p>All list views returned by this class are unmodifiable. Mutation methods create new immutable
  * instances.
  *
+ * <p>Technical background: elements are stored in a bit-partitioned persistent vector (a 32-way
+ * trie with a tail buffer). {@link #append(Object)}, {@link #prepend(Object)} and {@link #set(int,
+ * Object)} copy at most one path of {@code log32(n)} small arrays and share all remaining storage
+ * with the original list, so building a list one element at a time is linear rather than quadratic.
+ * Indexed reads are {@code O(log32 n)}, which is effectively constant for any list that fits in
+ * memory.
+ *
+ * <p>Lists of at most four elements, the common case for tags and headers, skip the vector: their
+ * elements are stored in fields of the list itself, so such a list is a single 40-byte object with
+ * compressed references. Operations on them read those fields directly and every operation that
+ * produces a list of at most four elements returns this compact form.
+ *
  * @param <T> element type, possibly nullable
  */
 public final class ImmutableList<T> implements Iterable<@Nullable T> {
-  private static final ImmutableList<?> EMPTY = new ImmutableList<>(Collections.emptyList(), true);
+  private static final int LINEAR_DISTINCT_LIMIT = 8;
 
-  private final @NonNull List<@Nullable T> values;
+  /** Largest list whose elements are stored in fields instead of a {@link PersistentVector}. */
+  static final int INLINE_CAPACITY = 4;
 
-  private ImmutableList(@NonNull List<@Nullable T> values, boolean alreadyOwned) {
-    Objects.requireNonNull(values, "values");
-    this.values = alreadyOwned ? Collections.unmodifiableList(values) : unmodifiableCopy(values);
+  private static final ImmutableList<?> EMPTY = new ImmutableList<>(0, null, null, null, null);
+
+  /** Elements of lists larger than {@link #INLINE_CAPACITY}; {@code null} for inline lists. */
+  private final @Nullable PersistentVector<T> vector;
+
+  /** Number of elements of an inline list, stored in {@link #first} to {@link #fourth}. */
+  private final byte inlineSize;
+
+  private final @Nullable T first;
+  private final @Nullable T second;
+  private final @Nullable T third;
+  private final @Nullable T fourth;
+
+  /** Cached {@link #hashCode()}; {@code 0} until computed or when the hash code is zero. */
+  private int hash;
+
+  /** Set once the hash code has been computed as zero, so that it is not computed again. */
+  private boolean hashIsZero;
+
+  private ImmutableList(@NonNull PersistentVector<T> vector) {
+    this.vector = Objects.requireNonNull(vector, "vector");
+    this.inlineSize = 0;
+    this.first = null;
+    this.second = null;
+    this.third = null;
+    this.fourth = null;
+  }
+
+  private ImmutableList(
+      int size,
+      @Nullable T first,
+      @Nullable T second,
+      @Nullable T third,
+      @Nullable T fourth) {
+    this.vector = null;
+    this.inlineSize = (byte) size;
+    this.first = first;
+    this.second = second;
+    this.third = third;
+    this.fourth = fourth;
   }
 
   /**
@@ -56,12 +119,7 @@ public final class ImmutableList<T> implements Iterable<@Nullable T> {
   @SafeVarargs
   public static <T> @NonNull ImmutableList<T> of(@Nullable T... values) {
     Objects.requireNonNull(values, "values");
-    if (values.length == 0) {
-      return empty();
-    }
-    final var list = new ArrayList<@Nullable T>(values.length);
-    Collections.addAll(list, values);
-    return new ImmutableList<>(list, true);
+    return fromArray(values);
   }
 
   /**
@@ -75,11 +133,7 @@ public final class ImmutableList<T> implements Iterable<@Nullable T> {
   public static <T> @NonNull ImmutableList<T> fromList(
       @NonNull List<? extends @Nullable T> values) {
     Objects.requireNonNull(values, "values");
-    if (values.isEmpty()) {
-      return empty();
-    }
-    final var list = new ArrayList<@Nullable T>(values);
-    return new ImmutableList<>(list, true);
+    return wrap(PersistentVector.fromIterable(values));
   }
 
   /**
@@ -93,14 +147,99 @@ public final class ImmutableList<T> implements Iterable<@Nullable T> {
   public static <T> @NonNull ImmutableList<T> fromIterable(
       @NonNull Iterable<? extends @Nullable T> values) {
     Objects.requireNonNull(values, "values");
-    final var list = new ArrayList<@Nullable T>();
-    for (final var value : values) {
-      list.add(value);
+    return wrap(PersistentVector.fromIterable(values));
+  }
+
+  /**
+   * Concatenates lists in iteration order.
+   *
+   * <p>Unlike folding with {@link #concat(ImmutableList)}, no intermediate list is built: the
+   * largest list is shared and every other element is copied exactly once into the result.
+   *
+   * @param lists lists to concatenate
+   * @param <T> element type
+   * @return immutable list of all elements
+   * @throws NullPointerException if {@code lists} or any of its lists is {@code null}
+   */
+  public static <T> @NonNull ImmutableList<T> concatAll(
+      @NonNull Iterable<? extends ImmutableList<? extends T>> lists) {
+    Objects.requireNonNull(lists, "lists");
+    final var parts = new ArrayList<PersistentVector<? extends T>>();
+    for (final var list : lists) {
+      parts.add(Objects.requireNonNull(list, "list").values());
     }
-    if (list.isEmpty()) {
-      return empty();
+    return wrap(PersistentVector.concatAll(parts));
+  }
+
+  /**
+   * Merges lists that are each sorted by {@code comparator} into one sorted list.
+   *
+   * <p>Uses a k-way heap merge in {@code O(n log k)} time for {@code k} lists. Elements that
+   * compare equal keep the order of the lists they come from, so the result equals sorting the
+   * concatenation of the lists stably. Lists that are not sorted produce an unspecified order.
+   *
+   * @param lists sorted lists to merge
+   * @param comparator comparator every list is sorted by
+   * @param <T> element type
+   * @return sorted list of all elements
+   * @throws NullPointerException if {@code lists}, any of its lists or {@code comparator} is {@code
+   *     null}
+   */
+  public static <T> @NonNull ImmutableList<T> mergeSorted(
+      @NonNull Iterable<? extends ImmutableList<? extends T>> lists,
+      @NonNull Comparator<? super @Nullable T> comparator) {
+    Objects.requireNonNull(lists, "lists");
+    Objects.requireNonNull(comparator, "comparator");
+    final var parts = new ArrayList<PersistentVector<? extends T>>();
+    for (final var list : lists) {
+      parts.add(Objects.requireNonNull(list, "list").values());
     }
-    return new ImmutableList<>(list, true);
+    return wrap(SortingOps.merge(parts, comparator));
+  }
+
+  /**
+   * Returns a new {@link Builder} for incrementally constructing an {@link ImmutableList}.
+   *
+   * @param <T> element type
+   * @return empty builder
+   */
+  public static <T> @NonNull Builder<T> builder() {
+    return new Builder<>();
+  }
+
+  /**
+   * Returns a new {@link Builder} for a list of roughly {@code expectedSize} elements.
+   *
+   * <p>Storage grows in fixed 32-element leaves that are handed to the built list as-is, so the
+   * hint never causes over-allocation or a trailing copy.
+   *
+   * @param expectedSize expected number of elements
+   * @param <T> element type
+   * @return empty builder
+   * @throws IllegalArgumentException if {@code expectedSize} is negative
+   */
+  public static <T> @NonNull Builder<T> builder(int expectedSize) {
+    if (expectedSize < 0) {
+      throw new IllegalArgumentException("expectedSize must not be negative");
+    }
+    return new Builder<>();
+  }
+
+  /**
+   * Returns a {@link Collector} that accumulates stream elements into an {@link ImmutableList}.
+   *
+   * <p>Elements are written once into the storage of the resulting list; no intermediate {@link
+   * List} is created.
+   *
+   * @param <T> element type
+   * @return collector producing an immutable list in encounter order
+   */
+  public static <T> @NonNull Collector<@Nullable T, ?, ImmutableList<T>> toImmutableList() {
+    return Collector.of(
+        Builder<T>::new,
+        Builder::add,
+        (left, right) -> left.addAll(right.build()),
+        Builder::build);
   }
 
   /**
@@ -109,7 +248,7 @@ public final class ImmutableList<T> implements Iterable<@Nullable T> {
    * @return true when the list has no elements
    */
   public boolean isEmpty() {
-    return values.isEmpty();
+    return size() == 0;
   }
 
   /**
@@ -118,7 +257,7 @@ public final class ImmutableList<T> implements Iterable<@Nullable T> {
    * @return size of the list
    */
   public int size() {
-    return values.size();
+    return vector != null ? vector.size() : inlineSize;
   }
 
   /**
@@ -128,7 +267,7 @@ public final class ImmutableList<T> implements Iterable<@Nullable T> {
    * @return true if the value is present
    */
   public boolean contains(@Nullable T value) {
-    return values.contains(value);
+    return indexOf(value) >= 0;
   }
 
   /**
@@ -138,7 +277,13 @@ public final class ImmutableList<T> implements Iterable<@Nullable T> {
    * @return index or {@code -1} when absent
    */
   public int indexOf(@Nullable T value) {
-    return values.indexOf(value);
+    final var iterator = iterator();
+    for (int index = 0; iterator.hasNext(); index++) {
+      if (Objects.equals(value, iterator.next())) {
+        return index;
+      }
+    }
+    return -1;
   }
 
   /**
@@ -148,7 +293,12 @@ public final class ImmutableList<T> implements Iterable<@Nullable T> {
    * @return index or {@code -1} when absent
    */
   public int lastIndexOf(@Nullable T value) {
-    return values.lastIndexOf(value);
+    for (int index = size() - 1; index >= 0; index--) {
+      if (Objects.equals(value, element(index))) {
+        return index;
+      }
+    }
+    return -1;
   }
 
   /**
@@ -157,10 +307,10 @@ public final class ImmutableList<T> implements Iterable<@Nullable T> {
    * @return {@link Option#some(Object)} when non-empty, otherwise {@link Option#none()}
    */
   public @NonNull Option<T> headOption() {
-    if (values.isEmpty()) {
+    if (isEmpty()) {
       return Option.none();
     }
-    return Option.some(values.get(0));
+    return Option.some(element(0));
   }
 
   /**
@@ -169,10 +319,10 @@ public final class ImmutableList<T> implements Iterable<@Nullable T> {
    * @return {@link Option#some(Object)} when non-empty, otherwise {@link Option#none()}
    */
   public @NonNull Option<T> lastOption() {
-    if (values.isEmpty()) {
+    if (isEmpty()) {
       return Option.none();
     }
-    return Option.some(values.get(values.size() - 1));
+    return Option.some(element(size() - 1));
   }
 
   /**
@@ -182,10 +332,10 @@ public final class ImmutableList<T> implements Iterable<@Nullable T> {
    * @return {@link Option#some(Object)} when the index is valid, otherwise {@link Option#none()}
    */
   public @NonNull Option<T> getOption(int index) {
-    if (index < 0 || index >= values.size()) {
+    if (index < 0 || index >= size()) {
       return Option.none();
     }
-    return Option.some(values.get(index));
+    return Option.some(element(index));
   }
 
   /**
@@ -196,22 +346,70 @@ public final class ImmutableList<T> implements Iterable<@Nullable T> {
    * @return element at index or fallback
    */
   public @Nullable T getOrElse(int index, @Nullable T fallback) {
-    if (index < 0 || index >= values.size()) {
+    if (index < 0 || index >= size()) {
       return fallback;
     }
-    return values.get(index);
+    return element(index);
   }
 
   /**
    * Returns all elements except the first.
    *
+   * <p>The result is a slice that shares this list's storage and is created in constant time, so
+   * recursive head/tail processing is linear overall.
+   *
    * @return immutable list of tail elements
    */
   public @NonNull ImmutableList<T> tail() {
-    if (values.size() <= 1) {
+    if (size() <= 1) {
       return empty();
     }
-    return new ImmutableList<>(new ArrayList<>(values.subList(1, values.size())), true);
+    return slice(1, size());
+  }
+
+  /**
+   * Returns the elements between {@code from}, inclusive, and {@code to}, exclusive.
+   *
+   * <p>The result shares this list's storage, so slicing costs no copying regardless of the range
+   * length. Use {@link #compact()} when a small slice of a large list is kept for a long time.
+   *
+   * @param from first index to include
+   * @param to first index to exclude
+   * @return immutable list of the selected range
+   * @throws IndexOutOfBoundsException if {@code from < 0}, {@code to > size()} or {@code from > to}
+   */
+  public @NonNull ImmutableList<T> slice(int from, int to) {
+    Objects.checkFromToIndex(from, to, size());
+    if (from == 0 && to == size()) {
+      return this;
+    }
+    if (vector != null) {
+      return wrap(vector.slice(from, to));
+    }
+    final var size = to - from;
+    return inline(
+        size,
+        element(from),
+        size > 1 ? element(from + 1) : null,
+        size > 2 ? element(from + 2) : null,
+        size > 3 ? element(from + 3) : null);
+  }
+
+  /**
+   * Returns a list with the same elements that no longer references the storage of the list it was
+   * sliced from.
+   *
+   * <p>{@link #tail()}, {@link #take(int)}, {@link #drop(int)}, {@link #slice(int, int)} and their
+   * predicate-based variants share the storage of their source list, which keeps that storage
+   * reachable. Compacting copies the elements once into storage sized for this list alone.
+   *
+   * @return compacted immutable list
+   */
+  public @NonNull ImmutableList<T> compact() {
+    if (vector == null) {
+      return this;
+    }
+    return new ImmutableList<>(vector.compact());
   }
 
   /**
@@ -220,7 +418,7 @@ public final class ImmutableList<T> implements Iterable<@Nullable T> {
    * @return unmodifiable list of elements
    */
   public @NonNull List<@Nullable T> toList() {
-    return values;
+    return new AsList<>(this);
   }
 
   /**
@@ -229,7 +427,10 @@ public final class ImmutableList<T> implements Iterable<@Nullable T> {
    * @return {@link Option#some(Object)} for non-empty lists, otherwise {@link Option#none()}
    */
   public @NonNull Option<NonEmptyList<T>> toNonEmptyList() {
-    return NonEmptyList.fromList(values);
+    if (isEmpty()) {
+      return Option.none();
+    }
+    return Option.some(NonEmptyList.fromNonEmpty(this));
   }
 
   /**
@@ -238,7 +439,51 @@ public final class ImmutableList<T> implements Iterable<@Nullable T> {
    * @return stream of elements
    */
   public @NonNull Stream<@Nullable T> stream() {
-    return values.stream();
+    return StreamSupport.stream(spliterator(), false);
+  }
+
+  /**
+   * Returns a possibly parallel {@link Stream} over the elements.
+   *
+   * <p>The stream splits the list into contiguous halves of whole 32-element leaves whose exact
+   * sizes are known, so work is balanced across threads and sized terminal operations such as
+   * {@link Stream#toArray()} allocate their result once.
+   *
+   * @return parallel stream of elements
+   */
+  public @NonNull Stream<@Nullable T> parallelStream() {
+    return StreamSupport.stream(spliterator(), true);
+  }
+
+  /**
+   * Returns a lazy, fused view over the elements.
+   *
+   * <p>Intermediate operations on the returned {@link ListView} only describe the pipeline; a
+   * terminal operation then runs all stages in a single pass over this list, materializing at most
+   * one result. For example {@code list.view().filter(p).map(f).take(10).toImmutableList()} stops
+   * after the tenth match and allocates no intermediate lists.
+   *
+   * @return lazy view over this list
+   */
+  public @NonNull ListView<T> view() {
+    return ListView.of(this);
+  }
+
+  /**
+   * Returns a view of this list that records it is sorted by {@code comparator}.
+   *
+   * <p>The order is verified once in {@code O(n)}; lookups on the returned list then use binary
+   * search. Use {@code sorted(comparator).asSorted(comparator)} for a list that is not sorted yet.
+   *
+   * @param comparator order the elements follow
+   * @return sorted view sharing this list's storage
+   * @throws NullPointerException if {@code comparator} is {@code null}
+   * @throws IllegalArgumentException if the list is not sorted by {@code comparator}
+   */
+  public @NonNull SortedImmutableList<T> asSorted(
+      @NonNull Comparator<? super @Nullable T> comparator) {
+    Objects.requireNonNull(comparator, "comparator");
+    return SortedImmutableList.of(this, comparator);
   }
 
   /**
@@ -247,7 +492,9 @@ public final class ImmutableList<T> implements Iterable<@Nullable T> {
    * @return array containing the list elements
    */
   public @NonNull Object[] toArray() {
-    return values.toArray();
+    final var array = new Object[size()];
+    copyTo(array);
+    return array;
   }
 
   /**
@@ -260,7 +507,81 @@ public final class ImmutableList<T> implements Iterable<@Nullable T> {
    */
   public <U> @NonNull U[] toArray(@NonNull IntFunction<U[]> generator) {
     Objects.requireNonNull(generator, "generator");
-    return values.toArray(generator);
+    final var array = generator.apply(size());
+    copyTo(array);
+    return array;
+  }
+
+  /**
+   * Writes the list to a compact snapshot file of fixed-width records.
+   *
+   * <p>The file holds a small header followed by every element encoded with {@code codec}, so it
+   * can later be served by {@link #mapSnapshot(Path, FixedWidthCodec)} without parsing. An existing
+   * file at {@code path} is replaced.
+   *
+   * @param path file to write
+   * @param codec record layout of the elements
+   * @throws IOException if the file cannot be written
+   * @throws NullPointerException if {@code path} or {@code codec} is {@code null}
+   * @throws IllegalArgumentException if the codec's record width is not in {@code [1, 2^30]}
+   */
+  public void writeSnapshot(@NonNull Path path, @NonNull FixedWidthCodec<T> codec)
+      throws IOException {
+    Objects.requireNonNull(path, "path");
+    Objects.requireNonNull(codec, "codec");
+    Snapshot.write(path, this, size(), codec);
+  }
+
+  /**
+   * Memory-maps a snapshot written by {@link #writeSnapshot(Path, FixedWidthCodec)}.
+   *
+   * <p>Only the header is read eagerly. Elements are decoded straight from the mapped file each
+   * time they are accessed, so opening a snapshot costs page faults rather than parsing and
+   * allocation. The file must not be modified while the returned list is in use.
+   *
+   * @param path snapshot file to map
+   * @param codec record layout the snapshot was written with
+   * @param <T> element type
+   * @return off-heap list backed by the mapped file
+   * @throws IOException if the file cannot be read or is not a valid snapshot
+   * @throws NullPointerException if {@code path} or {@code codec} is {@code null}
+   * @throws IllegalArgumentException if the codec's record width differs from the snapshot's
+   */
+  public static <T> @NonNull OffHeapList<T> mapSnapshot(
+      @NonNull Path path, @NonNull FixedWidthCodec<T> codec) throws IOException {
+    Objects.requireNonNull(path, "path");
+    Objects.requireNonNull(codec, "codec");
+    return Snapshot.map(path, codec);
+  }
+
+  /**
+   * Returns an editable transient that starts with this list's elements.
+   *
+   * <p>Creating the transient copies nothing; see {@link TransientList} for how edits are applied.
+   *
+   * @return new transient list
+   */
+  public @NonNull TransientList<T> asTransient() {
+    return new TransientList<>(values());
+  }
+
+  /**
+   * Applies a batch of edits to a transient copy of this list and returns the result.
+   *
+   * <p>Each node touched by the batch is copied at most once, however many edits hit it, so a
+   * batch of {@code k} appends allocates about {@code k / 32} leaves instead of {@code k} list
+   * versions. The transient must not be used after {@code mutations} returns.
+   *
+   * @param mutations edits to apply
+   * @return immutable list with the edits applied
+   * @throws NullPointerException if {@code mutations} is {@code null}
+   */
+  public @NonNull ImmutableList<T> withMutations(
+      @NonNull Consumer<? super TransientList<T>> mutations) {
+    Objects.requireNonNull(mutations, "mutations");
+    final var transientList = asTransient();
+    mutations.accept(transientList);
+    return transientList.toImmutableList();
   }
 
   /**
@@ -270,10 +591,15 @@ public final class ImmutableList<T> implements Iterable<@Nullable T> {
    * @return new immutable list with the appended value
    */
   public @NonNull ImmutableList<T> append(@Nullable T value) {
-    final var list = new ArrayList<@Nullable T>(values.size() + 1);
-    list.addAll(values);
-    list.add(value);
-    return new ImmutableList<>(list, true);
+    if (vector == null && inlineSize < INLINE_CAPACITY) {
+      return switch (inlineSize) {
+        case 0 -> inline(1, value, null, null, null);
+        case 1 -> inline(2, first, value, null, null);
+        case 2 -> inline(3, first, second, value, null);
+        default -> inline(4, first, second, third, value);
+      };
+    }
+    return new ImmutableList<>(values().append(value));
   }
 
   /**
@@ -283,15 +609,41 @@ public final class ImmutableList<T> implements Iterable<@Nullable T> {
    * @return new immutable list with the prepended value
    */
   public @NonNull ImmutableList<T> prepend(@Nullable T value) {
-    final var list = new ArrayList<@Nullable T>(values.size() + 1);
-    list.add(value);
-    list.addAll(values);
-    return new ImmutableList<>(list, true);
+    if (vector == null && inlineSize < INLINE_CAPACITY) {
+      return inline(inlineSize + 1, value, first, second, third);
+    }
+    return new ImmutableList<>(values().prepend(value));
+  }
+
+  /**
+   * Replaces the element at the given index.
+   *
+   * <p>Only the path to the updated element is copied; all other storage is shared with this list.
+   *
+   * @param index index to replace
+   * @param value replacement value, possibly {@code null}
+   * @return new immutable list with the replaced value
+   * @throws IndexOutOfBoundsException if {@code index} is out of range
+   */
+  public @NonNull ImmutableList<T> set(int index, @Nullable T value) {
+    Objects.checkIndex(index, size());
+    if (vector == null) {
+      return inline(
+          inlineSize,
+          index == 0 ? value : first,
+          index == 1 ? value : second,
+          index == 2 ? value : third,
+          index == 3 ? value : fourth);
+    }
+    return new ImmutableList<>(vector.set(index, value));
   }
 
   /**
    * Concatenates another {@link ImmutableList} to this list.
    *
+   * <p>The longer of the two lists is shared; only the elements of the shorter one are copied, in
+   * runs of up to 32 when appending and in place through a transient when prepending.
+   *
    * @param other other list to append
    * @return new immutable list with all elements
    * @throws NullPointerException if {@code other} is {@code null}
@@ -301,12 +653,7 @@ public final class ImmutableList<T> implements Iterable<@Nullable T> {
     if (other.isEmpty()) {
       return this;
     }
-    final var list = new ArrayList<@Nullable T>(values.size() + other.size());
-    list.addAll(values);
-    for (final var value : other) {
-      list.add(value);
-    }
-    return new ImmutableList<>(list, true);
+    return wrap(values().concat(other.values()));
   }
 
   /**
@@ -319,19 +666,17 @@ public final class ImmutableList<T> implements Iterable<@Nullable T> {
   public @NonNull ImmutableList<T> filter(
       @NonNull Predicate<? super @Nullable T> predicate) {
     Objects.requireNonNull(predicate, "predicate");
-    if (values.isEmpty()) {
-      return empty();
-    }
-    final var list = new ArrayList<@Nullable T>();
-    for (final var value : values) {
-      if (predicate.test(value)) {
-        list.add(value);
-      }
-    }
-    if (list.isEmpty()) {
+    if (isEmpty()) {
       return empty();
     }
-    return new ImmutableList<>(list, true);
+    final var appender = new PersistentVector.Appender<T>(PersistentVector.empty());
+    forEach(
+        value -> {
+          if (predicate.test(value)) {
+            appender.add(value);
+          }
+        });
+    return wrap(appender.build());
   }
 
   /**
@@ -345,14 +690,72 @@ public final class ImmutableList<T> implements Iterable<@Nullable T> {
   public <U> @NonNull ImmutableList<U> map(
       @NonNull Function<? super @Nullable T, ? extends @Nullable U> mapper) {
     Objects.requireNonNull(mapper, "mapper");
-    if (values.isEmpty()) {
-      return empty();
+    if (vector == null) {
+      final var size = inlineSize;
+      return size == 0
+          ? empty()
+          : inline(
+              size,
+              mapper.apply(first),
+              size > 1 ? mapper.apply(second) : null,
+              size > 2 ? mapper.apply(third) : null,
+              size > 3 ? mapper.apply(fourth) : null);
+    }
+    final var appender = new PersistentVector.Appender<U>(PersistentVector.empty());
+    vector.forEach(value -> appender.add(mapper.apply(value)));
+    return new ImmutableList<>(appender.build());
+  }
+
+  /**
+   * Maps each element to a {@code int} without boxing the results.
+   *
+   * @param mapper mapper to apply
+   * @return primitive list of mapped values
+   * @throws NullPointerException if {@code mapper} is {@code null}
+   */
+  public @NonNull ImmutableIntList mapToInt(@NonNull ToIntFunction<? super @Nullable T> mapper) {
+    Objects.requireNonNull(mapper, "mapper");
+    final var array = new int[size()];
+    final var iterator = iterator();
+    for (int index = 0; iterator.hasNext(); index++) {
+      array[index] = mapper.applyAsInt(iterator.next());
+    }
+    return ImmutableIntList.wrap(array);
+  }
+
+  /**
+   * Maps each element to a {@code long} without boxing the results.
+   *
+   * @param mapper mapper to apply
+   * @return primitive list of mapped values
+   * @throws NullPointerException if {@code mapper} is {@code null}
+   */
+  public @NonNull ImmutableLongList mapToLong(@NonNull ToLongFunction<? super @Nullable T> mapper) {
+    Objects.requireNonNull(mapper, "mapper");
+    final var array = new long[size()];
+    final var iterator = iterator();
+    for (int index = 0; iterator.hasNext(); index++) {
+      array[index] = mapper.applyAsLong(iterator.next());
     }
-    final var list = new ArrayList<@Nullable U>(values.size());
-    for (final var value : values) {
-      list.add(mapper.apply(value));
+    return ImmutableLongList.wrap(array);
+  }
+
+  /**
+   * Maps each element to a {@code double} without boxing the results.
+   *
+   * @param mapper mapper to apply
+   * @return primitive list of mapped values
+   * @throws NullPointerException if {@code mapper} is {@code null}
+   */
+  public @NonNull ImmutableDoubleList mapToDouble(
+      @NonNull ToDoubleFunction<? super @Nullable T> mapper) {
+    Objects.requireNonNull(mapper, "mapper");
+    final var array = new double[size()];
+    final var iterator = iterator();
+    for (int index = 0; iterator.hasNext(); index++) {
+      array[index] = mapper.applyAsDouble(iterator.next());
     }
-    return new ImmutableList<>(list, true);
+    return ImmutableDoubleList.wrap(array);
   }
 
   /**
@@ -367,22 +770,23 @@ public final class ImmutableList<T> implements Iterable<@Nullable T> {
       @NonNull Function<? super @Nullable T, ? extends ImmutableList<? extends @Nullable U>>
           mapper) {
     Objects.requireNonNull(mapper, "mapper");
-    if (values.isEmpty()) {
+    if (isEmpty()) {
       return empty();
     }
-    final var list = new ArrayList<@Nullable U>();
-    for (final var value : values) {
-      final var mapped = Objects.requireNonNull(mapper.apply(value), "mapped");
-      for (final var inner : mapped) {
-        list.add(inner);
-      }
-    }
-    return new ImmutableList<>(list, true);
+    final var appender = new PersistentVector.Appender<U>(PersistentVector.empty());
+    forEach(
+        value -> {
+          final var mapped = Objects.requireNonNull(mapper.apply(value), "mapped");
+          mapped.forEach(appender::add);
+        });
+    return wrap(appender.build());
   }
 
   /**
    * Returns a list containing the first {@code count} elements.
    *
+   * <p>The result shares this list's storage; see {@link #slice(int, int)}.
+   *
    * @param count number of elements to take
    * @return immutable list with up to {@code count} elements
    */
@@ -390,15 +794,17 @@ public final class ImmutableList<T> implements Iterable<@Nullable T> {
     if (count <= 0) {
       return empty();
     }
-    if (count >= values.size()) {
+    if (count >= size()) {
       return this;
     }
-    return new ImmutableList<>(new ArrayList<>(values.subList(0, count)), true);
+    return slice(0, count);
   }
 
   /**
    * Returns a list without the first {@code count} elements.
    *
+   * <p>The result shares this list's storage; see {@link #slice(int, int)}.
+   *
    * @param count number of elements to drop
    * @return immutable list after dropping elements
    */
@@ -406,15 +812,17 @@ public final class ImmutableList<T> implements Iterable<@Nullable T> {
     if (count <= 0) {
       return this;
     }
-    if (count >= values.size()) {
+    if (count >= size()) {
       return empty();
     }
-    return new ImmutableList<>(new ArrayList<>(values.subList(count, values.size())), true);
+    return slice(count, size());
   }
 
   /**
    * Returns elements while the predicate holds.
    *
+   * <p>The result shares this list's storage; see {@link #slice(int, int)}.
+   *
    * @param predicate predicate to apply
    * @return immutable list containing the prefix that matches
    * @throws NullPointerException if {@code predicate} is {@code null}
@@ -422,28 +830,24 @@ public final class ImmutableList<T> implements Iterable<@Nullable T> {
   public @NonNull ImmutableList<T> takeWhile(
       @NonNull Predicate<? super @Nullable T> predicate) {
     Objects.requireNonNull(predicate, "predicate");
-    if (values.isEmpty()) {
+    if (isEmpty()) {
       return empty();
     }
-    final var list = new ArrayList<@Nullable T>();
-    for (final var value : values) {
+    int index = 0;
+    for (final var value : this) {
       if (!predicate.test(value)) {
         break;
       }
-      list.add(value);
-    }
-    if (list.isEmpty()) {
-      return empty();
-    }
-    if (list.size() == values.size()) {
-      return this;
+      index++;
     }
-    return new ImmutableList<>(list, true);
+    return take(index);
   }
 
   /**
    * Drops elements while the predicate holds.
    *
+   * <p>The result shares this list's storage; see {@link #slice(int, int)}.
+   *
    * @param predicate predicate to apply
    * @return immutable list after dropping the prefix that matches
    * @throws NullPointerException if {@code predicate} is {@code null}
@@ -451,43 +855,121 @@ public final class ImmutableList<T> implements Iterable<@Nullable T> {
   public @NonNull ImmutableList<T> dropWhile(
       @NonNull Predicate<? super @Nullable T> predicate) {
     Objects.requireNonNull(predicate, "predicate");
-    if (values.isEmpty()) {
+    if (isEmpty()) {
       return empty();
     }
     int index = 0;
-    for (; index < values.size(); index++) {
-      if (!predicate.test(values.get(index))) {
+    for (final var value : this) {
+      if (!predicate.test(value)) {
         break;
       }
+      index++;
     }
-    if (index == 0) {
-      return this;
-    }
-    if (index >= values.size()) {
-      return empty();
-    }
-    return new ImmutableList<>(new ArrayList<>(values.subList(index, values.size())), true);
+    return drop(index);
   }
 
   /**
    * Returns a list with distinct elements, preserving encounter order.
    *
+   * <p>Runs in expected {@code O(n)} using a hash set of the elements seen so far; lists of up to
+   * eight elements are scanned linearly instead. Returns this list when it contains no duplicates.
+   *
    * @return list of distinct elements
    */
   public @NonNull ImmutableList<T> distinct() {
-    if (values.isEmpty()) {
-      return empty();
+    return distinctBy(Function.identity());
+  }
+
+  /**
+   * Returns a list that keeps the first element for each distinct key, preserving encounter order.
+   *
+   * <p>Keys are compared with {@link Object#equals(Object)} and may be {@code null}. The key
+   * extractor is applied exactly once per element.
+   *
+   * @param keyExtractor function that computes the key of an element
+   * @return list of the first element per key
+   * @throws NullPointerException if {@code keyExtractor} is {@code null}
+   */
+  public @NonNull ImmutableList<T> distinctBy(
+      @NonNull Function<? super @Nullable T, ? extends @Nullable Object> keyExtractor) {
+    Objects.requireNonNull(keyExtractor, "keyExtractor");
+    final var size = size();
+    if (size <= 1) {
+      return this;
+    }
+    final var appender = new PersistentVector.Appender<T>(PersistentVector.empty());
+    if (size <= LINEAR_DISTINCT_LIMIT) {
+      final var keys = new Object[size];
+      var kept = 0;
+      for (final var value : this) {
+        final var key = keyExtractor.apply(value);
+        if (!containsKey(keys, kept, key)) {
+          keys[kept++] = key;
+          appender.add(value);
+        }
+      }
+    } else {
+      final var seen = new HashSet<@Nullable Object>(Math.max(16, (int) (size / 0.75f) + 1));
+      for (final var value : this) {
+        if (seen.add(keyExtractor.apply(value))) {
+          appender.add(value);
+        }
+      }
+    }
+    if (appender.size() == size) {
+      return this;
+    }
+    return wrap(appender.build());
+  }
+
+  /**
+   * Returns a list without adjacent duplicates.
+   *
+   * <p>For a list sorted by any order consistent with {@link Object#equals(Object)}, equal
+   * elements are adjacent, so the result equals {@link #distinct()} but is computed in a single
+   * pass without a hash set. For unsorted lists only runs of equal elements are collapsed.
+   *
+   * @return list without adjacent duplicates
+   */
+  public @NonNull ImmutableList<T> distinctSorted() {
+    if (size() <= 1) {
+      return this;
     }
-    final var list = new ArrayList<@Nullable T>();
-    for (final var value : values) {
-      if (!list.contains(value)) {
-        list.add(value);
+    final var appender = new PersistentVector.Appender<T>(PersistentVector.empty());
+    final var iterator = iterator();
+    @Nullable T previous = iterator.next();
+    appender.add(previous);
+    while (iterator.hasNext()) {
+      final var value = iterator.next();
+      if (!Objects.equals(previous, value)) {
+        appender.add(value);
       }
+      previous = value;
     }
-    if (list.size() == values.size()) {
+    if (appender.size() == size()) {
       return this;
     }
-    return new ImmutableList<>(list, true);
+    return wrap(appender.build());
+  }
+
+  /**
+   * Returns a map from the key of each element to the element.
+   *
+   * <p>When several elements share a key, the last one wins.
+   *
+   * @param keyExtractor function that computes the key of an element
+   * @param <K> key type
+   * @return immutable map keyed by {@code keyExtractor}
+   * @throws NullPointerException if {@code keyExtractor} is {@code null}
+   */
+  public <K> @NonNull ImmutableMap<K, T> indexBy(
+      @NonNull Function<? super @Nullable T, ? extends @Nullable K> keyExtractor) {
+    Objects.requireNonNull(keyExtractor, "keyExtractor");
+    var result = ImmutableMap.<K, T>empty();
+    for (final var value : this) {
+      result = result.put(keyExtractor.apply(value), value);
+    }
+    return result;
   }
 
   /**
@@ -496,12 +978,21 @@ public final class ImmutableList<T> implements Iterable<@Nullable T> {
    * @return reversed list
    */
   public @NonNull ImmutableList<T> reverse() {
-    if (values.size() <= 1) {
+    if (size() <= 1) {
       return this;
     }
-    final var list = new ArrayList<@Nullable T>(values);
-    Collections.reverse(list);
-    return new ImmutableList<>(list, true);
+    if (vector == null) {
+      return switch (inlineSize) {
+        case 2 -> inline(2, second, first, null, null);
+        case 3 -> inline(3, third, second, first, null);
+        default -> inline(4, fourth, third, second, first);
+      };
+    }
+    final var appender = new PersistentVector.Appender<T>(PersistentVector.empty());
+    for (int index = vector.size() - 1; index >= 0; index--) {
+      appender.add(vector.get(index));
+    }
+    return new ImmutableList<>(appender.build());
   }
 
   /**
@@ -510,16 +1001,82 @@ public final class ImmutableList<T> implements Iterable<@Nullable T> {
    * @param comparator comparator to use
    * @return sorted list
    * @throws NullPointerException if {@code comparator} is {@code null}
-  */
+   * @see #parSorted(Comparator)
+   * @see #sortedPrefix(int, Comparator)
+   */
   public @NonNull ImmutableList<T> sorted(
       @NonNull Comparator<? super @Nullable T> comparator) {
     Objects.requireNonNull(comparator, "comparator");
-    if (values.size() <= 1) {
+    if (size() <= 1) {
       return this;
     }
-    final var list = new ArrayList<@Nullable T>(values);
-    list.sort(comparator);
-    return new ImmutableList<>(list, true);
+    @SuppressWarnings("unchecked")
+    final var array = (T[]) toArray();
+    Arrays.sort(array, comparator);
+    return fromArray(array);
+  }
+
+  /**
+   * Returns the {@code k} smallest elements in sorted order.
+   *
+   * <p>The result equals {@code sorted(comparator).take(k)}, including the order of elements that
+   * compare equal, but only a bounded heap of {@code k} elements is maintained: the cost is {@code
+   * O(n log k)} instead of a full sort and copy.
+   *
+   * @param k number of elements to keep
+   * @param comparator comparator to use
+   * @return sorted list of at most {@code k} elements
+   * @throws NullPointerException if {@code comparator} is {@code null}
+   * @throws IllegalArgumentException if {@code k} is negative
+   */
+  public @NonNull ImmutableList<T> sortedPrefix(
+      int k, @NonNull Comparator<? super @Nullable T> comparator) {
+    Objects.requireNonNull(comparator, "comparator");
+    if (k < 0) {
+      throw new IllegalArgumentException("k must not be negative");
+    }
+    if (k >= size()) {
+      return sorted(comparator);
+    }
+    return wrap(SortingOps.smallest(values(), k, comparator));
+  }
+
+  /**
+   * Returns the {@code k} greatest elements, greatest first.
+   *
+   * <p>The result equals {@code sorted(comparator.reversed()).take(k)} and is computed like {@link
+   * #sortedPrefix(int, Comparator)}.
+   *
+   * @param k number of elements to keep
+   * @param comparator comparator to use
+   * @return list of at most {@code k} elements in descending order
+   * @throws NullPointerException if {@code comparator} is {@code null}
+   * @throws IllegalArgumentException if {@code k} is negative
+   */
+  public @NonNull ImmutableList<T> topK(
+      int k, @NonNull Comparator<? super @Nullable T> comparator) {
+    Objects.requireNonNull(comparator, "comparator");
+    return sortedPrefix(k, comparator.reversed());
+  }
+
+  /**
+   * Returns the element that {@link #sorted(Comparator)} would place at index {@code n}.
+   *
+   * <p>Runs introselect on a copy of the list in expected linear time. When several elements
+   * compare equal to the selected one, any of them may be returned.
+   *
+   * @param n index in sorted order
+   * @param comparator comparator to use
+   * @return {@link Option#some(Object)} with the element of rank {@code n}, or {@link
+   *     Option#none()} when {@code n} is out of range
+   * @throws NullPointerException if {@code comparator} is {@code null}
+   */
+  public @NonNull Option<T> nthElement(int n, @NonNull Comparator<? super @Nullable T> comparator) {
+    Objects.requireNonNull(comparator, "comparator");
+    if (n < 0 || n >= size()) {
+      return Option.none();
+    }
+    return Option.some(SortingOps.select(values(), n, comparator));
   }
 
   /**
@@ -535,41 +1092,709 @@ public final class ImmutableList<T> implements Iterable<@Nullable T> {
       @Nullable U initial,
       @NonNull BiFunction<? super @Nullable U, ? super @Nullable T, ? extends U> folder) {
     Objects.requireNonNull(folder, "folder");
-    final var accumulator = new java.util.concurrent.atomic.AtomicReference<@Nullable U>(initial);
-    for (final var value : values) {
-      accumulator.set(folder.apply(accumulator.get(), value));
+    if (vector != null) {
+      return vector.fold(initial, folder);
     }
-    return accumulator.get();
-  }
-
-  @Override
-  public @NonNull Iterator<@Nullable T> iterator() {
-    return values.iterator();
+    @Nullable U accumulator = initial;
+    for (int index = 0; index < inlineSize; index++) {
+      accumulator = folder.apply(accumulator, element(index));
+    }
+    return accumulator;
   }
 
-  @Override
-  public boolean equals(Object other) {
-    if (this == other) {
-      return true;
-    }
-    if (!(other instanceof ImmutableList<?> that)) {
+  /**
+   * Folds the list left-to-right while the accumulator satisfies {@code condition}.
+   *
+   * <p>{@code condition} is checked before each element, so the fold stops as soon as the
+   * accumulator no longer satisfies it and the remaining elements are never visited.
+   *
+   * @param initial initial accumulator value, possibly {@code null}
+   * @param condition predicate the accumulator must satisfy to fold the next element
+   * @param folder folding function
+   * @param <U> accumulator type
+   * @return accumulator after the last folded element
+   * @throws NullPointerException if {@code condition} or {@code folder} is {@code null}
+   */
+  public <U> @Nullable U foldWhile(
+      @Nullable U initial,
+      @NonNull Predicate<? super @Nullable U> condition,
+      @NonNull BiFunction<? super @Nullable U, ? super @Nullable T, ? extends U> folder) {
+    Objects.requireNonNull(condition, "condition");
+    Objects.requireNonNull(folder, "folder");
+    if (vector != null) {
+      return vector.foldWhile(initial, condition, folder);
+    }
+    @Nullable U accumulator = initial;
+    for (int index = 0; index < inlineSize && condition.test(accumulator); index++) {
+      accumulator = folder.apply(accumulator, element(index));
+    }
+    return accumulator;
+  }
+
+  /**
+   * Folds the list into a single value by applying {@code folder} right-to-left.
+   *
+   * @param initial initial accumulator value, possibly {@code null}
+   * @param folder folding function receiving the element and the accumulator
+   * @param <U> accumulator type
+   * @return folded result
+   * @throws NullPointerException if {@code folder} is {@code null}
+   */
+  public <U> @Nullable U foldRight(
+      @Nullable U initial,
+      @NonNull BiFunction<? super @Nullable T, ? super @Nullable U, ? extends U> folder) {
+    Objects.requireNonNull(folder, "folder");
+    if (vector != null) {
+      return vector.foldRight(initial, folder);
+    }
+    @Nullable U accumulator = initial;
+    for (int index = inlineSize - 1; index >= 0; index--) {
+      accumulator = folder.apply(element(index), accumulator);
+    }
+    return accumulator;
+  }
+
+  /**
+   * Folds the list left-to-right into an {@code int} without boxing the accumulator.
+   *
+   * @param initial initial accumulator value
+   * @param folder folding function
+   * @return folded result
+   * @throws NullPointerException if {@code folder} is {@code null}
+   */
+  public int foldInt(int initial, @NonNull IntFolder<? super @Nullable T> folder) {
+    Objects.requireNonNull(folder, "folder");
+    if (vector != null) {
+      return vector.foldInt(initial, folder);
+    }
+    var accumulator = initial;
+    for (int index = 0; index < inlineSize; index++) {
+      accumulator = folder.apply(accumulator, element(index));
+    }
+    return accumulator;
+  }
+
+  /**
+   * Folds the list left-to-right into a {@code long} without boxing the accumulator.
+   *
+   * @param initial initial accumulator value
+   * @param folder folding function
+   * @return folded result
+   * @throws NullPointerException if {@code folder} is {@code null}
+   */
+  public long foldLong(long initial, @NonNull LongFolder<? super @Nullable T> folder) {
+    Objects.requireNonNull(folder, "folder");
+    if (vector != null) {
+      return vector.foldLong(initial, folder);
+    }
+    var accumulator = initial;
+    for (int index = 0; index < inlineSize; index++) {
+      accumulator = folder.apply(accumulator, element(index));
+    }
+    return accumulator;
+  }
+
+  /**
+   * Folds the list left-to-right into a {@code double} without boxing the accumulator.
+   *
+   * @param initial initial accumulator value
+   * @param folder folding function
+   * @return folded result
+   * @throws NullPointerException if {@code folder} is {@code null}
+   */
+  public double foldDouble(double initial, @NonNull DoubleFolder<? super @Nullable T> folder) {
+    Objects.requireNonNull(folder, "folder");
+    if (vector != null) {
+      return vector.foldDouble(initial, folder);
+    }
+    var accumulator = initial;
+    for (int index = 0; index < inlineSize; index++) {
+      accumulator = folder.apply(accumulator, element(index));
+    }
+    return accumulator;
+  }
+
+  /**
+   * Sums a numeric key of every element; the sum wraps around on {@code long} overflow.
+   *
+   * <p>{@code int}-valued extractors such as {@code String::length} can be passed directly.
+   *
+   * @param mapper key extractor
+   * @return sum of the keys, or {@code 0} for an empty list
+   * @throws NullPointerException if {@code mapper} is {@code null}
+   */
+  public long sumBy(@NonNull ToLongFunction<? super @Nullable T> mapper) {
+    Objects.requireNonNull(mapper, "mapper");
+    if (vector != null) {
+      return vector.sumLong(mapper);
+    }
+    var sum = 0L;
+    for (int index = 0; index < inlineSize; index++) {
+      sum += mapper.applyAsLong(element(index));
+    }
+    return sum;
+  }
+
+  /**
+   * Maps each element in parallel using {@link ParallelOptions#defaults()}.
+   *
+   * @param mapper mapper to apply; must be safe to call from multiple threads
+   * @param <U> mapped element type
+   * @return immutable list of mapped values in encounter order
+   * @throws NullPointerException if {@code mapper} is {@code null}
+   * @see #parMap(Function, ParallelOptions)
+   */
+  public <U> @NonNull ImmutableList<U> parMap(
+      @NonNull Function<? super @Nullable T, ? extends @Nullable U> mapper) {
+    return parMap(mapper, ParallelOptions.defaults());
+  }
+
+  /**
+   * Maps each element in parallel.
+   *
+   * <p>Lists smaller than {@link ParallelOptions#threshold()} are mapped sequentially, exactly like
+   * {@link #map(Function)}. Larger lists are split into contiguous chunks that are mapped by
+   * fork-join tasks in {@link ParallelOptions#pool()}; the results keep encounter order.
+   *
+   * @param mapper mapper to apply; must be safe to call from multiple threads
+   * @param options pool and size threshold to use
+   * @param <U> mapped element type
+   * @return immutable list of mapped values in encounter order
+   * @throws NullPointerException if {@code mapper} or {@code options} is {@code null}
+   */
+  public <U> @NonNull ImmutableList<U> parMap(
+      @NonNull Function<? super @Nullable T, ? extends @Nullable U> mapper,
+      @NonNull ParallelOptions options) {
+    Objects.requireNonNull(mapper, "mapper");
+    Objects.requireNonNull(options, "options");
+    if (size() < options.threshold()) {
+      return map(mapper);
+    }
+    return wrap(ParallelListOps.map(values(), mapper, options));
+  }
+
+  /**
+   * Filters elements in parallel using {@link ParallelOptions#defaults()}.
+   *
+   * @param predicate filter predicate; must be safe to call from multiple threads
+   * @return immutable list of matching elements in encounter order
+   * @throws NullPointerException if {@code predicate} is {@code null}
+   * @see #parFilter(Predicate, ParallelOptions)
+   */
+  public @NonNull ImmutableList<T> parFilter(@NonNull Predicate<? super @Nullable T> predicate) {
+    return parFilter(predicate, ParallelOptions.defaults());
+  }
+
+  /**
+   * Filters elements in parallel.
+   *
+   * <p>Lists smaller than {@link ParallelOptions#threshold()} are filtered sequentially, exactly
+   * like {@link #filter(Predicate)}.
+   *
+   * @param predicate filter predicate; must be safe to call from multiple threads
+   * @param options pool and size threshold to use
+   * @return immutable list of matching elements in encounter order
+   * @throws NullPointerException if {@code predicate} or {@code options} is {@code null}
+   */
+  public @NonNull ImmutableList<T> parFilter(
+      @NonNull Predicate<? super @Nullable T> predicate, @NonNull ParallelOptions options) {
+    Objects.requireNonNull(predicate, "predicate");
+    Objects.requireNonNull(options, "options");
+    if (size() < options.threshold()) {
+      return filter(predicate);
+    }
+    return wrap(ParallelListOps.filter(values(), predicate, options));
+  }
+
+  /**
+   * Maps and flattens elements in parallel using {@link ParallelOptions#defaults()}.
+   *
+   * @param mapper mapper to apply; must be safe to call from multiple threads
+   * @param <U> mapped element type
+   * @return flattened immutable list in encounter order
+   * @throws NullPointerException if {@code mapper} or its result is {@code null}
+   * @see #parFlatMap(Function, ParallelOptions)
+   */
+  public <U> @NonNull ImmutableList<U> parFlatMap(
+      @NonNull Function<? super @Nullable T, ? extends ImmutableList<? extends @Nullable U>>
+          mapper) {
+    return parFlatMap(mapper, ParallelOptions.defaults());
+  }
+
+  /**
+   * Maps and flattens elements in parallel.
+   *
+   * <p>Lists smaller than {@link ParallelOptions#threshold()} are processed sequentially, exactly
+   * like {@link #flatMap(Function)}.
+   *
+   * @param mapper mapper to apply; must be safe to call from multiple threads
+   * @param options pool and size threshold to use
+   * @param <U> mapped element type
+   * @return flattened immutable list in encounter order
+   * @throws NullPointerException if {@code mapper}, its result or {@code options} is {@code null}
+   */
+  public <U> @NonNull ImmutableList<U> parFlatMap(
+      @NonNull Function<? super @Nullable T, ? extends ImmutableList<? extends @Nullable U>> mapper,
+      @NonNull ParallelOptions options) {
+    Objects.requireNonNull(mapper, "mapper");
+    Objects.requireNonNull(options, "options");
+    if (size() < options.threshold()) {
+      return flatMap(mapper);
+    }
+    return wrap(ParallelListOps.flatMap(values(), mapper, options));
+  }
+
+  /**
+   * Reduces the list in parallel using {@link ParallelOptions#defaults()}.
+   *
+   * @param identity identity value of {@code combiner}, used as the start of every chunk
+   * @param accumulator folds one element into a partial result
+   * @param combiner combines two partial results; must be associative
+   * @param <U> result type
+   * @return reduced value
+   * @throws NullPointerException if {@code accumulator} or {@code combiner} is {@code null}
+   * @see #parReduce(Object, BiFunction, BinaryOperator, ParallelOptions)
+   */
+  public <U> @Nullable U parReduce(
+      @Nullable U identity,
+      @NonNull BiFunction<? super @Nullable U, ? super @Nullable T, ? extends @Nullable U>
+          accumulator,
+      @NonNull BinaryOperator<@Nullable U> combiner) {
+    return parReduce(identity, accumulator, combiner, ParallelOptions.defaults());
+  }
+
+  /**
+   * Reduces the list in parallel.
+   *
+   * <p>Each chunk is folded left-to-right starting from {@code identity}, and the partial results
+   * are combined left-to-right in encounter order, following the contract of {@link
+   * java.util.stream.Stream#reduce(Object, BiFunction, BinaryOperator)}. Lists smaller than {@link
+   * ParallelOptions#threshold()} are folded sequentially on the calling thread.
+   *
+   * @param identity identity value of {@code combiner}, used as the start of every chunk
+   * @param accumulator folds one element into a partial result
+   * @param combiner combines two partial results; must be associative
+   * @param options pool and size threshold to use
+   * @param <U> result type
+   * @return reduced value
+   * @throws NullPointerException if {@code accumulator}, {@code combiner} or {@code options} is
+   *     {@code null}
+   */
+  public <U> @Nullable U parReduce(
+      @Nullable U identity,
+      @NonNull BiFunction<? super @Nullable U, ? super @Nullable T, ? extends @Nullable U>
+          accumulator,
+      @NonNull BinaryOperator<@Nullable U> combiner,
+      @NonNull ParallelOptions options) {
+    Objects.requireNonNull(accumulator, "accumulator");
+    Objects.requireNonNull(combiner, "combiner");
+    Objects.requireNonNull(options, "options");
+    if (size() < options.threshold()) {
+      return fold(identity, accumulator);
+    }
+    return ParallelListOps.reduce(values(), identity, accumulator, combiner, options);
+  }
+
+  /**
+   * Sorts the list in parallel using {@link ParallelOptions#defaults()}.
+   *
+   * @param comparator comparator to use; must be safe to call from multiple threads
+   * @return sorted list
+   * @throws NullPointerException if {@code comparator} is {@code null}
+   * @see #parSorted(Comparator, ParallelOptions)
+   */
+  public @NonNull ImmutableList<T> parSorted(@NonNull Comparator<? super @Nullable T> comparator) {
+    return parSorted(comparator, ParallelOptions.defaults());
+  }
+
+  /**
+   * Sorts the list in parallel with a stable parallel merge sort.
+   *
+   * <p>Lists smaller than {@link ParallelOptions#threshold()} are sorted sequentially, exactly like
+   * {@link #sorted(Comparator)}.
+   *
+   * @param comparator comparator to use; must be safe to call from multiple threads
+   * @param options pool and size threshold to use
+   * @return sorted list
+   * @throws NullPointerException if {@code comparator} or {@code options} is {@code null}
+   */
+  public @NonNull ImmutableList<T> parSorted(
+      @NonNull Comparator<? super @Nullable T> comparator, @NonNull ParallelOptions options) {
+    Objects.requireNonNull(comparator, "comparator");
+    Objects.requireNonNull(options, "options");
+    if (size() < options.threshold()) {
+      return sorted(comparator);
+    }
+    return wrap(ParallelListOps.sorted(values(), comparator, options));
+  }
+
+  @Override
+  public @NonNull Iterator<@Nullable T> iterator() {
+    if (vector != null) {
+      return vector.iterator();
+    }
+    return new Iterator<>() {
+      private int index;
+
+      @Override
+      public boolean hasNext() {
+        return index < inlineSize;
+      }
+
+      @Override
+      public @Nullable T next() {
+        if (index >= inlineSize) {
+          throw new NoSuchElementException();
+        }
+        return element(index++);
+      }
+    };
+  }
+
+  /**
+   * Returns a spliterator reporting {@link Spliterator#SIZED}, {@link Spliterator#SUBSIZED},
+   * {@link Spliterator#ORDERED} and {@link Spliterator#IMMUTABLE}.
+   *
+   * @return spliterator over the elements
+   */
+  @Override
+  public @NonNull Spliterator<@Nullable T> spliterator() {
+    return values().spliterator();
+  }
+
+  /**
+   * Performs the action for each element in order without allocating an iterator.
+   *
+   * @param action action to apply
+   * @throws NullPointerException if {@code action} is {@code null}
+   */
+  @Override
+  public void forEach(@NonNull Consumer<? super @Nullable T> action) {
+    Objects.requireNonNull(action, "action");
+    if (vector != null) {
+      vector.forEach(action);
+      return;
+    }
+    for (int index = 0; index < inlineSize; index++) {
+      action.accept(element(index));
+    }
+  }
+
+  /**
+   * Visits the elements in order until the action returns {@code false}.
+   *
+   * @param action action to apply; returning {@code false} stops the traversal
+   * @return {@code true} when every element was visited
+   */
+  boolean forEachWhile(@NonNull Predicate<? super @Nullable T> action) {
+    if (vector != null) {
+      return vector.forEachWhile(action);
+    }
+    for (int index = 0; index < inlineSize; index++) {
+      if (!action.test(element(index))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Compares element-wise with another {@link ImmutableList}.
+   *
+   * <p>Lists of different sizes, lists whose cached hash codes differ and lists that share the same
+   * storage are told apart or matched without visiting their elements.
+   *
+   * @param other object to compare with
+   * @return true if {@code other} is an {@link ImmutableList} with equal elements in the same order
+   */
+  @Override
+  public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
+    if (!(other instanceof ImmutableList<?> that)) {
       return false;
     }
-    return values.equals(that.values);
+    if (size() != that.size()) {
+      return false;
+    }
+    if (vector != null && that.vector != null && vector.sharesStorageWith(that.vector)) {
+      return true;
+    }
+    final var cached = hash;
+    final var otherCached = that.hash;
+    if (cached != 0 && otherCached != 0 && cached != otherCached) {
+      return false;
+    }
+    final var left = iterator();
+    final var right = that.iterator();
+    while (left.hasNext()) {
+      if (!Objects.equals(left.next(), right.next())) {
+        return false;
+      }
+    }
+    return true;
   }
 
+  /**
+   * Returns the hash code defined by {@link List#hashCode()}.
+   *
+   * <p>The value is computed on first use and cached. The cache uses the racy single-check idiom:
+   * the computation is deterministic and an {@code int} write is atomic, so threads that race on
+   * the first call compute the same value and no synchronization is needed.
+   *
+   * @return hash code of the elements
+   */
   @Override
   public int hashCode() {
-    return values.hashCode();
+    var result = hash;
+    if (result == 0 && !hashIsZero) {
+      result = foldInt(1, (accumulator, value) -> 31 * accumulator + Objects.hashCode(value));
+      if (result == 0) {
+        hashIsZero = true;
+      } else {
+        hash = result;
+      }
+    }
+    return result;
   }
 
   @Override
   public String toString() {
-    return "ImmutableList" + values;
+    return "ImmutableList" + toList();
+  }
+
+  private static boolean containsKey(
+      @Nullable Object @NonNull [] keys, int count, @Nullable Object key) {
+    for (int index = 0; index < count; index++) {
+      if (Objects.equals(keys[index], key)) {
+        return true;
+      }
+    }
+    return false;
   }
 
-  private static <T> @NonNull List<@Nullable T> unmodifiableCopy(
-      @NonNull Collection<? extends @Nullable T> values) {
-    return Collections.unmodifiableList(new ArrayList<>(values));
+  /**
+   * Returns the element at a valid index.
+   *
+   * @param index index in {@code [0, size())}
+   * @return element at the index
+   */
+  private @Nullable T element(int index) {
+    if (vector != null) {
+      return vector.get(index);
+    }
+    return switch (index) {
+      case 0 -> first;
+      case 1 -> second;
+      case 2 -> third;
+      default -> fourth;
+    };
+  }
+
+  /**
+   * Copies all elements into the start of the target array.
+   *
+   * @param target array with at least {@link #size()} slots
+   */
+  private void copyTo(@Nullable Object @NonNull [] target) {
+    if (vector != null) {
+      vector.copyTo(target);
+      return;
+    }
+    for (int index = 0; index < inlineSize; index++) {
+      target[index] = element(index);
+    }
+  }
+
+  /**
+   * Returns the elements as a vector.
+   *
+   * <p>Inline lists build a new vector on each call; it is only used for operations that have no
+   * inline variant and whose results are wrapped again.
+   *
+   * @return vector of the elements
+   */
+  private @NonNull PersistentVector<T> values() {
+    if (vector != null) {
+      return vector;
+    }
+    return PersistentVector.fromArray(toArray(), 0, inlineSize);
+  }
+
+  /**
+   * Creates a list of the elements of an array, inline when there are at most {@link
+   * #INLINE_CAPACITY} of them.
+   *
+   * @param values elements; the array is copied, not kept
+   * @param <T> element type
+   * @return list of the elements
+   */
+  private static <T> @NonNull ImmutableList<T> fromArray(@Nullable T @NonNull [] values) {
+    final var size = values.length;
+    if (size > INLINE_CAPACITY) {
+      return new ImmutableList<>(PersistentVector.fromArray(values, 0, size));
+    }
+    if (size == 0) {
+      return empty();
+    }
+    return inline(
+        size,
+        values[0],
+        size > 1 ? values[1] : null,
+        size > 2 ? values[2] : null,
+        size > 3 ? values[3] : null);
+  }
+
+  /**
+   * Creates an inline list, mapping size zero to the shared empty list.
+   *
+   * @param size number of elements, at most {@link #INLINE_CAPACITY}; unused fields are null
+   * @param first first element
+   * @param second second element
+   * @param third third element
+   * @param fourth fourth element
+   * @param <T> element type
+   * @return inline list of the elements
+   */
+  private static <T> @NonNull ImmutableList<T> inline(
+      int size,
+      @Nullable T first,
+      @Nullable T second,
+      @Nullable T third,
+      @Nullable T fourth) {
+    if (size == 0) {
+      return empty();
+    }
+    return new ImmutableList<>(size, first, second, third, fourth);
+  }
+
+  /**
+   * Wraps a vector, mapping an empty vector to the shared empty list and vectors of at most {@link
+   * #INLINE_CAPACITY} elements to inline lists.
+   *
+   * @param values vector to wrap
+   * @param <T> element type
+   * @return list of the vector's elements
+   */
+  static <T> @NonNull ImmutableList<T> wrap(@NonNull PersistentVector<T> values) {
+    final var size = values.size();
+    if (size > INLINE_CAPACITY) {
+      return new ImmutableList<>(values);
+    }
+    return inline(
+        size,
+        size > 0 ? values.get(0) : null,
+        size > 1 ? values.get(1) : null,
+        size > 2 ? values.get(2) : null,
+        size > 3 ? values.get(3) : null);
+  }
+
+  /**
+   * Mutable builder that creates an {@link ImmutableList} without intermediate copies.
+   *
+   * <p>Elements are written directly into the leaves of the persistent vector that backs the built
+   * list, and {@link #build()} transfers those leaves to the new instance without copying. The
+   * builder may continue to be used after {@link #build()}; later additions never affect lists that
+   * were already built.
+   *
+   * <p>Builders are not thread-safe.
+   *
+   * @param <T> element type, possibly nullable
+   */
+  public static final class Builder<T> {
+    private final PersistentVector.@NonNull Appender<T> appender =
+        new PersistentVector.Appender<>(PersistentVector.empty());
+
+    private Builder() {}
+
+    /**
+     * Adds a value to the end of the list being built.
+     *
+     * @param value value to add, possibly {@code null}
+     * @return this builder
+     */
+    public @NonNull Builder<T> add(@Nullable T value) {
+      appender.add(value);
+      return this;
+    }
+
+    /**
+     * Adds all values of an iterable in iteration order.
+     *
+     * @param values values to add
+     * @return this builder
+     * @throws NullPointerException if {@code values} is {@code null}
+     */
+    public @NonNull Builder<T> addAll(@NonNull Iterable<? extends @Nullable T> values) {
+      Objects.requireNonNull(values, "values");
+      if (values instanceof ImmutableList<? extends T> list) {
+        list.forEach(appender::add);
+        return this;
+      }
+      for (final var value : values) {
+        appender.add(value);
+      }
+      return this;
+    }
+
+    /**
+     * Returns the number of values added so far.
+     *
+     * @return current size
+     */
+    public int size() {
+      return appender.size();
+    }
+
+    /**
+     * Returns an {@link ImmutableList} of the values added so far.
+     *
+     * @return immutable list in insertion order
+     */
+    public @NonNull ImmutableList<T> build() {
+      return wrap(appender.build());
+    }
+  }
+
+  /**
+   * Unmodifiable random-access {@link List} view over an {@link ImmutableList}.
+   *
+   * @param <T> element type
+   */
+  private static final class AsList<T> extends AbstractList<@Nullable T>
+      implements RandomAccess {
+    private final @NonNull ImmutableList<T> values;
+
+    private AsList(@NonNull ImmutableList<T> values) {
+      this.values = values;
+    }
+
+    @Override
+    public @Nullable T get(int index) {
+      Objects.checkIndex(index, values.size());
+      return values.element(index);
+    }
+
+    @Override
+    public int size() {
+      return values.size();
+    }
+
+    @Override
+    public @NonNull Iterator<@Nullable T> iterator() {
+      return values.iterator();
+    }
+
+    @Override
+    public @NonNull Spliterator<@Nullable T> spliterator() {
+      return values.spliterator();
+    }
+
+    @Override
+    public void forEach(@NonNull Consumer<? super @Nullable T> action) {
+      Objects.requireNonNull(action, "action");
+      values.forEach(action);
+    }
   }
 }
@@ -0,0 +1,405 @@
+package babysteps.core;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Persistent hash map that allows {@code null} keys and values.
+ *
+ * <p>Update methods return new maps and never modify the receiver; the {@link Map} returned by
+ * {@link #toMap()} is an unmodifiable view.
+ *
+ * <p>Technical background: entries are stored in a compressed hash-array mapped prefix trie
+ * (CHAMP). {@link #put(Object, Object)} and {@link #remove(Object)} copy at most one path of {@code
+ * log32(n)} small nodes and share all remaining nodes with the original map, and lookups follow a
+ * single path. {@link #putAll(ImmutableMap)} and {@link #merge(ImmutableMap, BinaryOperator)} merge
+ * both tries node by node, reusing every subtree that only one map contributes, so combining a
+ * large map with a small one costs roughly as much as inserting the small map's entries.
+ *
+ * <p>Iteration order is unspecified but stable for a given map instance.
+ *
+ * @param <K> key type, possibly nullable
+ * @param <V> value type, possibly nullable
+ */
+public final class ImmutableMap<K, V> implements Iterable<Map.@NonNull Entry<K, V>> {
+  private static final ImmutableMap<?, ?> EMPTY = new ImmutableMap<>(ChampTrie.EMPTY_NODE);
+
+  private final ChampTrie.@NonNull Node root;
+
+  private ImmutableMap(ChampTrie.@NonNull Node root) {
+    this.root = root;
+  }
+
+  /**
+   * Returns an empty immutable map.
+   *
+   * @param <K> key type
+   * @param <V> value type
+   * @return empty map
+   */
+  public static <K, V> @NonNull ImmutableMap<K, V> empty() {
+    @SuppressWarnings("unchecked")
+    final var casted = (ImmutableMap<K, V>) EMPTY;
+    return casted;
+  }
+
+  /**
+   * Creates a map with a single entry.
+   *
+   * @param key key of the entry
+   * @param value value of the entry
+   * @param <K> key type
+   * @param <V> value type
+   * @return map containing the entry
+   */
+  public static <K, V> @NonNull ImmutableMap<K, V> of(@Nullable K key, @Nullable V value) {
+    return ImmutableMap.<K, V>empty().put(key, value);
+  }
+
+  /**
+   * Creates a map from the entries of a {@link Map}.
+   *
+   * @param values source map
+   * @param <K> key type
+   * @param <V> value type
+   * @return immutable map with the same entries
+   * @throws NullPointerException if {@code values} is {@code null}
+   */
+  public static <K, V> @NonNull ImmutableMap<K, V> fromMap(
+      @NonNull Map<? extends @Nullable K, ? extends @Nullable V> values) {
+    Objects.requireNonNull(values, "values");
+    return fromEntries(values.entrySet());
+  }
+
+  /**
+   * Creates a map from entries; later entries replace earlier entries with an equal key.
+   *
+   * @param entries source entries
+   * @param <K> key type
+   * @param <V> value type
+   * @return immutable map of the entries
+   * @throws NullPointerException if {@code entries} or one of its entries is {@code null}
+   */
+  public static <K, V> @NonNull ImmutableMap<K, V> fromEntries(
+      @NonNull Iterable<? extends Map.Entry<? extends @Nullable K, ? extends @Nullable V>>
+          entries) {
+    Objects.requireNonNull(entries, "entries");
+    var result = ImmutableMap.<K, V>empty();
+    for (final var entry : entries) {
+      Objects.requireNonNull(entry, "entry");
+      result = result.put(entry.getKey(), entry.getValue());
+    }
+    return result;
+  }
+
+  /**
+   * Returns true if the map is empty.
+   *
+   * @return true when the map has no entries
+   */
+  public boolean isEmpty() {
+    return root.size() == 0;
+  }
+
+  /**
+   * Returns the number of entries.
+   *
+   * @return size of the map
+   */
+  public int size() {
+    return root.size();
+  }
+
+  /**
+   * Returns the value mapped to the key as an {@link Option}.
+   *
+   * @param key key to look up
+   * @return {@link Option#some(Object)} with the value when present, otherwise {@link
+   *     Option#none()}
+   */
+  public @NonNull Option<V> get(@Nullable K key) {
+    final var value = root.find(key, ChampTrie.hash(key), 0);
+    if (value == ChampTrie.NOT_FOUND) {
+      return Option.none();
+    }
+    @SuppressWarnings("unchecked")
+    final var casted = (V) value;
+    return Option.some(casted);
+  }
+
+  /**
+   * Returns the value mapped to the key or a fallback when absent.
+   *
+   * @param key key to look up
+   * @param fallback fallback value to use when the key is absent
+   * @return mapped value or fallback
+   */
+  public @Nullable V getOrElse(@Nullable K key, @Nullable V fallback) {
+    final var value = root.find(key, ChampTrie.hash(key), 0);
+    if (value == ChampTrie.NOT_FOUND) {
+      return fallback;
+    }
+    @SuppressWarnings("unchecked")
+    final var casted = (V) value;
+    return casted;
+  }
+
+  /**
+   * Returns true if the map contains the key.
+   *
+   * @param key key to look up
+   * @return true if the key is present
+   */
+  public boolean containsKey(@Nullable K key) {
+    return root.find(key, ChampTrie.hash(key), 0) != ChampTrie.NOT_FOUND;
+  }
+
+  /**
+   * Returns a map with the key mapped to the value.
+   *
+   * @param key key to insert or replace
+   * @param value value to map the key to
+   * @return updated map, or this map when the key is already mapped to the same value instance
+   */
+  public @NonNull ImmutableMap<K, V> put(@Nullable K key, @Nullable V value) {
+    final var updated = root.put(key, value, ChampTrie.hash(key), 0, null);
+    if (updated == root) {
+      return this;
+    }
+    return new ImmutableMap<>(updated);
+  }
+
+  /**
+   * Returns a map without the key.
+   *
+   * @param key key to remove
+   * @return updated map, or this map when the key is absent
+   */
+  public @NonNull ImmutableMap<K, V> remove(@Nullable K key) {
+    final var updated = root.remove(key, ChampTrie.hash(key), 0);
+    if (updated == root) {
+      return this;
+    }
+    if (updated.size() == 0) {
+      return empty();
+    }
+    return new ImmutableMap<>(updated);
+  }
+
+  /**
+   * Returns a map with all entries of {@code other} added; its values win for shared keys.
+   *
+   * @param other entries to add
+   * @return combined map
+   * @throws NullPointerException if {@code other} is {@code null}
+   */
+  public @NonNull ImmutableMap<K, V> putAll(
+      @NonNull ImmutableMap<? extends K, ? extends V> other) {
+    Objects.requireNonNull(other, "other");
+    return combine(other, null);
+  }
+
+  /**
+   * Returns a map with all entries of both maps, resolving shared keys with {@code resolver}.
+   *
+   * @param other entries to add
+   * @param resolver combines this map's value and {@code other}'s value for a shared key
+   * @return combined map
+   * @throws NullPointerException if {@code other} or {@code resolver} is {@code null}
+   */
+  public @NonNull ImmutableMap<K, V> merge(
+      @NonNull ImmutableMap<? extends K, ? extends V> other,
+      @NonNull BinaryOperator<@Nullable V> resolver) {
+    Objects.requireNonNull(other, "other");
+    Objects.requireNonNull(resolver, "resolver");
+    @SuppressWarnings("unchecked")
+    final var untyped = (BinaryOperator<@Nullable Object>) (BinaryOperator<?>) resolver;
+    return combine(other, untyped);
+  }
+
+  /**
+   * Returns the keys as a set that shares this map's storage.
+   *
+   * @return immutable set of keys, created in constant time
+   */
+  public @NonNull ImmutableSet<K> keySet() {
+    return ImmutableSet.wrap(root);
+  }
+
+  /**
+   * Returns the keys in iteration order.
+   *
+   * @return immutable list of keys
+   */
+  public @NonNull ImmutableList<K> keys() {
+    final var builder = ImmutableList.<K>builder(size());
+    forEach((key, value) -> builder.add(key));
+    return builder.build();
+  }
+
+  /**
+   * Returns the values in iteration order.
+   *
+   * @return immutable list of values
+   */
+  public @NonNull ImmutableList<V> values() {
+    final var builder = ImmutableList.<V>builder(size());
+    forEach((key, value) -> builder.add(value));
+    return builder.build();
+  }
+
+  /**
+   * Returns the entries in iteration order.
+   *
+   * @return immutable list of immutable entries
+   */
+  public @NonNull ImmutableList<Map.@NonNull Entry<K, V>> toList() {
+    final var builder = ImmutableList.<Map.@NonNull Entry<K, V>>builder(size());
+    forEach((key, value) -> builder.add(new AbstractMap.SimpleImmutableEntry<>(key, value)));
+    return builder.build();
+  }
+
+  /**
+   * Returns an unmodifiable {@link Map} view of this map.
+   *
+   * <p>Lookups through the view use the trie directly; nothing is copied.
+   *
+   * @return unmodifiable map view
+   */
+  public @NonNull Map<@Nullable K, @Nullable V> toMap() {
+    return new AsMap<>(this);
+  }
+
+  /**
+   * Applies the action to every entry without allocating entry objects.
+   *
+   * @param action action to apply
+   * @throws NullPointerException if {@code action} is {@code null}
+   */
+  public void forEach(@NonNull BiConsumer<? super @Nullable K, ? super @Nullable V> action) {
+    Objects.requireNonNull(action, "action");
+    @SuppressWarnings("unchecked")
+    final var untyped = (BiConsumer<@Nullable Object, @Nullable Object>) action;
+    root.forEach(untyped);
+  }
+
+  @Override
+  public @NonNull Iterator<Map.@NonNull Entry<K, V>> iterator() {
+    return new ChampTrie.Cursor<>(root) {
+      @Override
+      Map.@NonNull Entry<K, V> element(@Nullable Object key, @Nullable Object value) {
+        @SuppressWarnings("unchecked")
+        final var entry = new AbstractMap.SimpleImmutableEntry<>((K) key, (V) value);
+        return entry;
+      }
+    };
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
+    if (!(other instanceof ImmutableMap<?, ?> that) || size() != that.size()) {
+      return false;
+    }
+    if (root == that.root) {
+      return true;
+    }
+    for (final var entry : that) {
+      final var key = entry.getKey();
+      final var value = root.find(key, ChampTrie.hash(key), 0);
+      if (value == ChampTrie.NOT_FOUND || !Objects.equals(value, entry.getValue())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public int hashCode() {
+    final var hash = new int[1];
+    root.forEach((key, value) -> hash[0] += Objects.hashCode(key) ^ Objects.hashCode(value));
+    return hash[0];
+  }
+
+  @Override
+  public String toString() {
+    return "ImmutableMap" + toMap();
+  }
+
+  private @NonNull ImmutableMap<K, V> combine(
+      @NonNull ImmutableMap<? extends K, ? extends V> other,
+      @Nullable BinaryOperator<@Nullable Object> resolver) {
+    if (other.isEmpty()) {
+      return this;
+    }
+    if (isEmpty() && resolver == null) {
+      @SuppressWarnings("unchecked")
+      final var casted = (ImmutableMap<K, V>) other;
+      return casted;
+    }
+    return new ImmutableMap<>(ChampTrie.merge(root, other.root, 0, resolver));
+  }
+
+  /**
+   * Unmodifiable {@link Map} view backed by an {@link ImmutableMap}.
+   *
+   * @param <K> key type
+   * @param <V> value type
+   */
+  private static final class AsMap<K, V> extends AbstractMap<@Nullable K, @Nullable V> {
+    private final @NonNull ImmutableMap<K, V> map;
+
+    private AsMap(@NonNull ImmutableMap<K, V> map) {
+      this.map = map;
+    }
+
+    @Override
+    public @Nullable V get(Object key) {
+      final var value = map.root.find(key, ChampTrie.hash(key), 0);
+      if (value == ChampTrie.NOT_FOUND) {
+        return null;
+      }
+      @SuppressWarnings("unchecked")
+      final var casted = (V) value;
+      return casted;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+      return map.root.find(key, ChampTrie.hash(key), 0) != ChampTrie.NOT_FOUND;
+    }
+
+    @Override
+    public int size() {
+      return map.size();
+    }
+
+    @Override
+    public @NonNull Set<Map.Entry<@Nullable K, @Nullable V>> entrySet() {
+      return new AbstractSet<>() {
+        @Override
+        public @NonNull Iterator<Map.Entry<@Nullable K, @Nullable V>> iterator() {
+          @SuppressWarnings("unchecked")
+          final var iterator =
+              (Iterator<Map.Entry<@Nullable K, @Nullable V>>) (Iterator<?>) map.iterator();
+          return iterator;
+        }
+
+        @Override
+        public int size() {
+          return map.size();
+        }
+      };
+    }
+  }
+}
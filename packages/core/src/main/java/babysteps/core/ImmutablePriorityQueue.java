@@ -0,0 +1,332 @@
+package babysteps.core;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Persistent priority queue that always dequeues its smallest value first.
+ *
+ * <p>{@link #insert(Object)}, {@link #merge(ImmutablePriorityQueue)} and {@link #peek()} run in
+ * constant time and {@link #dequeue()} in amortized {@code O(log n)} time, so keeping pending work
+ * in this queue avoids re-sorting an {@link ImmutableList} on every insert. Values that compare
+ * equal are dequeued in an unspecified order. Update methods return new queues and never modify
+ * the receiver.
+ *
+ * <p>Technical background: values are stored in a pairing heap. Every node holds a value that is
+ * not greater than any value below it and a persistent list of child heaps. Inserting and merging
+ * link two roots by making the larger one a child of the smaller one. Removing the minimum melds
+ * the children of the root in two passes: neighbouring children are linked pairwise from left to
+ * right, then the pairs are linked from right to left. Like {@link ImmutableQueue}, the bounds are
+ * amortized over a single line of updates.
+ *
+ * <p>Sample usage:
+ *
+ * <pre>{@code
+ * ImmutablePriorityQueue<Job> pending = ImmutablePriorityQueue.fromIterable(jobs, byDeadline);
+ * Option<Job> next = pending.peek();
+ * List<Job> firstTen = pending.drainSorted().limit(10).toList();
+ * }</pre>
+ *
+ * @param <T> element type, possibly nullable if the comparator accepts {@code null}
+ */
+public final class ImmutablePriorityQueue<T> {
+  private static final ImmutablePriorityQueue<?> EMPTY =
+      new ImmutablePriorityQueue<>(null, 0, naturalOrder());
+
+  private final @Nullable Node root;
+  private final int size;
+  private final @NonNull Comparator<Object> comparator;
+
+  private ImmutablePriorityQueue(
+      @Nullable Node root, int size, @NonNull Comparator<Object> comparator) {
+    this.root = root;
+    this.size = size;
+    this.comparator = comparator;
+  }
+
+  /**
+   * Returns an empty queue ordered by the natural order of its values.
+   *
+   * @param <T> element type
+   * @return empty queue
+   */
+  public static <T extends Comparable<? super T>> @NonNull ImmutablePriorityQueue<T> empty() {
+    @SuppressWarnings("unchecked")
+    final var casted = (ImmutablePriorityQueue<T>) EMPTY;
+    return casted;
+  }
+
+  /**
+   * Returns an empty queue ordered by the comparator.
+   *
+   * @param comparator value order; the smallest value is dequeued first
+   * @param <T> element type
+   * @return empty queue
+   * @throws NullPointerException if {@code comparator} is {@code null}
+   */
+  public static <T> @NonNull ImmutablePriorityQueue<T> empty(
+      @NonNull Comparator<? super T> comparator) {
+    Objects.requireNonNull(comparator, "comparator");
+    return new ImmutablePriorityQueue<>(null, 0, untyped(comparator));
+  }
+
+  /**
+   * Creates a naturally ordered queue of the values in {@code O(n)} time.
+   *
+   * @param values source iterable
+   * @param <T> element type
+   * @return queue of the values
+   * @throws NullPointerException if {@code values} is {@code null}
+   */
+  public static <T extends Comparable<? super T>> @NonNull ImmutablePriorityQueue<T> fromIterable(
+      @NonNull Iterable<? extends T> values) {
+    return fromIterable(values, naturalOrder());
+  }
+
+  /**
+   * Creates a queue of the values ordered by the comparator in {@code O(n)} time.
+   *
+   * <p>Each value is linked to the root in constant time; the work of ordering the values is left
+   * to the first {@link #dequeue()}, which pairs them up in a single linear pass.
+   *
+   * @param values source iterable
+   * @param comparator value order; the smallest value is dequeued first
+   * @param <T> element type
+   * @return queue of the values
+   * @throws NullPointerException if {@code values} or {@code comparator} is {@code null}
+   */
+  public static <T> @NonNull ImmutablePriorityQueue<T> fromIterable(
+      @NonNull Iterable<? extends T> values, @NonNull Comparator<? super T> comparator) {
+    Objects.requireNonNull(values, "values");
+    Objects.requireNonNull(comparator, "comparator");
+    final var order = ImmutablePriorityQueue.<T>untyped(comparator);
+    Node root = null;
+    var size = 0;
+    for (final var value : values) {
+      root = link(root, new Node(value, ConsList.empty()), order);
+      size++;
+    }
+    return new ImmutablePriorityQueue<>(root, size, order);
+  }
+
+  /**
+   * Returns the comparator the values are ordered by.
+   *
+   * @return value order
+   */
+  public @NonNull Comparator<? super T> comparator() {
+    return comparator;
+  }
+
+  /**
+   * Returns true if the queue is empty.
+   *
+   * @return true when the queue has no elements
+   */
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Returns the number of elements.
+   *
+   * @return size of the queue
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Returns the smallest value.
+   *
+   * @return {@link Option#some(Object)} with the smallest value, or {@link Option#none()} when
+   *     empty
+   */
+  public @NonNull Option<T> peek() {
+    if (root == null) {
+      return Option.none();
+    }
+    return Option.some(value(root));
+  }
+
+  /**
+   * Returns a queue with the value added in constant time.
+   *
+   * @param value value to insert
+   * @return larger queue
+   */
+  public @NonNull ImmutablePriorityQueue<T> insert(@Nullable T value) {
+    return new ImmutablePriorityQueue<>(
+        link(root, new Node(value, ConsList.empty()), comparator), size + 1, comparator);
+  }
+
+  /**
+   * Returns a queue holding the values of both queues, ordered by this queue's comparator.
+   *
+   * <p>When both queues use the same comparator instance the two heaps are linked in constant
+   * time; otherwise the values of {@code other} are inserted one by one.
+   *
+   * @param other queue to merge with
+   * @return merged queue
+   * @throws NullPointerException if {@code other} is {@code null}
+   */
+  public @NonNull ImmutablePriorityQueue<T> merge(
+      @NonNull ImmutablePriorityQueue<? extends T> other) {
+    Objects.requireNonNull(other, "other");
+    if (other.root == null) {
+      return this;
+    }
+    if (comparator == other.comparator || comparator.equals(other.comparator)) {
+      return new ImmutablePriorityQueue<>(
+          link(root, other.root, comparator), size + other.size, comparator);
+    }
+    var result = this;
+    final var iterator = other.drainSorted().iterator();
+    while (iterator.hasNext()) {
+      result = result.insert(iterator.next());
+    }
+    return result;
+  }
+
+  /**
+   * Removes the smallest value.
+   *
+   * @return {@link Option#some(Object)} with the value and the remaining queue, or {@link
+   *     Option#none()} when empty
+   */
+  public @NonNull Option<Dequeued<T>> dequeue() {
+    if (root == null) {
+      return Option.none();
+    }
+    return Option.some(new Dequeued<>(value(root), rest()));
+  }
+
+  /**
+   * Returns the queue without its smallest value in amortized {@code O(log n)} time.
+   *
+   * @return remaining queue, or this queue when empty
+   */
+  public @NonNull ImmutablePriorityQueue<T> rest() {
+    if (root == null) {
+      return this;
+    }
+    return new ImmutablePriorityQueue<>(meldChildren(root, comparator), size - 1, comparator);
+  }
+
+  /**
+   * Returns a lazy stream of the values from smallest to largest.
+   *
+   * <p>Each element is produced by one {@link #rest()} step while the stream is consumed, so taking
+   * the first {@code k} values costs {@code O(k log n)} and no sorted list is built.
+   *
+   * @return ordered, sized stream of the values
+   */
+  public @NonNull Stream<@Nullable T> drainSorted() {
+    final var iterator =
+        new Iterator<@Nullable T>() {
+          private ImmutablePriorityQueue<T> remaining = ImmutablePriorityQueue.this;
+
+          @Override
+          public boolean hasNext() {
+            return remaining.root != null;
+          }
+
+          @Override
+          public @Nullable T next() {
+            final var current = remaining.root;
+            if (current == null) {
+              throw new NoSuchElementException();
+            }
+            remaining = remaining.rest();
+            return value(current);
+          }
+        };
+    return StreamSupport.stream(
+        Spliterators.spliterator(iterator, size, Spliterator.ORDERED | Spliterator.IMMUTABLE),
+        false);
+  }
+
+  @Override
+  public String toString() {
+    return "ImmutablePriorityQueue" + drainSorted().toList();
+  }
+
+  private @Nullable T value(@NonNull Node node) {
+    @SuppressWarnings("unchecked")
+    final var value = (T) node.value;
+    return value;
+  }
+
+  private static @NonNull Node link(
+      @Nullable Node left, @NonNull Node right, @NonNull Comparator<Object> comparator) {
+    if (left == null) {
+      return right;
+    }
+    if (comparator.compare(left.value, right.value) <= 0) {
+      return new Node(left.value, left.children.push(right));
+    }
+    return new Node(right.value, right.children.push(left));
+  }
+
+  /** Melds the children of {@code node} with the two-pass pairing strategy. */
+  private static @Nullable Node meldChildren(
+      @NonNull Node node, @NonNull Comparator<Object> comparator) {
+    final var children = node.children;
+    final var pairs = new Node[(children.size() + 1) / 2];
+    var current = children;
+    for (int index = 0; index < pairs.length; index++) {
+      final var first = current.head();
+      current = current.tail();
+      if (current.isEmpty()) {
+        pairs[index] = first;
+      } else {
+        pairs[index] = link(first, current.head(), comparator);
+        current = current.tail();
+      }
+    }
+    Node result = null;
+    for (int index = pairs.length - 1; index >= 0; index--) {
+      result = link(result, pairs[index], comparator);
+    }
+    return result;
+  }
+
+  private static <T> @NonNull Comparator<Object> untyped(@NonNull Comparator<? super T> order) {
+    @SuppressWarnings("unchecked")
+    final var casted = (Comparator<Object>) order;
+    return casted;
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static @NonNull Comparator<Object> naturalOrder() {
+    return (Comparator) Comparator.naturalOrder();
+  }
+
+  /** Heap-ordered node of the pairing heap. */
+  private static final class Node {
+    private final @Nullable Object value;
+    private final @NonNull ConsList<Node> children;
+
+    private Node(@Nullable Object value, @NonNull ConsList<Node> children) {
+      this.value = value;
+      this.children = children;
+    }
+  }
+
+  /**
+   * Result of {@link #dequeue()}.
+   *
+   * @param value smallest value, possibly {@code null}
+   * @param remaining queue without the value
+   * @param <T> element type
+   */
+  public record Dequeued<T>(@Nullable T value, @NonNull ImmutablePriorityQueue<T> remaining) {}
+}
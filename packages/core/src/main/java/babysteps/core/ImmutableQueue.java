@@ -0,0 +1,283 @@
+package babysteps.core;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Persistent first-in, first-out queue.
+ *
+ * <p>{@link #enqueue(Object)}, {@link #peek()} and {@link #dequeue()} run in amortized constant
+ * time, unlike modelling a queue as an {@link ImmutableList} with {@code append} and {@code tail}.
+ * Update methods return new queues and never modify the receiver.
+ *
+ * <p>Technical background: this is a banker's queue made of two persistent linked lists. Values
+ * are dequeued from the front list and enqueued onto the rear list, which holds the newest value
+ * first. When the front list runs out, the rear list is reversed once to become the new front, so
+ * every value is moved exactly once on its way through the queue. The bound is amortized over a
+ * single line of updates: dequeuing repeatedly from the same old version may repeat a reversal.
+ *
+ * <p>Sample usage:
+ *
+ * <pre>{@code
+ * ImmutableQueue<Job> pending = ImmutableQueue.fromIterable(initialJobs);
+ * Option<ImmutableQueue.Dequeued<Job>> next = pending.dequeue();
+ * }</pre>
+ *
+ * @param <T> element type, possibly nullable
+ */
+public final class ImmutableQueue<T> implements Iterable<@Nullable T> {
+  private static final ImmutableQueue<?> EMPTY =
+      new ImmutableQueue<>(ConsList.empty(), ConsList.empty());
+
+  /** Values in dequeue order; empty only when the whole queue is empty. */
+  private final @NonNull ConsList<T> front;
+
+  /** Values enqueued after {@link #front}, newest first. */
+  private final @NonNull ConsList<T> rear;
+
+  private ImmutableQueue(@NonNull ConsList<T> front, @NonNull ConsList<T> rear) {
+    this.front = front;
+    this.rear = rear;
+  }
+
+  /**
+   * Returns an empty queue.
+   *
+   * @param <T> element type
+   * @return empty queue
+   */
+  public static <T> @NonNull ImmutableQueue<T> empty() {
+    @SuppressWarnings("unchecked")
+    final var casted = (ImmutableQueue<T>) EMPTY;
+    return casted;
+  }
+
+  /**
+   * Creates a queue that dequeues the values in the given order.
+   *
+   * @param values values to enqueue
+   * @param <T> element type
+   * @return queue of the values
+   * @throws NullPointerException if {@code values} is {@code null}
+   */
+  @SafeVarargs
+  public static <T> @NonNull ImmutableQueue<T> of(@Nullable T... values) {
+    Objects.requireNonNull(values, "values");
+    var front = ConsList.<T>empty();
+    for (int index = values.length - 1; index >= 0; index--) {
+      front = front.push(values[index]);
+    }
+    return fromFront(front);
+  }
+
+  /**
+   * Creates a queue that dequeues the values in iteration order, such as the elements of an {@link
+   * ImmutableList} from first to last.
+   *
+   * @param values source iterable
+   * @param <T> element type
+   * @return queue of the values
+   * @throws NullPointerException if {@code values} is {@code null}
+   */
+  public static <T> @NonNull ImmutableQueue<T> fromIterable(
+      @NonNull Iterable<? extends @Nullable T> values) {
+    Objects.requireNonNull(values, "values");
+    var rear = ConsList.<T>empty();
+    for (final var value : values) {
+      rear = rear.push(value);
+    }
+    return fromFront(rear.reversed());
+  }
+
+  /**
+   * Returns true if the queue is empty.
+   *
+   * @return true when the queue has no elements
+   */
+  public boolean isEmpty() {
+    return front.isEmpty();
+  }
+
+  /**
+   * Returns the number of elements.
+   *
+   * @return size of the queue
+   */
+  public int size() {
+    return front.size() + rear.size();
+  }
+
+  /**
+   * Returns the value that {@link #dequeue()} would return.
+   *
+   * @return {@link Option#some(Object)} with the oldest value, or {@link Option#none()} when empty
+   */
+  public @NonNull Option<T> peek() {
+    if (front.isEmpty()) {
+      return Option.none();
+    }
+    return Option.some(front.head());
+  }
+
+  /**
+   * Returns a queue with the value added at the back.
+   *
+   * @param value value to enqueue
+   * @return longer queue
+   */
+  public @NonNull ImmutableQueue<T> enqueue(@Nullable T value) {
+    if (front.isEmpty()) {
+      return new ImmutableQueue<>(ConsList.<T>empty().push(value), rear);
+    }
+    return new ImmutableQueue<>(front, rear.push(value));
+  }
+
+  /**
+   * Returns a queue with the values added at the back in iteration order.
+   *
+   * @param values values to enqueue
+   * @return longer queue, or this queue when {@code values} is empty
+   * @throws NullPointerException if {@code values} is {@code null}
+   */
+  public @NonNull ImmutableQueue<T> enqueueAll(@NonNull Iterable<? extends @Nullable T> values) {
+    Objects.requireNonNull(values, "values");
+    var result = this;
+    for (final var value : values) {
+      result = result.enqueue(value);
+    }
+    return result;
+  }
+
+  /**
+   * Removes the oldest value.
+   *
+   * @return {@link Option#some(Object)} with the value and the remaining queue, or {@link
+   *     Option#none()} when empty
+   */
+  public @NonNull Option<Dequeued<T>> dequeue() {
+    if (front.isEmpty()) {
+      return Option.none();
+    }
+    return Option.some(new Dequeued<>(front.head(), rest()));
+  }
+
+  /**
+   * Returns the queue without its oldest value.
+   *
+   * @return remaining queue, or this queue when empty
+   */
+  public @NonNull ImmutableQueue<T> rest() {
+    if (front.isEmpty()) {
+      return this;
+    }
+    final var remaining = front.tail();
+    if (remaining.isEmpty()) {
+      return fromFront(rear.reversed());
+    }
+    return new ImmutableQueue<>(remaining, rear);
+  }
+
+  /**
+   * Returns the elements in dequeue order.
+   *
+   * @return immutable list of the elements
+   */
+  public @NonNull ImmutableList<T> toImmutableList() {
+    final var builder = ImmutableList.<T>builder(size());
+    for (final var value : this) {
+      builder.add(value);
+    }
+    return builder.build();
+  }
+
+  /**
+   * Returns a sequential stream of the elements in dequeue order.
+   *
+   * @return ordered, sized stream
+   */
+  public @NonNull Stream<@Nullable T> stream() {
+    return StreamSupport.stream(
+        Spliterators.spliterator(
+            iterator(), size(), Spliterator.ORDERED | Spliterator.IMMUTABLE),
+        false);
+  }
+
+  @Override
+  public @NonNull Iterator<@Nullable T> iterator() {
+    final var frontIterator = front.iterator();
+    return new Iterator<>() {
+      private @Nullable Iterator<@Nullable T> rearIterator;
+
+      @Override
+      public boolean hasNext() {
+        return frontIterator.hasNext() || rearIterator().hasNext();
+      }
+
+      @Override
+      public @Nullable T next() {
+        return frontIterator.hasNext() ? frontIterator.next() : rearIterator().next();
+      }
+
+      private @NonNull Iterator<@Nullable T> rearIterator() {
+        if (rearIterator == null) {
+          rearIterator = rear.reversed().iterator();
+        }
+        return rearIterator;
+      }
+    };
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
+    if (!(other instanceof ImmutableQueue<?> that) || size() != that.size()) {
+      return false;
+    }
+    final var left = iterator();
+    final var right = that.iterator();
+    while (left.hasNext()) {
+      if (!Objects.equals(left.next(), right.next())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public int hashCode() {
+    int hash = 1;
+    for (final var value : this) {
+      hash = 31 * hash + Objects.hashCode(value);
+    }
+    return hash;
+  }
+
+  @Override
+  public String toString() {
+    return "ImmutableQueue" + toImmutableList().toList();
+  }
+
+  private static <T> @NonNull ImmutableQueue<T> fromFront(@NonNull ConsList<T> front) {
+    if (front.isEmpty()) {
+      return empty();
+    }
+    return new ImmutableQueue<>(front, ConsList.empty());
+  }
+
+  /**
+   * Result of {@link #dequeue()}.
+   *
+   * @param value dequeued value, possibly {@code null}
+   * @param remaining queue without the value
+   * @param <T> element type
+   */
+  public record Dequeued<T>(@Nullable T value, @NonNull ImmutableQueue<T> remaining) {}
+}
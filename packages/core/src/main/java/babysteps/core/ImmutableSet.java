@@ -0,0 +1,325 @@
+package babysteps.core;
+
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BinaryOperator;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Persistent hash set that allows a {@code null} element.
+ *
+ * <p>Update methods return new sets and never modify the receiver; the {@link Set} returned by
+ * {@link #toSet()} is an unmodifiable view.
+ *
+ * <p>Technical background: elements are the keys of the same compressed hash-array mapped prefix
+ * trie (CHAMP) that backs {@link ImmutableMap}. {@link #add(Object)} and {@link #remove(Object)}
+ * copy one path of {@code log32(n)} small nodes. {@link #union(ImmutableSet)}, {@link
+ * #intersect(ImmutableSet)} and {@link #diff(ImmutableSet)} walk both tries in lockstep and take or
+ * drop any subtree that the two sets share by identity as a whole. Sets derived from each other by
+ * a few updates share almost all nodes, so combining them costs time proportional to the number of
+ * differing elements rather than to the size of the sets.
+ *
+ * <p>Iteration order is unspecified but stable for a given set instance.
+ *
+ * @param <T> element type, possibly nullable
+ */
+public final class ImmutableSet<T> implements Iterable<@Nullable T> {
+  private static final Object PRESENT = new Object();
+  private static final BinaryOperator<@Nullable Object> KEEP_EXISTING =
+      (existing, incoming) -> existing;
+  private static final ImmutableSet<?> EMPTY = new ImmutableSet<>(ChampTrie.EMPTY_NODE);
+
+  private final ChampTrie.@NonNull Node root;
+
+  private ImmutableSet(ChampTrie.@NonNull Node root) {
+    this.root = root;
+  }
+
+  /**
+   * Returns an empty immutable set.
+   *
+   * @param <T> element type
+   * @return empty set
+   */
+  public static <T> @NonNull ImmutableSet<T> empty() {
+    @SuppressWarnings("unchecked")
+    final var casted = (ImmutableSet<T>) EMPTY;
+    return casted;
+  }
+
+  /**
+   * Creates an {@link ImmutableSet} from values; duplicates are ignored.
+   *
+   * @param values values to add
+   * @param <T> element type
+   * @return immutable set of the provided values
+   * @throws NullPointerException if {@code values} is {@code null}
+   */
+  @SafeVarargs
+  public static <T> @NonNull ImmutableSet<T> of(@Nullable T... values) {
+    Objects.requireNonNull(values, "values");
+    var result = ImmutableSet.<T>empty();
+    for (final var value : values) {
+      result = result.add(value);
+    }
+    return result;
+  }
+
+  /**
+   * Creates an {@link ImmutableSet} from an iterable; duplicates are ignored.
+   *
+   * @param values source iterable
+   * @param <T> element type
+   * @return immutable set of the provided values
+   * @throws NullPointerException if {@code values} is {@code null}
+   */
+  public static <T> @NonNull ImmutableSet<T> fromIterable(
+      @NonNull Iterable<? extends @Nullable T> values) {
+    Objects.requireNonNull(values, "values");
+    if (values instanceof ImmutableSet<? extends T> set) {
+      @SuppressWarnings("unchecked")
+      final var casted = (ImmutableSet<T>) set;
+      return casted;
+    }
+    var result = ImmutableSet.<T>empty();
+    for (final var value : values) {
+      result = result.add(value);
+    }
+    return result;
+  }
+
+  /**
+   * Returns true if the set is empty.
+   *
+   * @return true when the set has no elements
+   */
+  public boolean isEmpty() {
+    return root.size() == 0;
+  }
+
+  /**
+   * Returns the number of elements.
+   *
+   * @return size of the set
+   */
+  public int size() {
+    return root.size();
+  }
+
+  /**
+   * Returns true if the set contains the provided value.
+   *
+   * @param value value to look for
+   * @return true if the value is present
+   */
+  public boolean contains(@Nullable T value) {
+    return root.find(value, ChampTrie.hash(value), 0) != ChampTrie.NOT_FOUND;
+  }
+
+  /**
+   * Returns a set that contains the value.
+   *
+   * @param value value to add
+   * @return updated set, or this set when the value is already present
+   */
+  public @NonNull ImmutableSet<T> add(@Nullable T value) {
+    final var updated = root.put(value, PRESENT, ChampTrie.hash(value), 0, KEEP_EXISTING);
+    return updated == root ? this : new ImmutableSet<>(updated);
+  }
+
+  /**
+   * Returns a set without the value.
+   *
+   * @param value value to remove
+   * @return updated set, or this set when the value is absent
+   */
+  public @NonNull ImmutableSet<T> remove(@Nullable T value) {
+    final var updated = root.remove(value, ChampTrie.hash(value), 0);
+    return updated == root ? this : wrap(updated);
+  }
+
+  /**
+   * Returns the elements contained in this set, {@code other}, or both.
+   *
+   * @param other set to combine with
+   * @return union of both sets
+   * @throws NullPointerException if {@code other} is {@code null}
+   */
+  public @NonNull ImmutableSet<T> union(@NonNull ImmutableSet<? extends T> other) {
+    Objects.requireNonNull(other, "other");
+    if (other.isEmpty()) {
+      return this;
+    }
+    if (isEmpty()) {
+      @SuppressWarnings("unchecked")
+      final var casted = (ImmutableSet<T>) other;
+      return casted;
+    }
+    final var merged = ChampTrie.merge(root, other.root, 0, null);
+    return merged == root ? this : new ImmutableSet<>(merged);
+  }
+
+  /**
+   * Returns the elements contained in both this set and {@code other}.
+   *
+   * @param other set to intersect with
+   * @return intersection of both sets
+   * @throws NullPointerException if {@code other} is {@code null}
+   */
+  public @NonNull ImmutableSet<T> intersect(@NonNull ImmutableSet<?> other) {
+    Objects.requireNonNull(other, "other");
+    final var intersected = ChampTrie.intersect(root, other.root, 0);
+    return intersected == root ? this : wrap(intersected);
+  }
+
+  /**
+   * Returns the elements of this set that are not contained in {@code other}.
+   *
+   * @param other set of elements to remove
+   * @return difference of both sets
+   * @throws NullPointerException if {@code other} is {@code null}
+   */
+  public @NonNull ImmutableSet<T> diff(@NonNull ImmutableSet<?> other) {
+    Objects.requireNonNull(other, "other");
+    final var remaining = ChampTrie.difference(root, other.root, 0);
+    return remaining == root ? this : wrap(remaining);
+  }
+
+  /**
+   * Keeps only the elements that match the predicate.
+   *
+   * @param predicate filter predicate
+   * @return set of matching elements
+   * @throws NullPointerException if {@code predicate} is {@code null}
+   */
+  public @NonNull ImmutableSet<T> filter(@NonNull Predicate<? super @Nullable T> predicate) {
+    Objects.requireNonNull(predicate, "predicate");
+    var result = this;
+    for (final var value : this) {
+      if (!predicate.test(value)) {
+        result = result.remove(value);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Returns the elements in iteration order.
+   *
+   * @return immutable list of the elements
+   */
+  public @NonNull ImmutableList<T> toList() {
+    final var builder = ImmutableList.<T>builder(size());
+    for (final var value : this) {
+      builder.add(value);
+    }
+    return builder.build();
+  }
+
+  /**
+   * Returns an unmodifiable {@link Set} view of this set.
+   *
+   * @return unmodifiable set view
+   */
+  public @NonNull Set<@Nullable T> toSet() {
+    return new AsSet<>(this);
+  }
+
+  /**
+   * Returns a sequential stream over the elements.
+   *
+   * @return stream of the elements
+   */
+  public @NonNull Stream<@Nullable T> stream() {
+    return toSet().stream();
+  }
+
+  @Override
+  public @NonNull Iterator<@Nullable T> iterator() {
+    return new ChampTrie.Cursor<>(root) {
+      @Override
+      @Nullable T element(@Nullable Object key, @Nullable Object value) {
+        @SuppressWarnings("unchecked")
+        final var casted = (T) key;
+        return casted;
+      }
+    };
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
+    if (!(other instanceof ImmutableSet<?> that) || size() != that.size()) {
+      return false;
+    }
+    if (root == that.root) {
+      return true;
+    }
+    for (final var value : that) {
+      if (root.find(value, ChampTrie.hash(value), 0) == ChampTrie.NOT_FOUND) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public int hashCode() {
+    var hash = 0;
+    for (final var value : this) {
+      hash += Objects.hashCode(value);
+    }
+    return hash;
+  }
+
+  @Override
+  public String toString() {
+    return "ImmutableSet" + toSet();
+  }
+
+  /**
+   * Wraps a trie whose keys become the elements of the set; values are ignored.
+   *
+   * @param root trie root
+   * @param <T> element type
+   * @return set of the trie's keys
+   */
+  static <T> @NonNull ImmutableSet<T> wrap(ChampTrie.@NonNull Node root) {
+    return root.size() == 0 ? empty() : new ImmutableSet<>(root);
+  }
+
+  /**
+   * Unmodifiable {@link Set} view backed by an {@link ImmutableSet}.
+   *
+   * @param <T> element type
+   */
+  private static final class AsSet<T> extends AbstractSet<@Nullable T> {
+    private final @NonNull ImmutableSet<T> set;
+
+    private AsSet(@NonNull ImmutableSet<T> set) {
+      this.set = set;
+    }
+
+    @Override
+    public boolean contains(Object value) {
+      return set.root.find(value, ChampTrie.hash(value), 0) != ChampTrie.NOT_FOUND;
+    }
+
+    @Override
+    public @NonNull Iterator<@Nullable T> iterator() {
+      return set.iterator();
+    }
+
+    @Override
+    public int size() {
+      return set.size();
+    }
+  }
+}
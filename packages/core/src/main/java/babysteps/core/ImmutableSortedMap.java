@@ -0,0 +1,499 @@
+package babysteps.core;
+
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Persistent map that keeps its keys sorted by a comparator.
+ *
+ * <p>Keys must be non-{@code null}; values may be {@code null}. Update methods return new maps and
+ * never modify the receiver. All lookups compare keys with the map's comparator, not with {@link
+ * Object#equals(Object)}.
+ *
+ * <p>Technical background: entries are stored in a copy-on-write B+-tree whose nodes hold up to 32
+ * keys in contiguous arrays. {@link #get(Object)}, {@link #put(Object, Object)}, {@link
+ * #remove(Object)}, {@link #floor(Object)} and {@link #ceiling(Object)} follow a single path of
+ * {@code O(log n)} nodes, and updates copy only that path while sharing every other node with the
+ * original map. Branches record the size of their subtrees, so {@link #range(Object, Object)} and
+ * {@link #rangeStream(Object, Object)} locate both bounds in {@code O(log n)} and then walk the
+ * leaves in order.
+ *
+ * <p>Sample usage:
+ *
+ * <pre>{@code
+ * ImmutableSortedMap<Instant, Price> prices = ImmutableSortedMap.fromMap(loaded);
+ * Option<Map.Entry<Instant, Price>> latest = prices.floor(now);
+ * long spikes = prices.rangeStream(open, close).filter(entry -> isSpike(entry)).count();
+ * }</pre>
+ *
+ * @param <K> key type
+ * @param <V> value type, possibly nullable
+ */
+public final class ImmutableSortedMap<K, V> implements Iterable<Map.@NonNull Entry<K, V>> {
+  private static final ImmutableSortedMap<?, ?> EMPTY =
+      new ImmutableSortedMap<>(BPlusTree.EMPTY_LEAF, naturalOrder());
+
+  private final BPlusTree.@NonNull Node root;
+  private final @NonNull Comparator<Object> comparator;
+
+  private ImmutableSortedMap(
+      BPlusTree.@NonNull Node root, @NonNull Comparator<Object> comparator) {
+    this.root = root;
+    this.comparator = comparator;
+  }
+
+  /**
+   * Returns an empty map ordered by the natural order of its keys.
+   *
+   * @param <K> key type
+   * @param <V> value type
+   * @return empty map
+   */
+  public static <K extends Comparable<? super K>, V> @NonNull ImmutableSortedMap<K, V> empty() {
+    @SuppressWarnings("unchecked")
+    final var casted = (ImmutableSortedMap<K, V>) EMPTY;
+    return casted;
+  }
+
+  /**
+   * Returns an empty map ordered by the comparator.
+   *
+   * @param comparator key order
+   * @param <K> key type
+   * @param <V> value type
+   * @return empty map
+   * @throws NullPointerException if {@code comparator} is {@code null}
+   */
+  public static <K, V> @NonNull ImmutableSortedMap<K, V> empty(
+      @NonNull Comparator<? super K> comparator) {
+    Objects.requireNonNull(comparator, "comparator");
+    return new ImmutableSortedMap<>(BPlusTree.EMPTY_LEAF, untyped(comparator));
+  }
+
+  /**
+   * Creates a naturally ordered map with a single entry.
+   *
+   * @param key key of the entry
+   * @param value value of the entry
+   * @param <K> key type
+   * @param <V> value type
+   * @return map containing the entry
+   * @throws NullPointerException if {@code key} is {@code null}
+   */
+  public static <K extends Comparable<? super K>, V> @NonNull ImmutableSortedMap<K, V> of(
+      @NonNull K key, @Nullable V value) {
+    return ImmutableSortedMap.<K, V>empty().put(key, value);
+  }
+
+  /**
+   * Creates a naturally ordered map from the entries of a {@link Map}.
+   *
+   * @param values source map
+   * @param <K> key type
+   * @param <V> value type
+   * @return sorted map with the same entries
+   * @throws NullPointerException if {@code values} or one of its keys is {@code null}
+   */
+  public static <K extends Comparable<? super K>, V> @NonNull ImmutableSortedMap<K, V> fromMap(
+      @NonNull Map<? extends K, ? extends @Nullable V> values) {
+    return fromMap(values, naturalOrder());
+  }
+
+  /**
+   * Creates a map ordered by the comparator from the entries of a {@link Map}.
+   *
+   * <p>The entries are sorted once and the tree is built bottom-up in linear time instead of being
+   * inserted one by one. When several keys compare equal, the entry that the source iterates last
+   * wins.
+   *
+   * @param values source map
+   * @param comparator key order
+   * @param <K> key type
+   * @param <V> value type
+   * @return sorted map with the same entries
+   * @throws NullPointerException if {@code values}, {@code comparator} or one of the keys is {@code
+   *     null}
+   */
+  public static <K, V> @NonNull ImmutableSortedMap<K, V> fromMap(
+      @NonNull Map<? extends K, ? extends @Nullable V> values,
+      @NonNull Comparator<? super K> comparator) {
+    Objects.requireNonNull(values, "values");
+    Objects.requireNonNull(comparator, "comparator");
+    final var order = ImmutableSortedMap.<K>untyped(comparator);
+    final Map.Entry<?, ?>[] entries = values.entrySet().toArray(new Map.Entry<?, ?>[0]);
+    for (final var entry : entries) {
+      Objects.requireNonNull(entry.getKey(), "key");
+    }
+    Arrays.sort(entries, (left, right) -> order.compare(left.getKey(), right.getKey()));
+    final var keys = new Object[entries.length];
+    final var mapped = new Object[entries.length];
+    var count = 0;
+    for (final var entry : entries) {
+      if (count > 0 && order.compare(keys[count - 1], entry.getKey()) == 0) {
+        count--;
+      }
+      keys[count] = entry.getKey();
+      mapped[count] = entry.getValue();
+      count++;
+    }
+    return new ImmutableSortedMap<>(BPlusTree.build(keys, mapped, count), order);
+  }
+
+  /**
+   * Returns the comparator the keys are sorted by.
+   *
+   * @return key order
+   */
+  public @NonNull Comparator<? super K> comparator() {
+    return comparator;
+  }
+
+  /**
+   * Returns true if the map is empty.
+   *
+   * @return true when the map has no entries
+   */
+  public boolean isEmpty() {
+    return root.size() == 0;
+  }
+
+  /**
+   * Returns the number of entries.
+   *
+   * @return size of the map
+   */
+  public int size() {
+    return root.size();
+  }
+
+  /**
+   * Returns the value mapped to the key as an {@link Option}.
+   *
+   * @param key key to look up
+   * @return {@link Option#some(Object)} with the value when present, otherwise {@link
+   *     Option#none()}
+   * @throws NullPointerException if {@code key} is {@code null}
+   */
+  public @NonNull Option<V> get(@NonNull K key) {
+    Objects.requireNonNull(key, "key");
+    final var value = root.find(key, comparator);
+    if (value == BPlusTree.NOT_FOUND) {
+      return Option.none();
+    }
+    @SuppressWarnings("unchecked")
+    final var casted = (V) value;
+    return Option.some(casted);
+  }
+
+  /**
+   * Returns the value mapped to the key or a fallback when absent.
+   *
+   * @param key key to look up
+   * @param fallback fallback value to use when the key is absent
+   * @return mapped value or fallback
+   * @throws NullPointerException if {@code key} is {@code null}
+   */
+  public @Nullable V getOrElse(@NonNull K key, @Nullable V fallback) {
+    Objects.requireNonNull(key, "key");
+    final var value = root.find(key, comparator);
+    if (value == BPlusTree.NOT_FOUND) {
+      return fallback;
+    }
+    @SuppressWarnings("unchecked")
+    final var casted = (V) value;
+    return casted;
+  }
+
+  /**
+   * Returns true if the map contains the key.
+   *
+   * @param key key to look up
+   * @return true if the key is present
+   * @throws NullPointerException if {@code key} is {@code null}
+   */
+  public boolean containsKey(@NonNull K key) {
+    Objects.requireNonNull(key, "key");
+    return root.find(key, comparator) != BPlusTree.NOT_FOUND;
+  }
+
+  /**
+   * Returns a map with the key mapped to the value.
+   *
+   * @param key key to insert or replace
+   * @param value value to map the key to
+   * @return updated map, or this map when the key is already mapped to the same value instance
+   * @throws NullPointerException if {@code key} is {@code null}
+   */
+  public @NonNull ImmutableSortedMap<K, V> put(@NonNull K key, @Nullable V value) {
+    Objects.requireNonNull(key, "key");
+    final var updated = BPlusTree.put(root, key, value, comparator);
+    if (updated == root) {
+      return this;
+    }
+    return new ImmutableSortedMap<>(updated, comparator);
+  }
+
+  /**
+   * Returns a map without the key.
+   *
+   * @param key key to remove
+   * @return updated map, or this map when the key is absent
+   * @throws NullPointerException if {@code key} is {@code null}
+   */
+  public @NonNull ImmutableSortedMap<K, V> remove(@NonNull K key) {
+    Objects.requireNonNull(key, "key");
+    final var updated = BPlusTree.remove(root, key, comparator);
+    if (updated == root) {
+      return this;
+    }
+    return new ImmutableSortedMap<>(updated, comparator);
+  }
+
+  /**
+   * Returns the entry with the smallest key.
+   *
+   * @return {@link Option#some(Object)} with the first entry, or {@link Option#none()} when empty
+   */
+  public @NonNull Option<Map.@NonNull Entry<K, V>> firstEntry() {
+    return entryAt(0);
+  }
+
+  /**
+   * Returns the entry with the largest key.
+   *
+   * @return {@link Option#some(Object)} with the last entry, or {@link Option#none()} when empty
+   */
+  public @NonNull Option<Map.@NonNull Entry<K, V>> lastEntry() {
+    return entryAt(size() - 1);
+  }
+
+  /**
+   * Returns the entry with the largest key that is less than or equal to {@code key}.
+   *
+   * @param key key to compare with
+   * @return {@link Option#some(Object)} with the matching entry, or {@link Option#none()} when
+   *     every key is greater
+   * @throws NullPointerException if {@code key} is {@code null}
+   */
+  public @NonNull Option<Map.@NonNull Entry<K, V>> floor(@NonNull K key) {
+    Objects.requireNonNull(key, "key");
+    return entryAt(BPlusTree.rank(root, key, true, comparator) - 1);
+  }
+
+  /**
+   * Returns the entry with the smallest key that is greater than or equal to {@code key}.
+   *
+   * @param key key to compare with
+   * @return {@link Option#some(Object)} with the matching entry, or {@link Option#none()} when
+   *     every key is less
+   * @throws NullPointerException if {@code key} is {@code null}
+   */
+  public @NonNull Option<Map.@NonNull Entry<K, V>> ceiling(@NonNull K key) {
+    Objects.requireNonNull(key, "key");
+    return entryAt(BPlusTree.rank(root, key, false, comparator));
+  }
+
+  /**
+   * Returns the entries whose keys lie between {@code fromKey}, inclusive, and {@code toKey},
+   * exclusive, in key order.
+   *
+   * @param fromKey lower bound, inclusive
+   * @param toKey upper bound, exclusive
+   * @return immutable list of immutable entries; empty when {@code fromKey} is not less than {@code
+   *     toKey}
+   * @throws NullPointerException if {@code fromKey} or {@code toKey} is {@code null}
+   */
+  public @NonNull ImmutableList<Map.@NonNull Entry<K, V>> range(
+      @NonNull K fromKey, @NonNull K toKey) {
+    final var cursor = rangeCursor(fromKey, toKey);
+    final var builder = ImmutableList.<Map.@NonNull Entry<K, V>>builder(cursor.remaining());
+    cursor.forEachRemaining(builder::add);
+    return builder.build();
+  }
+
+  /**
+   * Returns a lazy stream of the entries whose keys lie between {@code fromKey}, inclusive, and
+   * {@code toKey}, exclusive, in key order.
+   *
+   * <p>Both bounds are located when this method is called; entries are produced one leaf at a time
+   * while the stream is consumed, so short-circuiting operations stop the walk early.
+   *
+   * @param fromKey lower bound, inclusive
+   * @param toKey upper bound, exclusive
+   * @return sized, ordered stream of immutable entries
+   * @throws NullPointerException if {@code fromKey} or {@code toKey} is {@code null}
+   */
+  public @NonNull Stream<Map.@NonNull Entry<K, V>> rangeStream(
+      @NonNull K fromKey, @NonNull K toKey) {
+    final var cursor = rangeCursor(fromKey, toKey);
+    return StreamSupport.stream(
+        Spliterators.spliterator(
+            cursor,
+            cursor.remaining(),
+            Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL
+                | Spliterator.IMMUTABLE),
+        false);
+  }
+
+  /**
+   * Returns the keys in ascending order.
+   *
+   * @return immutable list of keys
+   */
+  public @NonNull ImmutableList<K> keys() {
+    final var builder = ImmutableList.<K>builder(size());
+    forEach((key, value) -> builder.add(key));
+    return builder.build();
+  }
+
+  /**
+   * Returns the values in ascending key order.
+   *
+   * @return immutable list of values
+   */
+  public @NonNull ImmutableList<V> values() {
+    final var builder = ImmutableList.<V>builder(size());
+    forEach((key, value) -> builder.add(value));
+    return builder.build();
+  }
+
+  /**
+   * Returns the entries in ascending key order.
+   *
+   * @return immutable list of immutable entries
+   */
+  public @NonNull ImmutableList<Map.@NonNull Entry<K, V>> toList() {
+    final var builder = ImmutableList.<Map.@NonNull Entry<K, V>>builder(size());
+    forEach((key, value) -> builder.add(new AbstractMap.SimpleImmutableEntry<>(key, value)));
+    return builder.build();
+  }
+
+  /**
+   * Applies the action to every entry in ascending key order without allocating entry objects.
+   *
+   * @param action action to apply
+   * @throws NullPointerException if {@code action} is {@code null}
+   */
+  public void forEach(@NonNull BiConsumer<? super K, ? super @Nullable V> action) {
+    Objects.requireNonNull(action, "action");
+    @SuppressWarnings("unchecked")
+    final var untyped = (BiConsumer<@NonNull Object, @Nullable Object>) action;
+    BPlusTree.forEach(root, untyped);
+  }
+
+  @Override
+  public @NonNull Iterator<Map.@NonNull Entry<K, V>> iterator() {
+    return new EntryCursor<>(root, 0, size());
+  }
+
+  /**
+   * Returns true if the other object is an {@link ImmutableSortedMap} with equal entries in the
+   * same order.
+   *
+   * @param other object to compare with
+   * @return true if both maps hold equal keys and values in the same order
+   */
+  @Override
+  public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
+    if (!(other instanceof ImmutableSortedMap<?, ?> that) || size() != that.size()) {
+      return false;
+    }
+    if (root == that.root) {
+      return true;
+    }
+    final var mine = iterator();
+    final var theirs = that.iterator();
+    while (mine.hasNext()) {
+      if (!mine.next().equals(theirs.next())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public int hashCode() {
+    final var hash = new int[1];
+    forEach((key, value) -> hash[0] += Objects.hashCode(key) ^ Objects.hashCode(value));
+    return hash[0];
+  }
+
+  @Override
+  public String toString() {
+    final var builder = new StringBuilder("ImmutableSortedMap{");
+    forEach(
+        (key, value) -> {
+          if (builder.length() > "ImmutableSortedMap{".length()) {
+            builder.append(", ");
+          }
+          builder.append(key).append('=').append(value);
+        });
+    return builder.append('}').toString();
+  }
+
+  private @NonNull Option<Map.@NonNull Entry<K, V>> entryAt(int rank) {
+    if (rank < 0 || rank >= size()) {
+      return Option.none();
+    }
+    final var position = BPlusTree.at(root, rank);
+    @SuppressWarnings("unchecked")
+    final Map.@NonNull Entry<K, V> entry =
+        new AbstractMap.SimpleImmutableEntry<>(
+            (K) position.leaf().keys[position.index()],
+            (V) position.leaf().values[position.index()]);
+    return Option.some(entry);
+  }
+
+  private @NonNull EntryCursor<K, V> rangeCursor(@NonNull K fromKey, @NonNull K toKey) {
+    Objects.requireNonNull(fromKey, "fromKey");
+    Objects.requireNonNull(toKey, "toKey");
+    final var from = BPlusTree.rank(root, fromKey, false, comparator);
+    final var to = BPlusTree.rank(root, toKey, false, comparator);
+    return new EntryCursor<>(root, from, to);
+  }
+
+  private static <K> @NonNull Comparator<Object> untyped(@NonNull Comparator<? super K> order) {
+    @SuppressWarnings("unchecked")
+    final var casted = (Comparator<Object>) order;
+    return casted;
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static @NonNull Comparator<Object> naturalOrder() {
+    return (Comparator) Comparator.naturalOrder();
+  }
+
+  /**
+   * Cursor producing immutable entries and reporting how many are left.
+   *
+   * @param <K> key type
+   * @param <V> value type
+   */
+  private static final class EntryCursor<K, V>
+      extends BPlusTree.Cursor<Map.@NonNull Entry<K, V>> {
+    private EntryCursor(BPlusTree.@NonNull Node root, int from, int to) {
+      super(root, from, to);
+    }
+
+    @Override
+    Map.@NonNull Entry<K, V> element(@NonNull Object key, @Nullable Object value) {
+      @SuppressWarnings("unchecked")
+      final var entry = new AbstractMap.SimpleImmutableEntry<>((K) key, (V) value);
+      return entry;
+    }
+  }
+}
@@ -0,0 +1,11 @@
+package babysteps.core;
+
+/**
+ * Folds one element into a primitive {@code int} accumulator without boxing.
+ *
+ * @param <T> element type
+ */
+@FunctionalInterface
+public interface IntFolder<T> {
+  int apply(int accumulator, T value);
+}
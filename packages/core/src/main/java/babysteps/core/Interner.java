@@ -0,0 +1,118 @@
+package babysteps.core;
+
+import java.lang.ref.WeakReference;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Thread-safe pool of canonical instances for immutable values.
+ *
+ * <p>{@link #intern(Object)} returns one shared instance for every group of values that are equal
+ * by {@link Object#equals(Object)}, so that millions of structurally identical {@link
+ * ImmutableList}s, {@link NonEmptyList}s or tuples can be collapsed into a single copy. Only values
+ * whose {@code equals} and {@code hashCode} depend on their contents and never change should be
+ * interned.
+ *
+ * <p>The pool holds its instances weakly: a canonical instance that is no longer referenced
+ * elsewhere is reclaimed by the garbage collector and dropped from the pool, so interning never
+ * keeps data alive on its own.
+ *
+ * <p>Technical background: instances are spread over a power-of-two number of stripes by hash
+ * code. Each stripe is a {@link WeakHashMap} from the canonical instance to a weak reference to
+ * itself and is guarded by its own lock, so threads interning values that land in different
+ * stripes never contend.
+ *
+ * <p>Sample usage:
+ *
+ * <pre>{@code
+ * Interner<ImmutableList<String>> tags = Interner.weak();
+ * ImmutableList<String> canonical = tags.intern(ImmutableList.fromList(parsedTags));
+ * }</pre>
+ *
+ * @param <T> type of the interned values
+ */
+public final class Interner<T> {
+  private final @NonNull WeakHashMap<T, WeakReference<T>> @NonNull [] stripes;
+
+  private Interner(int stripeCount) {
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    final WeakHashMap<T, WeakReference<T>>[] created = new WeakHashMap[stripeCount];
+    for (int index = 0; index < stripeCount; index++) {
+      created[index] = new WeakHashMap<>();
+    }
+    this.stripes = created;
+  }
+
+  /**
+   * Creates a weak interner with a stripe count suited to the number of available processors.
+   *
+   * @param <T> type of the interned values
+   * @return new empty interner
+   */
+  public static <T> @NonNull Interner<T> weak() {
+    return weak(4 * Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * Creates a weak interner that supports roughly {@code concurrencyLevel} threads interning at
+   * the same time without contention.
+   *
+   * @param concurrencyLevel expected number of concurrently interning threads; rounded up to a
+   *     power of two
+   * @param <T> type of the interned values
+   * @return new empty interner
+   * @throws IllegalArgumentException if {@code concurrencyLevel} is not positive
+   */
+  public static <T> @NonNull Interner<T> weak(int concurrencyLevel) {
+    if (concurrencyLevel <= 0) {
+      throw new IllegalArgumentException("concurrencyLevel must be positive");
+    }
+    final var stripeCount = Integer.highestOneBit(Math.min(concurrencyLevel, 1 << 16) * 2 - 1);
+    return new Interner<>(stripeCount);
+  }
+
+  /**
+   * Returns the canonical instance equal to {@code value}, registering {@code value} as canonical
+   * when no equal instance is pooled.
+   *
+   * @param value value to intern
+   * @return pooled instance equal to {@code value}
+   * @throws NullPointerException if {@code value} is {@code null}
+   */
+  public @NonNull T intern(@NonNull T value) {
+    Objects.requireNonNull(value, "value");
+    final var stripe = stripes[stripeIndex(value.hashCode())];
+    synchronized (stripe) {
+      final var existing = stripe.get(value);
+      final var canonical = existing == null ? null : existing.get();
+      if (canonical != null) {
+        return canonical;
+      }
+      stripe.put(value, new WeakReference<>(value));
+      return value;
+    }
+  }
+
+  /**
+   * Returns the number of pooled instances that have not been reclaimed yet.
+   *
+   * <p>The count is a snapshot: instances may be reclaimed or added concurrently.
+   *
+   * @return number of live canonical instances
+   */
+  public int size() {
+    var size = 0;
+    for (final var stripe : stripes) {
+      synchronized (stripe) {
+        size += stripe.size();
+      }
+    }
+    return size;
+  }
+
+  private int stripeIndex(int hash) {
+    final var spread = hash ^ (hash >>> 16);
+    return spread & (stripes.length - 1);
+  }
+}
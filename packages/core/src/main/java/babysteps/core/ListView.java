@@ -0,0 +1,281 @@
+package babysteps.core;
+
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Lazy, fused pipeline over an {@link ImmutableList}, created by {@link ImmutableList#view()}.
+ *
+ * <p>Technical background: every intermediate operation wraps the downstream consumer instead of
+ * producing a list. When a terminal operation runs, the source list pushes each element through
+ * the composed stages in a single loop. Stages may signal that they need no further input, which
+ * lets {@link #take(int)}, {@link #takeWhile(Predicate)} and {@link #headOption()} stop the
+ * traversal early.
+ *
+ * <p>Views hold no elements and are immutable; each terminal operation re-runs the pipeline against
+ * the source list. Functions passed to a view are invoked only while a terminal operation runs.
+ *
+ * <p>Sample usage:
+ *
+ * <pre>{@code
+ * ImmutableList<String> firstTenActiveNames = users.view()
+ *     .filter(User::active)
+ *     .map(User::name)
+ *     .take(10)
+ *     .toImmutableList();
+ * }</pre>
+ *
+ * @param <T> element type, possibly nullable
+ */
+public final class ListView<T> {
+  private final @NonNull Stage<T> stage;
+
+  private ListView(@NonNull Stage<T> stage) {
+    this.stage = stage;
+  }
+
+  /**
+   * Creates a view whose source is the given list.
+   *
+   * @param source source list
+   * @param <T> element type
+   * @return view over the source list
+   */
+  static <T> @NonNull ListView<T> of(@NonNull ImmutableList<T> source) {
+    return new ListView<>(sink -> source.forEachWhile(sink::accept));
+  }
+
+  /**
+   * Keeps only the elements that match the predicate.
+   *
+   * @param predicate filter predicate
+   * @return view of matching elements
+   * @throws NullPointerException if {@code predicate} is {@code null}
+   */
+  public @NonNull ListView<T> filter(@NonNull Predicate<? super @Nullable T> predicate) {
+    Objects.requireNonNull(predicate, "predicate");
+    return new ListView<>(
+        sink -> stage.run(value -> !predicate.test(value) || sink.accept(value)));
+  }
+
+  /**
+   * Maps each element to another value.
+   *
+   * @param mapper mapper to apply
+   * @param <U> mapped element type
+   * @return view of mapped values
+   * @throws NullPointerException if {@code mapper} is {@code null}
+   */
+  public <U> @NonNull ListView<U> map(
+      @NonNull Function<? super @Nullable T, ? extends @Nullable U> mapper) {
+    Objects.requireNonNull(mapper, "mapper");
+    return new ListView<>(sink -> stage.run(value -> sink.accept(mapper.apply(value))));
+  }
+
+  /**
+   * Maps each element to an immutable list and flattens the results.
+   *
+   * @param mapper mapper to apply
+   * @param <U> mapped element type
+   * @return flattened view
+   * @throws NullPointerException if {@code mapper} is {@code null}; the terminal operation throws
+   *     if {@code mapper} returns {@code null}
+   */
+  public <U> @NonNull ListView<U> flatMap(
+      @NonNull Function<? super @Nullable T, ? extends ImmutableList<? extends @Nullable U>>
+          mapper) {
+    Objects.requireNonNull(mapper, "mapper");
+    return new ListView<>(
+        sink ->
+            stage.run(
+                value -> {
+                  final ImmutableList<? extends @Nullable U> mapped =
+                      Objects.requireNonNull(mapper.apply(value), "mapped");
+                  return mapped.forEachWhile(sink::accept);
+                }));
+  }
+
+  /**
+   * Limits the view to its first {@code count} elements.
+   *
+   * <p>The traversal stops as soon as {@code count} elements have been produced.
+   *
+   * @param count maximum number of elements
+   * @return view of at most {@code count} elements
+   */
+  public @NonNull ListView<T> take(int count) {
+    if (count <= 0) {
+      return new ListView<>(sink -> true);
+    }
+    return new ListView<>(
+        sink ->
+            stage.run(
+                new Sink<>() {
+                  private int remaining = count;
+
+                  @Override
+                  public boolean accept(@Nullable T value) {
+                    remaining--;
+                    return sink.accept(value) && remaining > 0;
+                  }
+                }));
+  }
+
+  /**
+   * Skips the first {@code count} elements.
+   *
+   * @param count number of elements to skip
+   * @return view without the first {@code count} elements
+   */
+  public @NonNull ListView<T> drop(int count) {
+    if (count <= 0) {
+      return this;
+    }
+    return new ListView<>(
+        sink ->
+            stage.run(
+                new Sink<>() {
+                  private int remaining = count;
+
+                  @Override
+                  public boolean accept(@Nullable T value) {
+                    if (remaining > 0) {
+                      remaining--;
+                      return true;
+                    }
+                    return sink.accept(value);
+                  }
+                }));
+  }
+
+  /**
+   * Produces elements while the predicate holds and stops at the first mismatch.
+   *
+   * @param predicate predicate to apply
+   * @return view of the matching prefix
+   * @throws NullPointerException if {@code predicate} is {@code null}
+   */
+  public @NonNull ListView<T> takeWhile(@NonNull Predicate<? super @Nullable T> predicate) {
+    Objects.requireNonNull(predicate, "predicate");
+    return new ListView<>(
+        sink -> stage.run(value -> predicate.test(value) && sink.accept(value)));
+  }
+
+  /**
+   * Runs the pipeline and collects the produced elements.
+   *
+   * @return immutable list of the produced elements
+   */
+  public @NonNull ImmutableList<T> toImmutableList() {
+    final var builder = ImmutableList.<T>builder();
+    stage.run(
+        value -> {
+          builder.add(value);
+          return true;
+        });
+    return builder.build();
+  }
+
+  /**
+   * Runs the pipeline and folds the produced elements left-to-right.
+   *
+   * @param initial initial accumulator value, possibly {@code null}
+   * @param folder folding function
+   * @param <U> accumulator type
+   * @return folded result
+   * @throws NullPointerException if {@code folder} is {@code null}
+   */
+  public <U> @Nullable U fold(
+      @Nullable U initial,
+      @NonNull BiFunction<? super @Nullable U, ? super @Nullable T, ? extends U> folder) {
+    Objects.requireNonNull(folder, "folder");
+    final var sink =
+        new Sink<T>() {
+          private @Nullable U accumulator = initial;
+
+          @Override
+          public boolean accept(@Nullable T value) {
+            accumulator = folder.apply(accumulator, value);
+            return true;
+          }
+        };
+    stage.run(sink);
+    return sink.accumulator;
+  }
+
+  /**
+   * Runs the pipeline until the first element is produced.
+   *
+   * @return {@link Option#some(Object)} with the first element, otherwise {@link Option#none()}
+   */
+  public @NonNull Option<T> headOption() {
+    final var sink =
+        new Sink<T>() {
+          private @NonNull Option<T> head = Option.none();
+
+          @Override
+          public boolean accept(@Nullable T value) {
+            head = Option.some(value);
+            return false;
+          }
+        };
+    stage.run(sink);
+    return sink.head;
+  }
+
+  /**
+   * Runs the pipeline and counts the produced elements.
+   *
+   * @return number of produced elements
+   */
+  public int count() {
+    final var sink =
+        new Sink<T>() {
+          private int count;
+
+          @Override
+          public boolean accept(@Nullable T value) {
+            count++;
+            return true;
+          }
+        };
+    stage.run(sink);
+    return sink.count;
+  }
+
+  /**
+   * Downstream consumer of a pipeline stage.
+   *
+   * @param <T> accepted element type
+   */
+  @FunctionalInterface
+  private interface Sink<T> {
+    /**
+     * Accepts an element.
+     *
+     * @param value element, possibly {@code null}
+     * @return {@code false} when no further elements are needed
+     */
+    boolean accept(@Nullable T value);
+  }
+
+  /**
+   * Pushes the elements of a view into a sink.
+   *
+   * @param <T> produced element type
+   */
+  @FunctionalInterface
+  private interface Stage<T> {
+    /**
+     * Runs the stage.
+     *
+     * @param sink downstream consumer
+     * @return {@code false} when the sink stopped the traversal early
+     */
+    boolean run(@NonNull Sink<? super T> sink);
+  }
+}
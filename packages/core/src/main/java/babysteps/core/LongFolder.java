@@ -0,0 +1,11 @@
+package babysteps.core;
+
+/**
+ * Folds one element into a primitive {@code long} accumulator without boxing.
+ *
+ * @param <T> element type
+ */
+@FunctionalInterface
+public interface LongFolder<T> {
+  long apply(long accumulator, T value);
+}
@@ -1,13 +1,15 @@
 package babysteps.core;
 
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
+import java.util.Spliterator;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
 
@@ -20,17 +22,20 @@ import org.jspecify.annotations.Nullable;
  * <p>Construction APIs return an {@link Option} to avoid throwing for empty inputs. All list views
  * returned by this class are unmodifiable.
  *
+ * <p>Elements are stored in an {@link ImmutableList}, so appends, prepends and conversions to and
+ * from {@link ImmutableList} share storage instead of copying it.
+ *
  * @param <T> element type, possibly nullable
  */
 public final class NonEmptyList<T> implements Iterable<@Nullable T> {
-  private final @NonNull List<@Nullable T> values;
+  private final @NonNull ImmutableList<T> values;
 
-  private NonEmptyList(@NonNull List<@Nullable T> values, boolean alreadyOwned) {
+  private NonEmptyList(@NonNull ImmutableList<T> values) {
     Objects.requireNonNull(values, "values");
     if (values.isEmpty()) {
       throw new IllegalArgumentException("NonEmptyList requires at least one element");
     }
-    this.values = alreadyOwned ? Collections.unmodifiableList(values) : unmodifiableCopy(values);
+    this.values = values;
   }
 
   /**
@@ -45,10 +50,11 @@ public final class NonEmptyList<T> implements Iterable<@Nullable T> {
   @SafeVarargs
   public static <T> @NonNull NonEmptyList<T> of(@Nullable T first, @NonNull T... rest) {
     Objects.requireNonNull(rest, "rest");
-    final var list = new ArrayList<@Nullable T>(rest.length + 1);
-    list.add(first);
-    Collections.addAll(list, rest);
-    return new NonEmptyList<>(list, true);
+    final var builder = builder(first);
+    for (final var value : rest) {
+      builder.add(value);
+    }
+    return builder.build();
   }
 
   /**
@@ -62,11 +68,7 @@ public final class NonEmptyList<T> implements Iterable<@Nullable T> {
   public static <T> @NonNull Option<NonEmptyList<T>> fromList(
       @NonNull List<? extends @Nullable T> values) {
     Objects.requireNonNull(values, "values");
-    if (values.isEmpty()) {
-      return Option.none();
-    }
-    final var copy = new ArrayList<@Nullable T>(values);
-    return Option.some(new NonEmptyList<>(copy, true));
+    return ImmutableList.<T>fromList(values).toNonEmptyList();
   }
 
   /**
@@ -80,15 +82,32 @@ public final class NonEmptyList<T> implements Iterable<@Nullable T> {
   public static <T> @NonNull Option<NonEmptyList<T>> fromIterable(
       @NonNull Iterable<? extends @Nullable T> values) {
     Objects.requireNonNull(values, "values");
-    final var iterator = values.iterator();
-    if (!iterator.hasNext()) {
-      return Option.none();
-    }
-    final var list = new ArrayList<@Nullable T>();
-    while (iterator.hasNext()) {
-      list.add(iterator.next());
-    }
-    return Option.some(new NonEmptyList<>(list, true));
+    return ImmutableList.<T>fromIterable(values).toNonEmptyList();
+  }
+
+  /**
+   * Returns a new {@link Builder} whose list starts with {@code first}.
+   *
+   * <p>Because the head is supplied up front, {@link Builder#build()} can return a {@link
+   * NonEmptyList} directly instead of an {@link Option}.
+   *
+   * @param first first element, possibly {@code null}
+   * @param <T> element type
+   * @return builder containing the first element
+   */
+  public static <T> @NonNull Builder<T> builder(@Nullable T first) {
+    return new Builder<>(first);
+  }
+
+  /**
+   * Wraps a list that the caller has already checked to be non-empty.
+   *
+   * @param values non-empty immutable list
+   * @param <T> element type
+   * @return non-empty list sharing the storage of {@code values}
+   */
+  static <T> @NonNull NonEmptyList<T> fromNonEmpty(@NonNull ImmutableList<T> values) {
+    return new NonEmptyList<>(values);
   }
 
   /**
@@ -97,7 +116,7 @@ public final class NonEmptyList<T> implements Iterable<@Nullable T> {
    * @return the first element, possibly {@code null}
    */
   public @Nullable T head() {
-    return values.get(0);
+    return values.getOrElse(0, null);
   }
 
   /**
@@ -106,10 +125,7 @@ public final class NonEmptyList<T> implements Iterable<@Nullable T> {
    * @return unmodifiable list of tail elements
    */
   public @NonNull List<@Nullable T> tail() {
-    if (values.size() == 1) {
-      return Collections.emptyList();
-    }
-    return values.subList(1, values.size());
+    return values.tail().toList();
   }
 
   /**
@@ -127,9 +143,43 @@ public final class NonEmptyList<T> implements Iterable<@Nullable T> {
    * @return unmodifiable list of elements
    */
   public @NonNull List<@Nullable T> toList() {
+    return values.toList();
+  }
+
+  /**
+   * Returns this list as an {@link ImmutableList} sharing the same storage.
+   *
+   * @return immutable list of elements
+   */
+  public @NonNull ImmutableList<T> toImmutableList() {
     return values;
   }
 
+  /**
+   * Returns an editable transient that starts with this list's elements.
+   *
+   * @return new transient list
+   * @see ImmutableList#asTransient()
+   */
+  public @NonNull TransientList<T> asTransient() {
+    return values.asTransient();
+  }
+
+  /**
+   * Applies a batch of edits to a transient copy of this list and returns the result.
+   *
+   * <p>Transients only grow or replace elements, so the result is never empty.
+   *
+   * @param mutations edits to apply
+   * @return non-empty list with the edits applied
+   * @throws NullPointerException if {@code mutations} is {@code null}
+   * @see ImmutableList#withMutations(Consumer)
+   */
+  public @NonNull NonEmptyList<T> withMutations(
+      @NonNull Consumer<? super TransientList<T>> mutations) {
+    return new NonEmptyList<>(values.withMutations(mutations));
+  }
+
   /**
    * Appends a value to the end of this list.
    *
@@ -137,10 +187,7 @@ public final class NonEmptyList<T> implements Iterable<@Nullable T> {
    * @return new non-empty list with the appended value
    */
   public @NonNull NonEmptyList<T> append(@Nullable T value) {
-    final var list = new ArrayList<@Nullable T>(values.size() + 1);
-    list.addAll(values);
-    list.add(value);
-    return new NonEmptyList<>(list, true);
+    return new NonEmptyList<>(values.append(value));
   }
 
   /**
@@ -150,10 +197,7 @@ public final class NonEmptyList<T> implements Iterable<@Nullable T> {
    * @return new non-empty list with the prepended value
    */
   public @NonNull NonEmptyList<T> prepend(@Nullable T value) {
-    final var list = new ArrayList<@Nullable T>(values.size() + 1);
-    list.add(value);
-    list.addAll(values);
-    return new NonEmptyList<>(list, true);
+    return new NonEmptyList<>(values.prepend(value));
   }
 
   /**
@@ -165,12 +209,7 @@ public final class NonEmptyList<T> implements Iterable<@Nullable T> {
    */
   public @NonNull NonEmptyList<T> concat(@NonNull NonEmptyList<? extends T> other) {
     Objects.requireNonNull(other, "other");
-    final var list = new ArrayList<@Nullable T>(values.size() + other.size());
-    list.addAll(values);
-    for (final var value : other) {
-      list.add(value);
-    }
-    return new NonEmptyList<>(list, true);
+    return new NonEmptyList<>(values.concat(other.values));
   }
 
   /**
@@ -184,11 +223,7 @@ public final class NonEmptyList<T> implements Iterable<@Nullable T> {
   public <U> @NonNull NonEmptyList<U> map(
       @NonNull Function<? super @Nullable T, ? extends @Nullable U> mapper) {
     Objects.requireNonNull(mapper, "mapper");
-    final var list = new ArrayList<@Nullable U>(values.size());
-    for (final var value : values) {
-      list.add(mapper.apply(value));
-    }
-    return new NonEmptyList<>(list, true);
+    return new NonEmptyList<>(values.map(mapper));
   }
 
   /**
@@ -203,14 +238,9 @@ public final class NonEmptyList<T> implements Iterable<@Nullable T> {
       @NonNull Function<? super @Nullable T, ? extends NonEmptyList<? extends @Nullable U>>
           mapper) {
     Objects.requireNonNull(mapper, "mapper");
-    final var list = new ArrayList<@Nullable U>();
-    for (final var value : values) {
-      final var mapped = Objects.requireNonNull(mapper.apply(value), "mapped");
-      for (final var inner : mapped) {
-        list.add(inner);
-      }
-    }
-    return new NonEmptyList<>(list, true);
+    return new NonEmptyList<>(
+        values.flatMap(
+            value -> Objects.requireNonNull(mapper.apply(value), "mapped").toImmutableList()));
   }
 
   /**
@@ -225,12 +255,91 @@ public final class NonEmptyList<T> implements Iterable<@Nullable T> {
   public <U> @Nullable U fold(
       @Nullable U initial,
       @NonNull BiFunction<? super @Nullable U, ? super @Nullable T, ? extends U> folder) {
-    Objects.requireNonNull(folder, "folder");
-    final var accumulator = new java.util.concurrent.atomic.AtomicReference<@Nullable U>(initial);
-    for (final var value : values) {
-      accumulator.set(folder.apply(accumulator.get(), value));
-    }
-    return accumulator.get();
+    return values.fold(initial, folder);
+  }
+
+  /**
+   * Folds the list left-to-right while the accumulator satisfies {@code condition}.
+   *
+   * <p>{@code condition} is checked before each element, so the fold stops as soon as the
+   * accumulator no longer satisfies it and the remaining elements are never visited.
+   *
+   * @param initial initial accumulator value, possibly {@code null}
+   * @param condition predicate the accumulator must satisfy to fold the next element
+   * @param folder folding function
+   * @param <U> accumulator type
+   * @return accumulator after the last folded element
+   * @throws NullPointerException if {@code condition} or {@code folder} is {@code null}
+   */
+  public <U> @Nullable U foldWhile(
+      @Nullable U initial,
+      @NonNull Predicate<? super @Nullable U> condition,
+      @NonNull BiFunction<? super @Nullable U, ? super @Nullable T, ? extends U> folder) {
+    return values.foldWhile(initial, condition, folder);
+  }
+
+  /**
+   * Folds the list into a single value by applying {@code folder} right-to-left.
+   *
+   * @param initial initial accumulator value, possibly {@code null}
+   * @param folder folding function receiving the element and the accumulator
+   * @param <U> accumulator type
+   * @return folded result
+   * @throws NullPointerException if {@code folder} is {@code null}
+   */
+  public <U> @Nullable U foldRight(
+      @Nullable U initial,
+      @NonNull BiFunction<? super @Nullable T, ? super @Nullable U, ? extends U> folder) {
+    return values.foldRight(initial, folder);
+  }
+
+  /**
+   * Folds the list left-to-right into an {@code int} without boxing the accumulator.
+   *
+   * @param initial initial accumulator value
+   * @param folder folding function
+   * @return folded result
+   * @throws NullPointerException if {@code folder} is {@code null}
+   */
+  public int foldInt(int initial, @NonNull IntFolder<? super @Nullable T> folder) {
+    return values.foldInt(initial, folder);
+  }
+
+  /**
+   * Folds the list left-to-right into a {@code long} without boxing the accumulator.
+   *
+   * @param initial initial accumulator value
+   * @param folder folding function
+   * @return folded result
+   * @throws NullPointerException if {@code folder} is {@code null}
+   */
+  public long foldLong(long initial, @NonNull LongFolder<? super @Nullable T> folder) {
+    return values.foldLong(initial, folder);
+  }
+
+  /**
+   * Folds the list left-to-right into a {@code double} without boxing the accumulator.
+   *
+   * @param initial initial accumulator value
+   * @param folder folding function
+   * @return folded result
+   * @throws NullPointerException if {@code folder} is {@code null}
+   */
+  public double foldDouble(double initial, @NonNull DoubleFolder<? super @Nullable T> folder) {
+    return values.foldDouble(initial, folder);
+  }
+
+  /**
+   * Sums a numeric key of every element; the sum wraps around on {@code long} overflow.
+   *
+   * <p>{@code int}-valued extractors such as {@code String::length} can be passed directly.
+   *
+   * @param mapper key extractor
+   * @return sum of the keys
+   * @throws NullPointerException if {@code mapper} is {@code null}
+   */
+  public long sumBy(@NonNull ToLongFunction<? super @Nullable T> mapper) {
+    return values.sumBy(mapper);
   }
 
   @Override
@@ -238,6 +347,47 @@ public final class NonEmptyList<T> implements Iterable<@Nullable T> {
     return values.iterator();
   }
 
+  /**
+   * Returns a sized, ordered and immutable spliterator over the elements.
+   *
+   * @return spliterator over the elements
+   * @see ImmutableList#spliterator()
+   */
+  @Override
+  public @NonNull Spliterator<@Nullable T> spliterator() {
+    return values.spliterator();
+  }
+
+  /**
+   * Performs the action for each element in order without allocating an iterator.
+   *
+   * @param action action to apply
+   * @throws NullPointerException if {@code action} is {@code null}
+   */
+  @Override
+  public void forEach(@NonNull Consumer<? super @Nullable T> action) {
+    values.forEach(action);
+  }
+
+  /**
+   * Returns a sequential {@link Stream} over the elements.
+   *
+   * @return stream of elements
+   */
+  public @NonNull Stream<@Nullable T> stream() {
+    return values.stream();
+  }
+
+  /**
+   * Returns a possibly parallel {@link Stream} over the elements.
+   *
+   * @return parallel stream of elements
+   * @see ImmutableList#parallelStream()
+   */
+  public @NonNull Stream<@Nullable T> parallelStream() {
+    return values.parallelStream();
+  }
+
   @Override
   public boolean equals(Object other) {
     if (this == other) {
@@ -249,6 +399,13 @@ public final class NonEmptyList<T> implements Iterable<@Nullable T> {
     return values.equals(that.values);
   }
 
+  /**
+   * Returns the hash code defined by {@link List#hashCode()}.
+   *
+   * <p>Delegates to the underlying {@link ImmutableList}, which caches the value after first use.
+   *
+   * @return hash code of the elements
+   */
   @Override
   public int hashCode() {
     return values.hashCode();
@@ -256,11 +413,54 @@ public final class NonEmptyList<T> implements Iterable<@Nullable T> {
 
   @Override
   public String toString() {
-    return "NonEmptyList" + values;
+    return "NonEmptyList" + values.toList();
   }
 
-  private static <T> @NonNull List<@Nullable T> unmodifiableCopy(
-      @NonNull Collection<? extends @Nullable T> values) {
-    return Collections.unmodifiableList(new ArrayList<>(values));
+  /**
+   * Mutable builder that creates a {@link NonEmptyList} without intermediate copies.
+   *
+   * <p>The builder always holds at least the first element supplied to {@link
+   * NonEmptyList#builder(Object)}. Builders are not thread-safe.
+   *
+   * @param <T> element type, possibly nullable
+   */
+  public static final class Builder<T> {
+    private final ImmutableList.@NonNull Builder<T> delegate = ImmutableList.builder();
+
+    private Builder(@Nullable T first) {
+      delegate.add(first);
+    }
+
+    /**
+     * Adds a value to the end of the list being built.
+     *
+     * @param value value to add, possibly {@code null}
+     * @return this builder
+     */
+    public @NonNull Builder<T> add(@Nullable T value) {
+      delegate.add(value);
+      return this;
+    }
+
+    /**
+     * Adds all values of an iterable in iteration order.
+     *
+     * @param values values to add
+     * @return this builder
+     * @throws NullPointerException if {@code values} is {@code null}
+     */
+    public @NonNull Builder<T> addAll(@NonNull Iterable<? extends @Nullable T> values) {
+      delegate.addAll(values);
+      return this;
+    }
+
+    /**
+     * Returns a {@link NonEmptyList} of the values added so far.
+     *
+     * @return non-empty list in insertion order
+     */
+    public @NonNull NonEmptyList<T> build() {
+      return new NonEmptyList<>(delegate.build());
+    }
   }
 }
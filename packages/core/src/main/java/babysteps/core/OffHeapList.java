@@ -0,0 +1,466 @@
+package babysteps.core;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Immutable list of fixed-width records stored outside the Java heap.
+ *
+ * <p>Each element is encoded by a {@link FixedWidthCodec} into direct memory and decoded again
+ * whenever it is read. The garbage collector only sees a handful of buffer objects per list, no
+ * matter how many elements it holds, so very large reference datasets do not lengthen collection
+ * pauses. Reads allocate the decoded value; folds over primitive fields can avoid even that by
+ * using a codec that returns a reused or primitive-friendly value.
+ *
+ * <p>Technical background: records are packed back to back into little-endian direct {@link
+ * ByteBuffer} chunks. Every chunk holds a power-of-two number of records and at most 1 GiB, so an
+ * index is split into a chunk number and an offset with a shift and a mask, and no single
+ * allocation has to be contiguous across the whole list. The memory of a list is released by the
+ * buffers' cleaners once the list becomes unreachable.
+ *
+ * <p>Sample usage:
+ *
+ * <pre>{@code
+ * OffHeapList<Tick> ticks = OffHeapList.fromIterable(loadedTicks, TICK_CODEC);
+ * double total = ticks.foldDouble(0, (sum, tick) -> sum + tick.value());
+ * }</pre>
+ *
+ * @param <T> element type
+ */
+public final class OffHeapList<T> implements Iterable<T> {
+  private static final int MAX_CHUNK_BYTES = 1 << 30;
+  private static final int INITIAL_CHUNK_RECORDS = 1 << 10;
+
+  private final @NonNull ByteBuffer @NonNull [] chunks;
+  private final int chunkShift;
+  private final int size;
+  private final @NonNull FixedWidthCodec<T> codec;
+
+  OffHeapList(
+      @NonNull ByteBuffer @NonNull [] chunks,
+      int chunkShift,
+      int size,
+      @NonNull FixedWidthCodec<T> codec) {
+    this.chunks = chunks;
+    this.chunkShift = chunkShift;
+    this.size = size;
+    this.codec = codec;
+  }
+
+  /**
+   * Creates an empty list whose records use the codec's layout.
+   *
+   * @param codec record layout
+   * @param <T> element type
+   * @return empty list
+   * @throws NullPointerException if {@code codec} is {@code null}
+   * @throws IllegalArgumentException if the codec's record width is not in {@code [1, 2^30]}
+   */
+  public static <T> @NonNull OffHeapList<T> empty(@NonNull FixedWidthCodec<T> codec) {
+    return builder(codec).build();
+  }
+
+  /**
+   * Encodes the values off-heap in iteration order.
+   *
+   * @param values source iterable, such as an {@link ImmutableList}
+   * @param codec record layout
+   * @param <T> element type
+   * @return off-heap list of the values
+   * @throws NullPointerException if {@code values} or {@code codec} is {@code null}
+   * @throws IllegalArgumentException if the codec's record width is not in {@code [1, 2^30]}
+   */
+  public static <T> @NonNull OffHeapList<T> fromIterable(
+      @NonNull Iterable<? extends T> values, @NonNull FixedWidthCodec<T> codec) {
+    Objects.requireNonNull(values, "values");
+    final var builder = builder(codec);
+    for (final var value : values) {
+      builder.add(value);
+    }
+    return builder.build();
+  }
+
+  /**
+   * Creates a builder that encodes values off-heap as they are added.
+   *
+   * @param codec record layout
+   * @param <T> element type
+   * @return new empty builder
+   * @throws NullPointerException if {@code codec} is {@code null}
+   * @throws IllegalArgumentException if the codec's record width is not in {@code [1, 2^30]}
+   */
+  public static <T> @NonNull Builder<T> builder(@NonNull FixedWidthCodec<T> codec) {
+    Objects.requireNonNull(codec, "codec");
+    return new Builder<>(codec);
+  }
+
+  /**
+   * Returns the number of records a chunk holds for the given record width.
+   *
+   * @param byteSize record width in bytes
+   * @return base-two logarithm of the records per chunk
+   * @throws IllegalArgumentException if {@code byteSize} is not in {@code [1, 2^30]}
+   */
+  static int chunkShift(int byteSize) {
+    if (byteSize <= 0 || byteSize > MAX_CHUNK_BYTES) {
+      throw new IllegalArgumentException("byteSize must be between 1 and 2^30");
+    }
+    return 31 - Integer.numberOfLeadingZeros(MAX_CHUNK_BYTES / byteSize);
+  }
+
+  /**
+   * Returns the codec describing the record layout.
+   *
+   * @return record layout
+   */
+  public @NonNull FixedWidthCodec<T> codec() {
+    return codec;
+  }
+
+  /**
+   * Returns true if the list is empty.
+   *
+   * @return true when the list has no elements
+   */
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Returns the number of elements.
+   *
+   * @return size of the list
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Decodes the element at the given index as an {@link Option}.
+   *
+   * @param index index to read
+   * @return {@link Option#some(Object)} when the index is valid, otherwise {@link Option#none()}
+   */
+  public @NonNull Option<T> getOption(int index) {
+    if (index < 0 || index >= size) {
+      return Option.none();
+    }
+    return Option.some(read(index));
+  }
+
+  /**
+   * Decodes the element at the given index or returns a fallback when out of range.
+   *
+   * @param index index to read
+   * @param fallback fallback value to use when out of bounds
+   * @return element at index or fallback
+   */
+  public @Nullable T getOrElse(int index, @Nullable T fallback) {
+    if (index < 0 || index >= size) {
+      return fallback;
+    }
+    return read(index);
+  }
+
+  /**
+   * Maps each element and encodes the results off-heap with another codec.
+   *
+   * @param mapper mapper to apply
+   * @param codec record layout of the results
+   * @param <U> mapped element type
+   * @return off-heap list of mapped values
+   * @throws NullPointerException if {@code mapper} or {@code codec} is {@code null}
+   */
+  public <U> @NonNull OffHeapList<U> map(
+      @NonNull Function<? super T, ? extends U> mapper, @NonNull FixedWidthCodec<U> codec) {
+    Objects.requireNonNull(mapper, "mapper");
+    final var builder = builder(codec);
+    forEach(value -> builder.add(mapper.apply(value)));
+    return builder.build();
+  }
+
+  /**
+   * Filters elements using the provided predicate.
+   *
+   * @param predicate filter predicate
+   * @return off-heap list of the elements that match, with the same codec
+   * @throws NullPointerException if {@code predicate} is {@code null}
+   */
+  public @NonNull OffHeapList<T> filter(@NonNull Predicate<? super T> predicate) {
+    Objects.requireNonNull(predicate, "predicate");
+    final var builder = builder(codec);
+    forEach(
+        value -> {
+          if (predicate.test(value)) {
+            builder.add(value);
+          }
+        });
+    return builder.build();
+  }
+
+  /**
+   * Folds the list left-to-right.
+   *
+   * @param initial initial accumulator value, possibly {@code null}
+   * @param folder folding function
+   * @param <U> accumulator type
+   * @return folded result
+   * @throws NullPointerException if {@code folder} is {@code null}
+   */
+  public <U> @Nullable U fold(
+      @Nullable U initial,
+      @NonNull BiFunction<? super @Nullable U, ? super T, ? extends U> folder) {
+    Objects.requireNonNull(folder, "folder");
+    var accumulator = initial;
+    for (int index = 0; index < size; index++) {
+      accumulator = folder.apply(accumulator, read(index));
+    }
+    return accumulator;
+  }
+
+  /**
+   * Folds the list left-to-right into a {@code long} without boxing the accumulator.
+   *
+   * @param initial initial accumulator value
+   * @param folder folding function
+   * @return folded result
+   * @throws NullPointerException if {@code folder} is {@code null}
+   */
+  public long foldLong(long initial, @NonNull LongFolder<? super T> folder) {
+    Objects.requireNonNull(folder, "folder");
+    var accumulator = initial;
+    for (int index = 0; index < size; index++) {
+      accumulator = folder.apply(accumulator, read(index));
+    }
+    return accumulator;
+  }
+
+  /**
+   * Folds the list left-to-right into a {@code double} without boxing the accumulator.
+   *
+   * @param initial initial accumulator value
+   * @param folder folding function
+   * @return folded result
+   * @throws NullPointerException if {@code folder} is {@code null}
+   */
+  public double foldDouble(double initial, @NonNull DoubleFolder<? super T> folder) {
+    Objects.requireNonNull(folder, "folder");
+    var accumulator = initial;
+    for (int index = 0; index < size; index++) {
+      accumulator = folder.apply(accumulator, read(index));
+    }
+    return accumulator;
+  }
+
+  /**
+   * Returns a sequential {@link Stream} that decodes elements as they are consumed.
+   *
+   * @return stream of elements
+   */
+  public @NonNull Stream<T> stream() {
+    return StreamSupport.stream(spliterator(), false);
+  }
+
+  /**
+   * Returns a possibly parallel {@link Stream} that decodes elements as they are consumed.
+   *
+   * <p>The stream splits the index range into exactly sized halves, so every thread decodes its
+   * own contiguous run of records.
+   *
+   * @return parallel stream of elements
+   */
+  public @NonNull Stream<T> parallelStream() {
+    return StreamSupport.stream(spliterator(), true);
+  }
+
+  /**
+   * Decodes every element into an {@link ImmutableList} on the heap.
+   *
+   * @return immutable list of the elements
+   */
+  public @NonNull ImmutableList<T> toImmutableList() {
+    final var builder = ImmutableList.<T>builder(size);
+    forEach(builder::add);
+    return builder.build();
+  }
+
+  @Override
+  public void forEach(@NonNull Consumer<? super T> action) {
+    Objects.requireNonNull(action, "action");
+    for (int index = 0; index < size; index++) {
+      action.accept(read(index));
+    }
+  }
+
+  @Override
+  public @NonNull Iterator<T> iterator() {
+    return new Iterator<>() {
+      private int index;
+
+      @Override
+      public boolean hasNext() {
+        return index < size;
+      }
+
+      @Override
+      public T next() {
+        if (index >= size) {
+          throw new NoSuchElementException();
+        }
+        return read(index++);
+      }
+    };
+  }
+
+  @Override
+  public @NonNull Spliterator<T> spliterator() {
+    return new IndexSpliterator(0, size);
+  }
+
+  @Override
+  public String toString() {
+    return "OffHeapList(size=" + size + ", byteSize=" + codec.byteSize() + ")";
+  }
+
+  private T read(int index) {
+    final var offset = (index & ((1 << chunkShift) - 1)) * codec.byteSize();
+    return codec.read(chunks[index >>> chunkShift], offset);
+  }
+
+  /** Spliterator over an index range that splits into exactly sized halves. */
+  private final class IndexSpliterator implements Spliterator<T> {
+    private int index;
+    private final int end;
+
+    private IndexSpliterator(int index, int end) {
+      this.index = index;
+      this.end = end;
+    }
+
+    @Override
+    public boolean tryAdvance(@NonNull Consumer<? super T> action) {
+      Objects.requireNonNull(action, "action");
+      if (index >= end) {
+        return false;
+      }
+      action.accept(read(index++));
+      return true;
+    }
+
+    @Override
+    public void forEachRemaining(@NonNull Consumer<? super T> action) {
+      Objects.requireNonNull(action, "action");
+      for (; index < end; index++) {
+        action.accept(read(index));
+      }
+    }
+
+    @Override
+    public @Nullable Spliterator<T> trySplit() {
+      final var middle = (index + end) >>> 1;
+      if (middle <= index) {
+        return null;
+      }
+      final var prefix = new IndexSpliterator(index, middle);
+      index = middle;
+      return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+      return end - index;
+    }
+
+    @Override
+    public int characteristics() {
+      return SIZED | SUBSIZED | ORDERED | IMMUTABLE;
+    }
+  }
+
+  /**
+   * Mutable builder that encodes values into direct memory as they are added.
+   *
+   * <p>The chunk being filled starts small and doubles until it reaches full chunk size, so small
+   * lists do not reserve a whole chunk. A builder may keep being used after {@link #build()};
+   * later additions are never visible through lists it has already built.
+   *
+   * @param <T> element type
+   */
+  public static final class Builder<T> {
+    private final @NonNull FixedWidthCodec<T> codec;
+    private final int byteSize;
+    private final int chunkShift;
+    private final @NonNull ArrayList<ByteBuffer> chunks = new ArrayList<>();
+    private @Nullable ByteBuffer current;
+    private int size;
+
+    private Builder(@NonNull FixedWidthCodec<T> codec) {
+      this.codec = codec;
+      this.byteSize = codec.byteSize();
+      this.chunkShift = chunkShift(byteSize);
+    }
+
+    /**
+     * Encodes a value after the values added so far.
+     *
+     * @param value value to add
+     * @return this builder
+     * @throws IllegalStateException if the list would exceed {@link Integer#MAX_VALUE} elements
+     */
+    public @NonNull Builder<T> add(T value) {
+      if (size == Integer.MAX_VALUE) {
+        throw new IllegalStateException("OffHeapList cannot hold more than 2^31 - 1 elements");
+      }
+      final var slot = size & ((1 << chunkShift) - 1);
+      var buffer = current;
+      if (slot == 0 || buffer == null) {
+        buffer = allocate(Math.min(INITIAL_CHUNK_RECORDS, 1 << chunkShift));
+        chunks.add(buffer);
+      } else if ((slot + 1) * byteSize > buffer.capacity()) {
+        final var grown = allocate(Math.min(2 * (buffer.capacity() / byteSize), 1 << chunkShift));
+        grown.put(0, buffer, 0, slot * byteSize);
+        chunks.set(chunks.size() - 1, grown);
+        buffer = grown;
+      }
+      current = buffer;
+      codec.write(buffer, slot * byteSize, value);
+      size++;
+      return this;
+    }
+
+    /**
+     * Returns the number of values added so far.
+     *
+     * @return current size
+     */
+    public int size() {
+      return size;
+    }
+
+    /**
+     * Creates a list of the values added so far.
+     *
+     * @return off-heap list sharing the builder's chunks
+     */
+    public @NonNull OffHeapList<T> build() {
+      return new OffHeapList<>(chunks.toArray(new ByteBuffer[0]), chunkShift, size, codec);
+    }
+
+    private @NonNull ByteBuffer allocate(int records) {
+      return ByteBuffer.allocateDirect(records * byteSize).order(ByteOrder.LITTLE_ENDIAN);
+    }
+  }
+}
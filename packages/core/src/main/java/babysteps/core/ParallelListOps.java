@@ -0,0 +1,256 @@
+package babysteps.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Fork-join implementations of the parallel bulk operations of {@link ImmutableList}.
+ *
+ * <p>The source vector is cut into contiguous slices (which share its storage), each slice is
+ * processed by one fork-join task, and the per-slice results are stitched together in slice order,
+ * so encounter order is always preserved. Callers decide whether a list is large enough to be worth
+ * splitting.
+ */
+final class ParallelListOps {
+  private static final int CHUNKS_PER_WORKER = 4;
+
+  private ParallelListOps() {}
+
+  static <T, U> @NonNull PersistentVector<U> map(
+      @NonNull PersistentVector<T> values,
+      @NonNull Function<? super @Nullable T, ? extends @Nullable U> mapper,
+      @NonNull ParallelOptions options) {
+    return assemble(
+        inChunks(
+            values,
+            options,
+            chunk -> {
+              final var mapped = new Object[chunk.size()];
+              final var iterator = chunk.iterator();
+              for (int index = 0; iterator.hasNext(); index++) {
+                mapped[index] = mapper.apply(iterator.next());
+              }
+              return mapped;
+            }));
+  }
+
+  static <T> @NonNull PersistentVector<T> filter(
+      @NonNull PersistentVector<T> values,
+      @NonNull Predicate<? super @Nullable T> predicate,
+      @NonNull ParallelOptions options) {
+    return assemble(
+        inChunks(
+            values,
+            options,
+            chunk -> {
+              final var kept = new ArrayList<@Nullable Object>();
+              chunk.forEach(
+                  value -> {
+                    if (predicate.test(value)) {
+                      kept.add(value);
+                    }
+                  });
+              return kept.toArray();
+            }));
+  }
+
+  static <T, U> @NonNull PersistentVector<U> flatMap(
+      @NonNull PersistentVector<T> values,
+      @NonNull Function<? super @Nullable T, ? extends ImmutableList<? extends @Nullable U>> mapper,
+      @NonNull ParallelOptions options) {
+    return assemble(
+        inChunks(
+            values,
+            options,
+            chunk -> {
+              final var flattened = new ArrayList<@Nullable Object>();
+              chunk.forEach(
+                  value -> {
+                    final ImmutableList<? extends @Nullable U> mapped =
+                        Objects.requireNonNull(mapper.apply(value), "mapped");
+                    mapped.forEachWhile(flattened::add);
+                  });
+              return flattened.toArray();
+            }));
+  }
+
+  static <T, U> @Nullable U reduce(
+      @NonNull PersistentVector<T> values,
+      @Nullable U identity,
+      @NonNull BiFunction<? super @Nullable U, ? super @Nullable T, ? extends @Nullable U>
+          accumulator,
+      @NonNull BinaryOperator<@Nullable U> combiner,
+      @NonNull ParallelOptions options) {
+    final var partials =
+        inChunks(
+            values,
+            options,
+            chunk -> {
+              @Nullable U partial = identity;
+              final var iterator = chunk.iterator();
+              while (iterator.hasNext()) {
+                partial = accumulator.apply(partial, iterator.next());
+              }
+              return partial;
+            });
+    @Nullable U result = partials.get(0);
+    for (int index = 1; index < partials.size(); index++) {
+      result = combiner.apply(result, partials.get(index));
+    }
+    return result;
+  }
+
+  static <T> @NonNull PersistentVector<T> sorted(
+      @NonNull PersistentVector<T> values,
+      @NonNull Comparator<? super @Nullable T> comparator,
+      @NonNull ParallelOptions options) {
+    final var sorted =
+        options
+            .pool()
+            .invoke(new SortTask<>(values, comparator, (int) chunkSize(values.size(), options)));
+    return PersistentVector.fromArray(sorted, 0, sorted.length);
+  }
+
+  private static <T, R> @NonNull List<R> inChunks(
+      @NonNull PersistentVector<T> values,
+      @NonNull ParallelOptions options,
+      @NonNull Function<PersistentVector<T>, R> work) {
+    final var size = values.size();
+    final var chunkSize = chunkSize(size, options);
+    final var chunkCount = (int) ((size + chunkSize - 1) / chunkSize);
+    final var tasks = new ArrayList<ChunkTask<T, R>>(chunkCount);
+    for (int chunk = 0; chunk < chunkCount; chunk++) {
+      final var from = (int) (chunk * chunkSize);
+      final var to = (int) Math.min(size, from + chunkSize);
+      tasks.add(new ChunkTask<>(values.slice(from, to), work));
+    }
+    options.pool().invoke(new ForkAll(tasks));
+    final var results = new ArrayList<R>(chunkCount);
+    for (final var task : tasks) {
+      results.add(task.join());
+    }
+    return results;
+  }
+
+  private static long chunkSize(int size, @NonNull ParallelOptions options) {
+    final var workers = (long) options.pool().getParallelism() * CHUNKS_PER_WORKER;
+    return Math.max(options.threshold(), (size + workers - 1) / workers);
+  }
+
+  private static <T> @Nullable Object @NonNull [] mergeRuns(
+      @Nullable Object @NonNull [] left,
+      @Nullable Object @NonNull [] right,
+      @NonNull Comparator<? super @Nullable T> comparator) {
+    final var merged = new Object[left.length + right.length];
+    var leftIndex = 0;
+    var rightIndex = 0;
+    for (int index = 0; index < merged.length; index++) {
+      @SuppressWarnings("unchecked")
+      final var takeRight =
+          leftIndex == left.length
+              || rightIndex < right.length
+                  && comparator.compare((T) right[rightIndex], (T) left[leftIndex]) < 0;
+      merged[index] = takeRight ? right[rightIndex++] : left[leftIndex++];
+    }
+    return merged;
+  }
+
+  private static <U> @NonNull PersistentVector<U> assemble(@NonNull List<Object[]> chunks) {
+    final var appender = new PersistentVector.Appender<U>(PersistentVector.empty());
+    for (final var chunk : chunks) {
+      appender.addAll(chunk, 0, chunk.length);
+    }
+    return appender.build();
+  }
+
+  /** Forks every chunk task and waits for all of them. */
+  @SuppressWarnings("serial")
+  private static final class ForkAll extends RecursiveAction {
+    private final @NonNull List<? extends ForkJoinTask<?>> tasks;
+
+    private ForkAll(@NonNull List<? extends ForkJoinTask<?>> tasks) {
+      this.tasks = tasks;
+    }
+
+    @Override
+    protected void compute() {
+      invokeAll(tasks);
+    }
+  }
+
+  /**
+   * Applies the chunk function to one slice.
+   *
+   * @param <T> source element type
+   * @param <R> chunk result type
+   */
+  @SuppressWarnings("serial")
+  private static final class ChunkTask<T, R> extends RecursiveTask<R> {
+    private final @NonNull PersistentVector<T> slice;
+    private final @NonNull Function<PersistentVector<T>, R> work;
+
+    private ChunkTask(
+        @NonNull PersistentVector<T> slice, @NonNull Function<PersistentVector<T>, R> work) {
+      this.slice = slice;
+      this.work = work;
+    }
+
+    @Override
+    protected R compute() {
+      return work.apply(slice);
+    }
+  }
+
+  /**
+   * Stable merge sort of one slice: slices of at most {@code leafSize} elements are sorted with
+   * {@link Arrays#sort(Object[], Comparator)}, larger slices sort both halves as separate tasks and
+   * merge them, taking from the left half on ties.
+   *
+   * @param <T> element type
+   */
+  @SuppressWarnings("serial")
+  private static final class SortTask<T> extends RecursiveTask<@Nullable Object @NonNull []> {
+    private final @NonNull PersistentVector<T> slice;
+    private final @NonNull Comparator<? super @Nullable T> comparator;
+    private final int leafSize;
+
+    private SortTask(
+        @NonNull PersistentVector<T> slice,
+        @NonNull Comparator<? super @Nullable T> comparator,
+        int leafSize) {
+      this.slice = slice;
+      this.comparator = comparator;
+      this.leafSize = leafSize;
+    }
+
+    @Override
+    protected @Nullable Object @NonNull [] compute() {
+      final var size = slice.size();
+      if (size <= leafSize) {
+        @SuppressWarnings("unchecked")
+        final var run = (T[]) new Object[size];
+        slice.copyTo(run);
+        Arrays.sort(run, comparator);
+        return run;
+      }
+      final var middle = size >>> 1;
+      final var left = new SortTask<>(slice.slice(0, middle), comparator, leafSize);
+      final var right = new SortTask<>(slice.slice(middle, size), comparator, leafSize);
+      left.fork();
+      final var rightRun = right.compute();
+      return mergeRuns(left.join(), rightRun, comparator);
+    }
+  }
+}
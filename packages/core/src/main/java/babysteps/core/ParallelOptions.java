@@ -0,0 +1,64 @@
+package babysteps.core;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Settings for the parallel bulk operations of {@link ImmutableList}.
+ *
+ * <p>Lists with fewer than {@code threshold} elements are processed sequentially on the calling
+ * thread. Larger lists are split into contiguous chunks of at least {@code threshold} elements that
+ * run as fork-join tasks in {@code pool}; results are always assembled in encounter order.
+ *
+ * @param pool fork-join pool that runs the chunk tasks
+ * @param threshold minimum list size (and chunk size) for parallel execution
+ */
+public record ParallelOptions(@NonNull ForkJoinPool pool, int threshold) {
+  /** Default value of {@link #threshold()}. */
+  public static final int DEFAULT_THRESHOLD = 1 << 13;
+
+  /**
+   * Validates the options.
+   *
+   * @throws NullPointerException if {@code pool} is {@code null}
+   * @throws IllegalArgumentException if {@code threshold} is not positive
+   */
+  public ParallelOptions {
+    Objects.requireNonNull(pool, "pool");
+    if (threshold <= 0) {
+      throw new IllegalArgumentException("threshold must be positive");
+    }
+  }
+
+  /**
+   * Returns options that use the common pool and {@link #DEFAULT_THRESHOLD}.
+   *
+   * @return default options
+   */
+  public static @NonNull ParallelOptions defaults() {
+    return new ParallelOptions(ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+  }
+
+  /**
+   * Returns a copy of these options that runs in the given pool.
+   *
+   * @param pool fork-join pool to use
+   * @return updated options
+   * @throws NullPointerException if {@code pool} is {@code null}
+   */
+  public @NonNull ParallelOptions withPool(@NonNull ForkJoinPool pool) {
+    return new ParallelOptions(pool, threshold);
+  }
+
+  /**
+   * Returns a copy of these options with the given threshold.
+   *
+   * @param threshold minimum list size for parallel execution
+   * @return updated options
+   * @throws IllegalArgumentException if {@code threshold} is not positive
+   */
+  public @NonNull ParallelOptions withThreshold(int threshold) {
+    return new ParallelOptions(pool, threshold);
+  }
+}
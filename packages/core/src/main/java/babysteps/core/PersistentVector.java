@@ -0,0 +1,1033 @@
+package babysteps.core;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Bit-partitioned persistent vector backing {@link ImmutableList}.
+ *
+ * <p>Technical background: elements live in a 32-way trie whose leaves hold 32 slots each. Every
+ * element has a virtual index {@code origin + i}; the path through the trie is given by consecutive
+ * 5-bit groups of that virtual index. The block containing the last element is kept outside the
+ * trie in a tail buffer so that appends only copy one small array, and the {@code origin} offset
+ * lets prepends grow the vector to the left without renumbering existing leaves.
+ *
+ * <p>All updates copy the path from the root to the touched leaf (at most {@code log32(n)} arrays
+ * of 32 slots) and share every other node with the previous version. Slices only narrow the {@code
+ * [origin, end)} window over the same trie, so they share the parent's storage entirely; slots
+ * outside the window are never read and are overwritten on the next update that reaches them.
+ *
+ * <p>The tail buffer may be shorter than 32 slots: it only has to reach the slot of the last
+ * element. Vectors that fit entirely into the tail (up to 32 elements) are built with an exactly
+ * sized tail and grow it one slot per append, so small lists do not pay for a full leaf. A tail is
+ * always full by the time it is pushed into the trie.
+ *
+ * @param <T> element type, possibly nullable
+ */
+final class PersistentVector<T> {
+  static final int BITS = 5;
+  static final int WIDTH = 1 << BITS;
+  static final int MASK = WIDTH - 1;
+
+  private static final Object[] EMPTY_ARRAY = new Object[0];
+  private static final PersistentVector<?> EMPTY =
+      new PersistentVector<>(0, 0, BITS, null, EMPTY_ARRAY);
+
+  private final long origin;
+  private final long end;
+  private final int shift;
+  private final Object @Nullable [] root;
+  private final Object @NonNull [] tail;
+
+  private PersistentVector(
+      long origin, long end, int shift, Object @Nullable [] root, Object @NonNull [] tail) {
+    this.origin = origin;
+    this.end = end;
+    this.shift = shift;
+    this.root = root;
+    this.tail = tail;
+  }
+
+  /**
+   * Returns the shared empty vector.
+   *
+   * @param <T> element type
+   * @return empty vector
+   */
+  static <T> @NonNull PersistentVector<T> empty() {
+    @SuppressWarnings("unchecked")
+    final var casted = (PersistentVector<T>) EMPTY;
+    return casted;
+  }
+
+  /**
+   * Creates a vector containing the elements of an iterable in iteration order.
+   *
+   * @param values source values
+   * @param <T> element type
+   * @return vector of the provided values
+   */
+  static <T> @NonNull PersistentVector<T> fromIterable(
+      @NonNull Iterable<? extends @Nullable T> values) {
+    final var appender = new Appender<T>(empty());
+    for (final var value : values) {
+      appender.add(value);
+    }
+    return appender.build();
+  }
+
+  /**
+   * Creates a vector containing a range of an array.
+   *
+   * @param values source array
+   * @param from first index, inclusive
+   * @param to last index, exclusive
+   * @param <T> element type
+   * @return vector of the provided values
+   */
+  static <T> @NonNull PersistentVector<T> fromArray(
+      @Nullable Object @NonNull [] values, int from, int to) {
+    if (from == to) {
+      return empty();
+    }
+    if (to - from <= WIDTH) {
+      final var tail = Arrays.copyOfRange(values, from, to, Object[].class);
+      return new PersistentVector<>(0, to - from, BITS, null, tail);
+    }
+    final var appender = new Appender<T>(empty());
+    appender.addAll(values, from, to);
+    return appender.build();
+  }
+
+  /**
+   * Returns the number of elements.
+   *
+   * @return size of the vector
+   */
+  int size() {
+    return (int) (end - origin);
+  }
+
+  /**
+   * Returns the element at the given index without bounds checking beyond the array accesses.
+   *
+   * @param index index in {@code [0, size())}
+   * @return element at the index
+   */
+  @Nullable T get(int index) {
+    final var virtual = origin + index;
+    @SuppressWarnings("unchecked")
+    final var value = (T) leafFor(virtual)[(int) virtual & MASK];
+    return value;
+  }
+
+  /**
+   * Returns a vector with the element at {@code index} replaced.
+   *
+   * @param index index in {@code [0, size())}
+   * @param value replacement value
+   * @return updated vector sharing all untouched nodes
+   */
+  @NonNull PersistentVector<T> set(int index, @Nullable T value) {
+    final var virtual = origin + index;
+    if (virtual >= tailOffset()) {
+      return new PersistentVector<>(origin, end, shift, root, withSlot(tail, virtual, value));
+    }
+    return new PersistentVector<>(origin, end, shift, withValue(root, shift, virtual, value), tail);
+  }
+
+  /**
+   * Returns a vector with the value added after the last element.
+   *
+   * @param value value to append
+   * @return extended vector
+   */
+  @NonNull PersistentVector<T> append(@Nullable T value) {
+    if (end == origin) {
+      return singleton(value);
+    }
+    if ((end & MASK) != 0) {
+      return new PersistentVector<>(origin, end + 1, shift, root, withSlot(tail, end, value));
+    }
+    final var leafOffset = end - WIDTH;
+    final var grown = end > capacity(shift);
+    final var newShift = grown ? shift + BITS : shift;
+    final var base = grown ? grownRoot(root, 0) : root;
+    final var newRoot = withLeaf(base, newShift, leafOffset, tail);
+    final var newTail = new Object[WIDTH];
+    newTail[0] = value;
+    return new PersistentVector<>(origin, end + 1, newShift, newRoot, newTail);
+  }
+
+  /**
+   * Returns a vector with the value added before the first element.
+   *
+   * @param value value to prepend
+   * @return extended vector
+   */
+  @NonNull PersistentVector<T> prepend(@Nullable T value) {
+    if (end == origin) {
+      return singleton(value);
+    }
+    if (origin == 0) {
+      return rebasedForPrepend().prepend(value);
+    }
+    final var virtual = origin - 1;
+    if (virtual >= tailOffset()) {
+      return new PersistentVector<>(virtual, end, shift, root, withSlot(tail, virtual, value));
+    }
+    final var newRoot = withValue(root, shift, virtual, value);
+    return new PersistentVector<>(virtual, end, shift, newRoot, tail);
+  }
+
+  /**
+   * Returns a vector viewing the elements in {@code [from, to)} of this vector.
+   *
+   * <p>The slice shares the trie of this vector; only the tail buffer is re-pointed at the leaf
+   * that holds the new last element, which costs at most one {@code log32(n)} walk.
+   *
+   * @param from first index, inclusive, in {@code [0, size()]}
+   * @param to last index, exclusive, in {@code [from, size()]}
+   * @return sliced vector
+   */
+  @NonNull PersistentVector<T> slice(int from, int to) {
+    if (from == to) {
+      return empty();
+    }
+    final var newOrigin = origin + from;
+    final var newEnd = origin + to;
+    return new PersistentVector<>(newOrigin, newEnd, shift, root, leafFor(newEnd - 1));
+  }
+
+  /**
+   * Returns a vector with the same elements in freshly allocated, densely packed storage.
+   *
+   * @return compacted vector that retains no nodes of this vector
+   */
+  @NonNull PersistentVector<T> compact() {
+    final var appender = new Appender<T>(empty());
+    forEach(appender::add);
+    return appender.build();
+  }
+
+  /**
+   * Returns a vector containing this vector's elements followed by the other's.
+   *
+   * @param other vector to append
+   * @return concatenated vector
+   * @see #concatAll(List)
+   */
+  @NonNull PersistentVector<T> concat(@NonNull PersistentVector<? extends T> other) {
+    return concatAll(List.of(this, other));
+  }
+
+  /**
+   * Returns a vector containing the elements of all parts in order.
+   *
+   * <p>The largest part is shared rather than copied: the parts before it are prepended to it in
+   * place through a {@link Transient}, and the parts after it are appended one leaf run at a time
+   * through an {@link Appender}. The cost is therefore proportional to the number of elements
+   * outside the largest part, and no intermediate vector is built between parts.
+   *
+   * @param parts vectors to concatenate
+   * @param <T> element type
+   * @return concatenated vector
+   */
+  static <T> @NonNull PersistentVector<T> concatAll(
+      @NonNull List<? extends PersistentVector<? extends T>> parts) {
+    int largest = -1;
+    int largestSize = 0;
+    for (int index = 0; index < parts.size(); index++) {
+      if (parts.get(index).size() > largestSize) {
+        largest = index;
+        largestSize = parts.get(index).size();
+      }
+    }
+    if (largest < 0) {
+      return empty();
+    }
+    @SuppressWarnings("unchecked")
+    final var shared = (PersistentVector<T>) parts.get(largest);
+    var prefixed = shared;
+    if (largest > 0) {
+      final var transientVector = new Transient<T>(shared);
+      for (int index = largest - 1; index >= 0; index--) {
+        final var part = parts.get(index);
+        for (int position = part.size() - 1; position >= 0; position--) {
+          transientVector.prepend(part.get(position));
+        }
+      }
+      prefixed = transientVector.build();
+    }
+    if (largest == parts.size() - 1) {
+      return prefixed;
+    }
+    final var appender = new Appender<T>(prefixed);
+    for (int index = largest + 1; index < parts.size(); index++) {
+      appender.addAll(parts.get(index));
+    }
+    return appender.build();
+  }
+
+  /**
+   * Performs the action for each element in order.
+   *
+   * @param action action to apply
+   */
+  void forEach(@NonNull Consumer<? super @Nullable T> action) {
+    long virtual = origin;
+    while (virtual < end) {
+      final var leaf = leafFor(virtual);
+      final var blockEnd = Math.min(end, (virtual | MASK) + 1);
+      for (; virtual < blockEnd; virtual++) {
+        @SuppressWarnings("unchecked")
+        final var value = (T) leaf[(int) virtual & MASK];
+        action.accept(value);
+      }
+    }
+  }
+
+  /**
+   * Performs the action for each element in order until it returns {@code false}.
+   *
+   * @param action action to apply; returning {@code false} stops the traversal
+   * @return {@code true} when every element was visited
+   */
+  boolean forEachWhile(@NonNull Predicate<? super @Nullable T> action) {
+    long virtual = origin;
+    while (virtual < end) {
+      final var leaf = leafFor(virtual);
+      final var blockEnd = Math.min(end, (virtual | MASK) + 1);
+      for (; virtual < blockEnd; virtual++) {
+        @SuppressWarnings("unchecked")
+        final var value = (T) leaf[(int) virtual & MASK];
+        if (!action.test(value)) {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Folds the elements left-to-right, keeping the accumulator in a local variable.
+   *
+   * @param initial initial accumulator value
+   * @param folder folding function
+   * @param <U> accumulator type
+   * @return folded result
+   */
+  <U> @Nullable U fold(
+      @Nullable U initial,
+      @NonNull BiFunction<? super @Nullable U, ? super @Nullable T, ? extends @Nullable U> folder) {
+    @Nullable U accumulator = initial;
+    long virtual = origin;
+    while (virtual < end) {
+      final var leaf = leafFor(virtual);
+      final var blockEnd = Math.min(end, (virtual | MASK) + 1);
+      for (; virtual < blockEnd; virtual++) {
+        @SuppressWarnings("unchecked")
+        final var value = (T) leaf[(int) virtual & MASK];
+        accumulator = folder.apply(accumulator, value);
+      }
+    }
+    return accumulator;
+  }
+
+  /**
+   * Folds the elements left-to-right while the accumulator satisfies {@code condition}.
+   *
+   * @param initial initial accumulator value
+   * @param condition checked before each element; returning {@code false} stops the fold
+   * @param folder folding function
+   * @param <U> accumulator type
+   * @return accumulator after the last folded element
+   */
+  <U> @Nullable U foldWhile(
+      @Nullable U initial,
+      @NonNull Predicate<? super @Nullable U> condition,
+      @NonNull BiFunction<? super @Nullable U, ? super @Nullable T, ? extends @Nullable U> folder) {
+    @Nullable U accumulator = initial;
+    long virtual = origin;
+    while (virtual < end) {
+      final var leaf = leafFor(virtual);
+      final var blockEnd = Math.min(end, (virtual | MASK) + 1);
+      for (; virtual < blockEnd; virtual++) {
+        if (!condition.test(accumulator)) {
+          return accumulator;
+        }
+        @SuppressWarnings("unchecked")
+        final var value = (T) leaf[(int) virtual & MASK];
+        accumulator = folder.apply(accumulator, value);
+      }
+    }
+    return accumulator;
+  }
+
+  /**
+   * Folds the elements right-to-left, reading one leaf per 32 elements.
+   *
+   * @param initial initial accumulator value
+   * @param folder folding function receiving the element first
+   * @param <U> accumulator type
+   * @return folded result
+   */
+  <U> @Nullable U foldRight(
+      @Nullable U initial,
+      @NonNull BiFunction<? super @Nullable T, ? super @Nullable U, ? extends @Nullable U> folder) {
+    @Nullable U accumulator = initial;
+    long virtual = end - 1;
+    while (virtual >= origin) {
+      final var leaf = leafFor(virtual);
+      final var blockStart = Math.max(origin, virtual & ~(long) MASK);
+      for (; virtual >= blockStart; virtual--) {
+        @SuppressWarnings("unchecked")
+        final var value = (T) leaf[(int) virtual & MASK];
+        accumulator = folder.apply(value, accumulator);
+      }
+    }
+    return accumulator;
+  }
+
+  /**
+   * Returns true if both vectors read the same range of the same nodes.
+   *
+   * <p>Such vectors are equal without comparing their elements; this is the case for a list and
+   * the lists that wrap its vector, such as a {@link NonEmptyList} and its {@code toImmutableList}.
+   *
+   * @param other vector to compare with
+   * @return true when both vectors share their storage and range
+   */
+  boolean sharesStorageWith(@NonNull PersistentVector<?> other) {
+    return root == other.root && tail == other.tail && origin == other.origin && end == other.end;
+  }
+
+  /**
+   * Folds the elements left-to-right into an {@code int} without boxing.
+   *
+   * @param initial initial accumulator value
+   * @param folder folding function
+   * @return folded result
+   */
+  int foldInt(int initial, @NonNull IntFolder<? super @Nullable T> folder) {
+    var accumulator = initial;
+    long virtual = origin;
+    while (virtual < end) {
+      final var leaf = leafFor(virtual);
+      final var blockEnd = Math.min(end, (virtual | MASK) + 1);
+      for (; virtual < blockEnd; virtual++) {
+        @SuppressWarnings("unchecked")
+        final var value = (T) leaf[(int) virtual & MASK];
+        accumulator = folder.apply(accumulator, value);
+      }
+    }
+    return accumulator;
+  }
+
+  /**
+   * Folds the elements left-to-right into a {@code long} without boxing.
+   *
+   * @param initial initial accumulator value
+   * @param folder folding function
+   * @return folded result
+   */
+  long foldLong(long initial, @NonNull LongFolder<? super @Nullable T> folder) {
+    var accumulator = initial;
+    long virtual = origin;
+    while (virtual < end) {
+      final var leaf = leafFor(virtual);
+      final var blockEnd = Math.min(end, (virtual | MASK) + 1);
+      for (; virtual < blockEnd; virtual++) {
+        @SuppressWarnings("unchecked")
+        final var value = (T) leaf[(int) virtual & MASK];
+        accumulator = folder.apply(accumulator, value);
+      }
+    }
+    return accumulator;
+  }
+
+  /**
+   * Folds the elements left-to-right into a {@code double} without boxing.
+   *
+   * @param initial initial accumulator value
+   * @param folder folding function
+   * @return folded result
+   */
+  double foldDouble(double initial, @NonNull DoubleFolder<? super @Nullable T> folder) {
+    var accumulator = initial;
+    long virtual = origin;
+    while (virtual < end) {
+      final var leaf = leafFor(virtual);
+      final var blockEnd = Math.min(end, (virtual | MASK) + 1);
+      for (; virtual < blockEnd; virtual++) {
+        @SuppressWarnings("unchecked")
+        final var value = (T) leaf[(int) virtual & MASK];
+        accumulator = folder.apply(accumulator, value);
+      }
+    }
+    return accumulator;
+  }
+
+  /**
+   * Sums a {@code long} key of every element, wrapping on overflow.
+   *
+   * @param mapper key extractor
+   * @return sum of the keys
+   */
+  long sumLong(@NonNull ToLongFunction<? super @Nullable T> mapper) {
+    var sum = 0L;
+    long virtual = origin;
+    while (virtual < end) {
+      final var leaf = leafFor(virtual);
+      final var blockEnd = Math.min(end, (virtual | MASK) + 1);
+      for (; virtual < blockEnd; virtual++) {
+        @SuppressWarnings("unchecked")
+        final var value = (T) leaf[(int) virtual & MASK];
+        sum += mapper.applyAsLong(value);
+      }
+    }
+    return sum;
+  }
+
+  /**
+   * Copies all elements into the start of the target array, one leaf run at a time.
+   *
+   * @param target array with at least {@link #size()} slots
+   * @throws ArrayStoreException if an element cannot be stored in {@code target}
+   */
+  void copyTo(@Nullable Object @NonNull [] target) {
+    long virtual = origin;
+    int index = 0;
+    while (virtual < end) {
+      final var slot = (int) virtual & MASK;
+      final var count = (int) Math.min(WIDTH - slot, end - virtual);
+      System.arraycopy(leafFor(virtual), slot, target, index, count);
+      index += count;
+      virtual += count;
+    }
+  }
+
+  /**
+   * Returns an iterator that reads one leaf per 32 elements.
+   *
+   * @return iterator over the elements
+   */
+  @NonNull Iterator<@Nullable T> iterator() {
+    return new Iterator<>() {
+      private long virtual = origin;
+      private Object @Nullable [] leaf;
+
+      @Override
+      public boolean hasNext() {
+        return virtual < end;
+      }
+
+      @Override
+      public @Nullable T next() {
+        if (virtual >= end) {
+          throw new NoSuchElementException();
+        }
+        if (leaf == null || (virtual & MASK) == 0) {
+          leaf = leafFor(virtual);
+        }
+        @SuppressWarnings("unchecked")
+        final var value = (T) leaf[(int) virtual & MASK];
+        virtual++;
+        return value;
+      }
+    };
+  }
+
+  /**
+   * Returns a spliterator that splits on leaf boundaries.
+   *
+   * <p>Each half of a split covers whole 32-element leaves of a contiguous index range, so the
+   * exact size of every part is known and traversal reads one leaf per 32 elements.
+   *
+   * @return sized, ordered and immutable spliterator over the elements
+   */
+  @NonNull Spliterator<@Nullable T> spliterator() {
+    return new LeafSpliterator(origin, end);
+  }
+
+  private @NonNull PersistentVector<T> singleton(@Nullable T value) {
+    return new PersistentVector<>(0, 1, BITS, null, new Object[] {value});
+  }
+
+  private @NonNull PersistentVector<T> rebasedForPrepend() {
+    if (root == null) {
+      return new PersistentVector<>(origin + WIDTH, end + WIDTH, shift, null, tail);
+    }
+    final var offset = capacity(shift);
+    return new PersistentVector<>(
+        origin + offset, end + offset, shift + BITS, grownRoot(root, 1), tail);
+  }
+
+  private long tailOffset() {
+    return ((end - 1) >>> BITS) << BITS;
+  }
+
+  private Object @NonNull [] leafFor(long virtual) {
+    if (virtual >= tailOffset()) {
+      return tail;
+    }
+    var node = Objects.requireNonNull(root);
+    for (int level = shift; level > 0; level -= BITS) {
+      node = (Object[]) node[(int) (virtual >>> level) & MASK];
+    }
+    return node;
+  }
+
+  private static long capacity(int shift) {
+    return 1L << (shift + BITS);
+  }
+
+  private static Object @NonNull [] grownRoot(Object @Nullable [] root, int slot) {
+    final var grown = new Object[WIDTH];
+    grown[slot] = root;
+    return grown;
+  }
+
+  /**
+   * Trims the tail of a vector that has no trie to the slot of its last element.
+   *
+   * <p>Larger vectors keep their tail as is: the unused slots are bounded by one leaf and are about
+   * to be filled by the next appends.
+   */
+  private static Object @NonNull [] fittedTail(
+      Object @Nullable [] root, Object @NonNull [] tail, long end) {
+    final var length = (int) ((end - 1) & MASK) + 1;
+    return root != null || tail.length == length ? tail : Arrays.copyOf(tail, length);
+  }
+
+  private static Object @NonNull [] withSlot(
+      Object @NonNull [] leaf, long virtual, @Nullable Object value) {
+    final var slot = (int) virtual & MASK;
+    final var copy = Arrays.copyOf(leaf, Math.max(leaf.length, slot + 1));
+    copy[slot] = value;
+    return copy;
+  }
+
+  private static Object @NonNull [] withValue(
+      Object @Nullable [] node, int level, long virtual, @Nullable Object value) {
+    final var copy = node == null ? new Object[WIDTH] : node.clone();
+    final var slot = (int) (virtual >>> level) & MASK;
+    if (level == 0) {
+      copy[slot] = value;
+    } else {
+      copy[slot] = withValue((Object[]) copy[slot], level - BITS, virtual, value);
+    }
+    return copy;
+  }
+
+  private static Object @NonNull [] withLeaf(
+      Object @Nullable [] node, int level, long leafOffset, Object @NonNull [] leaf) {
+    final var copy = node == null ? new Object[WIDTH] : node.clone();
+    final var slot = (int) (leafOffset >>> level) & MASK;
+    if (level == BITS) {
+      copy[slot] = leaf;
+    } else {
+      copy[slot] = withLeaf((Object[]) copy[slot], level - BITS, leafOffset, leaf);
+    }
+    return copy;
+  }
+
+  /** Spliterator over the virtual index range {@code [virtual, fence)} of this vector. */
+  private final class LeafSpliterator implements Spliterator<@Nullable T> {
+    private static final int CHARACTERISTICS =
+        Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED | Spliterator.IMMUTABLE;
+
+    private long virtual;
+    private final long fence;
+    private Object @Nullable [] leaf;
+
+    private LeafSpliterator(long virtual, long fence) {
+      this.virtual = virtual;
+      this.fence = fence;
+    }
+
+    @Override
+    public boolean tryAdvance(@NonNull Consumer<? super @Nullable T> action) {
+      if (virtual >= fence) {
+        return false;
+      }
+      if (leaf == null || (virtual & MASK) == 0) {
+        leaf = leafFor(virtual);
+      }
+      @SuppressWarnings("unchecked")
+      final var value = (T) leaf[(int) virtual & MASK];
+      virtual++;
+      action.accept(value);
+      return true;
+    }
+
+    @Override
+    public void forEachRemaining(@NonNull Consumer<? super @Nullable T> action) {
+      while (virtual < fence) {
+        final var current = leafFor(virtual);
+        final var blockEnd = Math.min(fence, (virtual | MASK) + 1);
+        for (; virtual < blockEnd; virtual++) {
+          @SuppressWarnings("unchecked")
+          final var value = (T) current[(int) virtual & MASK];
+          action.accept(value);
+        }
+      }
+    }
+
+    @Override
+    public @Nullable Spliterator<@Nullable T> trySplit() {
+      final var middle = ((virtual + fence) >>> 1) & ~(long) MASK;
+      if (middle <= virtual) {
+        return null;
+      }
+      final var prefix = new LeafSpliterator(virtual, middle);
+      virtual = middle;
+      leaf = null;
+      return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+      return fence - virtual;
+    }
+
+    @Override
+    public int characteristics() {
+      return CHARACTERISTICS;
+    }
+  }
+
+  /**
+   * Single-owner appender that fills leaves in place and hands them to the built vector.
+   *
+   * <p>The appender copies the tail and the rightmost path of its base vector lazily on the first
+   * write, so appending to a shared vector never mutates nodes visible through other versions.
+   * Because appends only ever move right, it is enough to remember the single node per trie level
+   * that the appender created or copied last; any other node may be shared (for example with the
+   * parent of a slice) and is copied before it is written. After {@link #build()} every node is
+   * treated as shared again.
+   *
+   * @param <T> element type
+   */
+  static final class Appender<T> {
+    private final long origin;
+    private long end;
+    private int shift;
+    private Object @Nullable [] root;
+    private Object @NonNull [] tail;
+    private boolean ownsTail;
+    private final Object[][] ownedPath = new Object[Long.SIZE / BITS + 1][];
+
+    Appender(@NonNull PersistentVector<T> base) {
+      this.origin = base.origin;
+      this.end = base.end;
+      this.shift = base.shift;
+      this.root = base.root;
+      this.tail = base.tail;
+    }
+
+    /**
+     * Appends a value.
+     *
+     * @param value value to append
+     */
+    void add(@Nullable T value) {
+      if (end > origin && (end & MASK) == 0) {
+        pushTail();
+      }
+      if (!ownsTail) {
+        tail = Arrays.copyOf(tail, WIDTH);
+        ownsTail = true;
+      }
+      tail[(int) end & MASK] = value;
+      end++;
+    }
+
+    /**
+     * Appends a range of an array, copying whole runs into each leaf.
+     *
+     * @param values source array whose elements must be of type {@code T}
+     * @param from first index, inclusive
+     * @param to last index, exclusive
+     */
+    void addAll(@Nullable Object @NonNull [] values, int from, int to) {
+      int index = from;
+      while (index < to) {
+        if (end > origin && (end & MASK) == 0) {
+          pushTail();
+        }
+        if (!ownsTail) {
+          tail = Arrays.copyOf(tail, WIDTH);
+          ownsTail = true;
+        }
+        final var slot = (int) end & MASK;
+        final var count = Math.min(WIDTH - slot, to - index);
+        System.arraycopy(values, index, tail, slot, count);
+        index += count;
+        end += count;
+      }
+    }
+
+    /**
+     * Appends all elements of a vector, copying whole leaf runs at a time.
+     *
+     * @param values vector to append
+     */
+    void addAll(@NonNull PersistentVector<? extends T> values) {
+      long virtual = values.origin;
+      while (virtual < values.end) {
+        final var slot = (int) virtual & MASK;
+        final var count = (int) Math.min(WIDTH - slot, values.end - virtual);
+        addAll(values.leafFor(virtual), slot, slot + count);
+        virtual += count;
+      }
+    }
+
+    /**
+     * Returns the number of elements appended so far, including the base vector.
+     *
+     * @return current size
+     */
+    int size() {
+      return (int) (end - origin);
+    }
+
+    /**
+     * Returns a vector of the current contents, transferring the nodes without copying.
+     *
+     * @return built vector
+     */
+    @NonNull PersistentVector<T> build() {
+      if (end == origin) {
+        return empty();
+      }
+      ownsTail = false;
+      Arrays.fill(ownedPath, null);
+      tail = fittedTail(root, tail, end);
+      return new PersistentVector<>(origin, end, shift, root, tail);
+    }
+
+    private void pushTail() {
+      final var leafOffset = end - WIDTH;
+      if (end > capacity(shift)) {
+        root = grownRoot(root, 0);
+        shift += BITS;
+        ownedPath[shift / BITS] = root;
+      }
+      root = pushLeaf(root, shift, leafOffset, tail);
+      tail = new Object[WIDTH];
+      ownsTail = true;
+    }
+
+    private Object @NonNull [] pushLeaf(
+        Object @Nullable [] node, int level, long leafOffset, Object @NonNull [] leaf) {
+      final var depth = level / BITS;
+      final Object[] target;
+      if (node != null && node == ownedPath[depth]) {
+        target = node;
+      } else {
+        target = node == null ? new Object[WIDTH] : node.clone();
+        ownedPath[depth] = target;
+      }
+      final var slot = (int) (leafOffset >>> level) & MASK;
+      if (level == BITS) {
+        target[slot] = leaf;
+      } else {
+        target[slot] = pushLeaf((Object[]) target[slot], level - BITS, leafOffset, leaf);
+      }
+      return target;
+    }
+  }
+
+  /**
+   * Single-owner editable copy of a vector that updates the nodes it owns in place.
+   *
+   * <p>Unlike {@link Appender}, edits may touch any position, so ownership is tracked per node: the
+   * transient remembers, by identity, every node it allocated or copied. A node it does not own may
+   * be shared with other versions and is copied (once) before the first write. {@link #build()}
+   * hands the current nodes to an immutable vector and forgets all ownership in constant time, so
+   * later edits copy again instead of mutating the built vector.
+   *
+   * @param <T> element type
+   */
+  static final class Transient<T> {
+    private long origin;
+    private long end;
+    private int shift;
+    private Object @Nullable [] root;
+    private Object @NonNull [] tail;
+    private @NonNull Set<Object[]> owned = newOwnedSet();
+
+    Transient(@NonNull PersistentVector<T> base) {
+      this.origin = base.origin;
+      this.end = base.end;
+      this.shift = base.shift;
+      this.root = base.root;
+      this.tail = base.tail;
+    }
+
+    /**
+     * Returns the current number of elements.
+     *
+     * @return current size
+     */
+    int size() {
+      return (int) (end - origin);
+    }
+
+    /**
+     * Returns the element at the given index.
+     *
+     * @param index index in {@code [0, size())}
+     * @return element at the index
+     */
+    @Nullable T get(int index) {
+      final var virtual = origin + index;
+      final Object[] leaf;
+      if (virtual >= tailOffset()) {
+        leaf = tail;
+      } else {
+        var node = Objects.requireNonNull(root);
+        for (int level = shift; level > 0; level -= BITS) {
+          node = (Object[]) node[(int) (virtual >>> level) & MASK];
+        }
+        leaf = node;
+      }
+      @SuppressWarnings("unchecked")
+      final var value = (T) leaf[(int) virtual & MASK];
+      return value;
+    }
+
+    /**
+     * Appends a value.
+     *
+     * @param value value to append
+     */
+    void add(@Nullable T value) {
+      if (end > origin && (end & MASK) == 0) {
+        final var leafOffset = end - WIDTH;
+        if (end > capacity(shift)) {
+          root = owned(grownRoot(root, 0));
+          shift += BITS;
+        }
+        root = withOwnedValue(root, shift, leafOffset, tail, BITS);
+        tail = owned(new Object[WIDTH]);
+      } else {
+        tail = editableTail();
+      }
+      tail[(int) end & MASK] = value;
+      end++;
+    }
+
+    /**
+     * Prepends a value.
+     *
+     * @param value value to prepend
+     */
+    void prepend(@Nullable T value) {
+      if (end == origin) {
+        origin = 0;
+        end = 0;
+        shift = BITS;
+        root = null;
+        add(value);
+        return;
+      }
+      if (origin == 0) {
+        final var offset = root == null ? WIDTH : capacity(shift);
+        if (root != null) {
+          root = owned(grownRoot(root, 1));
+          shift += BITS;
+        }
+        origin += offset;
+        end += offset;
+      }
+      origin--;
+      set(0, value);
+    }
+
+    /**
+     * Replaces the element at the given index.
+     *
+     * @param index index in {@code [0, size())}
+     * @param value replacement value
+     */
+    void set(int index, @Nullable T value) {
+      final var virtual = origin + index;
+      if (virtual >= tailOffset()) {
+        tail = editableTail();
+        tail[(int) virtual & MASK] = value;
+      } else {
+        root = withOwnedValue(root, shift, virtual, value, 0);
+      }
+    }
+
+    /**
+     * Returns a vector of the current contents and gives up ownership of all nodes.
+     *
+     * @return built vector
+     */
+    @NonNull PersistentVector<T> build() {
+      owned = newOwnedSet();
+      if (end == origin) {
+        return empty();
+      }
+      tail = fittedTail(root, tail, end);
+      return new PersistentVector<>(origin, end, shift, root, tail);
+    }
+
+    private long tailOffset() {
+      return ((end - 1) >>> BITS) << BITS;
+    }
+
+    private Object @NonNull [] editableTail() {
+      if (tail.length == WIDTH && owned.contains(tail)) {
+        return tail;
+      }
+      return owned(Arrays.copyOf(tail, WIDTH));
+    }
+
+    /** Stores {@code value} at the slot for {@code virtual} on {@code stopLevel}, in place. */
+    private Object @NonNull [] withOwnedValue(
+        Object @Nullable [] node, int level, long virtual, @Nullable Object value, int stopLevel) {
+      final Object[] target;
+      if (node == null) {
+        target = owned(new Object[WIDTH]);
+      } else if (owned.contains(node)) {
+        target = node;
+      } else {
+        target = owned(node.clone());
+      }
+      final var slot = (int) (virtual >>> level) & MASK;
+      if (level == stopLevel) {
+        target[slot] = value;
+      } else {
+        target[slot] =
+            withOwnedValue((Object[]) target[slot], level - BITS, virtual, value, stopLevel);
+      }
+      return target;
+    }
+
+    private Object @NonNull [] owned(Object @NonNull [] node) {
+      owned.add(node);
+      return node;
+    }
+
+    private static @NonNull Set<Object[]> newOwnedSet() {
+      return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+  }
+}
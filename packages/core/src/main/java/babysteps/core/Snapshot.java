@@ -0,0 +1,116 @@
+package babysteps.core;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * On-disk snapshot format for lists of fixed-width records.
+ *
+ * <p>A snapshot is a 16-byte little-endian header followed by the encoded records back to back:
+ *
+ * <pre>
+ * offset 0   int  magic "BSNP"
+ * offset 4   int  format version (1)
+ * offset 8   int  record width in bytes
+ * offset 12  int  number of records
+ * offset 16  records
+ * </pre>
+ *
+ * <p>Reading maps the record area in {@link OffHeapList}-sized chunks, so the resulting list
+ * decodes straight from the page cache and nothing is parsed up front.
+ */
+final class Snapshot {
+  static final int MAGIC = 0x504E5342;
+  static final int VERSION = 1;
+  static final int HEADER_BYTES = 16;
+  private static final int WRITE_BLOCK_BYTES = 1 << 16;
+
+  private Snapshot() {}
+
+  static <T> void write(
+      @NonNull Path path,
+      @NonNull Iterable<? extends T> values,
+      int size,
+      @NonNull FixedWidthCodec<T> codec)
+      throws IOException {
+    final var byteSize = codec.byteSize();
+    OffHeapList.chunkShift(byteSize);
+    final var block =
+        ByteBuffer.allocateDirect(Math.max(WRITE_BLOCK_BYTES, HEADER_BYTES + byteSize))
+            .order(ByteOrder.LITTLE_ENDIAN);
+    block.putInt(MAGIC).putInt(VERSION).putInt(byteSize).putInt(size);
+    try (var channel =
+        FileChannel.open(
+            path,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING,
+            StandardOpenOption.WRITE)) {
+      for (final var value : values) {
+        if (block.remaining() < byteSize) {
+          drain(channel, block);
+        }
+        final var offset = block.position();
+        codec.write(block, offset, value);
+        block.position(offset + byteSize);
+      }
+      drain(channel, block);
+    }
+  }
+
+  static <T> @NonNull OffHeapList<T> map(@NonNull Path path, @NonNull FixedWidthCodec<T> codec)
+      throws IOException {
+    final var byteSize = codec.byteSize();
+    final var chunkShift = OffHeapList.chunkShift(byteSize);
+    try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      if (channel.size() < HEADER_BYTES) {
+        throw new IOException("Not a snapshot file: " + path);
+      }
+      final var header =
+          channel
+              .map(FileChannel.MapMode.READ_ONLY, 0, HEADER_BYTES)
+              .order(ByteOrder.LITTLE_ENDIAN);
+      if (header.getInt(0) != MAGIC) {
+        throw new IOException("Not a snapshot file: " + path);
+      }
+      if (header.getInt(4) != VERSION) {
+        throw new IOException("Unsupported snapshot version " + header.getInt(4) + ": " + path);
+      }
+      if (header.getInt(8) != byteSize) {
+        throw new IllegalArgumentException(
+            "codec byteSize " + byteSize + " does not match snapshot byteSize " + header.getInt(8));
+      }
+      final var size = header.getInt(12);
+      if (size < 0 || channel.size() != HEADER_BYTES + (long) size * byteSize) {
+        throw new IOException("Truncated or corrupt snapshot file: " + path);
+      }
+      final var chunkBytes = (long) byteSize << chunkShift;
+      final var recordBytes = (long) size * byteSize;
+      final var chunks = new ByteBuffer[(int) ((recordBytes + chunkBytes - 1) / chunkBytes)];
+      for (int index = 0; index < chunks.length; index++) {
+        final var start = index * chunkBytes;
+        chunks[index] =
+            channel
+                .map(
+                    FileChannel.MapMode.READ_ONLY,
+                    HEADER_BYTES + start,
+                    Math.min(chunkBytes, recordBytes - start))
+                .order(ByteOrder.LITTLE_ENDIAN);
+      }
+      return new OffHeapList<>(chunks, chunkShift, size, codec);
+    }
+  }
+
+  private static void drain(@NonNull FileChannel channel, @NonNull ByteBuffer block)
+      throws IOException {
+    block.flip();
+    while (block.hasRemaining()) {
+      channel.write(block);
+    }
+    block.clear();
+  }
+}
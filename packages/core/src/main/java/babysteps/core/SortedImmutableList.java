@@ -0,0 +1,234 @@
+package babysteps.core;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * {@link ImmutableList} known to be sorted by a comparator, created by {@link
+ * ImmutableList#asSorted(Comparator)}.
+ *
+ * <p>Lookups binary-search the underlying list instead of scanning it: {@link
+ * #binarySearch(Object)}, {@link #lowerBound(Object)}, {@link #upperBound(Object)} and {@link
+ * #contains(Object)} take {@code O(log n)} comparisons, and {@link #range(Object, Object)} returns
+ * a slice that shares the storage of this list. All lookups compare with the recorded comparator,
+ * not with {@link Object#equals(Object)}.
+ *
+ * <p>Sample usage:
+ *
+ * <pre>{@code
+ * SortedImmutableList<Instant> timestamps = events.map(Event::at).sorted(order).asSorted(order);
+ * SortedImmutableList<Instant> lastHour = timestamps.range(now.minus(1, HOURS), now);
+ * }</pre>
+ *
+ * @param <T> element type, possibly nullable
+ */
+public final class SortedImmutableList<T> implements Iterable<@Nullable T> {
+  private final @NonNull ImmutableList<T> values;
+  private final @NonNull Comparator<? super @Nullable T> comparator;
+
+  private SortedImmutableList(
+      @NonNull ImmutableList<T> values, @NonNull Comparator<? super @Nullable T> comparator) {
+    this.values = values;
+    this.comparator = comparator;
+  }
+
+  /**
+   * Wraps a list after checking that it is sorted by the comparator.
+   *
+   * @param values list to wrap
+   * @param comparator order the list must follow
+   * @param <T> element type
+   * @return sorted view of the list
+   * @throws IllegalArgumentException if two adjacent elements are out of order
+   */
+  static <T> @NonNull SortedImmutableList<T> of(
+      @NonNull ImmutableList<T> values, @NonNull Comparator<? super @Nullable T> comparator) {
+    final var iterator = values.iterator();
+    if (iterator.hasNext()) {
+      var previous = iterator.next();
+      while (iterator.hasNext()) {
+        final var current = iterator.next();
+        if (comparator.compare(previous, current) > 0) {
+          throw new IllegalArgumentException("values must be sorted by the comparator");
+        }
+        previous = current;
+      }
+    }
+    return new SortedImmutableList<>(values, comparator);
+  }
+
+  /**
+   * Returns the comparator the elements are sorted by.
+   *
+   * @return element order
+   */
+  public @NonNull Comparator<? super @Nullable T> comparator() {
+    return comparator;
+  }
+
+  /**
+   * Returns true if the list is empty.
+   *
+   * @return true when the list has no elements
+   */
+  public boolean isEmpty() {
+    return values.isEmpty();
+  }
+
+  /**
+   * Returns the number of elements.
+   *
+   * @return size of the list
+   */
+  public int size() {
+    return values.size();
+  }
+
+  /**
+   * Returns the element at the given index as an {@link Option}.
+   *
+   * @param index index to read
+   * @return {@link Option#some(Object)} when the index is valid, otherwise {@link Option#none()}
+   */
+  public @NonNull Option<T> getOption(int index) {
+    return values.getOption(index);
+  }
+
+  /**
+   * Searches for an element that compares equal to {@code key}.
+   *
+   * <p>Follows the contract of {@link java.util.Collections#binarySearch(java.util.List, Object,
+   * Comparator)}: when several elements match, any of their indices may be returned.
+   *
+   * @param key key to search for
+   * @return index of a matching element, or {@code -(insertionPoint) - 1} when there is none
+   */
+  public int binarySearch(@Nullable T key) {
+    int low = 0;
+    int high = values.size() - 1;
+    while (low <= high) {
+      final var middle = (low + high) >>> 1;
+      final var order = comparator.compare(element(middle), key);
+      if (order < 0) {
+        low = middle + 1;
+      } else if (order > 0) {
+        high = middle - 1;
+      } else {
+        return middle;
+      }
+    }
+    return -(low + 1);
+  }
+
+  /**
+   * Returns the index of the first element that is not less than {@code key}.
+   *
+   * @param key key to compare with
+   * @return index in {@code [0, size()]}; {@code size()} when every element is less than the key
+   */
+  public int lowerBound(@Nullable T key) {
+    int low = 0;
+    int high = values.size();
+    while (low < high) {
+      final var middle = (low + high) >>> 1;
+      if (comparator.compare(element(middle), key) < 0) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * Returns the index of the first element that is greater than {@code key}.
+   *
+   * @param key key to compare with
+   * @return index in {@code [0, size()]}; {@code size()} when no element is greater than the key
+   */
+  public int upperBound(@Nullable T key) {
+    int low = 0;
+    int high = values.size();
+    while (low < high) {
+      final var middle = (low + high) >>> 1;
+      if (comparator.compare(element(middle), key) <= 0) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * Returns true if an element compares equal to {@code key}.
+   *
+   * @param key key to look for
+   * @return true if a matching element is present
+   */
+  public boolean contains(@Nullable T key) {
+    return binarySearch(key) >= 0;
+  }
+
+  /**
+   * Returns the elements between {@code fromKey}, inclusive, and {@code toKey}, exclusive.
+   *
+   * <p>Both bounds are located by binary search and the result shares this list's storage, so the
+   * cost does not depend on the number of elements in the range.
+   *
+   * @param fromKey lower bound, inclusive
+   * @param toKey upper bound, exclusive
+   * @return sorted list of the elements in range; empty when {@code fromKey} is not less than
+   *     {@code toKey}
+   */
+  public @NonNull SortedImmutableList<T> range(@Nullable T fromKey, @Nullable T toKey) {
+    final var from = lowerBound(fromKey);
+    final var to = Math.max(from, lowerBound(toKey));
+    if (from == 0 && to == values.size()) {
+      return this;
+    }
+    return new SortedImmutableList<>(values.slice(from, to), comparator);
+  }
+
+  /**
+   * Returns the elements as a plain {@link ImmutableList} sharing the same storage.
+   *
+   * @return immutable list of the elements
+   */
+  public @NonNull ImmutableList<T> toImmutableList() {
+    return values;
+  }
+
+  @Override
+  public @NonNull Iterator<@Nullable T> iterator() {
+    return values.iterator();
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
+    if (!(other instanceof SortedImmutableList<?> that)) {
+      return false;
+    }
+    return comparator.equals(that.comparator) && values.equals(that.values);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(values, comparator);
+  }
+
+  @Override
+  public String toString() {
+    return "SortedImmutableList" + values.toList();
+  }
+
+  private @Nullable T element(int index) {
+    return values.getOrElse(index, null);
+  }
+}
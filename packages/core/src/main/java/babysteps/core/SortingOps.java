@@ -0,0 +1,327 @@
+package babysteps.core;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Partial sorting, selection and merging for {@link ImmutableList}.
+ *
+ * <p>Every operation breaks comparator ties by encounter order, so its result agrees with the
+ * stable {@link Arrays#sort(Object[], Comparator)} used by {@link
+ * ImmutableList#sorted(Comparator)}.
+ */
+final class SortingOps {
+  private SortingOps() {}
+
+  /**
+   * Returns the {@code k} smallest elements in sorted order using a bounded max-heap.
+   *
+   * <p>Runs in {@code O(n log k)} time and keeps only {@code k} elements besides the source.
+   *
+   * @param values source vector
+   * @param k number of elements to keep, in {@code [0, values.size())}
+   * @param comparator element order
+   * @param <T> element type
+   * @return vector equal to the first {@code k} elements of the stably sorted source
+   */
+  static <T> @NonNull PersistentVector<T> smallest(
+      @NonNull PersistentVector<T> values,
+      int k,
+      @NonNull Comparator<? super @Nullable T> comparator) {
+    if (k == 0) {
+      return PersistentVector.empty();
+    }
+    final var heap = new BoundedHeap<T>(k, comparator);
+    values.forEach(heap::offer);
+    return heap.drainSorted();
+  }
+
+  /**
+   * Returns the element that a stable sort would place at index {@code n}, using introselect.
+   *
+   * <p>Quickselect with median-of-three pivots and three-way partitioning runs in expected linear
+   * time; after {@code 2 log2(n)} partitioning rounds the remaining range is sorted instead, which
+   * bounds the worst case by {@code O(n log n)}.
+   *
+   * @param values source vector
+   * @param n rank to select, in {@code [0, values.size())}
+   * @param comparator element order
+   * @param <T> element type
+   * @return an element that compares equal to the element at index {@code n} of the sorted source
+   */
+  static <T> @Nullable T select(
+      @NonNull PersistentVector<T> values,
+      int n,
+      @NonNull Comparator<? super @Nullable T> comparator) {
+    @SuppressWarnings("unchecked")
+    final var array = (T[]) new Object[values.size()];
+    values.copyTo(array);
+    int from = 0;
+    int to = array.length;
+    int budget = 2 * (Integer.SIZE - Integer.numberOfLeadingZeros(array.length));
+    while (to - from > 1) {
+      if (budget-- == 0) {
+        Arrays.sort(array, from, to, comparator);
+        return array[n];
+      }
+      final var pivot =
+          medianOfThree(array[from], array[(from + to) >>> 1], array[to - 1], comparator);
+      int less = from;
+      int index = from;
+      int greater = to;
+      while (index < greater) {
+        final var order = comparator.compare(array[index], pivot);
+        if (order < 0) {
+          swap(array, less++, index++);
+        } else if (order > 0) {
+          swap(array, index, --greater);
+        } else {
+          index++;
+        }
+      }
+      if (n < less) {
+        to = less;
+      } else if (n >= greater) {
+        from = greater;
+      } else {
+        return array[n];
+      }
+    }
+    return array[n];
+  }
+
+  /**
+   * Merges sorted vectors into one sorted vector with a k-way heap merge.
+   *
+   * <p>Runs in {@code O(n log k)} time for {@code k} non-empty parts. A single non-empty part is
+   * returned as is.
+   *
+   * @param parts vectors that are each sorted by {@code comparator}
+   * @param comparator element order
+   * @param <T> element type
+   * @return sorted vector of all elements; ties keep the order of the parts
+   */
+  static <T> @NonNull PersistentVector<T> merge(
+      @NonNull List<? extends PersistentVector<? extends T>> parts,
+      @NonNull Comparator<? super @Nullable T> comparator) {
+    final var cursors = new MergeCursors<T>(parts, comparator);
+    if (cursors.count == 0) {
+      return PersistentVector.empty();
+    }
+    if (cursors.count == 1) {
+      @SuppressWarnings("unchecked")
+      final var single = (PersistentVector<T>) parts.get(cursors.heap[0]);
+      return single;
+    }
+    final var appender = new PersistentVector.Appender<T>(PersistentVector.empty());
+    while (cursors.count > 0) {
+      appender.add(cursors.next());
+    }
+    return appender.build();
+  }
+
+  private static <T> @Nullable T medianOfThree(
+      @Nullable T first,
+      @Nullable T second,
+      @Nullable T third,
+      @NonNull Comparator<? super @Nullable T> comparator) {
+    if (comparator.compare(first, second) > 0) {
+      return comparator.compare(second, third) >= 0
+          ? second
+          : comparator.compare(first, third) <= 0 ? first : third;
+    }
+    return comparator.compare(first, third) >= 0
+        ? first
+        : comparator.compare(second, third) <= 0 ? second : third;
+  }
+
+  private static void swap(@Nullable Object @NonNull [] array, int left, int right) {
+    final var value = array[left];
+    array[left] = array[right];
+    array[right] = value;
+  }
+
+  /**
+   * Max-heap of at most {@code capacity} elements ordered by value, then by encounter order.
+   *
+   * @param <T> element type
+   */
+  private static final class BoundedHeap<T> {
+    private final @NonNull Comparator<? super @Nullable T> comparator;
+    private final @Nullable Object @NonNull [] elements;
+    private final int @NonNull [] ranks;
+    private int size;
+    private int seen;
+
+    private BoundedHeap(int capacity, @NonNull Comparator<? super @Nullable T> comparator) {
+      this.comparator = comparator;
+      this.elements = new Object[capacity];
+      this.ranks = new int[capacity];
+    }
+
+    private void offer(@Nullable T value) {
+      final var rank = seen++;
+      if (size < elements.length) {
+        elements[size] = value;
+        ranks[size] = rank;
+        siftUp(size++);
+      } else if (comparator.compare(value, element(0)) < 0) {
+        elements[0] = value;
+        ranks[0] = rank;
+        siftDown(0);
+      }
+    }
+
+    private @NonNull PersistentVector<T> drainSorted() {
+      final var sorted = new Object[size];
+      for (int index = size - 1; index >= 0; index--) {
+        sorted[index] = elements[0];
+        size--;
+        elements[0] = elements[size];
+        ranks[0] = ranks[size];
+        elements[size] = null;
+        siftDown(0);
+      }
+      return PersistentVector.fromArray(sorted, 0, sorted.length);
+    }
+
+    private void siftUp(int index) {
+      while (index > 0) {
+        final var parent = (index - 1) >>> 1;
+        if (!above(index, parent)) {
+          return;
+        }
+        swapEntries(index, parent);
+        index = parent;
+      }
+    }
+
+    private void siftDown(int index) {
+      while (true) {
+        final var left = 2 * index + 1;
+        if (left >= size) {
+          return;
+        }
+        final var right = left + 1;
+        final var child = right < size && above(right, left) ? right : left;
+        if (!above(child, index)) {
+          return;
+        }
+        swapEntries(index, child);
+        index = child;
+      }
+    }
+
+    /** Returns true if the entry at {@code first} sorts after the entry at {@code second}. */
+    private boolean above(int first, int second) {
+      final var order = comparator.compare(element(first), element(second));
+      return order > 0 || (order == 0 && ranks[first] > ranks[second]);
+    }
+
+    private void swapEntries(int first, int second) {
+      swap(elements, first, second);
+      final var rank = ranks[first];
+      ranks[first] = ranks[second];
+      ranks[second] = rank;
+    }
+
+    private @Nullable T element(int index) {
+      @SuppressWarnings("unchecked")
+      final var value = (T) elements[index];
+      return value;
+    }
+  }
+
+  /**
+   * Min-heap of part indices ordered by each part's current head, then by part index.
+   *
+   * @param <T> element type
+   */
+  private static final class MergeCursors<T> {
+    private final @NonNull Comparator<? super @Nullable T> comparator;
+    private final @NonNull Iterator<? extends @Nullable T> @NonNull [] iterators;
+    private final @Nullable Object @NonNull [] heads;
+    private final int @NonNull [] heap;
+    private int count;
+
+    private MergeCursors(
+        @NonNull List<? extends PersistentVector<? extends T>> parts,
+        @NonNull Comparator<? super @Nullable T> comparator) {
+      this.comparator = comparator;
+      @SuppressWarnings({"unchecked", "rawtypes"})
+      final Iterator<? extends @Nullable T>[] created = new Iterator[parts.size()];
+      this.iterators = created;
+      this.heads = new Object[parts.size()];
+      this.heap = new int[parts.size()];
+      for (int part = 0; part < parts.size(); part++) {
+        iterators[part] = parts.get(part).iterator();
+        if (iterators[part].hasNext()) {
+          heads[part] = iterators[part].next();
+          heap[count] = part;
+          siftUp(count++);
+        }
+      }
+    }
+
+    private @Nullable T next() {
+      final var part = heap[0];
+      final var value = head(part);
+      if (iterators[part].hasNext()) {
+        heads[part] = iterators[part].next();
+      } else {
+        heads[part] = null;
+        heap[0] = heap[--count];
+      }
+      siftDown(0);
+      return value;
+    }
+
+    private void siftUp(int index) {
+      while (index > 0) {
+        final var parent = (index - 1) >>> 1;
+        if (!before(heap[index], heap[parent])) {
+          return;
+        }
+        swapSlots(index, parent);
+        index = parent;
+      }
+    }
+
+    private void siftDown(int index) {
+      while (true) {
+        final var left = 2 * index + 1;
+        if (left >= count) {
+          return;
+        }
+        final var right = left + 1;
+        final var child = right < count && before(heap[right], heap[left]) ? right : left;
+        if (!before(heap[child], heap[index])) {
+          return;
+        }
+        swapSlots(index, child);
+        index = child;
+      }
+    }
+
+    private boolean before(int first, int second) {
+      final var order = comparator.compare(head(first), head(second));
+      return order < 0 || (order == 0 && first < second);
+    }
+
+    private void swapSlots(int first, int second) {
+      final var part = heap[first];
+      heap[first] = heap[second];
+      heap[second] = part;
+    }
+
+    private @Nullable T head(int part) {
+      @SuppressWarnings("unchecked")
+      final var value = (T) heads[part];
+      return value;
+    }
+  }
+}
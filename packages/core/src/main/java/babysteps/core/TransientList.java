@@ -0,0 +1,155 @@
+package babysteps.core;
+
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Editable, single-owner copy of an {@link ImmutableList} for batches of updates.
+ *
+ * <p>Obtain one with {@link ImmutableList#asTransient()} or use it inside {@link
+ * ImmutableList#withMutations(java.util.function.Consumer)}. Edits write into storage that the
+ * transient owns instead of copying a path per call, and {@link #toImmutableList()} turns the
+ * current contents into an immutable list in constant time.
+ *
+ * <p>Technical background: the transient starts out sharing every node with its source list. The
+ * first write to a node copies it and marks the copy as owned; later writes to that node happen in
+ * place. Freezing hands the nodes over to the new list and drops all ownership, so a transient may
+ * keep being edited afterwards: its next writes copy again and never affect lists it has already
+ * produced.
+ *
+ * <p>Instances are not thread-safe and should not escape the code that performs the batch.
+ *
+ * <p>Sample usage:
+ *
+ * <pre>{@code
+ * ImmutableList<Event> updated = events.withMutations(list -> {
+ *   for (Event event : incoming) {
+ *     list.append(event);
+ *   }
+ * });
+ * }</pre>
+ *
+ * @param <T> element type, possibly nullable
+ */
+public final class TransientList<T> {
+  private final PersistentVector.@NonNull Transient<T> values;
+
+  TransientList(@NonNull PersistentVector<T> values) {
+    this.values = new PersistentVector.Transient<>(values);
+  }
+
+  /**
+   * Returns true if the transient is empty.
+   *
+   * @return true when the transient has no elements
+   */
+  public boolean isEmpty() {
+    return values.size() == 0;
+  }
+
+  /**
+   * Returns the current number of elements.
+   *
+   * @return size of the transient
+   */
+  public int size() {
+    return values.size();
+  }
+
+  /**
+   * Returns the element at the given index as an {@link Option}.
+   *
+   * @param index index to read
+   * @return {@link Option#some(Object)} when the index is valid, otherwise {@link Option#none()}
+   */
+  public @NonNull Option<T> getOption(int index) {
+    if (index < 0 || index >= values.size()) {
+      return Option.none();
+    }
+    return Option.some(values.get(index));
+  }
+
+  /**
+   * Appends a value in place.
+   *
+   * @param value value to append
+   * @return this transient
+   */
+  public @NonNull TransientList<T> append(@Nullable T value) {
+    values.add(value);
+    return this;
+  }
+
+  /**
+   * Appends all values in iteration order, in place.
+   *
+   * @param values values to append
+   * @return this transient
+   * @throws NullPointerException if {@code values} is {@code null}
+   */
+  public @NonNull TransientList<T> appendAll(@NonNull Iterable<? extends @Nullable T> values) {
+    Objects.requireNonNull(values, "values");
+    for (final var value : values) {
+      this.values.add(value);
+    }
+    return this;
+  }
+
+  /**
+   * Prepends a value in place.
+   *
+   * @param value value to prepend
+   * @return this transient
+   */
+  public @NonNull TransientList<T> prepend(@Nullable T value) {
+    values.prepend(value);
+    return this;
+  }
+
+  /**
+   * Replaces the element at the given index in place.
+   *
+   * @param index index to replace
+   * @param value new value
+   * @return this transient
+   * @throws IndexOutOfBoundsException if {@code index} is out of range
+   */
+  public @NonNull TransientList<T> set(int index, @Nullable T value) {
+    Objects.checkIndex(index, values.size());
+    values.set(index, value);
+    return this;
+  }
+
+  /**
+   * Returns an immutable list of the current contents in constant time.
+   *
+   * <p>The transient stays usable; later edits no longer write into storage shared with the
+   * returned list.
+   *
+   * @return immutable list of the current contents
+   */
+  public @NonNull ImmutableList<T> toImmutableList() {
+    return ImmutableList.wrap(values.build());
+  }
+
+  /**
+   * Renders the current contents like {@link java.util.List#toString()}.
+   *
+   * <p>Unlike {@link #toImmutableList()}, this reads the elements in place and keeps the
+   * transient's ownership of its storage, so logging a transient does not make later edits copy.
+   *
+   * @return string form of the current contents
+   */
+  @Override
+  public String toString() {
+    final var builder = new StringBuilder("TransientList[");
+    for (int index = 0; index < values.size(); index++) {
+      if (index > 0) {
+        builder.append(", ");
+      }
+      builder.append(values.get(index));
+    }
+    return builder.append(']').toString();
+  }
+}
@@ -0,0 +1,189 @@
+package babysteps.core;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(SoftAssertionsExtension.class)
+class BigImmutableListTest {
+  @InjectSoftAssertions private SoftAssertions softly;
+
+  private static final int SIZE = 3 * BigImmutableList.CHUNK_SIZE + 1_234;
+
+  private static final ParallelOptions SMALL_THRESHOLD =
+      new ParallelOptions(ForkJoinPool.commonPool(), 16);
+
+  private static BigImmutableList<Long> range(int size) {
+    return BigImmutableList.fromIterable(LongStream.range(0, size).boxed().toList());
+  }
+
+  @Test
+  void fromIterable_withSeveralChunks_expectedIndexedReads() {
+    // Arrange
+    final var chunk = BigImmutableList.CHUNK_SIZE;
+
+    // Act
+    final var sut = range(SIZE);
+
+    // Assert
+    softly.assertThat(sut.size()).isEqualTo(SIZE);
+    softly.assertThat(sut.get(0)).isZero();
+    softly.assertThat(sut.get(chunk - 1)).isEqualTo(chunk - 1L);
+    softly.assertThat(sut.get(chunk)).isEqualTo((long) chunk);
+    softly.assertThat(sut.get(SIZE - 1L)).isEqualTo(SIZE - 1L);
+  }
+
+  @Test
+  void get_withIndexOutOfRange_expectedException() {
+    // Arrange
+    final var sut = range(10);
+
+    // Act
+    final ThrowingCallable action = () -> sut.get(10L);
+
+    // Assert
+    softly.assertThatThrownBy(action).isInstanceOf(IndexOutOfBoundsException.class);
+  }
+
+  @Test
+  void getOption_withIndexOutOfRange_expectedNone() {
+    // Arrange
+    final var sut = BigImmutableList.fromIterable(Arrays.asList("a", null));
+
+    // Act
+    final var result = sut.getOption(2L);
+
+    // Assert
+    softly.assertThat(result).isEqualTo(Option.none());
+    softly.assertThat(sut.getOption(1L)).isEqualTo(Option.some(null));
+    softly.assertThat(sut.getOrElse(-1L, "fallback")).isEqualTo("fallback");
+  }
+
+  @Test
+  void empty_expectedNoElements() {
+    // Arrange
+    // Act
+    final var sut = BigImmutableList.<String>empty();
+
+    // Assert
+    softly.assertThat(sut.isEmpty()).isTrue();
+    softly.assertThat(sut.iterator().hasNext()).isFalse();
+    softly.assertThat(sut.stream().count()).isZero();
+    softly.assertThat(sut.toString()).isEqualTo("BigImmutableList(size=0)");
+  }
+
+  @Test
+  void parMap_expectedSameResultAsMap() {
+    // Arrange
+    final var sut = range(SIZE);
+
+    // Act
+    final var result = sut.parMap(value -> value * 2, SMALL_THRESHOLD);
+
+    // Assert
+    softly.assertThat(result).isEqualTo(sut.map(value -> value * 2));
+    softly.assertThat(result.get(SIZE - 1L)).isEqualTo(2L * (SIZE - 1));
+  }
+
+  @Test
+  void parFilter_expectedMatchingElementsPackedInOrder() {
+    // Arrange
+    final var sut = range(SIZE);
+
+    // Act
+    final var result = sut.parFilter(value -> value % 3 == 0, SMALL_THRESHOLD);
+
+    // Assert
+    softly.assertThat(result).isEqualTo(sut.filter(value -> value % 3 == 0));
+    softly.assertThat(result.size()).isEqualTo((SIZE + 2) / 3);
+    softly
+        .assertThat(result.get(BigImmutableList.CHUNK_SIZE))
+        .isEqualTo(3L * BigImmutableList.CHUNK_SIZE);
+  }
+
+  @Test
+  void parReduce_expectedSameResultAsFold() {
+    // Arrange
+    final var sut = range(SIZE);
+
+    // Act
+    final var result = sut.parReduce(0L, (sum, value) -> sum + value, Long::sum, SMALL_THRESHOLD);
+
+    // Assert
+    softly.assertThat(result).isEqualTo((long) SIZE * (SIZE - 1) / 2);
+    softly.assertThat(sut.fold(0L, (sum, value) -> sum + value)).isEqualTo(result);
+  }
+
+  @Test
+  void parallelStream_expectedSameSumAsSequential() {
+    // Arrange
+    final var sut = range(SIZE);
+
+    // Act
+    final var result = sut.parallelStream().mapToLong(Long::longValue).sum();
+
+    // Assert
+    softly.assertThat(result).isEqualTo(sut.stream().mapToLong(Long::longValue).sum());
+    softly.assertThat(sut.spliterator().getExactSizeIfKnown()).isEqualTo(SIZE);
+  }
+
+  @Test
+  void spliterator_trySplit_expectedChunkAlignedPrefix() {
+    // Arrange
+    final var sut = range(SIZE).spliterator();
+
+    // Act
+    final var result = sut.trySplit();
+
+    // Assert
+    softly.assertThat(result.estimateSize()).isEqualTo(BigImmutableList.CHUNK_SIZE);
+    softly.assertThat(sut.estimateSize()).isEqualTo(SIZE - BigImmutableList.CHUNK_SIZE);
+  }
+
+  @Test
+  void build_thenAdd_expectedBuiltListUnchanged() {
+    // Arrange
+    final var builder = BigImmutableList.<Integer>builder().add(1).add(2);
+    final var sut = builder.build();
+
+    // Act
+    builder.addAll(IntStream.range(0, 40_000).boxed().toList());
+
+    // Assert
+    softly.assertThat(sut).containsExactly(1, 2);
+    softly.assertThat(builder.build().size()).isEqualTo(40_002);
+  }
+
+  @Test
+  void hashCode_expectedListHashCode() {
+    // Arrange
+    final var values = List.of("a", "b", "c");
+    final var sut = BigImmutableList.fromIterable(values);
+
+    // Act
+    final var result = sut.hashCode();
+
+    // Assert
+    softly.assertThat(result).isEqualTo(values.hashCode());
+    softly.assertThat(sut).isEqualTo(BigImmutableList.fromIterable(values));
+    softly.assertThat(sut).isNotEqualTo(BigImmutableList.fromIterable(List.of("a", "b")));
+  }
+
+  @Test
+  void fromIterable_withNull_expectedException() {
+    // Arrange
+    // Act
+    final ThrowingCallable action = () -> BigImmutableList.fromIterable(null);
+
+    // Assert
+    softly.assertThatThrownBy(action).isInstanceOf(NullPointerException.class);
+  }
+}
@@ -0,0 +1,160 @@
+package babysteps.core;
+
+import java.util.stream.IntStream;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(SoftAssertionsExtension.class)
+class ImmutableDequeTest {
+  @InjectSoftAssertions private SoftAssertions softly;
+
+  @Test
+  void empty_expectedNoElements() {
+    // Arrange
+    // Act
+    final var sut = ImmutableDeque.<String>empty();
+
+    // Assert
+    softly.assertThat(sut.isEmpty()).isTrue();
+    softly.assertThat(sut.size()).isZero();
+    softly.assertThat(sut.peekFirst()).isEqualTo(Option.none());
+    softly.assertThat(sut.peekLast()).isEqualTo(Option.none());
+    softly.assertThat(sut.popFirst()).isEqualTo(Option.none());
+    softly.assertThat(sut.popLast()).isEqualTo(Option.none());
+  }
+
+  @Test
+  void prependAndAppend_expectedBothEnds() {
+    // Arrange
+    final var sut = ImmutableDeque.of(2, 3);
+
+    // Act
+    final var result = sut.prepend(1).append(4);
+
+    // Assert
+    softly.assertThat(result.toImmutableList()).isEqualTo(ImmutableList.of(1, 2, 3, 4));
+    softly.assertThat(result.peekFirst()).isEqualTo(Option.some(1));
+    softly.assertThat(result.peekLast()).isEqualTo(Option.some(4));
+    softly.assertThat(sut.toImmutableList()).isEqualTo(ImmutableList.of(2, 3));
+  }
+
+  @Test
+  void popFirst_expectedFirstValueAndRemaining() {
+    // Arrange
+    final var sut = ImmutableDeque.of(1, 2, 3);
+
+    // Act
+    final var result = sut.popFirst();
+
+    // Assert
+    softly.assertThat(result.map(ImmutableDeque.Popped::value)).isEqualTo(Option.some(1));
+    softly
+        .assertThat(result.map(popped -> popped.remaining().toImmutableList()))
+        .isEqualTo(Option.some(ImmutableList.of(2, 3)));
+  }
+
+  @Test
+  void popLast_withValuesOnlyPrepended_expectedLastValue() {
+    // Arrange
+    final var sut = ImmutableDeque.<Integer>empty().prepend(3).prepend(2).prepend(1);
+
+    // Act
+    final var result = sut.popLast();
+
+    // Assert
+    softly.assertThat(result.map(ImmutableDeque.Popped::value)).isEqualTo(Option.some(3));
+    softly
+        .assertThat(result.map(popped -> popped.remaining().toImmutableList()))
+        .isEqualTo(Option.some(ImmutableList.of(1, 2)));
+  }
+
+  @Test
+  void popFirst_withSingleValue_expectedEmptyRemaining() {
+    // Arrange
+    final var sut = ImmutableDeque.<String>empty().append("a");
+
+    // Act
+    final var result = sut.popFirst();
+
+    // Assert
+    softly
+        .assertThat(result)
+        .isEqualTo(Option.some(new ImmutableDeque.Popped<>("a", ImmutableDeque.empty())));
+  }
+
+  @Test
+  void popLast_withManyValuesAppended_expectedReverseOrderDrain() {
+    // Arrange
+    final var sut = ImmutableDeque.fromIterable(IntStream.range(0, 1_000).boxed().toList());
+
+    // Act
+    final var result =
+        IntStream.range(0, 990)
+            .boxed()
+            .reduce(
+                sut,
+                (deque, index) ->
+                    deque.popLast().map(ImmutableDeque.Popped::remaining).getOrElse(deque),
+                (left, right) -> left);
+
+    // Assert
+    softly
+        .assertThat(result.toImmutableList().toList())
+        .isEqualTo(IntStream.range(0, 10).boxed().toList());
+    softly.assertThat(sut.size()).isEqualTo(1_000);
+  }
+
+  @Test
+  void reverse_expectedReversedOrder() {
+    // Arrange
+    final var sut = ImmutableDeque.of(1, 2, 3).append(4);
+
+    // Act
+    final var result = sut.reverse();
+
+    // Assert
+    softly.assertThat(result.toImmutableList()).isEqualTo(ImmutableList.of(4, 3, 2, 1));
+    softly.assertThat(result.peekFirst()).isEqualTo(Option.some(4));
+    softly.assertThat(result.stream().toList()).containsExactly(4, 3, 2, 1);
+  }
+
+  @Test
+  void fromIterable_withNull_expectedException() {
+    // Arrange
+    // Act
+    final ThrowingCallable action = () -> ImmutableDeque.fromIterable(null);
+
+    // Assert
+    softly.assertThatThrownBy(action).isInstanceOf(NullPointerException.class);
+  }
+
+  @Test
+  void equalsAndHashCode_withDifferentInternalLayout_expectedEqual() {
+    // Arrange
+    final var sut = ImmutableDeque.<Integer>empty().prepend(2).prepend(1).append(3);
+
+    // Act
+    final var other = ImmutableDeque.fromIterable(ImmutableList.of(1, 2, 3));
+
+    // Assert
+    softly.assertThat(sut).isEqualTo(other);
+    softly.assertThat(sut.hashCode()).isEqualTo(other.hashCode());
+    softly.assertThat(sut).isNotEqualTo(other.reverse());
+  }
+
+  @Test
+  void toString_expectedListFormat() {
+    // Arrange
+    final var sut = ImmutableDeque.of("b").prepend("a").append("c");
+
+    // Act
+    final var result = sut.toString();
+
+    // Assert
+    softly.assertThat(result).isEqualTo("ImmutableDeque[a, b, c]");
+  }
+}
@@ -0,0 +1,104 @@
+package babysteps.core;
+
+import java.util.OptionalDouble;
+import java.util.stream.DoubleStream;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(SoftAssertionsExtension.class)
+class ImmutableDoubleListTest {
+  @InjectSoftAssertions private SoftAssertions softly;
+
+  @Test
+  void fromStream_withValues_expectedEncounterOrder() {
+    // Arrange
+    final var values = DoubleStream.of(1.5, 0.5);
+
+    // Act
+    final var sut = ImmutableDoubleList.fromStream(values);
+
+    // Assert
+    softly.assertThat(sut.toArray()).containsExactly(1.5, 0.5);
+  }
+
+  @Test
+  void distinct_withNaNAndSignedZeros_expectedDoubleCompareSemantics() {
+    // Arrange
+    final var sut = ImmutableDoubleList.of(Double.NaN, 0.0, -0.0, Double.NaN, 0.0);
+
+    // Act
+    final var result = sut.distinct();
+
+    // Assert
+    softly.assertThat(result.size()).isEqualTo(3);
+    softly.assertThat(result.indexOf(Double.NaN)).isZero();
+    softly.assertThat(result.indexOf(-0.0)).isEqualTo(2);
+  }
+
+  @Test
+  void sorted_withNaN_expectedNaNLast() {
+    // Arrange
+    final var sut = ImmutableDoubleList.of(Double.NaN, 2.0, -1.0);
+
+    // Act
+    final var result = sut.sorted();
+
+    // Assert
+    softly.assertThat(result.get(0)).isEqualTo(-1.0);
+    softly.assertThat(result.get(1)).isEqualTo(2.0);
+    softly.assertThat(Double.isNaN(result.get(2))).isTrue();
+  }
+
+  @Test
+  void sum_withManySmallValues_expectedCompensatedSum() {
+    // Arrange
+    final var sut = ImmutableDoubleList.fromStream(DoubleStream.generate(() -> 0.1).limit(10));
+
+    // Act
+    final var result = sut.sum();
+
+    // Assert
+    softly.assertThat(result).isEqualTo(1.0);
+  }
+
+  @Test
+  void minMax_withValues_expectedExtremes() {
+    // Arrange
+    final var sut = ImmutableDoubleList.of(2.5, -4.0, 8.0);
+
+    // Act
+    final var result = sut.min();
+
+    // Assert
+    softly.assertThat(result).isEqualTo(OptionalDouble.of(-4.0));
+    softly.assertThat(sut.max()).isEqualTo(OptionalDouble.of(8.0));
+    softly.assertThat(ImmutableDoubleList.empty().max()).isEqualTo(OptionalDouble.empty());
+  }
+
+  @Test
+  void mapToObj_withMapper_expectedImmutableList() {
+    // Arrange
+    final var sut = ImmutableDoubleList.of(0.5, 2.0);
+
+    // Act
+    final var result = sut.map(value -> value * 2).mapToObj(value -> (long) value);
+
+    // Assert
+    softly.assertThat(result).isEqualTo(ImmutableList.of(1L, 4L));
+  }
+
+  @Test
+  void equals_withNaN_expectedEqual() {
+    // Arrange
+    final var sut = ImmutableDoubleList.of(Double.NaN);
+
+    // Act
+    final var result = sut.equals(ImmutableDoubleList.of(Double.NaN));
+
+    // Assert
+    softly.assertThat(result).isTrue();
+  }
+}
@@ -0,0 +1,359 @@
+package babysteps.core;
+
+import java.util.OptionalInt;
+import java.util.stream.IntStream;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(SoftAssertionsExtension.class)
+class ImmutableIntListTest {
+  @InjectSoftAssertions private SoftAssertions softly;
+
+  @Test
+  void of_withValues_expectedDefensiveCopy() {
+    // Arrange
+    final var values = new int[] {1, 2, 3};
+
+    // Act
+    final var sut = ImmutableIntList.of(values);
+    values[0] = 100;
+
+    // Assert
+    softly.assertThat(sut.toArray()).containsExactly(1, 2, 3);
+    softly.assertThat(sut.size()).isEqualTo(3);
+  }
+
+  @Test
+  void of_withoutValues_expectedSharedEmpty() {
+    // Arrange
+    // Act
+    final var sut = ImmutableIntList.of();
+
+    // Assert
+    softly.assertThat(sut).isSameAs(ImmutableIntList.empty());
+    softly.assertThat(sut.isEmpty()).isTrue();
+  }
+
+  @Test
+  void fromStream_withRange_expectedEncounterOrder() {
+    // Arrange
+    final var values = IntStream.range(0, 5);
+
+    // Act
+    final var sut = ImmutableIntList.fromStream(values);
+
+    // Assert
+    softly.assertThat(sut.toArray()).containsExactly(0, 1, 2, 3, 4);
+  }
+
+  @Test
+  void fromBoxed_withValues_expectedUnboxedValues() {
+    // Arrange
+    final var values = ImmutableList.of(3, 1, 2);
+
+    // Act
+    final var sut = ImmutableIntList.fromBoxed(values);
+
+    // Assert
+    softly.assertThat(sut).isEqualTo(ImmutableIntList.of(3, 1, 2));
+  }
+
+  @Test
+  void fromBoxed_withNullElement_expectedException() {
+    // Arrange
+    final var values = ImmutableList.of(1, null);
+
+    // Act
+    final ThrowingCallable action = () -> ImmutableIntList.fromBoxed(values);
+
+    // Assert
+    softly.assertThatThrownBy(action).isInstanceOf(NullPointerException.class);
+  }
+
+  @Test
+  void get_withInvalidIndex_expectedException() {
+    // Arrange
+    final var sut = ImmutableIntList.of(1, 2);
+
+    // Act
+    final ThrowingCallable action = () -> sut.get(2);
+
+    // Assert
+    softly.assertThatThrownBy(action).isInstanceOf(IndexOutOfBoundsException.class);
+  }
+
+  @Test
+  void getOrElse_withIndices_expectedValueOrFallback() {
+    // Arrange
+    final var sut = ImmutableIntList.of(7, 8);
+
+    // Act
+    final var result = sut.getOrElse(1, -1);
+
+    // Assert
+    softly.assertThat(result).isEqualTo(8);
+    softly.assertThat(sut.getOrElse(2, -1)).isEqualTo(-1);
+    softly.assertThat(sut.getOrElse(-1, -1)).isEqualTo(-1);
+  }
+
+  @Test
+  void indexOf_withDuplicates_expectedFirstIndex() {
+    // Arrange
+    final var sut = ImmutableIntList.of(5, 6, 5);
+
+    // Act
+    final var result = sut.indexOf(5);
+
+    // Assert
+    softly.assertThat(result).isZero();
+    softly.assertThat(sut.contains(6)).isTrue();
+    softly.assertThat(sut.contains(7)).isFalse();
+  }
+
+  @Test
+  void binarySearch_withSortedList_expectedIndexOrInsertionPoint() {
+    // Arrange
+    final var sut = ImmutableIntList.of(1, 3, 5, 7);
+
+    // Act
+    final var result = sut.binarySearch(5);
+
+    // Assert
+    softly.assertThat(result).isEqualTo(2);
+    softly.assertThat(sut.binarySearch(4)).isEqualTo(-3);
+  }
+
+  @Test
+  void append_withValue_expectedOriginalUnchanged() {
+    // Arrange
+    final var sut = ImmutableIntList.of(1, 2);
+
+    // Act
+    final var result = sut.append(3);
+
+    // Assert
+    softly.assertThat(result.toArray()).containsExactly(1, 2, 3);
+    softly.assertThat(sut.toArray()).containsExactly(1, 2);
+  }
+
+  @Test
+  void set_withValue_expectedReplacedCopy() {
+    // Arrange
+    final var sut = ImmutableIntList.of(1, 2, 3);
+
+    // Act
+    final var result = sut.set(1, 20);
+
+    // Assert
+    softly.assertThat(result.toArray()).containsExactly(1, 20, 3);
+    softly.assertThat(sut.get(1)).isEqualTo(2);
+  }
+
+  @Test
+  void concat_withEmpty_expectedSameInstance() {
+    // Arrange
+    final var sut = ImmutableIntList.of(1, 2);
+
+    // Act
+    final var result = sut.concat(ImmutableIntList.empty());
+
+    // Assert
+    softly.assertThat(result).isSameAs(sut);
+    softly.assertThat(sut.concat(ImmutableIntList.of(3)).toArray()).containsExactly(1, 2, 3);
+  }
+
+  @Test
+  void takeAndDrop_withCounts_expectedPrefixAndSuffix() {
+    // Arrange
+    final var sut = ImmutableIntList.of(1, 2, 3, 4);
+
+    // Act
+    final var result = sut.take(2);
+
+    // Assert
+    softly.assertThat(result.toArray()).containsExactly(1, 2);
+    softly.assertThat(sut.drop(3).toArray()).containsExactly(4);
+    softly.assertThat(sut.take(10)).isSameAs(sut);
+    softly.assertThat(sut.drop(10)).isSameAs(ImmutableIntList.empty());
+    softly.assertThat(sut.take(-1)).isSameAs(ImmutableIntList.empty());
+  }
+
+  @Test
+  void filter_withPredicate_expectedMatchingValues() {
+    // Arrange
+    final var sut = ImmutableIntList.of(1, 2, 3, 4);
+
+    // Act
+    final var result = sut.filter(value -> value % 2 == 0);
+
+    // Assert
+    softly.assertThat(result.toArray()).containsExactly(2, 4);
+    softly.assertThat(sut.filter(value -> true)).isSameAs(sut);
+  }
+
+  @Test
+  void map_withMapper_expectedMappedValues() {
+    // Arrange
+    final var sut = ImmutableIntList.of(1, 2, 3);
+
+    // Act
+    final var result = sut.map(value -> value * 10);
+
+    // Assert
+    softly.assertThat(result.toArray()).containsExactly(10, 20, 30);
+  }
+
+  @Test
+  void mapToObj_withMapper_expectedImmutableList() {
+    // Arrange
+    final var sut = ImmutableIntList.of(1, 2);
+
+    // Act
+    final var result = sut.mapToObj(Integer::toString);
+
+    // Assert
+    softly.assertThat(result).isEqualTo(ImmutableList.of("1", "2"));
+  }
+
+  @Test
+  void fold_withOperator_expectedAccumulatedValue() {
+    // Arrange
+    final var sut = ImmutableIntList.of(1, 2, 3);
+
+    // Act
+    final var result = sut.fold(10, (accumulator, value) -> accumulator - value);
+
+    // Assert
+    softly.assertThat(result).isEqualTo(4);
+  }
+
+  @Test
+  void sorted_withValues_expectedAscendingCopy() {
+    // Arrange
+    final var sut = ImmutableIntList.of(3, -1, 2);
+
+    // Act
+    final var result = sut.sorted();
+
+    // Assert
+    softly.assertThat(result.toArray()).containsExactly(-1, 2, 3);
+    softly.assertThat(sut.toArray()).containsExactly(3, -1, 2);
+  }
+
+  @Test
+  void distinct_withDuplicates_expectedFirstOccurrencesInOrder() {
+    // Arrange
+    final var sut = ImmutableIntList.of(3, 1, 3, 2, 1, 3);
+
+    // Act
+    final var result = sut.distinct();
+
+    // Assert
+    softly.assertThat(result.toArray()).containsExactly(3, 1, 2);
+  }
+
+  @Test
+  void distinct_withUniqueValues_expectedSameInstance() {
+    // Arrange
+    final var sut = ImmutableIntList.of(3, 1, 2);
+
+    // Act
+    final var result = sut.distinct();
+
+    // Assert
+    softly.assertThat(result).isSameAs(sut);
+  }
+
+  @Test
+  void sum_withLargeValues_expectedNoOverflow() {
+    // Arrange
+    final var sut = ImmutableIntList.of(Integer.MAX_VALUE, Integer.MAX_VALUE);
+
+    // Act
+    final var result = sut.sum();
+
+    // Assert
+    softly.assertThat(result).isEqualTo(2L * Integer.MAX_VALUE);
+  }
+
+  @Test
+  void minAndMax_withValues_expectedExtremes() {
+    // Arrange
+    final var sut = ImmutableIntList.of(4, -2, 9);
+
+    // Act
+    final var result = sut.min();
+
+    // Assert
+    softly.assertThat(result).isEqualTo(OptionalInt.of(-2));
+    softly.assertThat(sut.max()).isEqualTo(OptionalInt.of(9));
+  }
+
+  @Test
+  void minAndMax_withEmpty_expectedEmptyOptionals() {
+    // Arrange
+    final var sut = ImmutableIntList.empty();
+
+    // Act
+    final var result = sut.min();
+
+    // Assert
+    softly.assertThat(result).isEqualTo(OptionalInt.empty());
+    softly.assertThat(sut.max()).isEqualTo(OptionalInt.empty());
+  }
+
+  @Test
+  void stream_withValues_expectedPrimitiveStream() {
+    // Arrange
+    final var sut = ImmutableIntList.of(1, 2, 3);
+
+    // Act
+    final var result = sut.stream().map(value -> value * 2).toArray();
+
+    // Assert
+    softly.assertThat(result).containsExactly(2, 4, 6);
+  }
+
+  @Test
+  void toImmutableList_withValues_expectedBoxedList() {
+    // Arrange
+    final var sut = ImmutableIntList.of(1, 2);
+
+    // Act
+    final var result = sut.toImmutableList();
+
+    // Assert
+    softly.assertThat(result).isEqualTo(ImmutableList.of(1, 2));
+  }
+
+  @Test
+  void equalsAndHashCode_withSameValues_expectedEqual() {
+    // Arrange
+    final var sut = ImmutableIntList.of(1, 2);
+
+    // Act
+    final var result = sut.equals(ImmutableIntList.fromStream(IntStream.of(1, 2)));
+
+    // Assert
+    softly.assertThat(result).isTrue();
+    softly.assertThat(sut.hashCode()).isEqualTo(ImmutableIntList.of(1, 2).hashCode());
+    softly.assertThat(sut.equals(ImmutableIntList.of(2, 1))).isFalse();
+    softly.assertThat(sut.toString()).isEqualTo("ImmutableIntList[1, 2]");
+  }
+
+  @Test
+  void map_withNullMapper_expectedException() {
+    // Arrange
+    final var sut = ImmutableIntList.of(1);
+
+    // Act
+    final ThrowingCallable action = () -> sut.map(null);
+
+    // Assert
+    softly.assertThatThrownBy(action).isInstanceOf(NullPointerException.class);
+  }
+}
@@ -1,19 +1,46 @@
 package babysteps.core;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
 import org.assertj.core.api.SoftAssertions;
 import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
 import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
 import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 
 @ExtendWith(SoftAssertionsExtension.class)
 class ImmutableListTest {
   @InjectSoftAssertions private SoftAssertions softly;
 
+  @TempDir private Path tempDir;
+
+  /** Element whose {@code equals} must never be reached; its hash code is its id. */
+  private record UncomparableKey(int id) {
+    @Override
+    public boolean equals(Object other) {
+      throw new AssertionError("elements must not be compared");
+    }
+
+    @Override
+    public int hashCode() {
+      return id;
+    }
+  }
+
   @Test
   void empty_expectedEmptyList() {
     // Arrange
@@ -93,16 +120,13 @@ class ImmutableListTest {
   }
 
   @Test
-  @SuppressWarnings("unchecked")
-  void privateConstructor_withAlreadyOwnedFalse_expectedCopiedUnmodifiable() throws Exception {
+  void fromIterable_withValues_expectedDefensiveCopyAndUnmodifiable() {
     // Arrange
     final var values = new ArrayList<String>();
     values.add("a");
-    final var constructor = ImmutableList.class.getDeclaredConstructor(List.class, boolean.class);
-    constructor.setAccessible(true);
 
     // Act
-    final var sut = (ImmutableList<String>) constructor.newInstance(values, false);
+    final var sut = ImmutableList.fromIterable(values);
     values.add("b");
     final ThrowingCallable action = () -> sut.toList().add("c");
 
@@ -112,18 +136,82 @@ class ImmutableListTest {
   }
 
   @Test
-  void privateConstructor_withNullList_expectedException() throws Exception {
+  void privateConstructor_withNullVector_expectedException() throws Exception {
     // Arrange
-    final var constructor = ImmutableList.class.getDeclaredConstructor(List.class, boolean.class);
+    final var constructor = ImmutableList.class.getDeclaredConstructor(PersistentVector.class);
     constructor.setAccessible(true);
 
     // Act
-    final ThrowingCallable action = () -> constructor.newInstance(null, true);
+    final ThrowingCallable action = () -> constructor.newInstance((Object) null);
 
     // Assert
     softly.assertThatThrownBy(action).hasCauseInstanceOf(NullPointerException.class);
   }
 
+  @Test
+  void builder_withValues_expectedOrder() {
+    // Arrange
+    final var builder = ImmutableList.<String>builder(4).add("a").add(null);
+
+    // Act
+    final var sut = builder.addAll(ImmutableList.of("b")).addAll(List.of("c")).build();
+
+    // Assert
+    softly.assertThat(sut.toList()).containsExactly("a", null, "b", "c");
+    softly.assertThat(builder.size()).isEqualTo(4);
+  }
+
+  @Test
+  void builder_withNoValues_expectedSharedEmpty() {
+    // Arrange
+    final var builder = ImmutableList.<String>builder();
+
+    // Act
+    final var sut = builder.build();
+
+    // Assert
+    softly.assertThat(sut).isSameAs(ImmutableList.empty());
+  }
+
+  @Test
+  void builder_withNegativeExpectedSize_expectedException() {
+    // Arrange
+    // Act
+    final ThrowingCallable action = () -> ImmutableList.builder(-1);
+
+    // Assert
+    softly.assertThatThrownBy(action)
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("expectedSize must not be negative");
+  }
+
+  @Test
+  void builder_withAddAfterBuild_expectedBuiltListUnchanged() {
+    // Arrange
+    final var builder =
+        ImmutableList.<Integer>builder().addAll(IntStream.range(0, 40).boxed().toList());
+    final var built = builder.build();
+
+    // Act
+    final var sut = builder.addAll(IntStream.range(40, 80).boxed().toList()).build();
+
+    // Assert
+    softly.assertThat(built.toList()).isEqualTo(IntStream.range(0, 40).boxed().toList());
+    softly.assertThat(sut.toList()).isEqualTo(IntStream.range(0, 80).boxed().toList());
+  }
+
+  @Test
+  void toImmutableList_withParallelStream_expectedEncounterOrder() {
+    // Arrange
+    final var values = IntStream.range(0, 10_000).boxed().toList();
+
+    // Act
+    final var sut = values.parallelStream().collect(ImmutableList.toImmutableList());
+
+    // Assert
+    softly.assertThat(sut.toList()).isEqualTo(values);
+  }
+
   @Test
   void fromIterable_withEmpty_expectedEmpty() {
     // Arrange
@@ -293,6 +381,108 @@ class ImmutableListTest {
     softly.assertThat(result.toList()).containsExactly("b", "c");
   }
 
+  @Test
+  void tail_withRepeatedCalls_expectedRemainingElements() {
+    // Arrange
+    final var sut = ImmutableList.fromList(IntStream.range(0, 100).boxed().toList());
+
+    // Act
+    final var result =
+        IntStream.range(0, 60).boxed().reduce(sut, (list, ignored) -> list.tail(), (l, r) -> l);
+
+    // Assert
+    softly.assertThat(result.toList()).isEqualTo(IntStream.range(60, 100).boxed().toList());
+  }
+
+  @Test
+  void slice_withRange_expectedElements() {
+    // Arrange
+    final var sut = ImmutableList.fromList(IntStream.range(0, 100).boxed().toList());
+
+    // Act
+    final var result = sut.slice(30, 70);
+
+    // Assert
+    softly.assertThat(result.toList()).isEqualTo(IntStream.range(30, 70).boxed().toList());
+    softly.assertThat(result.size()).isEqualTo(40);
+  }
+
+  @Test
+  void slice_withFullRange_expectedSameInstance() {
+    // Arrange
+    final var sut = ImmutableList.of("a", "b");
+
+    // Act
+    final var result = sut.slice(0, 2);
+
+    // Assert
+    softly.assertThat(result).isSameAs(sut);
+  }
+
+  @Test
+  void slice_withEmptyRange_expectedEmpty() {
+    // Arrange
+    final var sut = ImmutableList.of("a", "b");
+
+    // Act
+    final var result = sut.slice(1, 1);
+
+    // Assert
+    softly.assertThat(result).isSameAs(ImmutableList.empty());
+  }
+
+  @Test
+  void slice_withInvalidRange_expectedException() {
+    // Arrange
+    final var sut = ImmutableList.of("a", "b");
+
+    // Act
+    final ThrowingCallable action = () -> sut.slice(2, 1);
+
+    // Assert
+    softly.assertThatThrownBy(action).isInstanceOf(IndexOutOfBoundsException.class);
+  }
+
+  @Test
+  void slice_thenAppendAndPrepend_expectedSourceUnchanged() {
+    // Arrange
+    final var source = ImmutableList.fromList(IntStream.range(0, 100).boxed().toList());
+    final var slice = source.slice(40, 50);
+
+    // Act
+    final var sut = slice.append(-1).prepend(-2).set(5, -3);
+
+    // Assert
+    softly.assertThat(sut.toList()).containsExactly(-2, 40, 41, 42, 43, -3, 45, 46, 47, 48, 49, -1);
+    softly.assertThat(source.toList()).isEqualTo(IntStream.range(0, 100).boxed().toList());
+  }
+
+  @Test
+  void compact_withSlice_expectedEqualList() {
+    // Arrange
+    final var source = ImmutableList.fromList(IntStream.range(0, 1_000).boxed().toList());
+    final var sut = source.slice(10, 20);
+
+    // Act
+    final var result = sut.compact();
+
+    // Assert
+    softly.assertThat(result).isEqualTo(sut);
+    softly.assertThat(result).isNotSameAs(sut);
+  }
+
+  @Test
+  void compact_withEmpty_expectedSameInstance() {
+    // Arrange
+    final var sut = ImmutableList.<String>empty();
+
+    // Act
+    final var result = sut.compact();
+
+    // Assert
+    softly.assertThat(result).isSameAs(sut);
+  }
+
   @Test
   void contains_withValue_expectedTrue() {
     // Arrange
@@ -413,6 +603,18 @@ class ImmutableListTest {
     softly.assertThat(result.isPresent()).isFalse();
   }
 
+  @Test
+  void toNonEmptyList_withValues_expectedSharedElements() {
+    // Arrange
+    final var sut = ImmutableList.of("a", "b");
+
+    // Act
+    final var result = sut.toNonEmptyList();
+
+    // Assert
+    softly.assertThat(result.map(NonEmptyList::toImmutableList)).isEqualTo(Option.some(sut));
+  }
+
   @Test
   void toNonEmptyList_withValues_expectedSome() {
     // Arrange
@@ -438,6 +640,78 @@ class ImmutableListTest {
     softly.assertThat(result).containsExactly("a", "b");
   }
 
+  @Test
+  void parallelStream_withSlicedList_expectedEncounterOrder() {
+    // Arrange
+    final var sut =
+        ImmutableList.fromList(IntStream.range(0, 10_000).boxed().toList()).drop(7).prepend(-1);
+
+    // Act
+    final var result = sut.parallelStream().map(value -> value * 2).toList();
+
+    // Assert
+    softly.assertThat(result.size()).isEqualTo(9_994);
+    softly.assertThat(result.subList(0, 3)).containsExactly(-2, 14, 16);
+    softly.assertThat(result.get(9_993)).isEqualTo(19_998);
+  }
+
+  @Test
+  void spliterator_expectedSizedOrderedImmutable() {
+    // Arrange
+    final var sut = ImmutableList.fromList(IntStream.range(0, 100).boxed().toList());
+
+    // Act
+    final var result = sut.spliterator();
+
+    // Assert
+    softly
+        .assertThat(result.characteristics())
+        .isEqualTo(
+            Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED | Spliterator.IMMUTABLE);
+    softly.assertThat(result.getExactSizeIfKnown()).isEqualTo(100);
+  }
+
+  @Test
+  void spliterator_trySplit_expectedLeafAlignedExactHalves() {
+    // Arrange
+    final var sut = ImmutableList.fromList(IntStream.range(0, 100).boxed().toList()).spliterator();
+
+    // Act
+    final var result = sut.trySplit();
+
+    // Assert
+    softly.assertThat(result.estimateSize()).isEqualTo(32);
+    softly.assertThat(sut.estimateSize()).isEqualTo(68);
+    softly
+        .assertThat(StreamSupport.stream(result, false).toList())
+        .isEqualTo(IntStream.range(0, 32).boxed().toList());
+  }
+
+  @Test
+  void spliterator_trySplit_withinSingleLeaf_expectedNull() {
+    // Arrange
+    final var sut = ImmutableList.of("a", "b", "c").spliterator();
+
+    // Act
+    final var result = sut.trySplit();
+
+    // Assert
+    softly.assertThat(result).isNull();
+  }
+
+  @Test
+  void forEach_expectedElementsInOrder() {
+    // Arrange
+    final var sut = ImmutableList.fromList(IntStream.range(0, 70).boxed().toList());
+    final var visited = new ArrayList<Integer>();
+
+    // Act
+    sut.forEach(visited::add);
+
+    // Assert
+    softly.assertThat(visited).isEqualTo(IntStream.range(0, 70).boxed().toList());
+  }
+
   @Test
   void toArray_expectedObjectArray() {
     // Arrange
@@ -537,219 +811,417 @@ class ImmutableListTest {
   }
 
   @Test
-  void concat_withNull_expectedException() {
+  void concat_withLargerOther_expectedConcatenatedAndOperandsUnchanged() {
     // Arrange
-    final var sut = ImmutableList.of("a");
+    final var sut = ImmutableList.fromList(IntStream.range(0, 40).boxed().toList());
+    final var other = ImmutableList.fromList(IntStream.range(40, 1_000).boxed().toList());
 
     // Act
-    final ThrowingCallable action = () -> sut.concat(null);
+    final var result = sut.concat(other);
 
     // Assert
-    softly.assertThatThrownBy(action).isInstanceOf(NullPointerException.class);
+    softly.assertThat(result.toList()).isEqualTo(IntStream.range(0, 1_000).boxed().toList());
+    softly.assertThat(sut.size()).isEqualTo(40);
+    softly.assertThat(other.getOrElse(0, null)).isEqualTo(40);
   }
 
   @Test
-  void map_withMapper_expectedMappedList() {
+  void concatAll_withFragments_expectedConcatenatedInOrder() {
     // Arrange
-    final var sut = ImmutableList.of("a", "bb");
+    final var small = ImmutableList.of(-1, -2);
+    final var large = ImmutableList.fromList(IntStream.range(0, 500).boxed().toList());
+    final var lists = List.of(small, ImmutableList.<Integer>empty(), large.drop(3), small);
 
     // Act
-    final var result = sut.map(String::length);
+    final var result = ImmutableList.concatAll(lists);
 
     // Assert
-    softly.assertThat(result.toList()).containsExactly(1, 2);
+    softly.assertThat(result.size()).isEqualTo(501);
+    softly.assertThat(result.take(3).toList()).containsExactly(-1, -2, 3);
+    softly.assertThat(result.drop(497).toList()).containsExactly(498, 499, -1, -2);
+    softly.assertThat(large.size()).isEqualTo(500);
   }
 
   @Test
-  void map_withEmpty_expectedEmpty() {
+  void concatAll_withSingleList_expectedSameElements() {
     // Arrange
-    final var sut = ImmutableList.<String>empty();
+    final var sut = ImmutableList.of("a", "b");
 
     // Act
-    final var result = sut.map(String::length);
+    final var result = ImmutableList.concatAll(List.of(ImmutableList.<String>empty(), sut));
 
     // Assert
-    softly.assertThat(result.isEmpty()).isTrue();
+    softly.assertThat(result).isEqualTo(sut);
   }
 
   @Test
-  void map_withNullMapper_expectedException() {
+  void concatAll_withoutLists_expectedSharedEmpty() {
     // Arrange
-    final var sut = ImmutableList.of("a");
-
     // Act
-    final ThrowingCallable action = () -> sut.map(null);
+    final var result = ImmutableList.concatAll(List.<ImmutableList<String>>of());
 
     // Assert
-    softly.assertThatThrownBy(action).isInstanceOf(NullPointerException.class);
+    softly.assertThat(result).isSameAs(ImmutableList.empty());
   }
 
   @Test
-  void filter_withMatches_expectedFilteredList() {
+  void concatAll_withNullList_expectedNullPointerException() {
     // Arrange
-    final var sut = ImmutableList.of("a", "bb", "ccc");
+    final var lists = Arrays.asList(ImmutableList.of("a"), null);
 
     // Act
-    final var result = sut.filter(value -> value.length() >= 2);
+    final ThrowingCallable action = () -> ImmutableList.concatAll(lists);
 
     // Assert
-    softly.assertThat(result.toList()).containsExactly("bb", "ccc");
+    softly.assertThatThrownBy(action).isInstanceOf(NullPointerException.class);
   }
 
   @Test
-  void filter_withNoMatches_expectedEmpty() {
+  void set_withValidIndex_expectedReplacedAndOriginalUnchanged() {
     // Arrange
-    final var sut = ImmutableList.of("a");
+    final var sut = ImmutableList.of("a", "b", "c");
 
     // Act
-    final var result = sut.filter(value -> value.length() > 10);
+    final var result = sut.set(1, "x");
 
     // Assert
-    softly.assertThat(result.isEmpty()).isTrue();
+    softly.assertThat(result.toList()).containsExactly("a", "x", "c");
+    softly.assertThat(sut.toList()).containsExactly("a", "b", "c");
   }
 
   @Test
-  void filter_withNullPredicate_expectedException() {
+  void set_withInvalidIndex_expectedException() {
     // Arrange
     final var sut = ImmutableList.of("a");
 
     // Act
-    final ThrowingCallable action = () -> sut.filter(null);
+    final ThrowingCallable action = () -> sut.set(1, "x");
 
     // Assert
-    softly.assertThatThrownBy(action).isInstanceOf(NullPointerException.class);
+    softly.assertThatThrownBy(action).isInstanceOf(IndexOutOfBoundsException.class);
   }
 
   @Test
-  void filter_withEmpty_expectedEmpty() {
+  void append_toFourElements_expectedFiveElementsAndSourceUnchanged() {
     // Arrange
-    final var sut = ImmutableList.<String>empty();
+    final var sut = ImmutableList.of("a", null, "c", "d");
 
     // Act
-    final var result = sut.filter(value -> value.length() > 0);
+    final var result = sut.append("e");
 
     // Assert
-    softly.assertThat(result.isEmpty()).isTrue();
+    softly.assertThat(result.toList()).containsExactly("a", null, "c", "d", "e");
+    softly.assertThat(result.lastOption()).isEqualTo(Option.some("e"));
+    softly.assertThat(sut.toList()).containsExactly("a", null, "c", "d");
   }
 
   @Test
-  void flatMap_withMapper_expectedFlattenedList() {
+  void prepend_toNullElements_expectedNullsKeptInOrder() {
     // Arrange
-    final var sut = ImmutableList.of("a", "bb");
+    final var sut = ImmutableList.of(null, "b", null);
 
     // Act
-    final var result = sut.flatMap(value -> ImmutableList.of(value, value));
+    final var result = sut.prepend("z");
 
     // Assert
-    softly.assertThat(result.toList()).containsExactly("a", "a", "bb", "bb");
+    softly.assertThat(result.toList()).containsExactly("z", null, "b", null);
+    softly.assertThat(result.lastIndexOf(null)).isEqualTo(3);
+    softly.assertThat(result.reverse().toList()).containsExactly(null, "b", null, "z");
   }
 
   @Test
-  void flatMap_withEmpty_expectedEmpty() {
+  void slice_ofLargeListToFewElements_expectedEqualToSmallList() {
     // Arrange
-    final var sut = ImmutableList.<String>empty();
+    final var sut = ImmutableList.fromList(IntStream.range(0, 40).boxed().toList());
 
     // Act
-    final var result = sut.flatMap(value -> ImmutableList.of(value, value));
+    final var result = sut.slice(10, 13);
 
     // Assert
-    softly.assertThat(result.isEmpty()).isTrue();
+    softly.assertThat(result).isEqualTo(ImmutableList.of(10, 11, 12));
+    softly.assertThat(result.hashCode()).isEqualTo(List.of(10, 11, 12).hashCode());
+    softly.assertThat(result.append(13).prepend(9)).isEqualTo(sut.slice(9, 14));
   }
 
   @Test
-  void flatMap_withNullMapper_expectedException() {
+  void append_withManyValues_expectedOrderAcrossLeaves() {
     // Arrange
-    final var sut = ImmutableList.of("a");
+    final var expected = IntStream.range(0, 5_000).boxed().toList();
 
     // Act
-    final ThrowingCallable action = () -> sut.flatMap(null);
+    final var sut =
+        expected.stream()
+            .reduce(ImmutableList.<Integer>empty(), ImmutableList::append, (left, right) -> left);
 
     // Assert
-    softly.assertThatThrownBy(action).isInstanceOf(NullPointerException.class);
+    softly.assertThat(sut.toList()).isEqualTo(expected);
+    softly.assertThat(sut.getOption(4_999)).isEqualTo(Option.some(4_999));
   }
 
   @Test
-  void flatMap_withNullMapped_expectedException() {
+  void prepend_withManyValues_expectedReversedOrder() {
     // Arrange
-    final var sut = ImmutableList.of("a");
+    final var values = IntStream.range(0, 5_000).boxed().toList();
 
     // Act
-    final ThrowingCallable action = () -> sut.flatMap(value -> null);
+    final var sut =
+        values.stream()
+            .reduce(ImmutableList.<Integer>empty(), ImmutableList::prepend, (left, right) -> left);
 
     // Assert
-    softly.assertThatThrownBy(action).isInstanceOf(NullPointerException.class);
+    softly.assertThat(sut.reverse().toList()).isEqualTo(values);
+    softly.assertThat(sut.headOption()).isEqualTo(Option.some(4_999));
   }
 
   @Test
-  void take_withCount_expectedPrefix() {
+  void append_afterPrepend_expectedPreviousVersionsUnchanged() {
     // Arrange
-    final var sut = ImmutableList.of("a", "b", "c");
+    final var base = ImmutableList.fromList(IntStream.range(0, 100).boxed().toList());
+    final var prepended = base.prepend(-1);
 
     // Act
-    final var result = sut.take(2);
+    final var sut = prepended.append(100).set(50, 0);
 
     // Assert
-    softly.assertThat(result.toList()).containsExactly("a", "b");
+    softly.assertThat(sut.size()).isEqualTo(102);
+    softly.assertThat(sut.headOption()).isEqualTo(Option.some(-1));
+    softly.assertThat(sut.lastOption()).isEqualTo(Option.some(100));
+    softly.assertThat(sut.getOption(50)).isEqualTo(Option.some(0));
+    softly.assertThat(prepended.size()).isEqualTo(101);
+    softly.assertThat(prepended.getOption(50)).isEqualTo(Option.some(49));
+    softly.assertThat(base.toList()).isEqualTo(IntStream.range(0, 100).boxed().toList());
   }
 
   @Test
-  void take_withZero_expectedEmpty() {
+  void concat_withLargeLists_expectedConcatenated() {
     // Arrange
-    final var sut = ImmutableList.of("a");
+    final var left = ImmutableList.fromList(IntStream.range(0, 1_000).boxed().toList());
+    final var right = ImmutableList.fromList(IntStream.range(1_000, 1_100).boxed().toList());
 
     // Act
-    final var result = sut.take(0);
+    final var sut = right.concat(left.concat(right)).concat(left);
 
     // Assert
-    softly.assertThat(result.isEmpty()).isTrue();
+    softly.assertThat(sut.size()).isEqualTo(2_200);
+    softly.assertThat(sut.drop(100).take(1_100).toList())
+        .isEqualTo(IntStream.range(0, 1_100).boxed().toList());
+    softly.assertThat(sut.getOption(1_100)).isEqualTo(Option.some(1_000));
   }
 
   @Test
-  void take_withNegative_expectedEmpty() {
+  void concat_withNull_expectedException() {
     // Arrange
     final var sut = ImmutableList.of("a");
 
     // Act
-    final var result = sut.take(-1);
+    final ThrowingCallable action = () -> sut.concat(null);
 
     // Assert
-    softly.assertThat(result.isEmpty()).isTrue();
+    softly.assertThatThrownBy(action).isInstanceOf(NullPointerException.class);
   }
 
   @Test
-  void take_withCountEqualSize_expectedSameInstance() {
+  void map_withMapper_expectedMappedList() {
     // Arrange
-    final var sut = ImmutableList.of("a", "b");
+    final var sut = ImmutableList.of("a", "bb");
 
     // Act
-    final var result = sut.take(2);
+    final var result = sut.map(String::length);
 
     // Assert
-    softly.assertThat(result).isSameAs(sut);
+    softly.assertThat(result.toList()).containsExactly(1, 2);
   }
 
   @Test
-  void drop_withCount_expectedSuffix() {
+  void map_withEmpty_expectedEmpty() {
     // Arrange
-    final var sut = ImmutableList.of("a", "b", "c");
+    final var sut = ImmutableList.<String>empty();
 
     // Act
-    final var result = sut.drop(2);
+    final var result = sut.map(String::length);
 
     // Assert
-    softly.assertThat(result.toList()).containsExactly("c");
+    softly.assertThat(result.isEmpty()).isTrue();
   }
 
   @Test
-  void drop_withLargeCount_expectedEmpty() {
+  void map_withNullMapper_expectedException() {
     // Arrange
-    final var sut = ImmutableList.of("a", "b");
+    final var sut = ImmutableList.of("a");
 
     // Act
-    final var result = sut.drop(10);
+    final ThrowingCallable action = () -> sut.map(null);
 
     // Assert
-    softly.assertThat(result.isEmpty()).isTrue();
+    softly.assertThatThrownBy(action).isInstanceOf(NullPointerException.class);
+  }
+
+  @Test
+  void filter_withMatches_expectedFilteredList() {
+    // Arrange
+    final var sut = ImmutableList.of("a", "bb", "ccc");
+
+    // Act
+    final var result = sut.filter(value -> value.length() >= 2);
+
+    // Assert
+    softly.assertThat(result.toList()).containsExactly("bb", "ccc");
+  }
+
+  @Test
+  void filter_withNoMatches_expectedEmpty() {
+    // Arrange
+    final var sut = ImmutableList.of("a");
+
+    // Act
+    final var result = sut.filter(value -> value.length() > 10);
+
+    // Assert
+    softly.assertThat(result.isEmpty()).isTrue();
+  }
+
+  @Test
+  void filter_withNullPredicate_expectedException() {
+    // Arrange
+    final var sut = ImmutableList.of("a");
+
+    // Act
+    final ThrowingCallable action = () -> sut.filter(null);
+
+    // Assert
+    softly.assertThatThrownBy(action).isInstanceOf(NullPointerException.class);
+  }
+
+  @Test
+  void filter_withEmpty_expectedEmpty() {
+    // Arrange
+    final var sut = ImmutableList.<String>empty();
+
+    // Act
+    final var result = sut.filter(value -> value.length() > 0);
+
+    // Assert
+    softly.assertThat(result.isEmpty()).isTrue();
+  }
+
+  @Test
+  void flatMap_withMapper_expectedFlattenedList() {
+    // Arrange
+    final var sut = ImmutableList.of("a", "bb");
+
+    // Act
+    final var result = sut.flatMap(value -> ImmutableList.of(value, value));
+
+    // Assert
+    softly.assertThat(result.toList()).containsExactly("a", "a", "bb", "bb");
+  }
+
+  @Test
+  void flatMap_withEmpty_expectedEmpty() {
+    // Arrange
+    final var sut = ImmutableList.<String>empty();
+
+    // Act
+    final var result = sut.flatMap(value -> ImmutableList.of(value, value));
+
+    // Assert
+    softly.assertThat(result.isEmpty()).isTrue();
+  }
+
+  @Test
+  void flatMap_withNullMapper_expectedException() {
+    // Arrange
+    final var sut = ImmutableList.of("a");
+
+    // Act
+    final ThrowingCallable action = () -> sut.flatMap(null);
+
+    // Assert
+    softly.assertThatThrownBy(action).isInstanceOf(NullPointerException.class);
+  }
+
+  @Test
+  void flatMap_withNullMapped_expectedException() {
+    // Arrange
+    final var sut = ImmutableList.of("a");
+
+    // Act
+    final ThrowingCallable action = () -> sut.flatMap(value -> null);
+
+    // Assert
+    softly.assertThatThrownBy(action).isInstanceOf(NullPointerException.class);
+  }
+
+  @Test
+  void take_withCount_expectedPrefix() {
+    // Arrange
+    final var sut = ImmutableList.of("a", "b", "c");
+
+    // Act
+    final var result = sut.take(2);
+
+    // Assert
+    softly.assertThat(result.toList()).containsExactly("a", "b");
+  }
+
+  @Test
+  void take_withZero_expectedEmpty() {
+    // Arrange
+    final var sut = ImmutableList.of("a");
+
+    // Act
+    final var result = sut.take(0);
+
+    // Assert
+    softly.assertThat(result.isEmpty()).isTrue();
+  }
+
+  @Test
+  void take_withNegative_expectedEmpty() {
+    // Arrange
+    final var sut = ImmutableList.of("a");
+
+    // Act
+    final var result = sut.take(-1);
+
+    // Assert
+    softly.assertThat(result.isEmpty()).isTrue();
+  }
+
+  @Test
+  void take_withCountEqualSize_expectedSameInstance() {
+    // Arrange
+    final var sut = ImmutableList.of("a", "b");
+
+    // Act
+    final var result = sut.take(2);
+
+    // Assert
+    softly.assertThat(result).isSameAs(sut);
+  }
+
+  @Test
+  void drop_withCount_expectedSuffix() {
+    // Arrange
+    final var sut = ImmutableList.of("a", "b", "c");
+
+    // Act
+    final var result = sut.drop(2);
+
+    // Assert
+    softly.assertThat(result.toList()).containsExactly("c");
+  }
+
+  @Test
+  void drop_withLargeCount_expectedEmpty() {
+    // Arrange
+    final var sut = ImmutableList.of("a", "b");
+
+    // Act
+    final var result = sut.drop(10);
+
+    // Assert
+    softly.assertThat(result.isEmpty()).isTrue();
   }
 
   @Test
@@ -933,187 +1405,928 @@ class ImmutableListTest {
   }
 
   @Test
-  void reverse_withValues_expectedReversedList() {
+  void distinct_withLargeListAndNulls_expectedFirstOccurrencesInOrder() {
     // Arrange
-    final var sut = ImmutableList.of("a", "b", "c");
+    final var values =
+        IntStream.range(0, 1_000).mapToObj(index -> index % 3 == 0 ? null : index % 50).toList();
+    final var sut = ImmutableList.fromList(values);
 
     // Act
-    final var result = sut.reverse();
+    final var result = sut.distinct();
 
     // Assert
-    softly.assertThat(result.toList()).containsExactly("c", "b", "a");
+    softly.assertThat(result.size()).isEqualTo(51);
+    softly.assertThat(result.headOption()).isEqualTo(Option.some(null));
+    softly.assertThat(result.getOption(1)).isEqualTo(Option.some(1));
+    softly.assertThat(result.getOption(2)).isEqualTo(Option.some(2));
   }
 
   @Test
-  void reverse_withSingle_expectedSameInstance() {
+  void distinct_withLargeUniqueList_expectedSameInstance() {
     // Arrange
-    final var sut = ImmutableList.of("a");
+    final var sut = ImmutableList.fromList(IntStream.range(0, 1_000).boxed().toList());
 
     // Act
-    final var result = sut.reverse();
+    final var result = sut.distinct();
 
     // Assert
     softly.assertThat(result).isSameAs(sut);
   }
 
   @Test
-  void sorted_withComparator_expectedSortedList() {
+  void distinctBy_withKeyExtractor_expectedFirstElementPerKey() {
     // Arrange
-    final var sut = ImmutableList.of("bb", "a", "ccc");
+    final var sut = ImmutableList.of("apple", "avocado", "banana", "blueberry", "cherry");
 
     // Act
-    final var result = sut.sorted((left, right) -> left.length() - right.length());
+    final var result = sut.distinctBy(value -> value.charAt(0));
 
     // Assert
-    softly.assertThat(result.toList()).containsExactly("a", "bb", "ccc");
+    softly.assertThat(result.toList()).containsExactly("apple", "banana", "cherry");
   }
 
   @Test
-  void sorted_withNullComparator_expectedException() {
+  void distinctBy_withLargeList_expectedKeyExtractorCalledOncePerElement() {
     // Arrange
-    final var sut = ImmutableList.of("a");
+    final var calls = new AtomicInteger();
+    final var sut = ImmutableList.fromList(IntStream.range(0, 100).boxed().toList());
 
     // Act
-    final ThrowingCallable action = () -> sut.sorted(null);
+    final var result =
+        sut.distinctBy(
+            value -> {
+              calls.incrementAndGet();
+              return value % 10;
+            });
 
     // Assert
-    softly.assertThatThrownBy(action).isInstanceOf(NullPointerException.class);
+    softly.assertThat(result.toList()).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+    softly.assertThat(calls.get()).isEqualTo(100);
   }
 
   @Test
-  void sorted_withSingle_expectedSameInstance() {
+  void distinctBy_withNullKeyExtractor_expectedException() {
     // Arrange
-    final var sut = ImmutableList.of("a");
+    final var sut = ImmutableList.of(1, 2);
 
     // Act
-    final var result = sut.sorted(String::compareTo);
+    final ThrowingCallable action = () -> sut.distinctBy(null);
 
     // Assert
-    softly.assertThat(result).isSameAs(sut);
+    softly.assertThatThrownBy(action).isInstanceOf(NullPointerException.class);
   }
 
   @Test
-  void fold_withValues_expectedAccumulatedValue() {
+  void distinctSorted_withSortedDuplicates_expectedUniqueValues() {
     // Arrange
-    final var sut = ImmutableList.of(1, 2, 3);
+    final var sut = ImmutableList.of(null, null, 1, 1, 2, 3, 3, 3);
 
     // Act
-    final var result = sut.fold(0, Integer::sum);
+    final var result = sut.distinctSorted();
 
     // Assert
-    softly.assertThat(result).isEqualTo(6);
+    softly.assertThat(result.toList()).containsExactly(null, 1, 2, 3);
   }
 
   @Test
-  void fold_withEmpty_expectedInitial() {
+  void distinctSorted_withoutDuplicates_expectedSameInstance() {
     // Arrange
-    final var sut = ImmutableList.<Integer>empty();
+    final var sut = ImmutableList.of(1, 2, 3);
 
     // Act
-    final var result = sut.fold(10, Integer::sum);
+    final var result = sut.distinctSorted();
 
     // Assert
-    softly.assertThat(result).isEqualTo(10);
+    softly.assertThat(result).isSameAs(sut);
   }
 
   @Test
-  void fold_withNullFolder_expectedException() {
+  void distinctSorted_withUnsortedList_expectedOnlyAdjacentRunsCollapsed() {
     // Arrange
-    final var sut = ImmutableList.of(1);
+    final var sut = ImmutableList.of(1, 1, 2, 1);
 
     // Act
-    final ThrowingCallable action = () -> sut.fold(0, null);
+    final var result = sut.distinctSorted();
 
     // Assert
-    softly.assertThatThrownBy(action).isInstanceOf(NullPointerException.class);
+    softly.assertThat(result.toList()).containsExactly(1, 2, 1);
   }
 
   @Test
-  void iterator_remove_expectedException() {
+  void indexBy_withDuplicateKeys_expectedLastElementPerKey() {
     // Arrange
-    final var sut = ImmutableList.of("a", "b");
-    final var iterator = sut.iterator();
-    iterator.next();
+    final var sut = ImmutableList.of("apple", "avocado", "banana");
 
     // Act
-    final ThrowingCallable action = iterator::remove;
+    final var result = sut.indexBy(value -> value.charAt(0));
 
     // Assert
-    softly.assertThatThrownBy(action).isInstanceOf(UnsupportedOperationException.class);
+    softly.assertThat(result.size()).isEqualTo(2);
+    softly.assertThat(result.get('a')).isEqualTo(Option.some("avocado"));
+    softly.assertThat(result.get('b')).isEqualTo(Option.some("banana"));
   }
 
   @Test
-  void fromList_withNullableValues_expectedSome() {
+  void reverse_withValues_expectedReversedList() {
     // Arrange
-    final var values = Arrays.asList("a", null, "c");
+    final var sut = ImmutableList.of("a", "b", "c");
 
     // Act
-    final var sut = ImmutableList.fromList(values);
+    final var result = sut.reverse();
 
     // Assert
-    softly.assertThat(sut.toList()).containsExactly("a", null, "c");
+    softly.assertThat(result.toList()).containsExactly("c", "b", "a");
   }
 
   @Test
-  void equals_withSameValues_expectedTrueAndHashCodeMatch() {
+  void reverse_withSingle_expectedSameInstance() {
     // Arrange
-    final var left = ImmutableList.of("a", "b");
-    final var right = ImmutableList.of("a", "b");
+    final var sut = ImmutableList.of("a");
 
     // Act
-    final var result = left.equals(right);
+    final var result = sut.reverse();
 
     // Assert
-    softly.assertThat(result).isTrue();
-    softly.assertThat(left.hashCode()).isEqualTo(right.hashCode());
+    softly.assertThat(result).isSameAs(sut);
   }
 
   @Test
-  void equals_withSameInstance_expectedTrue() {
+  void sorted_withComparator_expectedSortedList() {
     // Arrange
-    final var sut = ImmutableList.of("a", "b");
+    final var sut = ImmutableList.of("bb", "a", "ccc");
 
     // Act
-    final var result = sut.equals(sut);
+    final var result = sut.sorted((left, right) -> left.length() - right.length());
 
     // Assert
-    softly.assertThat(result).isTrue();
+    softly.assertThat(result.toList()).containsExactly("a", "bb", "ccc");
   }
 
   @Test
-  void equals_withDifferentValues_expectedFalse() {
+  void sorted_withNullComparator_expectedException() {
     // Arrange
-    final var left = ImmutableList.of("a");
-    final var right = ImmutableList.of("b");
+    final var sut = ImmutableList.of("a");
 
     // Act
-    final var result = left.equals(right);
+    final ThrowingCallable action = () -> sut.sorted(null);
 
     // Assert
-    softly.assertThat(result).isFalse();
+    softly.assertThatThrownBy(action).isInstanceOf(NullPointerException.class);
   }
 
   @Test
-  void equals_withNonList_expectedFalse() {
+  void sorted_withSingle_expectedSameInstance() {
     // Arrange
     final var sut = ImmutableList.of("a");
 
     // Act
-    final var result = sut.equals("a");
+    final var result = sut.sorted(String::compareTo);
 
     // Assert
-    softly.assertThat(result).isFalse();
+    softly.assertThat(result).isSameAs(sut);
   }
 
   @Test
-  void toString_expectedValue() {
+  void sortedPrefix_withTies_expectedStableSortedPrefix() {
     // Arrange
-    final var sut = ImmutableList.of("a", "b");
+    final var sut = ImmutableList.of("bb", "a", "cc", "d", "ee", "f");
 
     // Act
-    final var result = sut.toString();
+    final var result = sut.sortedPrefix(4, Comparator.comparingInt(String::length));
 
     // Assert
-    softly.assertThat(result).isEqualTo("ImmutableList[a, b]");
+    softly.assertThat(result.toList()).containsExactly("a", "d", "f", "bb");
+  }
+
+  @Test
+  void sortedPrefix_withLargeList_expectedSmallestInOrder() {
+    // Arrange
+    final var values = new ArrayList<>(IntStream.range(0, 10_000).boxed().toList());
+    Collections.shuffle(values, new Random(42));
+    final var sut = ImmutableList.fromList(values);
+
+    // Act
+    final var result = sut.sortedPrefix(100, Comparator.naturalOrder());
+
+    // Assert
+    softly.assertThat(result.toList()).isEqualTo(IntStream.range(0, 100).boxed().toList());
+  }
+
+  @Test
+  void sortedPrefix_withKBeyondSize_expectedFullySorted() {
+    // Arrange
+    final var sut = ImmutableList.of(3, 1, 2);
+
+    // Act
+    final var result = sut.sortedPrefix(10, Comparator.naturalOrder());
+
+    // Assert
+    softly.assertThat(result.toList()).containsExactly(1, 2, 3);
+  }
+
+  @Test
+  void sortedPrefix_withNegativeK_expectedIllegalArgumentException() {
+    // Arrange
+    final var sut = ImmutableList.of(1);
+
+    // Act
+    final ThrowingCallable action = () -> sut.sortedPrefix(-1, Comparator.naturalOrder());
+
+    // Assert
+    softly.assertThatThrownBy(action).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void topK_withValues_expectedGreatestFirst() {
+    // Arrange
+    final var sut = ImmutableList.of(5, 1, 9, 3, 7, 9);
+
+    // Act
+    final var result = sut.topK(3, Comparator.naturalOrder());
+
+    // Assert
+    softly.assertThat(result.toList()).containsExactly(9, 9, 7);
+  }
+
+  @Test
+  void topK_withZero_expectedEmpty() {
+    // Arrange
+    final var sut = ImmutableList.of(5, 1);
+
+    // Act
+    final var result = sut.topK(0, Comparator.naturalOrder());
+
+    // Assert
+    softly.assertThat(result).isSameAs(ImmutableList.empty());
+  }
+
+  @Test
+  void nthElement_withValues_expectedElementOfRank() {
+    // Arrange
+    final var values = new ArrayList<>(IntStream.range(0, 1_001).boxed().toList());
+    Collections.shuffle(values, new Random(7));
+    final var sut = ImmutableList.fromList(values);
+
+    // Act
+    final var result = sut.nthElement(500, Comparator.naturalOrder());
+
+    // Assert
+    softly.assertThat(result).isEqualTo(Option.some(500));
+    softly.assertThat(sut.nthElement(0, Comparator.reverseOrder())).isEqualTo(Option.some(1_000));
+  }
+
+  @Test
+  void nthElement_outOfRange_expectedNone() {
+    // Arrange
+    final var sut = ImmutableList.of(1, 2);
+
+    // Act
+    final var result = sut.nthElement(2, Comparator.naturalOrder());
+
+    // Assert
+    softly.assertThat(result).isEqualTo(Option.none());
+  }
+
+  @Test
+  void mergeSorted_withSortedLists_expectedStableMerge() {
+    // Arrange
+    final var first = ImmutableList.of("a1", "c1", "e1");
+    final var second = ImmutableList.of("b2", "c2", "f2");
+    final var third = ImmutableList.of("c3");
+    final Comparator<String> byLetter = Comparator.comparing(value -> value.charAt(0));
+
+    // Act
+    final var result = ImmutableList.mergeSorted(List.of(first, second, third), byLetter);
+
+    // Assert
+    softly
+        .assertThat(result.toList())
+        .containsExactly("a1", "b2", "c1", "c2", "c3", "e1", "f2");
+  }
+
+  @Test
+  void mergeSorted_withSingleNonEmptyList_expectedEqualList() {
+    // Arrange
+    final var sut = ImmutableList.of(1, 2, 3);
+
+    // Act
+    final var result =
+        ImmutableList.mergeSorted(
+            List.of(ImmutableList.empty(), sut, ImmutableList.empty()), Comparator.naturalOrder());
+
+    // Assert
+    softly.assertThat(result).isEqualTo(sut);
+  }
+
+  @Test
+  void mergeSorted_withNullComparator_expectedNullPointerException() {
+    // Arrange
+    final var lists = List.of(ImmutableList.of(1));
+
+    // Act
+    final ThrowingCallable action = () -> ImmutableList.mergeSorted(lists, null);
+
+    // Assert
+    softly.assertThatThrownBy(action).isInstanceOf(NullPointerException.class);
+  }
+
+  @Test
+  void mapToInt_withMapper_expectedPrimitiveList() {
+    // Arrange
+    final var sut = ImmutableList.of("a", "bb", "ccc");
+
+    // Act
+    final var result = sut.mapToInt(String::length);
+
+    // Assert
+    softly.assertThat(result).isEqualTo(ImmutableIntList.of(1, 2, 3));
+  }
+
+  @Test
+  void mapToLongAndDouble_withMapper_expectedPrimitiveLists() {
+    // Arrange
+    final var sut = ImmutableList.of(1, 2);
+
+    // Act
+    final var result = sut.mapToLong(value -> value * 10L);
+
+    // Assert
+    softly.assertThat(result).isEqualTo(ImmutableLongList.of(10L, 20L));
+    softly.assertThat(sut.mapToDouble(value -> value / 2.0))
+        .isEqualTo(ImmutableDoubleList.of(0.5, 1.0));
+  }
+
+  @Test
+  void mapToInt_withEmpty_expectedSharedEmpty() {
+    // Arrange
+    final var sut = ImmutableList.<String>empty();
+
+    // Act
+    final var result = sut.mapToInt(String::length);
+
+    // Assert
+    softly.assertThat(result).isSameAs(ImmutableIntList.empty());
+  }
+
+  @Test
+  void parMap_withSmallThreshold_expectedEncounterOrder() {
+    // Arrange
+    final var sut = ImmutableList.fromList(IntStream.range(0, 10_000).boxed().toList());
+    final var options = ParallelOptions.defaults().withThreshold(100);
+
+    // Act
+    final var result = sut.parMap(value -> value * 2, options);
+
+    // Assert
+    softly.assertThat(result).isEqualTo(sut.map(value -> value * 2));
+  }
+
+  @Test
+  void parMap_withCustomPool_expectedMappedInPool() {
+    // Arrange
+    final var pool = new ForkJoinPool(3);
+    final var sut = ImmutableList.fromList(IntStream.range(0, 1_000).boxed().toList());
+    final var options = new ParallelOptions(pool, 10);
+
+    // Act
+    final var result = sut.parMap(value -> Thread.currentThread().getName(), options);
+
+    // Assert
+    softly.assertThat(result.filter(name -> name.contains("ForkJoinPool-")).size())
+        .isEqualTo(1_000);
+    pool.shutdown();
+  }
+
+  @Test
+  void parMap_belowThreshold_expectedSequentialResult() {
+    // Arrange
+    final var sut = ImmutableList.of(1, 2, 3);
+
+    // Act
+    final var result = sut.parMap(value -> value + 1);
+
+    // Assert
+    softly.assertThat(result.toList()).containsExactly(2, 3, 4);
+  }
+
+  @Test
+  void parMap_withNullMapper_expectedException() {
+    // Arrange
+    final var sut = ImmutableList.of(1);
+
+    // Act
+    final ThrowingCallable action = () -> sut.parMap(null);
+
+    // Assert
+    softly.assertThatThrownBy(action).isInstanceOf(NullPointerException.class);
+  }
+
+  @Test
+  void parMap_withThrowingMapper_expectedExceptionPropagated() {
+    // Arrange
+    final var sut = ImmutableList.fromList(IntStream.range(0, 1_000).boxed().toList());
+    final var options = ParallelOptions.defaults().withThreshold(10);
+
+    // Act
+    final ThrowingCallable action =
+        () ->
+            sut.parMap(
+                value -> {
+                  throw new IllegalStateException("boom");
+                },
+                options);
+
+    // Assert
+    softly.assertThatThrownBy(action).isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  void parFilter_withSmallThreshold_expectedEncounterOrder() {
+    // Arrange
+    final var sut = ImmutableList.fromList(IntStream.range(0, 10_000).boxed().toList());
+    final var options = ParallelOptions.defaults().withThreshold(64);
+
+    // Act
+    final var result = sut.parFilter(value -> value % 7 == 0, options);
+
+    // Assert
+    softly.assertThat(result).isEqualTo(sut.filter(value -> value % 7 == 0));
+  }
+
+  @Test
+  void parFilter_withNoMatches_expectedSharedEmpty() {
+    // Arrange
+    final var sut = ImmutableList.fromList(IntStream.range(0, 1_000).boxed().toList());
+    final var options = ParallelOptions.defaults().withThreshold(10);
+
+    // Act
+    final var result = sut.parFilter(value -> value < 0, options);
+
+    // Assert
+    softly.assertThat(result).isSameAs(ImmutableList.empty());
+  }
+
+  @Test
+  void parFlatMap_withSmallThreshold_expectedEncounterOrder() {
+    // Arrange
+    final var sut = ImmutableList.fromList(IntStream.range(0, 5_000).boxed().toList());
+    final var options = ParallelOptions.defaults().withThreshold(50);
+
+    // Act
+    final var result = sut.parFlatMap(value -> ImmutableList.of(value, -value), options);
+
+    // Assert
+    softly.assertThat(result).isEqualTo(sut.flatMap(value -> ImmutableList.of(value, -value)));
+  }
+
+  @Test
+  void parReduce_withSmallThreshold_expectedSameAsFold() {
+    // Arrange
+    final var sut = ImmutableList.fromList(IntStream.range(0, 10_000).boxed().toList());
+    final var options = ParallelOptions.defaults().withThreshold(100);
+
+    // Act
+    final var result =
+        sut.parReduce("", (text, value) -> text + (value % 10), String::concat, options);
+
+    // Assert
+    softly.assertThat(result).isEqualTo(sut.fold("", (text, value) -> text + (value % 10)));
+  }
+
+  @Test
+  void parReduce_belowThreshold_expectedIdentityForEmpty() {
+    // Arrange
+    final var sut = ImmutableList.<Integer>empty();
+
+    // Act
+    final var result = sut.parReduce(0, Integer::sum, Integer::sum);
+
+    // Assert
+    softly.assertThat(result).isEqualTo(0);
+  }
+
+  @Test
+  void parSorted_withSmallThreshold_expectedStableSortedList() {
+    // Arrange
+    final var values = IntStream.range(0, 20_000).map(value -> value % 97).boxed().toList();
+    final var sut = ImmutableList.fromList(values);
+    final var options = ParallelOptions.defaults().withThreshold(100);
+
+    // Act
+    final var result = sut.parSorted(Comparator.reverseOrder(), options);
+
+    // Assert
+    softly.assertThat(result).isEqualTo(sut.sorted(Comparator.reverseOrder()));
+  }
+
+  @Test
+  void fold_withValues_expectedAccumulatedValue() {
+    // Arrange
+    final var sut = ImmutableList.of(1, 2, 3);
+
+    // Act
+    final var result = sut.fold(0, Integer::sum);
+
+    // Assert
+    softly.assertThat(result).isEqualTo(6);
+  }
+
+  @Test
+  void fold_withEmpty_expectedInitial() {
+    // Arrange
+    final var sut = ImmutableList.<Integer>empty();
+
+    // Act
+    final var result = sut.fold(10, Integer::sum);
+
+    // Assert
+    softly.assertThat(result).isEqualTo(10);
+  }
+
+  @Test
+  void fold_withNullFolder_expectedException() {
+    // Arrange
+    final var sut = ImmutableList.of(1);
+
+    // Act
+    final ThrowingCallable action = () -> sut.fold(0, null);
+
+    // Assert
+    softly.assertThatThrownBy(action).isInstanceOf(NullPointerException.class);
+  }
+
+  @Test
+  void fold_acrossLeaves_expectedLeftToRightOrder() {
+    // Arrange
+    final var sut = ImmutableList.fromList(IntStream.range(0, 100).boxed().toList()).drop(5);
+
+    // Act
+    final var result = sut.fold(new StringBuilder(), (builder, value) -> builder.append(value));
+
+    // Assert
+    softly.assertThat(result.toString()).startsWith("5678").endsWith("979899");
+  }
+
+  @Test
+  void foldRight_acrossLeaves_expectedRightToLeftOrder() {
+    // Arrange
+    final var sut = ImmutableList.fromList(IntStream.range(0, 70).boxed().toList()).drop(3);
+
+    // Act
+    final var result =
+        sut.foldRight(ImmutableList.<Integer>empty(), (value, acc) -> acc.append(value));
+
+    // Assert
+    softly.assertThat(result.size()).isEqualTo(67);
+    softly.assertThat(result.take(2).toList()).containsExactly(69, 68);
+    softly.assertThat(result.getOrElse(66, null)).isEqualTo(3);
+  }
+
+  @Test
+  void foldWhile_conditionFails_expectedRemainingElementsSkipped() {
+    // Arrange
+    final var sut = ImmutableList.fromList(IntStream.range(0, 1_000).boxed().toList());
+    final var visited = new AtomicInteger();
+
+    // Act
+    final var result =
+        sut.foldWhile(
+            0,
+            sum -> sum < 10,
+            (sum, value) -> {
+              visited.incrementAndGet();
+              return sum + value;
+            });
+
+    // Assert
+    softly.assertThat(result).isEqualTo(10);
+    softly.assertThat(visited.get()).isEqualTo(5);
+  }
+
+  @Test
+  void foldWhile_conditionHolds_expectedFullFold() {
+    // Arrange
+    final var sut = ImmutableList.of(1, 2, 3);
+
+    // Act
+    final var result = sut.foldWhile(0, sum -> true, Integer::sum);
+
+    // Assert
+    softly.assertThat(result).isEqualTo(6);
+  }
+
+  @Test
+  void foldInt_withValues_expectedAccumulatedValue() {
+    // Arrange
+    final var sut = ImmutableList.of("a", "bb", "ccc");
+
+    // Act
+    final var result = sut.foldInt(1, (acc, value) -> acc * value.length());
+
+    // Assert
+    softly.assertThat(result).isEqualTo(6);
+  }
+
+  @Test
+  void foldLong_withValues_expectedAccumulatedValue() {
+    // Arrange
+    final var sut = ImmutableList.of(Integer.MAX_VALUE, Integer.MAX_VALUE);
+
+    // Act
+    final var result = sut.foldLong(0L, (acc, value) -> acc + value);
+
+    // Assert
+    softly.assertThat(result).isEqualTo(2L * Integer.MAX_VALUE);
+  }
+
+  @Test
+  void foldDouble_withValues_expectedAccumulatedValue() {
+    // Arrange
+    final var sut = ImmutableList.of(1, 2, 4);
+
+    // Act
+    final var result = sut.foldDouble(0.0, (acc, value) -> acc + 1.0 / value);
+
+    // Assert
+    softly.assertThat(result).isEqualTo(1.75);
+  }
+
+  @Test
+  void sumBy_withIntKey_expectedSum() {
+    // Arrange
+    final var sut = ImmutableList.of("a", "bb", "ccc");
+
+    // Act
+    final var result = sut.sumBy(String::length);
+
+    // Assert
+    softly.assertThat(result).isEqualTo(6L);
+  }
+
+  @Test
+  void sumBy_withEmpty_expectedZero() {
+    // Arrange
+    final var sut = ImmutableList.<String>empty();
+
+    // Act
+    final var result = sut.sumBy(String::length);
+
+    // Assert
+    softly.assertThat(result).isZero();
+  }
+
+  @Test
+  void foldInt_withNullFolder_expectedException() {
+    // Arrange
+    final var sut = ImmutableList.of(1);
+
+    // Act
+    final ThrowingCallable action = () -> sut.foldInt(0, null);
+
+    // Assert
+    softly.assertThatThrownBy(action).isInstanceOf(NullPointerException.class);
+  }
+
+  @Test
+  void foldWhile_withNullCondition_expectedException() {
+    // Arrange
+    final var sut = ImmutableList.of(1);
+
+    // Act
+    final ThrowingCallable action = () -> sut.foldWhile(0, null, Integer::sum);
+
+    // Assert
+    softly.assertThatThrownBy(action).isInstanceOf(NullPointerException.class);
+  }
+
+  @Test
+  void iterator_remove_expectedException() {
+    // Arrange
+    final var sut = ImmutableList.of("a", "b");
+    final var iterator = sut.iterator();
+    iterator.next();
+
+    // Act
+    final ThrowingCallable action = iterator::remove;
+
+    // Assert
+    softly.assertThatThrownBy(action).isInstanceOf(UnsupportedOperationException.class);
+  }
+
+  @Test
+  void fromList_withNullableValues_expectedSome() {
+    // Arrange
+    final var values = Arrays.asList("a", null, "c");
+
+    // Act
+    final var sut = ImmutableList.fromList(values);
+
+    // Assert
+    softly.assertThat(sut.toList()).containsExactly("a", null, "c");
+  }
+
+  @Test
+  void equals_withSameValues_expectedTrueAndHashCodeMatch() {
+    // Arrange
+    final var left = ImmutableList.of("a", "b");
+    final var right = ImmutableList.of("a", "b");
+
+    // Act
+    final var result = left.equals(right);
+
+    // Assert
+    softly.assertThat(result).isTrue();
+    softly.assertThat(left.hashCode()).isEqualTo(right.hashCode());
+  }
+
+  @Test
+  void equals_withDifferentCachedHashCodes_expectedFalseWithoutComparingElements() {
+    // Arrange
+    final var left = ImmutableList.of(new UncomparableKey(1), new UncomparableKey(2));
+    final var right = ImmutableList.of(new UncomparableKey(1), new UncomparableKey(3));
+    final var leftHash = left.hashCode();
+    final var rightHash = right.hashCode();
+
+    // Act
+    final var result = left.equals(right);
+
+    // Assert
+    softly.assertThat(result).isFalse();
+    softly.assertThat(leftHash).isNotEqualTo(rightHash);
+  }
+
+  @Test
+  void equals_withSharedStorage_expectedTrueWithoutComparingElements() {
+    // Arrange
+    final var source =
+        ImmutableList.of(
+            new UncomparableKey(1), new UncomparableKey(2), new UncomparableKey(3));
+
+    // Act
+    final var result = source.slice(1, 3).equals(source.slice(1, 3));
+
+    // Assert
+    softly.assertThat(result).isTrue();
+  }
+
+  @Test
+  void hashCode_expectedListContractAndStableValue() {
+    // Arrange
+    final var sut = ImmutableList.of("a", null, "c");
+
+    // Act
+    final var result = sut.hashCode();
+
+    // Assert
+    softly.assertThat(result).isEqualTo(Arrays.asList("a", null, "c").hashCode());
+    softly.assertThat(sut.hashCode()).isEqualTo(result);
+    softly.assertThat(ImmutableList.of(-31).hashCode()).isZero();
+    softly.assertThat(ImmutableList.of(-31).hashCode()).isEqualTo(List.of(-31).hashCode());
+  }
+
+  @Test
+  void equals_withSameInstance_expectedTrue() {
+    // Arrange
+    final var sut = ImmutableList.of("a", "b");
+
+    // Act
+    final var result = sut.equals(sut);
+
+    // Assert
+    softly.assertThat(result).isTrue();
+  }
+
+  @Test
+  void equals_withDifferentValues_expectedFalse() {
+    // Arrange
+    final var left = ImmutableList.of("a");
+    final var right = ImmutableList.of("b");
+
+    // Act
+    final var result = left.equals(right);
+
+    // Assert
+    softly.assertThat(result).isFalse();
+  }
+
+  @Test
+  void equals_withNonList_expectedFalse() {
+    // Arrange
+    final var sut = ImmutableList.of("a");
+
+    // Act
+    final var result = sut.equals("a");
+
+    // Assert
+    softly.assertThat(result).isFalse();
+  }
+
+  @Test
+  void toString_expectedValue() {
+    // Arrange
+    final var sut = ImmutableList.of("a", "b");
+
+    // Act
+    final var result = sut.toString();
+
+    // Assert
+    softly.assertThat(result).isEqualTo("ImmutableList[a, b]");
+  }
+
+  @Test
+  void withMutations_appendAndSet_expectedEditedCopy() {
+    // Arrange
+    final var sut = ImmutableList.of(1, 2, 3);
+
+    // Act
+    final var result = sut.withMutations(list -> list.append(4).set(0, 0));
+
+    // Assert
+    softly.assertThat(result.toList()).isEqualTo(List.of(0, 2, 3, 4));
+    softly.assertThat(sut.toList()).isEqualTo(List.of(1, 2, 3));
+  }
+
+  @Test
+  void withMutations_withNull_expectedNullPointerException() {
+    // Arrange
+    final var sut = ImmutableList.of(1);
+
+    // Act
+    final ThrowingCallable action = () -> sut.withMutations(null);
+
+    // Assert
+    softly.assertThatThrownBy(action).isInstanceOf(NullPointerException.class);
+  }
+
+  @Test
+  void writeSnapshot_thenMapSnapshot_expectedSameElements() throws IOException {
+    // Arrange
+    final var sut = ImmutableList.fromList(IntStream.range(0, 50_000).boxed().toList());
+    final var path = tempDir.resolve("ints.snapshot");
+
+    // Act
+    sut.writeSnapshot(path, FixedWidthCodec.ints());
+    final var result = ImmutableList.mapSnapshot(path, FixedWidthCodec.ints());
+
+    // Assert
+    softly.assertThat(result.size()).isEqualTo(50_000);
+    softly.assertThat(result.toImmutableList()).isEqualTo(sut);
+    softly.assertThat(Files.size(path)).isEqualTo(16 + 50_000 * 4);
+  }
+
+  @Test
+  void writeSnapshot_withEmptyList_expectedEmptyMappedList() throws IOException {
+    // Arrange
+    final var sut = ImmutableList.<Long>empty();
+    final var path = tempDir.resolve("empty.snapshot");
+
+    // Act
+    sut.writeSnapshot(path, FixedWidthCodec.longs());
+    final var result = ImmutableList.mapSnapshot(path, FixedWidthCodec.longs());
+
+    // Assert
+    softly.assertThat(result.isEmpty()).isTrue();
+  }
+
+  @Test
+  void mapSnapshot_withDifferentCodecWidth_expectedException() throws IOException {
+    // Arrange
+    final var path = tempDir.resolve("longs.snapshot");
+    ImmutableList.of(1L, 2L).writeSnapshot(path, FixedWidthCodec.longs());
+
+    // Act
+    final ThrowingCallable action = () -> ImmutableList.mapSnapshot(path, FixedWidthCodec.ints());
+
+    // Assert
+    softly
+        .assertThatThrownBy(action)
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("codec byteSize 4 does not match snapshot byteSize 8");
+  }
+
+  @Test
+  void mapSnapshot_withTruncatedFile_expectedException() throws IOException {
+    // Arrange
+    final var path = tempDir.resolve("truncated.snapshot");
+    ImmutableList.of(1, 2, 3).writeSnapshot(path, FixedWidthCodec.ints());
+    Files.write(path, Arrays.copyOf(Files.readAllBytes(path), 24));
+
+    // Act
+    final ThrowingCallable action = () -> ImmutableList.mapSnapshot(path, FixedWidthCodec.ints());
+
+    // Assert
+    softly.assertThatThrownBy(action).isInstanceOf(IOException.class);
+  }
+
+  @Test
+  void mapSnapshot_withForeignFile_expectedException() throws IOException {
+    // Arrange
+    final var path = Files.writeString(tempDir.resolve("text.snapshot"), "id,value\n1,2.5\n");
+
+    // Act
+    final ThrowingCallable action = () -> ImmutableList.mapSnapshot(path, FixedWidthCodec.ints());
+
+    // Assert
+    softly.assertThatThrownBy(action).isInstanceOf(IOException.class);
   }
 }
@@ -0,0 +1,92 @@
+package babysteps.core;
+
+import java.util.OptionalLong;
+import java.util.stream.LongStream;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(SoftAssertionsExtension.class)
+class ImmutableLongListTest {
+  @InjectSoftAssertions private SoftAssertions softly;
+
+  @Test
+  void fromStream_withValues_expectedEncounterOrder() {
+    // Arrange
+    final var values = LongStream.of(3L, 1L, 2L);
+
+    // Act
+    final var sut = ImmutableLongList.fromStream(values);
+
+    // Assert
+    softly.assertThat(sut.toArray()).containsExactly(3L, 1L, 2L);
+  }
+
+  @Test
+  void distinctAndSorted_withDuplicates_expectedUniqueAscendingValues() {
+    // Arrange
+    final var sut = ImmutableLongList.of(5L, Long.MIN_VALUE, 5L, Long.MAX_VALUE);
+
+    // Act
+    final var result = sut.distinct();
+
+    // Assert
+    softly.assertThat(result.toArray()).containsExactly(5L, Long.MIN_VALUE, Long.MAX_VALUE);
+    softly.assertThat(result.sorted().toArray())
+        .containsExactly(Long.MIN_VALUE, 5L, Long.MAX_VALUE);
+  }
+
+  @Test
+  void sumMinMax_withValues_expectedAggregates() {
+    // Arrange
+    final var sut = ImmutableLongList.of(10_000_000_000L, -3L, 7L);
+
+    // Act
+    final var result = sut.sum();
+
+    // Assert
+    softly.assertThat(result).isEqualTo(10_000_000_004L);
+    softly.assertThat(sut.min()).isEqualTo(OptionalLong.of(-3L));
+    softly.assertThat(sut.max()).isEqualTo(OptionalLong.of(10_000_000_000L));
+  }
+
+  @Test
+  void binarySearch_withSortedList_expectedIndex() {
+    // Arrange
+    final var sut = ImmutableLongList.of(10L, 20L, 30L);
+
+    // Act
+    final var result = sut.binarySearch(30L);
+
+    // Assert
+    softly.assertThat(result).isEqualTo(2);
+  }
+
+  @Test
+  void filterMapFold_withValues_expectedResult() {
+    // Arrange
+    final var sut = ImmutableLongList.of(1L, 2L, 3L, 4L);
+
+    // Act
+    final var result =
+        sut.filter(value -> value > 1L).map(value -> value * 2L).fold(0L, Long::sum);
+
+    // Assert
+    softly.assertThat(result).isEqualTo(18L);
+  }
+
+  @Test
+  void toImmutableList_roundTrip_expectedEqualList() {
+    // Arrange
+    final var sut = ImmutableLongList.of(1L, 2L);
+
+    // Act
+    final var result = ImmutableLongList.fromBoxed(sut.toImmutableList());
+
+    // Assert
+    softly.assertThat(result).isEqualTo(sut);
+    softly.assertThat(result.stream().sum()).isEqualTo(3L);
+  }
+}
@@ -0,0 +1,343 @@
+package babysteps.core;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(SoftAssertionsExtension.class)
+class ImmutableMapTest {
+  @InjectSoftAssertions private SoftAssertions softly;
+
+  private static ImmutableMap<Integer, String> range(int from, int to) {
+    return IntStream.range(from, to)
+        .boxed()
+        .reduce(ImmutableMap.empty(), (map, key) -> map.put(key, "v" + key), ImmutableMap::putAll);
+  }
+
+  /** Key whose hash code is fixed so that distinct keys collide. */
+  private record CollidingKey(String name) {
+    @Override
+    public int hashCode() {
+      return 42;
+    }
+  }
+
+  @Test
+  void empty_expectedNoEntries() {
+    // Arrange
+    // Act
+    final var sut = ImmutableMap.<String, Integer>empty();
+
+    // Assert
+    softly.assertThat(sut.isEmpty()).isTrue();
+    softly.assertThat(sut.size()).isZero();
+    softly.assertThat(sut.get("a")).isEqualTo(Option.none());
+  }
+
+  @Test
+  void put_withNewKeys_expectedLookups() {
+    // Arrange
+    final var sut = range(0, 10_000);
+
+    // Act
+    final var result = sut.get(4_321);
+
+    // Assert
+    softly.assertThat(result).isEqualTo(Option.some("v4321"));
+    softly.assertThat(sut.size()).isEqualTo(10_000);
+    softly.assertThat(sut.get(10_000)).isEqualTo(Option.none());
+  }
+
+  @Test
+  void put_withExistingKey_expectedReplacedValueAndOriginalUnchanged() {
+    // Arrange
+    final var sut = ImmutableMap.of("a", 1).put("b", 2);
+
+    // Act
+    final var result = sut.put("a", 10);
+
+    // Assert
+    softly.assertThat(result.get("a")).isEqualTo(Option.some(10));
+    softly.assertThat(result.size()).isEqualTo(2);
+    softly.assertThat(sut.get("a")).isEqualTo(Option.some(1));
+  }
+
+  @Test
+  void put_withSameValueInstance_expectedSameMap() {
+    // Arrange
+    final var value = "value";
+    final var sut = ImmutableMap.of("a", value);
+
+    // Act
+    final var result = sut.put("a", value);
+
+    // Assert
+    softly.assertThat(result).isSameAs(sut);
+  }
+
+  @Test
+  void put_withNullKeyAndValue_expectedSomeNull() {
+    // Arrange
+    final var sut = ImmutableMap.<String, String>empty().put(null, null);
+
+    // Act
+    final var result = sut.get(null);
+
+    // Assert
+    softly.assertThat(result).isEqualTo(Option.some(null));
+    softly.assertThat(sut.containsKey(null)).isTrue();
+    softly.assertThat(sut.getOrElse("missing", "fallback")).isEqualTo("fallback");
+  }
+
+  @Test
+  void put_withCollidingHashes_expectedAllEntriesReachable() {
+    // Arrange
+    final var sut =
+        ImmutableMap.of(new CollidingKey("a"), 1)
+            .put(new CollidingKey("b"), 2)
+            .put(new CollidingKey("c"), 3);
+
+    // Act
+    final var result = sut.remove(new CollidingKey("b"));
+
+    // Assert
+    softly.assertThat(sut.size()).isEqualTo(3);
+    softly.assertThat(sut.get(new CollidingKey("b"))).isEqualTo(Option.some(2));
+    softly.assertThat(result.size()).isEqualTo(2);
+    softly.assertThat(result.get(new CollidingKey("b"))).isEqualTo(Option.none());
+    softly.assertThat(result.get(new CollidingKey("c"))).isEqualTo(Option.some(3));
+  }
+
+  @Test
+  void remove_withManyKeys_expectedRemainingEntries() {
+    // Arrange
+    final var sut = range(0, 2_000);
+
+    // Act
+    final var result =
+        IntStream.range(0, 2_000)
+            .filter(key -> key % 3 != 0)
+            .boxed()
+            .reduce(sut, ImmutableMap::remove, (left, right) -> left);
+
+    // Assert
+    softly.assertThat(result.size()).isEqualTo(667);
+    softly.assertThat(result.get(999)).isEqualTo(Option.some("v999"));
+    softly.assertThat(result.get(1_000)).isEqualTo(Option.none());
+    softly.assertThat(sut.size()).isEqualTo(2_000);
+  }
+
+  @Test
+  void remove_withAbsentKey_expectedSameMap() {
+    // Arrange
+    final var sut = ImmutableMap.of("a", 1);
+
+    // Act
+    final var result = sut.remove("b");
+
+    // Assert
+    softly.assertThat(result).isSameAs(sut);
+    softly.assertThat(sut.remove("a")).isSameAs(ImmutableMap.empty());
+  }
+
+  @Test
+  void putAll_withOverlappingMaps_expectedOtherValuesWin() {
+    // Arrange
+    final var sut = range(0, 1_000);
+    final var other = ImmutableMap.of(5, "five").put(2_000, "two thousand");
+
+    // Act
+    final var result = sut.putAll(other);
+
+    // Assert
+    softly.assertThat(result.size()).isEqualTo(1_001);
+    softly.assertThat(result.get(5)).isEqualTo(Option.some("five"));
+    softly.assertThat(result.get(6)).isEqualTo(Option.some("v6"));
+    softly.assertThat(result.get(2_000)).isEqualTo(Option.some("two thousand"));
+  }
+
+  @Test
+  void putAll_withDerivedMap_expectedSharedEntriesCountedOnce() {
+    // Arrange
+    final var sut = range(0, 5_000);
+    final var other = sut.put(7, "seven").remove(8);
+
+    // Act
+    final var result = sut.putAll(other);
+
+    // Assert
+    softly.assertThat(result.size()).isEqualTo(5_000);
+    softly.assertThat(result.get(7)).isEqualTo(Option.some("seven"));
+    softly.assertThat(result.get(8)).isEqualTo(Option.some("v8"));
+  }
+
+  @Test
+  void putAll_withEmptyReceiver_expectedOtherInstance() {
+    // Arrange
+    final var other = ImmutableMap.of("a", 1);
+
+    // Act
+    final var result = ImmutableMap.<String, Integer>empty().putAll(other);
+
+    // Assert
+    softly.assertThat(result).isSameAs(other);
+  }
+
+  @Test
+  void merge_withResolver_expectedCombinedValues() {
+    // Arrange
+    final var sut = ImmutableMap.of("a", 1).put("b", 2);
+    final var other = ImmutableMap.of("b", 10).put("c", 20);
+
+    // Act
+    final var result = sut.merge(other, Integer::sum);
+
+    // Assert
+    softly.assertThat(result.toMap()).isEqualTo(Map.of("a", 1, "b", 12, "c", 20));
+  }
+
+  @Test
+  void merge_withSelf_expectedResolverAppliedToEveryEntry() {
+    // Arrange
+    final var entries = IntStream.range(0, 500).mapToObj(key -> Map.entry(key, key)).toList();
+    final var sut = ImmutableMap.fromEntries(entries);
+
+    // Act
+    final var result = sut.merge(sut, Integer::sum);
+
+    // Assert
+    softly.assertThat(result.size()).isEqualTo(500);
+    softly.assertThat(result.get(499)).isEqualTo(Option.some(998));
+  }
+
+  @Test
+  void merge_withNullResolver_expectedException() {
+    // Arrange
+    final var sut = ImmutableMap.of("a", 1);
+
+    // Act
+    final ThrowingCallable action = () -> sut.merge(sut, null);
+
+    // Assert
+    softly.assertThatThrownBy(action).isInstanceOf(NullPointerException.class);
+  }
+
+  @Test
+  void fromMap_withEntries_expectedEqualView() {
+    // Arrange
+    final var values = new HashMap<String, Integer>();
+    values.put("a", 1);
+    values.put(null, 2);
+
+    // Act
+    final var sut = ImmutableMap.fromMap(values);
+
+    // Assert
+    softly.assertThat(sut.toMap()).isEqualTo(values);
+    softly.assertThat(sut.toMap().get("missing")).isNull();
+  }
+
+  @Test
+  void fromEntries_withDuplicateKeys_expectedLastWins() {
+    // Arrange
+    final var entries = List.of(Map.entry("a", 1), Map.entry("a", 2));
+
+    // Act
+    final var sut = ImmutableMap.fromEntries(entries);
+
+    // Assert
+    softly.assertThat(sut.size()).isEqualTo(1);
+    softly.assertThat(sut.get("a")).isEqualTo(Option.some(2));
+  }
+
+  @Test
+  void toMap_expectedUnmodifiable() {
+    // Arrange
+    final var sut = ImmutableMap.of("a", 1).toMap();
+
+    // Act
+    final ThrowingCallable action = () -> sut.put("b", 2);
+
+    // Assert
+    softly.assertThatThrownBy(action).isInstanceOf(UnsupportedOperationException.class);
+  }
+
+  @Test
+  void keysValuesAndToList_expectedSameIterationOrder() {
+    // Arrange
+    final var sut = range(0, 100);
+
+    // Act
+    final var result = sut.toList();
+
+    // Assert
+    softly.assertThat(result.size()).isEqualTo(100);
+    softly.assertThat(result.map(Map.Entry::getKey)).isEqualTo(sut.keys());
+    softly.assertThat(result.map(Map.Entry::getValue)).isEqualTo(sut.values());
+    softly.assertThat(sut.keys().sorted(Integer::compare).toList())
+        .isEqualTo(IntStream.range(0, 100).boxed().toList());
+  }
+
+  @Test
+  void keySet_expectedKeysWithSetAlgebra() {
+    // Arrange
+    final var sut = range(0, 100);
+
+    // Act
+    final var result = sut.keySet();
+
+    // Assert
+    softly.assertThat(result.size()).isEqualTo(100);
+    softly.assertThat(result.contains(42)).isTrue();
+    softly.assertThat(result.intersect(ImmutableSet.of(1, 200))).isEqualTo(ImmutableSet.of(1));
+    softly.assertThat(result.add(0)).isSameAs(result);
+  }
+
+  @Test
+  void forEach_expectedEveryEntryVisited() {
+    // Arrange
+    final var sut = range(0, 1_000);
+    final var visited = new HashMap<Integer, String>();
+
+    // Act
+    sut.forEach(visited::put);
+
+    // Assert
+    softly.assertThat(visited).isEqualTo(sut.toMap());
+  }
+
+  @Test
+  void equalsAndHashCode_withSameEntriesInDifferentInsertionOrder_expectedEqual() {
+    // Arrange
+    final var sut = ImmutableMap.of("a", 1).put("b", 2);
+    final var other = ImmutableMap.of("b", 2).put("a", 1);
+
+    // Act
+    final var result = sut.equals(other);
+
+    // Assert
+    softly.assertThat(result).isTrue();
+    softly.assertThat(sut.hashCode()).isEqualTo(other.hashCode());
+    softly.assertThat(sut.hashCode()).isEqualTo(Map.of("a", 1, "b", 2).hashCode());
+    softly.assertThat(sut.equals(other.put("a", 3))).isFalse();
+  }
+
+  @Test
+  void toString_expectedMapFormat() {
+    // Arrange
+    final var sut = ImmutableMap.of("a", 1);
+
+    // Act
+    final var result = sut.toString();
+
+    // Assert
+    softly.assertThat(result).isEqualTo("ImmutableMap{a=1}");
+  }
+}
@@ -0,0 +1,139 @@
+package babysteps.core;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(SoftAssertionsExtension.class)
+class ImmutablePriorityQueueTest {
+  @InjectSoftAssertions private SoftAssertions softly;
+
+  @Test
+  void empty_expectedNoElements() {
+    // Arrange
+    // Act
+    final var sut = ImmutablePriorityQueue.<Integer>empty();
+
+    // Assert
+    softly.assertThat(sut.isEmpty()).isTrue();
+    softly.assertThat(sut.size()).isZero();
+    softly.assertThat(sut.peek()).isEqualTo(Option.none());
+    softly.assertThat(sut.dequeue()).isEqualTo(Option.none());
+    softly.assertThat(sut.rest()).isSameAs(sut);
+  }
+
+  @Test
+  void insert_expectedSmallestValueFirst() {
+    // Arrange
+    final var sut = ImmutablePriorityQueue.<Integer>empty().insert(5).insert(1).insert(3);
+
+    // Act
+    final var result = sut.dequeue();
+
+    // Assert
+    softly
+        .assertThat(result.map(ImmutablePriorityQueue.Dequeued::value))
+        .isEqualTo(Option.some(1));
+    softly
+        .assertThat(result.map(dequeued -> dequeued.remaining().peek()))
+        .isEqualTo(Option.some(Option.some(3)));
+    softly.assertThat(sut.size()).isEqualTo(3);
+    softly.assertThat(sut.peek()).isEqualTo(Option.some(1));
+  }
+
+  @Test
+  void drainSorted_withShuffledValues_expectedAscendingOrder() {
+    // Arrange
+    final var sut =
+        ImmutablePriorityQueue.fromIterable(
+            IntStream.range(0, 5_000).map(index -> (index * 7_919) % 5_000).boxed().toList());
+
+    // Act
+    final var result = sut.drainSorted().toList();
+
+    // Assert
+    softly.assertThat(result).isEqualTo(IntStream.range(0, 5_000).boxed().toList());
+    softly.assertThat(sut.size()).isEqualTo(5_000);
+  }
+
+  @Test
+  void drainSorted_withLimit_expectedSmallestValuesAndSizedStream() {
+    // Arrange
+    final var sut = ImmutablePriorityQueue.fromIterable(List.of(9, 4, 7, 1, 8));
+
+    // Act
+    final var result = sut.drainSorted().limit(2).toList();
+
+    // Assert
+    softly.assertThat(result).containsExactly(1, 4);
+    softly.assertThat(sut.drainSorted().spliterator().getExactSizeIfKnown()).isEqualTo(5);
+  }
+
+  @Test
+  void fromIterable_withComparator_expectedComparatorOrder() {
+    // Arrange
+    final var values = List.of("ccc", "a", "bb");
+
+    // Act
+    final var result =
+        ImmutablePriorityQueue.fromIterable(
+            values, Comparator.comparing(String::length).reversed());
+
+    // Assert
+    softly.assertThat(result.drainSorted().toList()).containsExactly("ccc", "bb", "a");
+  }
+
+  @Test
+  void fromIterable_withNull_expectedException() {
+    // Arrange
+    // Act
+    final ThrowingCallable action = () -> ImmutablePriorityQueue.fromIterable(null);
+
+    // Assert
+    softly.assertThatThrownBy(action).isInstanceOf(NullPointerException.class);
+  }
+
+  @Test
+  void merge_withSameComparator_expectedAllValues() {
+    // Arrange
+    final var sut = ImmutablePriorityQueue.fromIterable(List.of(5, 1, 9));
+
+    // Act
+    final var result = sut.merge(ImmutablePriorityQueue.fromIterable(List.of(4, 2, 8)));
+
+    // Assert
+    softly.assertThat(result.drainSorted().toList()).containsExactly(1, 2, 4, 5, 8, 9);
+    softly.assertThat(result.size()).isEqualTo(6);
+    softly.assertThat(sut.drainSorted().toList()).containsExactly(1, 5, 9);
+  }
+
+  @Test
+  void merge_withDifferentComparator_expectedThisQueueOrder() {
+    // Arrange
+    final var sut = ImmutablePriorityQueue.fromIterable(List.of(5, 1), Comparator.reverseOrder());
+
+    // Act
+    final var result = sut.merge(ImmutablePriorityQueue.fromIterable(List.of(4, 9)));
+
+    // Assert
+    softly.assertThat(result.drainSorted().toList()).containsExactly(9, 5, 4, 1);
+  }
+
+  @Test
+  void toString_expectedSortedListFormat() {
+    // Arrange
+    final var sut = ImmutablePriorityQueue.fromIterable(List.of(3, 1, 2));
+
+    // Act
+    final var result = sut.toString();
+
+    // Assert
+    softly.assertThat(result).isEqualTo("ImmutablePriorityQueue[1, 2, 3]");
+  }
+}
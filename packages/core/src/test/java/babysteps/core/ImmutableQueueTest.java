@@ -0,0 +1,142 @@
+package babysteps.core;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(SoftAssertionsExtension.class)
+class ImmutableQueueTest {
+  @InjectSoftAssertions private SoftAssertions softly;
+
+  @Test
+  void empty_expectedNoElements() {
+    // Arrange
+    // Act
+    final var sut = ImmutableQueue.<String>empty();
+
+    // Assert
+    softly.assertThat(sut.isEmpty()).isTrue();
+    softly.assertThat(sut.size()).isZero();
+    softly.assertThat(sut.peek()).isEqualTo(Option.none());
+    softly.assertThat(sut.dequeue()).isEqualTo(Option.none());
+    softly.assertThat(sut.rest()).isSameAs(sut);
+  }
+
+  @Test
+  void enqueue_expectedFirstInFirstOut() {
+    // Arrange
+    final var sut = ImmutableQueue.<Integer>empty().enqueue(1).enqueue(2).enqueue(3);
+
+    // Act
+    final var result = sut.dequeue();
+
+    // Assert
+    softly.assertThat(result.map(ImmutableQueue.Dequeued::value)).isEqualTo(Option.some(1));
+    softly
+        .assertThat(result.map(dequeued -> dequeued.remaining().toImmutableList()))
+        .isEqualTo(Option.some(ImmutableList.of(2, 3)));
+    softly.assertThat(sut.toImmutableList()).isEqualTo(ImmutableList.of(1, 2, 3));
+  }
+
+  @Test
+  void rest_withInterleavedEnqueues_expectedInsertionOrder() {
+    // Arrange
+    final var sut = ImmutableQueue.of(1, 2).rest().enqueue(3).enqueue(4).rest();
+
+    // Act
+    final var result = sut.enqueue(5);
+
+    // Assert
+    softly.assertThat(result.toImmutableList()).isEqualTo(ImmutableList.of(3, 4, 5));
+    softly.assertThat(result.peek()).isEqualTo(Option.some(3));
+    softly.assertThat(sut.toImmutableList()).isEqualTo(ImmutableList.of(3, 4));
+  }
+
+  @Test
+  void rest_withManyElements_expectedEveryElementOnce() {
+    // Arrange
+    final var sut =
+        ImmutableQueue.<Integer>empty().enqueueAll(IntStream.range(0, 10_000).boxed().toList());
+
+    // Act
+    final var result =
+        IntStream.range(0, 9_990)
+            .boxed()
+            .reduce(sut, (queue, index) -> queue.rest(), (left, right) -> left);
+
+    // Assert
+    softly
+        .assertThat(result.toImmutableList().toList())
+        .isEqualTo(IntStream.range(9_990, 10_000).boxed().toList());
+    softly.assertThat(sut.size()).isEqualTo(10_000);
+  }
+
+  @Test
+  void dequeue_withNullValue_expectedSomeNull() {
+    // Arrange
+    final var sut = ImmutableQueue.<String>of((String) null);
+
+    // Act
+    final var result = sut.dequeue();
+
+    // Assert
+    softly.assertThat(result.map(ImmutableQueue.Dequeued::value)).isEqualTo(Option.some(null));
+    softly
+        .assertThat(result.map(ImmutableQueue.Dequeued::remaining))
+        .isEqualTo(Option.some(ImmutableQueue.empty()));
+  }
+
+  @Test
+  void fromIterable_withImmutableList_expectedSameOrder() {
+    // Arrange
+    final var list = ImmutableList.of("a", "b", "c");
+
+    // Act
+    final var result = ImmutableQueue.fromIterable(list);
+
+    // Assert
+    softly.assertThat(result.toImmutableList()).isEqualTo(list);
+    softly.assertThat(result.stream().toList()).containsExactly("a", "b", "c");
+  }
+
+  @Test
+  void fromIterable_withNull_expectedException() {
+    // Arrange
+    // Act
+    final ThrowingCallable action = () -> ImmutableQueue.fromIterable(null);
+
+    // Assert
+    softly.assertThatThrownBy(action).isInstanceOf(NullPointerException.class);
+  }
+
+  @Test
+  void equalsAndHashCode_withDifferentInternalLayout_expectedEqual() {
+    // Arrange
+    final var sut = ImmutableQueue.of(0, 1, 2).rest().enqueue(3);
+
+    // Act
+    final var other = ImmutableQueue.fromIterable(List.of(1, 2, 3));
+
+    // Assert
+    softly.assertThat(sut).isEqualTo(other);
+    softly.assertThat(sut.hashCode()).isEqualTo(other.hashCode());
+    softly.assertThat(sut).isNotEqualTo(other.enqueue(4));
+  }
+
+  @Test
+  void toString_expectedListFormat() {
+    // Arrange
+    final var sut = ImmutableQueue.of(1, 2).enqueue(3);
+
+    // Act
+    final var result = sut.toString();
+
+    // Assert
+    softly.assertThat(result).isEqualTo("ImmutableQueue[1, 2, 3]");
+  }
+}
@@ -0,0 +1,259 @@
+package babysteps.core;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(SoftAssertionsExtension.class)
+class ImmutableSetTest {
+  @InjectSoftAssertions private SoftAssertions softly;
+
+  private static ImmutableSet<Integer> range(int from, int to) {
+    return ImmutableSet.fromIterable(IntStream.range(from, to).boxed().toList());
+  }
+
+  @Test
+  void of_withDuplicates_expectedDistinctElements() {
+    // Arrange
+    // Act
+    final var sut = ImmutableSet.of("a", "b", "a", null);
+
+    // Assert
+    softly.assertThat(sut.size()).isEqualTo(3);
+    softly.assertThat(sut.contains("a")).isTrue();
+    softly.assertThat(sut.contains(null)).isTrue();
+    softly.assertThat(sut.contains("c")).isFalse();
+  }
+
+  @Test
+  void of_withoutValues_expectedSharedEmpty() {
+    // Arrange
+    // Act
+    final var sut = ImmutableSet.of();
+
+    // Assert
+    softly.assertThat(sut).isSameAs(ImmutableSet.empty());
+    softly.assertThat(sut.isEmpty()).isTrue();
+  }
+
+  @Test
+  void add_withPresentValue_expectedSameSet() {
+    // Arrange
+    final var sut = ImmutableSet.of("a");
+
+    // Act
+    final var result = sut.add("a");
+
+    // Assert
+    softly.assertThat(result).isSameAs(sut);
+  }
+
+  @Test
+  void addAndRemove_expectedOriginalUnchanged() {
+    // Arrange
+    final var sut = range(0, 1_000);
+
+    // Act
+    final var result = sut.add(1_000).remove(0);
+
+    // Assert
+    softly.assertThat(result.size()).isEqualTo(1_000);
+    softly.assertThat(result.contains(0)).isFalse();
+    softly.assertThat(result.contains(1_000)).isTrue();
+    softly.assertThat(sut.contains(0)).isTrue();
+    softly.assertThat(sut.contains(1_000)).isFalse();
+  }
+
+  @Test
+  void remove_withLastElement_expectedSharedEmpty() {
+    // Arrange
+    final var sut = ImmutableSet.of("a");
+
+    // Act
+    final var result = sut.remove("a");
+
+    // Assert
+    softly.assertThat(result).isSameAs(ImmutableSet.empty());
+    softly.assertThat(sut.remove("b")).isSameAs(sut);
+  }
+
+  @Test
+  void union_withOverlappingSets_expectedAllElements() {
+    // Arrange
+    final var sut = range(0, 600);
+
+    // Act
+    final var result = sut.union(range(400, 1_000));
+
+    // Assert
+    softly.assertThat(result).isEqualTo(range(0, 1_000));
+  }
+
+  @Test
+  void union_withDerivedSet_expectedSingleNewElement() {
+    // Arrange
+    final var sut = range(0, 10_000);
+    final var other = sut.remove(5).add(20_000);
+
+    // Act
+    final var result = sut.union(other);
+
+    // Assert
+    softly.assertThat(result.size()).isEqualTo(10_001);
+    softly.assertThat(result.contains(5)).isTrue();
+    softly.assertThat(result.contains(20_000)).isTrue();
+  }
+
+  @Test
+  void union_withSelf_expectedSameSet() {
+    // Arrange
+    final var sut = range(0, 100);
+
+    // Act
+    final var result = sut.union(sut);
+
+    // Assert
+    softly.assertThat(result).isSameAs(sut);
+    softly.assertThat(sut.union(ImmutableSet.empty())).isSameAs(sut);
+  }
+
+  @Test
+  void intersect_withOverlappingSets_expectedCommonElements() {
+    // Arrange
+    final var sut = range(0, 600);
+
+    // Act
+    final var result = sut.intersect(range(400, 1_000));
+
+    // Assert
+    softly.assertThat(result).isEqualTo(range(400, 600));
+  }
+
+  @Test
+  void intersect_withDerivedSet_expectedSharedElements() {
+    // Arrange
+    final var sut = range(0, 10_000);
+    final var other = sut.remove(5).add(20_000);
+
+    // Act
+    final var result = sut.intersect(other);
+
+    // Assert
+    softly.assertThat(result.size()).isEqualTo(9_999);
+    softly.assertThat(result.contains(5)).isFalse();
+    softly.assertThat(result.contains(20_000)).isFalse();
+    softly.assertThat(sut.intersect(sut)).isSameAs(sut);
+  }
+
+  @Test
+  void intersect_withDisjointSet_expectedSharedEmpty() {
+    // Arrange
+    final var sut = range(0, 100);
+
+    // Act
+    final var result = sut.intersect(range(100, 200));
+
+    // Assert
+    softly.assertThat(result).isSameAs(ImmutableSet.empty());
+  }
+
+  @Test
+  void diff_withOverlappingSets_expectedRemainingElements() {
+    // Arrange
+    final var sut = range(0, 600);
+
+    // Act
+    final var result = sut.diff(range(400, 1_000));
+
+    // Assert
+    softly.assertThat(result).isEqualTo(range(0, 400));
+  }
+
+  @Test
+  void diff_withDerivedSet_expectedOnlyRemovedElement() {
+    // Arrange
+    final var sut = range(0, 10_000);
+    final var other = sut.remove(5).add(20_000);
+
+    // Act
+    final var result = sut.diff(other);
+
+    // Assert
+    softly.assertThat(result.toList().toList()).containsExactly(5);
+    softly.assertThat(sut.diff(sut)).isSameAs(ImmutableSet.empty());
+    softly.assertThat(sut.diff(ImmutableSet.of(-1))).isSameAs(sut);
+  }
+
+  @Test
+  void filter_withPredicate_expectedMatchingElements() {
+    // Arrange
+    final var sut = range(0, 10);
+
+    // Act
+    final var result = sut.filter(value -> value % 2 == 0);
+
+    // Assert
+    softly.assertThat(result).isEqualTo(ImmutableSet.of(0, 2, 4, 6, 8));
+  }
+
+  @Test
+  void toSet_expectedUnmodifiableEqualSet() {
+    // Arrange
+    final var sut = ImmutableSet.of("a", "b");
+
+    // Act
+    final var result = sut.toSet();
+
+    // Assert
+    softly.assertThat(result).isEqualTo(Set.of("a", "b"));
+    softly.assertThatThrownBy(() -> result.add("c"))
+        .isInstanceOf(UnsupportedOperationException.class);
+  }
+
+  @Test
+  void toList_expectedIterationOrder() {
+    // Arrange
+    final var sut = range(0, 50);
+
+    // Act
+    final var result = sut.toList();
+
+    // Assert
+    softly.assertThat(result.toList()).isEqualTo(sut.stream().toList());
+    softly.assertThat(result.sorted(Integer::compare).toList())
+        .isEqualTo(IntStream.range(0, 50).boxed().toList());
+  }
+
+  @Test
+  void equalsAndHashCode_withSameElements_expectedSetContract() {
+    // Arrange
+    final var sut = ImmutableSet.of(1, 2, 3);
+
+    // Act
+    final var result = sut.equals(ImmutableSet.fromIterable(List.of(3, 2, 1)));
+
+    // Assert
+    softly.assertThat(result).isTrue();
+    softly.assertThat(sut.hashCode()).isEqualTo(Set.of(1, 2, 3).hashCode());
+    softly.assertThat(sut.equals(ImmutableSet.of(1, 2))).isFalse();
+    softly.assertThat(ImmutableSet.of("a").toString()).isEqualTo("ImmutableSet[a]");
+  }
+
+  @Test
+  void union_withNullOther_expectedException() {
+    // Arrange
+    final var sut = ImmutableSet.of(1);
+
+    // Act
+    final ThrowingCallable action = () -> sut.union(null);
+
+    // Assert
+    softly.assertThatThrownBy(action).isInstanceOf(NullPointerException.class);
+  }
+}
@@ -0,0 +1,333 @@
+package babysteps.core;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(SoftAssertionsExtension.class)
+class ImmutableSortedMapTest {
+  @InjectSoftAssertions private SoftAssertions softly;
+
+  /** Returns a map of the even keys in {@code [from, to)}, inserted in descending order. */
+  private static ImmutableSortedMap<Integer, String> evens(int from, int to) {
+    return IntStream.range(from, to)
+        .map(index -> to - 1 - index + from)
+        .filter(key -> key % 2 == 0)
+        .boxed()
+        .reduce(
+            ImmutableSortedMap.empty(),
+            (map, key) -> map.put(key, "v" + key),
+            (left, right) -> left);
+  }
+
+  @Test
+  void empty_expectedNoEntries() {
+    // Arrange
+    // Act
+    final var sut = ImmutableSortedMap.<String, Integer>empty();
+
+    // Assert
+    softly.assertThat(sut.isEmpty()).isTrue();
+    softly.assertThat(sut.size()).isZero();
+    softly.assertThat(sut.get("a")).isEqualTo(Option.none());
+    softly.assertThat(sut.firstEntry()).isEqualTo(Option.none());
+    softly.assertThat(sut.lastEntry()).isEqualTo(Option.none());
+  }
+
+  @Test
+  void put_withManyKeys_expectedSortedIteration() {
+    // Arrange
+    final var sut = evens(0, 20_000);
+
+    // Act
+    final var result = sut.keys();
+
+    // Assert
+    softly.assertThat(sut.size()).isEqualTo(10_000);
+    softly
+        .assertThat(result.toList())
+        .isEqualTo(IntStream.range(0, 10_000).map(index -> index * 2).boxed().toList());
+    softly.assertThat(sut.get(4_322)).isEqualTo(Option.some("v4322"));
+    softly.assertThat(sut.get(4_321)).isEqualTo(Option.none());
+  }
+
+  @Test
+  void put_withExistingKey_expectedReplacedValueAndOriginalUnchanged() {
+    // Arrange
+    final var sut = ImmutableSortedMap.of("a", 1).put("b", 2);
+
+    // Act
+    final var result = sut.put("a", 10);
+
+    // Assert
+    softly.assertThat(result.get("a")).isEqualTo(Option.some(10));
+    softly.assertThat(result.size()).isEqualTo(2);
+    softly.assertThat(sut.get("a")).isEqualTo(Option.some(1));
+  }
+
+  @Test
+  void put_withSameValueInstance_expectedSameMap() {
+    // Arrange
+    final var value = "value";
+    final var sut = ImmutableSortedMap.of("a", value);
+
+    // Act
+    final var result = sut.put("a", value);
+
+    // Assert
+    softly.assertThat(result).isSameAs(sut);
+  }
+
+  @Test
+  void put_withNullValue_expectedSomeNull() {
+    // Arrange
+    final var sut = ImmutableSortedMap.<String, Integer>empty();
+
+    // Act
+    final var result = sut.put("a", null);
+
+    // Assert
+    softly.assertThat(result.get("a")).isEqualTo(Option.some(null));
+    softly.assertThat(result.getOrElse("a", 1)).isNull();
+    softly.assertThat(result.containsKey("a")).isTrue();
+  }
+
+  @Test
+  void put_withNullKey_expectedException() {
+    // Arrange
+    final var sut = ImmutableSortedMap.<String, Integer>empty();
+
+    // Act
+    final ThrowingCallable action = () -> sut.put(null, 1);
+
+    // Assert
+    softly.assertThatThrownBy(action).isInstanceOf(NullPointerException.class);
+  }
+
+  @Test
+  void remove_withManyKeys_expectedRemainingEntriesAndOriginalUnchanged() {
+    // Arrange
+    final var sut = evens(0, 4_000);
+
+    // Act
+    final var result =
+        IntStream.range(0, 1_900).boxed().reduce(sut, ImmutableSortedMap::remove, (l, r) -> l);
+
+    // Assert
+    softly.assertThat(result.size()).isEqualTo(1_050);
+    softly.assertThat(result.firstEntry()).isEqualTo(Option.some(Map.entry(1_900, "v1900")));
+    softly.assertThat(result.get(1_898)).isEqualTo(Option.none());
+    softly.assertThat(sut.size()).isEqualTo(2_000);
+    softly.assertThat(sut.get(1_898)).isEqualTo(Option.some("v1898"));
+  }
+
+  @Test
+  void remove_withAbsentKey_expectedSameMap() {
+    // Arrange
+    final var sut = evens(0, 100);
+
+    // Act
+    final var result = sut.remove(51);
+
+    // Assert
+    softly.assertThat(result).isSameAs(sut);
+  }
+
+  @Test
+  void remove_withEveryKey_expectedEmpty() {
+    // Arrange
+    final var sut = evens(0, 1_000);
+
+    // Act
+    final var result = sut.keys().fold(sut, ImmutableSortedMap::remove);
+
+    // Assert
+    softly.assertThat(result.isEmpty()).isTrue();
+    softly.assertThat(result.toList().toList()).isEmpty();
+  }
+
+  @Test
+  void firstEntryAndLastEntry_expectedExtremes() {
+    // Arrange
+    final var sut = evens(10, 1_000);
+
+    // Act
+    final var first = sut.firstEntry();
+    final var last = sut.lastEntry();
+
+    // Assert
+    softly.assertThat(first).isEqualTo(Option.some(Map.entry(10, "v10")));
+    softly.assertThat(last).isEqualTo(Option.some(Map.entry(998, "v998")));
+  }
+
+  @Test
+  void floor_expectedGreatestKeyNotAbove() {
+    // Arrange
+    final var sut = evens(10, 1_000);
+
+    // Act
+    final var between = sut.floor(501);
+
+    // Assert
+    softly.assertThat(between).isEqualTo(Option.some(Map.entry(500, "v500")));
+    softly.assertThat(sut.floor(500)).isEqualTo(Option.some(Map.entry(500, "v500")));
+    softly.assertThat(sut.floor(5_000)).isEqualTo(Option.some(Map.entry(998, "v998")));
+    softly.assertThat(sut.floor(9)).isEqualTo(Option.none());
+  }
+
+  @Test
+  void ceiling_expectedSmallestKeyNotBelow() {
+    // Arrange
+    final var sut = evens(10, 1_000);
+
+    // Act
+    final var between = sut.ceiling(501);
+
+    // Assert
+    softly.assertThat(between).isEqualTo(Option.some(Map.entry(502, "v502")));
+    softly.assertThat(sut.ceiling(502)).isEqualTo(Option.some(Map.entry(502, "v502")));
+    softly.assertThat(sut.ceiling(-5)).isEqualTo(Option.some(Map.entry(10, "v10")));
+    softly.assertThat(sut.ceiling(999)).isEqualTo(Option.none());
+  }
+
+  @Test
+  void range_expectedEntriesFromInclusiveToExclusive() {
+    // Arrange
+    final var sut = evens(0, 1_000);
+
+    // Act
+    final var result = sut.range(95, 104);
+
+    // Assert
+    softly
+        .assertThat(result.toList())
+        .containsExactly(
+            Map.entry(96, "v96"),
+            Map.entry(98, "v98"),
+            Map.entry(100, "v100"),
+            Map.entry(102, "v102"));
+    softly.assertThat(sut.range(96, 96).isEmpty()).isTrue();
+    softly.assertThat(sut.range(200, 100).isEmpty()).isTrue();
+    softly.assertThat(sut.range(-10, 10_000).size()).isEqualTo(500);
+  }
+
+  @Test
+  void rangeStream_expectedSizedLazyStream() {
+    // Arrange
+    final var sut = evens(0, 10_000);
+
+    // Act
+    final var result = sut.rangeStream(1_000, 3_000);
+
+    // Assert
+    final var spliterator = result.spliterator();
+    softly.assertThat(spliterator.getExactSizeIfKnown()).isEqualTo(1_000);
+    softly
+        .assertThat(sut.rangeStream(1_000, 3_000).limit(2).collect(Collectors.toList()))
+        .containsExactly(Map.entry(1_000, "v1000"), Map.entry(1_002, "v1002"));
+    softly
+        .assertThat(sut.rangeStream(1_000, 3_000).map(Map.Entry::getKey).toList())
+        .isEqualTo(sut.range(1_000, 3_000).map(Map.Entry::getKey).toList());
+  }
+
+  @Test
+  void fromMap_withUnsortedEntries_expectedSortedMap() {
+    // Arrange
+    final var source =
+        IntStream.range(0, 5_000)
+            .map(index -> (index * 7_919) % 5_000)
+            .boxed()
+            .collect(Collectors.toMap(key -> key, key -> "v" + key));
+
+    // Act
+    final var result = ImmutableSortedMap.fromMap(source);
+
+    // Assert
+    softly.assertThat(result.size()).isEqualTo(5_000);
+    softly.assertThat(result.keys().toList()).isSorted();
+    softly.assertThat(result.get(4_999)).isEqualTo(Option.some("v4999"));
+  }
+
+  @Test
+  void fromMap_withComparatorEqualKeys_expectedLastWins() {
+    // Arrange
+    final var source = new LinkedHashMap<String, Integer>();
+    source.put("a", 1);
+    source.put("B", 2);
+    source.put("A", 3);
+
+    // Act
+    final var result = ImmutableSortedMap.fromMap(source, String.CASE_INSENSITIVE_ORDER);
+
+    // Assert
+    softly.assertThat(result.size()).isEqualTo(2);
+    softly.assertThat(result.get("a")).isEqualTo(Option.some(3));
+    softly.assertThat(result.keys().toList()).containsExactly("A", "B");
+  }
+
+  @Test
+  void empty_withComparator_expectedCustomOrder() {
+    // Arrange
+    final var sut = ImmutableSortedMap.<String, Integer>empty(Comparator.reverseOrder());
+
+    // Act
+    final var result = sut.put("a", 1).put("c", 3).put("b", 2);
+
+    // Assert
+    softly.assertThat(result.keys().toList()).containsExactly("c", "b", "a");
+    softly.assertThat(result.floor("bb")).isEqualTo(Option.some(Map.entry("c", 3)));
+    softly.assertThat(result.comparator()).isEqualTo(Comparator.reverseOrder());
+  }
+
+  @Test
+  void keysValuesAndToList_expectedAscendingKeyOrder() {
+    // Arrange
+    final var sut = ImmutableSortedMap.of(3, "c").put(1, "a").put(2, "b");
+
+    // Act
+    final var result = sut.toList();
+
+    // Assert
+    softly
+        .assertThat(result.toList())
+        .containsExactly(Map.entry(1, "a"), Map.entry(2, "b"), Map.entry(3, "c"));
+    softly.assertThat(sut.keys().toList()).containsExactly(1, 2, 3);
+    softly.assertThat(sut.values().toList()).containsExactly("a", "b", "c");
+  }
+
+  @Test
+  void equalsAndHashCode_withSameEntriesInDifferentInsertionOrder_expectedEqual() {
+    // Arrange
+    final var sut = evens(0, 200);
+
+    // Act
+    final var other =
+        ImmutableSortedMap.fromMap(
+            sut.keys().toList().stream().collect(Collectors.toMap(key -> key, key -> "v" + key)));
+
+    // Assert
+    softly.assertThat(sut).isEqualTo(other);
+    softly.assertThat(sut.hashCode()).isEqualTo(other.hashCode());
+    softly.assertThat(sut).isNotEqualTo(other.put(0, "changed"));
+  }
+
+  @Test
+  void toString_expectedMapFormat() {
+    // Arrange
+    final var sut = ImmutableSortedMap.of("b", 2).put("a", 1);
+
+    // Act
+    final var result = sut.toString();
+
+    // Assert
+    softly.assertThat(result).isEqualTo("ImmutableSortedMap{a=1, b=2}");
+  }
+}
@@ -0,0 +1,111 @@
+package babysteps.core;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(SoftAssertionsExtension.class)
+class InternerTest {
+  @InjectSoftAssertions private SoftAssertions softly;
+
+  /** Value type with content-based equality, like the tuples of the fp module. */
+  private record Pair(String first, int second) {}
+
+  @Test
+  void intern_withEqualLists_expectedFirstInstance() {
+    // Arrange
+    final var sut = Interner.<ImmutableList<String>>weak();
+    final var first = ImmutableList.of("a", "b");
+
+    // Act
+    final var canonical = sut.intern(first);
+    final var result = sut.intern(ImmutableList.fromList(List.of("a", "b")));
+
+    // Assert
+    softly.assertThat(canonical).isSameAs(first);
+    softly.assertThat(result).isSameAs(first);
+    softly.assertThat(sut.size()).isEqualTo(1);
+  }
+
+  @Test
+  void intern_withDifferentLists_expectedDistinctInstances() {
+    // Arrange
+    final var sut = Interner.<ImmutableList<String>>weak();
+    final var first = sut.intern(ImmutableList.of("a"));
+
+    // Act
+    final var result = sut.intern(ImmutableList.of("b"));
+
+    // Assert
+    softly.assertThat(result).isNotSameAs(first);
+    softly.assertThat(result).isEqualTo(ImmutableList.of("b"));
+    softly.assertThat(sut.size()).isEqualTo(2);
+  }
+
+  @Test
+  void intern_withNonEmptyListsAndRecords_expectedCanonicalInstances() {
+    // Arrange
+    final var lists = Interner.<NonEmptyList<Integer>>weak(1);
+    final var pairs = Interner.<Pair>weak(1);
+    final var list = NonEmptyList.of(1, 2, 3);
+    final var pair = new Pair("x", 1);
+
+    // Act
+    final var listResult = lists.intern(NonEmptyList.of(1, 2, 3));
+    final var pairResult = pairs.intern(new Pair("x", 1));
+
+    // Assert
+    softly.assertThat(lists.intern(list)).isSameAs(listResult);
+    softly.assertThat(pairs.intern(pair)).isSameAs(pairResult);
+  }
+
+  @Test
+  void intern_fromManyThreads_expectedOneInstancePerValue() {
+    // Arrange
+    final var sut = Interner.<ImmutableList<Integer>>weak();
+
+    // Act
+    final var result =
+        IntStream.range(0, 20_000)
+            .parallel()
+            .mapToObj(index -> sut.intern(ImmutableList.of(index % 16, index % 16)))
+            .collect(
+                Collectors.toCollection(() -> Collections.newSetFromMap(new IdentityHashMap<>())));
+
+    // Assert
+    softly.assertThat(result).hasSize(16);
+  }
+
+  @Test
+  void intern_withNull_expectedException() {
+    // Arrange
+    final var sut = Interner.<String>weak();
+
+    // Act
+    final ThrowingCallable action = () -> sut.intern(null);
+
+    // Assert
+    softly.assertThatThrownBy(action).isInstanceOf(NullPointerException.class);
+  }
+
+  @Test
+  void weak_withNonPositiveConcurrencyLevel_expectedException() {
+    // Arrange
+    // Act
+    final ThrowingCallable action = () -> Interner.weak(0);
+
+    // Assert
+    softly
+        .assertThatThrownBy(action)
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("concurrencyLevel must be positive");
+  }
+}
@@ -0,0 +1,225 @@
+package babysteps.core;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(SoftAssertionsExtension.class)
+class ListViewTest {
+  @InjectSoftAssertions private SoftAssertions softly;
+
+  private static ImmutableList<Integer> range(int from, int to) {
+    return ImmutableList.fromList(IntStream.range(from, to).boxed().toList());
+  }
+
+  @Test
+  void toImmutableList_withFilterMapTake_expectedFirstMatches() {
+    // Arrange
+    final var sut = range(0, 100).view().filter(value -> value % 2 == 0).map(value -> value * 10);
+
+    // Act
+    final var result = sut.take(3).toImmutableList();
+
+    // Assert
+    softly.assertThat(result.toList()).containsExactly(0, 20, 40);
+  }
+
+  @Test
+  void take_withFilter_expectedEarlyTermination() {
+    // Arrange
+    final var visited = new AtomicInteger();
+    final var sut = range(0, 1_000).view().filter(value -> visited.incrementAndGet() > 0).take(5);
+
+    // Act
+    final var result = sut.toImmutableList();
+
+    // Assert
+    softly.assertThat(result.size()).isEqualTo(5);
+    softly.assertThat(visited.get()).isEqualTo(5);
+  }
+
+  @Test
+  void take_withZero_expectedEmptyAndNoTraversal() {
+    // Arrange
+    final var visited = new AtomicInteger();
+    final var sut = range(0, 10).view().map(visited::addAndGet).take(0);
+
+    // Act
+    final var result = sut.count();
+
+    // Assert
+    softly.assertThat(result).isZero();
+    softly.assertThat(visited.get()).isZero();
+  }
+
+  @Test
+  void map_withoutTerminal_expectedMapperNotCalled() {
+    // Arrange
+    final var visited = new AtomicInteger();
+
+    // Act
+    range(0, 10).view().map(visited::addAndGet);
+
+    // Assert
+    softly.assertThat(visited.get()).isZero();
+  }
+
+  @Test
+  void flatMap_withTake_expectedStopsInsideInnerList() {
+    // Arrange
+    final var visited = new AtomicInteger();
+    final var sut =
+        range(0, 100)
+            .view()
+            .flatMap(value -> ImmutableList.of(value, value))
+            .map(visited::addAndGet)
+            .take(3);
+
+    // Act
+    final var result = sut.count();
+
+    // Assert
+    softly.assertThat(result).isEqualTo(3);
+    softly.assertThat(visited.get()).isEqualTo(1);
+  }
+
+  @Test
+  void flatMap_withNullMapped_expectedException() {
+    // Arrange
+    final var sut = range(0, 3).view().<Integer>flatMap(value -> null);
+
+    // Act
+    final ThrowingCallable action = sut::toImmutableList;
+
+    // Assert
+    softly.assertThatThrownBy(action).isInstanceOf(NullPointerException.class);
+  }
+
+  @Test
+  void drop_withCount_expectedSuffix() {
+    // Arrange
+    final var sut = range(0, 10).view().drop(7);
+
+    // Act
+    final var result = sut.toImmutableList();
+
+    // Assert
+    softly.assertThat(result.toList()).containsExactly(7, 8, 9);
+  }
+
+  @Test
+  void drop_withZero_expectedSameView() {
+    // Arrange
+    final var sut = range(0, 10).view();
+
+    // Act
+    final var result = sut.drop(0);
+
+    // Assert
+    softly.assertThat(result).isSameAs(sut);
+  }
+
+  @Test
+  void takeWhile_withPredicate_expectedPrefix() {
+    // Arrange
+    final var sut = ImmutableList.of(1, 2, 5, 1).view().takeWhile(value -> value < 3);
+
+    // Act
+    final var result = sut.toImmutableList();
+
+    // Assert
+    softly.assertThat(result.toList()).containsExactly(1, 2);
+  }
+
+  @Test
+  void fold_withMap_expectedAccumulatedValue() {
+    // Arrange
+    final var sut = range(1, 5).view().map(value -> value * 2);
+
+    // Act
+    final var result = sut.fold(0, Integer::sum);
+
+    // Assert
+    softly.assertThat(result).isEqualTo(20);
+  }
+
+  @Test
+  void headOption_withMatch_expectedFirstAndEarlyTermination() {
+    // Arrange
+    final var visited = new AtomicInteger();
+    final var sut = range(0, 100).view().map(visited::addAndGet).filter(value -> value > 2);
+
+    // Act
+    final var result = sut.headOption();
+
+    // Assert
+    softly.assertThat(result).isEqualTo(Option.some(3));
+    softly.assertThat(visited.get()).isEqualTo(3);
+  }
+
+  @Test
+  void headOption_withEmpty_expectedNone() {
+    // Arrange
+    final var sut = ImmutableList.<String>empty().view();
+
+    // Act
+    final var result = sut.headOption();
+
+    // Assert
+    softly.assertThat(result).isEqualTo(Option.none());
+  }
+
+  @Test
+  void headOption_withNullElement_expectedSomeNull() {
+    // Arrange
+    final var sut = ImmutableList.of((String) null).view();
+
+    // Act
+    final var result = sut.headOption();
+
+    // Assert
+    softly.assertThat(result).isEqualTo(Option.some(null));
+  }
+
+  @Test
+  void count_withRepeatedTerminals_expectedSameResult() {
+    // Arrange
+    final var sut = range(0, 10).view().filter(value -> value > 4);
+
+    // Act
+    final var result = sut.count();
+
+    // Assert
+    softly.assertThat(result).isEqualTo(5);
+    softly.assertThat(sut.toImmutableList().toList()).containsExactly(5, 6, 7, 8, 9);
+  }
+
+  @Test
+  void filter_withNullPredicate_expectedException() {
+    // Arrange
+    final var sut = range(0, 3).view();
+
+    // Act
+    final ThrowingCallable action = () -> sut.filter(null);
+
+    // Assert
+    softly.assertThatThrownBy(action).isInstanceOf(NullPointerException.class);
+  }
+
+  @Test
+  void fold_withNullFolder_expectedException() {
+    // Arrange
+    final var sut = range(0, 3).view();
+
+    // Act
+    final ThrowingCallable action = () -> sut.fold(0, null);
+
+    // Assert
+    softly.assertThatThrownBy(action).isInstanceOf(NullPointerException.class);
+  }
+}
@@ -3,6 +3,7 @@ package babysteps.core;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Spliterator;
 import org.assertj.core.api.SoftAssertions;
 import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
 import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
@@ -63,27 +64,24 @@ class NonEmptyListTest {
   @Test
   void privateConstructor_withEmptyList_expectedException() throws Exception {
     // Arrange
-    final var constructor = NonEmptyList.class.getDeclaredConstructor(List.class, boolean.class);
+    final var constructor = NonEmptyList.class.getDeclaredConstructor(ImmutableList.class);
     constructor.setAccessible(true);
 
     // Act
-    final ThrowingCallable action = () -> constructor.newInstance(List.of(), true);
+    final ThrowingCallable action = () -> constructor.newInstance(ImmutableList.empty());
 
     // Assert
     softly.assertThatThrownBy(action).hasCauseInstanceOf(IllegalArgumentException.class);
   }
 
   @Test
-  @SuppressWarnings("unchecked")
-  void privateConstructor_withAlreadyOwnedFalse_expectedCopiedUnmodifiable() throws Exception {
+  void fromIterable_withValues_expectedDefensiveCopyAndUnmodifiable() {
     // Arrange
     final var values = new ArrayList<String>();
     values.add("a");
-    final var constructor = NonEmptyList.class.getDeclaredConstructor(List.class, boolean.class);
-    constructor.setAccessible(true);
 
     // Act
-    final var sut = (NonEmptyList<String>) constructor.newInstance(values, false);
+    final var sut = NonEmptyList.fromIterable(values).getOrElse(null);
     values.add("b");
     final ThrowingCallable action = () -> sut.toList().add("c");
 
@@ -92,6 +90,43 @@ class NonEmptyListTest {
     softly.assertThatThrownBy(action).isInstanceOf(UnsupportedOperationException.class);
   }
 
+  @Test
+  void builder_withValues_expectedOrder() {
+    // Arrange
+    final var builder = NonEmptyList.builder("a").add("b");
+
+    // Act
+    final var sut = builder.addAll(List.of("c", "d")).build();
+
+    // Assert
+    softly.assertThat(sut.toList()).containsExactly("a", "b", "c", "d");
+  }
+
+  @Test
+  void builder_withOnlyFirst_expectedSingleton() {
+    // Arrange
+    final var builder = NonEmptyList.<String>builder(null);
+
+    // Act
+    final var sut = builder.build();
+
+    // Assert
+    softly.assertThat(sut.head()).isNull();
+    softly.assertThat(sut.size()).isEqualTo(1);
+  }
+
+  @Test
+  void toImmutableList_expectedSameElements() {
+    // Arrange
+    final var sut = NonEmptyList.of("a", "b");
+
+    // Act
+    final var result = sut.toImmutableList();
+
+    // Assert
+    softly.assertThat(result).isEqualTo(ImmutableList.of("a", "b"));
+  }
+
   @Test
   void fromList_withNull_expectedException() {
     // Arrange
@@ -382,6 +417,20 @@ class NonEmptyListTest {
     softly.assertThat(left.hashCode()).isEqualTo(right.hashCode());
   }
 
+  @Test
+  void hashCode_expectedUnderlyingListHashCode() {
+    // Arrange
+    final var sut = NonEmptyList.of("a", "b", "c");
+
+    // Act
+    final var result = sut.hashCode();
+
+    // Assert
+    softly.assertThat(result).isEqualTo(List.of("a", "b", "c").hashCode());
+    softly.assertThat(result).isEqualTo(sut.toImmutableList().hashCode());
+    softly.assertThat(sut.hashCode()).isEqualTo(result);
+  }
+
   @Test
   void equals_withDifferentValues_expectedFalse() {
     // Arrange
@@ -418,4 +467,92 @@ class NonEmptyListTest {
     // Assert
     softly.assertThat(result).isEqualTo("NonEmptyList[a, b]");
   }
+
+  @Test
+  void withMutations_prepend_expectedEditedCopy() {
+    // Arrange
+    final var sut = NonEmptyList.of("b");
+
+    // Act
+    final var result = sut.withMutations(list -> list.prepend("a").append("c"));
+
+    // Assert
+    softly.assertThat(result.toList()).isEqualTo(List.of("a", "b", "c"));
+    softly.assertThat(sut.toList()).isEqualTo(List.of("b"));
+  }
+
+  @Test
+  void parallelStream_expectedEncounterOrder() {
+    // Arrange
+    final var sut = NonEmptyList.of("a", "b", "c");
+
+    // Act
+    final var result = sut.parallelStream().map(String::toUpperCase).toList();
+
+    // Assert
+    softly.assertThat(result).containsExactly("A", "B", "C");
+  }
+
+  @Test
+  void spliterator_expectedSized() {
+    // Arrange
+    final var sut = NonEmptyList.of("a", "b");
+
+    // Act
+    final var result = sut.spliterator();
+
+    // Assert
+    softly.assertThat(result.hasCharacteristics(Spliterator.SIZED)).isTrue();
+    softly.assertThat(result.getExactSizeIfKnown()).isEqualTo(2);
+  }
+
+  @Test
+  void foldRight_withValues_expectedRightToLeftOrder() {
+    // Arrange
+    final var sut = NonEmptyList.of("a", "b", "c");
+
+    // Act
+    final var result = sut.foldRight("", (value, acc) -> acc + value);
+
+    // Assert
+    softly.assertThat(result).isEqualTo("cba");
+  }
+
+  @Test
+  void foldWhile_conditionFails_expectedPartialFold() {
+    // Arrange
+    final var sut = NonEmptyList.of(1, 2, 3, 4);
+
+    // Act
+    final var result = sut.foldWhile(0, sum -> sum < 3, Integer::sum);
+
+    // Assert
+    softly.assertThat(result).isEqualTo(3);
+  }
+
+  @Test
+  void foldInt_withValues_expectedAccumulatedValue() {
+    // Arrange
+    final var sut = NonEmptyList.of(1, 2, 3);
+
+    // Act
+    final var result = sut.foldInt(0, (acc, value) -> acc + value);
+
+    // Assert
+    softly.assertThat(result).isEqualTo(6);
+  }
+
+  @Test
+  void sumBy_withValues_expectedSum() {
+    // Arrange
+    final var sut = NonEmptyList.of("a", "bb");
+
+    // Act
+    final var result = sut.sumBy(String::length);
+
+    // Assert
+    softly.assertThat(result).isEqualTo(3L);
+    softly.assertThat(sut.foldLong(1L, (acc, value) -> acc * 10)).isEqualTo(100L);
+    softly.assertThat(sut.foldDouble(0.5, (acc, value) -> acc * 2)).isEqualTo(2.0);
+  }
 }
@@ -0,0 +1,179 @@
+package babysteps.core;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(SoftAssertionsExtension.class)
+class OffHeapListTest {
+  @InjectSoftAssertions private SoftAssertions softly;
+
+  /** Fixed-layout record used to exercise multi-field codecs. */
+  private record Tick(long id, double value) {}
+
+  private static final FixedWidthCodec<Tick> TICK_CODEC =
+      new FixedWidthCodec<>() {
+        @Override
+        public int byteSize() {
+          return 16;
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, Tick tick) {
+          buffer.putLong(offset, tick.id()).putDouble(offset + 8, tick.value());
+        }
+
+        @Override
+        public Tick read(ByteBuffer buffer, int offset) {
+          return new Tick(buffer.getLong(offset), buffer.getDouble(offset + 8));
+        }
+      };
+
+  private static FixedWidthCodec<Integer> width(int byteSize) {
+    return new FixedWidthCodec<>() {
+      @Override
+      public int byteSize() {
+        return byteSize;
+      }
+
+      @Override
+      public void write(ByteBuffer buffer, int offset, Integer value) {}
+
+      @Override
+      public Integer read(ByteBuffer buffer, int offset) {
+        return 0;
+      }
+    };
+  }
+
+  @Test
+  void fromIterable_withRecords_expectedDecodedValues() {
+    // Arrange
+    final var values = IntStream.range(0, 5_000).mapToObj(index -> new Tick(index, index / 2.0));
+
+    // Act
+    final var sut = OffHeapList.fromIterable(values.toList(), TICK_CODEC);
+
+    // Assert
+    softly.assertThat(sut.size()).isEqualTo(5_000);
+    softly.assertThat(sut.getOption(0)).isEqualTo(Option.some(new Tick(0, 0.0)));
+    softly.assertThat(sut.getOption(4_999)).isEqualTo(Option.some(new Tick(4_999, 2_499.5)));
+    softly
+        .assertThat(sut.stream().map(Tick::id).toList())
+        .isEqualTo(IntStream.range(0, 5_000).mapToObj(Long::valueOf).toList());
+  }
+
+  @Test
+  void getOption_withIndexOutOfRange_expectedNone() {
+    // Arrange
+    final var sut = OffHeapList.fromIterable(List.of(1, 2, 3), FixedWidthCodec.ints());
+
+    // Act
+    final var result = sut.getOption(3);
+
+    // Assert
+    softly.assertThat(result).isEqualTo(Option.none());
+    softly.assertThat(sut.getOption(-1)).isEqualTo(Option.none());
+    softly.assertThat(sut.getOrElse(5, -1)).isEqualTo(-1);
+  }
+
+  @Test
+  void empty_expectedNoElements() {
+    // Arrange
+    // Act
+    final var sut = OffHeapList.empty(FixedWidthCodec.longs());
+
+    // Assert
+    softly.assertThat(sut.isEmpty()).isTrue();
+    softly.assertThat(sut.iterator().hasNext()).isFalse();
+    softly.assertThat(sut.toString()).isEqualTo("OffHeapList(size=0, byteSize=8)");
+  }
+
+  @Test
+  void mapAndFilter_expectedEncodedResults() {
+    // Arrange
+    final var sut = OffHeapList.fromIterable(List.of(1, 2, 3, 4), FixedWidthCodec.ints());
+
+    // Act
+    final var result =
+        sut.filter(value -> value % 2 == 0).map(value -> value * 1.5, FixedWidthCodec.doubles());
+
+    // Assert
+    softly.assertThat(result.toImmutableList()).isEqualTo(ImmutableList.of(3.0, 6.0));
+    softly.assertThat(result.codec().byteSize()).isEqualTo(Double.BYTES);
+  }
+
+  @Test
+  void folds_expectedLeftToRightResults() {
+    // Arrange
+    final var sut = OffHeapList.fromIterable(List.of(1, 2, 3), FixedWidthCodec.ints());
+
+    // Act
+    final var result = sut.fold("", (text, value) -> text + value);
+
+    // Assert
+    softly.assertThat(result).isEqualTo("123");
+    softly.assertThat(sut.foldLong(10, (sum, value) -> sum + value)).isEqualTo(16);
+    softly.assertThat(sut.foldDouble(0.5, (sum, value) -> sum + value)).isEqualTo(6.5);
+  }
+
+  @Test
+  void parallelStream_expectedSameSumAsSequential() {
+    // Arrange
+    final var sut =
+        OffHeapList.fromIterable(
+            IntStream.range(0, 100_000).mapToObj(Long::valueOf).toList(), FixedWidthCodec.longs());
+
+    // Act
+    final var result = sut.parallelStream().mapToLong(Long::longValue).sum();
+
+    // Assert
+    softly.assertThat(result).isEqualTo(4_999_950_000L);
+    softly.assertThat(sut.spliterator().getExactSizeIfKnown()).isEqualTo(100_000);
+  }
+
+  @Test
+  void build_thenAdd_expectedBuiltListUnchanged() {
+    // Arrange
+    final var builder = OffHeapList.builder(FixedWidthCodec.ints()).add(1).add(2);
+    final var sut = builder.build();
+
+    // Act
+    IntStream.range(0, 2_000).forEach(builder::add);
+
+    // Assert
+    softly.assertThat(sut.toImmutableList()).isEqualTo(ImmutableList.of(1, 2));
+    softly.assertThat(builder.build().size()).isEqualTo(2_002);
+  }
+
+  @Test
+  void builder_withNonPositiveByteSize_expectedException() {
+    // Arrange
+    // Act
+    final ThrowingCallable action = () -> OffHeapList.builder(width(0));
+
+    // Assert
+    softly
+        .assertThatThrownBy(action)
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("byteSize must be between 1 and 2^30");
+  }
+
+  @Test
+  void chunkShift_expectedLargestPowerOfTwoWithinOneGibibyte() {
+    // Arrange
+    // Act
+    final var result = OffHeapList.chunkShift(16);
+
+    // Assert
+    softly.assertThat(result).isEqualTo(26);
+    softly.assertThat(OffHeapList.chunkShift(24)).isEqualTo(25);
+    softly.assertThat(OffHeapList.chunkShift(1 << 30)).isZero();
+  }
+}
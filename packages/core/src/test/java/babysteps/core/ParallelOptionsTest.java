@@ -0,0 +1,73 @@
+package babysteps.core;
+
+import java.util.concurrent.ForkJoinPool;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(SoftAssertionsExtension.class)
+class ParallelOptionsTest {
+  @InjectSoftAssertions private SoftAssertions softly;
+
+  @Test
+  void defaults_expectedCommonPoolAndDefaultThreshold() {
+    // Arrange
+    // Act
+    final var sut = ParallelOptions.defaults();
+
+    // Assert
+    softly.assertThat(sut.pool()).isSameAs(ForkJoinPool.commonPool());
+    softly.assertThat(sut.threshold()).isEqualTo(ParallelOptions.DEFAULT_THRESHOLD);
+  }
+
+  @Test
+  void withThreshold_expectedUpdatedCopy() {
+    // Arrange
+    final var options = ParallelOptions.defaults();
+
+    // Act
+    final var sut = options.withThreshold(10);
+
+    // Assert
+    softly.assertThat(sut.threshold()).isEqualTo(10);
+    softly.assertThat(options.threshold()).isEqualTo(ParallelOptions.DEFAULT_THRESHOLD);
+  }
+
+  @Test
+  void withPool_expectedUpdatedCopy() {
+    // Arrange
+    final var pool = new ForkJoinPool(2);
+
+    // Act
+    final var sut = ParallelOptions.defaults().withPool(pool);
+
+    // Assert
+    softly.assertThat(sut.pool()).isSameAs(pool);
+    pool.shutdown();
+  }
+
+  @Test
+  void constructor_withNonPositiveThreshold_expectedException() {
+    // Arrange
+    // Act
+    final ThrowingCallable action = () -> new ParallelOptions(ForkJoinPool.commonPool(), 0);
+
+    // Assert
+    softly.assertThatThrownBy(action)
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("threshold must be positive");
+  }
+
+  @Test
+  void constructor_withNullPool_expectedException() {
+    // Arrange
+    // Act
+    final ThrowingCallable action = () -> new ParallelOptions(null, 1);
+
+    // Assert
+    softly.assertThatThrownBy(action).isInstanceOf(NullPointerException.class);
+  }
+}
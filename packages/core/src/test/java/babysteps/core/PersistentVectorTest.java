@@ -0,0 +1,196 @@
+package babysteps.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(SoftAssertionsExtension.class)
+class PersistentVectorTest {
+  @InjectSoftAssertions private SoftAssertions softly;
+
+  private static List<Integer> range(int from, int to) {
+    return IntStream.range(from, to).boxed().toList();
+  }
+
+  private static List<Integer> toJavaList(PersistentVector<Integer> vector) {
+    final var list = new ArrayList<Integer>();
+    vector.forEach(list::add);
+    return list;
+  }
+
+  @Test
+  void empty_expectedSizeZero() {
+    // Arrange
+    // Act
+    final var sut = PersistentVector.<Integer>empty();
+
+    // Assert
+    softly.assertThat(sut.size()).isZero();
+    softly.assertThat(sut.iterator().hasNext()).isFalse();
+  }
+
+  @Test
+  void fromIterable_withThreeLevels_expectedIndexedReads() {
+    // Arrange
+    final var values = range(0, 40_000);
+
+    // Act
+    final var sut = PersistentVector.fromIterable(values);
+
+    // Assert
+    softly.assertThat(sut.size()).isEqualTo(40_000);
+    softly.assertThat(sut.get(0)).isEqualTo(0);
+    softly.assertThat(sut.get(1_055)).isEqualTo(1_055);
+    softly.assertThat(sut.get(39_999)).isEqualTo(39_999);
+    softly.assertThat(toJavaList(sut)).isEqualTo(values);
+  }
+
+  @Test
+  void prepend_beyondRootCapacity_expectedOrderPreserved() {
+    // Arrange
+    final var base = PersistentVector.fromIterable(range(2_000, 2_100));
+
+    // Act
+    final var sut =
+        IntStream.range(0, 2_000)
+            .map(index -> 1_999 - index)
+            .boxed()
+            .reduce(base, PersistentVector::prepend, (left, right) -> left);
+
+    // Assert
+    softly.assertThat(toJavaList(sut)).isEqualTo(range(0, 2_100));
+    softly.assertThat(sut.get(2_099)).isEqualTo(2_099);
+  }
+
+  @Test
+  void set_withPrependedVector_expectedOtherVersionsUnchanged() {
+    // Arrange
+    final var base = PersistentVector.fromIterable(range(1, 70)).prepend(0);
+
+    // Act
+    final var sut = base.set(0, -1).set(33, -33).set(69, -69);
+
+    // Assert
+    softly.assertThat(sut.get(0)).isEqualTo(-1);
+    softly.assertThat(sut.get(33)).isEqualTo(-33);
+    softly.assertThat(sut.get(69)).isEqualTo(-69);
+    softly.assertThat(toJavaList(base)).isEqualTo(range(0, 70));
+  }
+
+  @Test
+  void appender_afterBuild_expectedBuiltVectorUnchanged() {
+    // Arrange
+    final var appender = new PersistentVector.Appender<Integer>(PersistentVector.empty());
+    range(0, 64).forEach(appender::add);
+    final var built = appender.build();
+
+    // Act
+    range(64, 100).forEach(appender::add);
+    final var sut = appender.build();
+
+    // Assert
+    softly.assertThat(toJavaList(built)).isEqualTo(range(0, 64));
+    softly.assertThat(toJavaList(sut)).isEqualTo(range(0, 100));
+  }
+
+  @Test
+  void concat_withSmallerLeft_expectedLeftPrepended() {
+    // Arrange
+    final var left = PersistentVector.fromIterable(range(0, 10));
+    final var right = PersistentVector.fromIterable(range(10, 1_000));
+
+    // Act
+    final var sut = left.concat(right);
+
+    // Assert
+    softly.assertThat(toJavaList(sut)).isEqualTo(range(0, 1_000));
+    softly.assertThat(toJavaList(right)).isEqualTo(range(10, 1_000));
+  }
+
+  @Test
+  void slice_expectedWindowOverSharedStorage() {
+    // Arrange
+    final var base = PersistentVector.fromIterable(range(0, 2_000));
+
+    // Act
+    final var sut = base.slice(1_000, 1_050);
+
+    // Assert
+    softly.assertThat(sut.size()).isEqualTo(50);
+    softly.assertThat(toJavaList(sut)).isEqualTo(range(1_000, 1_050));
+  }
+
+  @Test
+  void appender_withSlicedBase_expectedParentUnchanged() {
+    // Arrange
+    final var parent = PersistentVector.fromIterable(range(0, 3_000));
+    final var appender = new PersistentVector.Appender<Integer>(parent.slice(0, 100));
+
+    // Act
+    range(0, 2_000).forEach(index -> appender.add(-index));
+    final var sut = appender.build();
+
+    // Assert
+    softly.assertThat(sut.size()).isEqualTo(2_100);
+    softly.assertThat(sut.get(2_099)).isEqualTo(-1_999);
+    softly.assertThat(toJavaList(parent)).isEqualTo(range(0, 3_000));
+  }
+
+  @Test
+  void compact_withSlice_expectedSameElements() {
+    // Arrange
+    final var sut = PersistentVector.fromIterable(range(0, 2_000)).slice(33, 97);
+
+    // Act
+    final var result = sut.compact();
+
+    // Assert
+    softly.assertThat(toJavaList(result)).isEqualTo(range(33, 97));
+  }
+
+  @Test
+  void append_toExactlySizedSmallVector_expectedGrowthIntoTrie() {
+    // Arrange
+    final var base = PersistentVector.<Integer>fromArray(new Object[] {0, 1, 2}, 0, 3);
+
+    // Act
+    final var sut =
+        range(3, 70).stream().reduce(base, PersistentVector::append, (left, right) -> right);
+
+    // Assert
+    softly.assertThat(toJavaList(sut)).isEqualTo(range(0, 70));
+    softly.assertThat(toJavaList(base)).isEqualTo(range(0, 3));
+  }
+
+  @Test
+  void prependAndSet_onSmallVector_expectedOtherVersionsUnchanged() {
+    // Arrange
+    final var base = PersistentVector.<Integer>empty().append(1).append(2);
+
+    // Act
+    final var sut = base.prepend(0).set(2, 20);
+
+    // Assert
+    softly.assertThat(toJavaList(sut)).isEqualTo(List.of(0, 1, 20));
+    softly.assertThat(toJavaList(base)).isEqualTo(List.of(1, 2));
+  }
+
+  @Test
+  void fromArray_withTypedArray_expectedAnyElementAccepted() {
+    // Arrange
+    final Object[] values = new String[] {"a", "b"};
+
+    // Act
+    final var sut = PersistentVector.fromArray(values, 0, 2).append(1).set(0, 2);
+
+    // Assert
+    softly.assertThat(sut.size()).isEqualTo(3);
+    softly.assertThat(sut.get(0)).isEqualTo(2);
+    softly.assertThat(sut.get(2)).isEqualTo(1);
+  }
+}
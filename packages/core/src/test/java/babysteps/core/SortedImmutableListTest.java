@@ -0,0 +1,160 @@
+package babysteps.core;
+
+import java.util.Comparator;
+import java.util.stream.IntStream;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(SoftAssertionsExtension.class)
+class SortedImmutableListTest {
+  @InjectSoftAssertions private SoftAssertions softly;
+
+  private static SortedImmutableList<Integer> evens(int count) {
+    final var values = IntStream.range(0, count).map(value -> value * 2).boxed().toList();
+    return ImmutableList.fromList(values).asSorted(Comparator.naturalOrder());
+  }
+
+  @Test
+  void asSorted_withUnsortedList_expectedIllegalArgumentException() {
+    // Arrange
+    final var sut = ImmutableList.of(1, 3, 2);
+
+    // Act
+    final ThrowingCallable action = () -> sut.asSorted(Comparator.naturalOrder());
+
+    // Assert
+    softly.assertThatThrownBy(action).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void asSorted_withNullComparator_expectedNullPointerException() {
+    // Arrange
+    final var sut = ImmutableList.of(1);
+
+    // Act
+    final ThrowingCallable action = () -> sut.asSorted(null);
+
+    // Assert
+    softly.assertThatThrownBy(action).isInstanceOf(NullPointerException.class);
+  }
+
+  @Test
+  void binarySearch_withPresentKey_expectedIndex() {
+    // Arrange
+    final var sut = evens(1_000);
+
+    // Act
+    final var result = sut.binarySearch(1_234);
+
+    // Assert
+    softly.assertThat(result).isEqualTo(617);
+  }
+
+  @Test
+  void binarySearch_withAbsentKey_expectedEncodedInsertionPoint() {
+    // Arrange
+    final var sut = evens(1_000);
+
+    // Act
+    final var result = sut.binarySearch(1_235);
+
+    // Assert
+    softly.assertThat(result).isEqualTo(-619);
+    softly.assertThat(sut.binarySearch(-1)).isEqualTo(-1);
+    softly.assertThat(sut.binarySearch(5_000)).isEqualTo(-1_001);
+  }
+
+  @Test
+  void lowerBoundAndUpperBound_withDuplicates_expectedRunBoundaries() {
+    // Arrange
+    final var sut = ImmutableList.of(1, 2, 2, 2, 3).asSorted(Comparator.naturalOrder());
+
+    // Act
+    final var result = sut.lowerBound(2);
+
+    // Assert
+    softly.assertThat(result).isEqualTo(1);
+    softly.assertThat(sut.upperBound(2)).isEqualTo(4);
+    softly.assertThat(sut.lowerBound(0)).isZero();
+    softly.assertThat(sut.upperBound(3)).isEqualTo(5);
+  }
+
+  @Test
+  void contains_expectedComparatorBasedLookup() {
+    // Arrange
+    final var sut = evens(100);
+
+    // Act
+    final var result = sut.contains(42);
+
+    // Assert
+    softly.assertThat(result).isTrue();
+    softly.assertThat(sut.contains(43)).isFalse();
+  }
+
+  @Test
+  void range_expectedHalfOpenSortedSlice() {
+    // Arrange
+    final var sut = evens(1_000);
+
+    // Act
+    final var result = sut.range(11, 20);
+
+    // Assert
+    softly.assertThat(result.toImmutableList().toList()).containsExactly(12, 14, 16, 18);
+    softly.assertThat(result.comparator()).isSameAs(sut.comparator());
+  }
+
+  @Test
+  void range_withReversedBounds_expectedEmpty() {
+    // Arrange
+    final var sut = evens(10);
+
+    // Act
+    final var result = sut.range(10, 4);
+
+    // Assert
+    softly.assertThat(result.isEmpty()).isTrue();
+  }
+
+  @Test
+  void range_coveringAll_expectedSameInstance() {
+    // Arrange
+    final var sut = evens(10);
+
+    // Act
+    final var result = sut.range(0, 100);
+
+    // Assert
+    softly.assertThat(result).isSameAs(sut);
+  }
+
+  @Test
+  void equals_withSameElementsAndComparator_expectedTrue() {
+    // Arrange
+    final var sut = evens(3);
+
+    // Act
+    final var result = sut.equals(evens(3));
+
+    // Assert
+    softly.assertThat(result).isTrue();
+    softly.assertThat(sut.hashCode()).isEqualTo(evens(3).hashCode());
+  }
+
+  @Test
+  void toString_expectedValue() {
+    // Arrange
+    final var sut = evens(3);
+
+    // Act
+    final var result = sut.toString();
+
+    // Assert
+    softly.assertThat(result).isEqualTo("SortedImmutableList[0, 2, 4]");
+  }
+}
@@ -0,0 +1,170 @@
+package babysteps.core;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(SoftAssertionsExtension.class)
+class TransientListTest {
+  @InjectSoftAssertions private SoftAssertions softly;
+
+  private static ImmutableList<Integer> range(int from, int to) {
+    return ImmutableList.fromList(IntStream.range(from, to).boxed().toList());
+  }
+
+  @Test
+  void append_manyValues_expectedAppendedInOrder() {
+    // Arrange
+    final var sut = ImmutableList.<Integer>empty().asTransient();
+
+    // Act
+    final var result = sut.appendAll(range(0, 5_000)).toImmutableList();
+
+    // Assert
+    softly.assertThat(result.toList()).isEqualTo(range(0, 5_000).toList());
+    softly.assertThat(sut.size()).isEqualTo(5_000);
+  }
+
+  @Test
+  void prepend_manyValues_expectedReversedOrder() {
+    // Arrange
+    final var sut = range(0, 40).asTransient();
+
+    // Act
+    final var result = sut.prepend(-1).prepend(-2).prepend(-3).toImmutableList();
+
+    // Assert
+    softly.assertThat(result.size()).isEqualTo(43);
+    softly.assertThat(result.take(4).toList()).isEqualTo(List.of(-3, -2, -1, 0));
+    softly.assertThat(result.getOption(42)).isEqualTo(Option.some(39));
+  }
+
+  @Test
+  void set_acrossTrie_expectedSourceUnchanged() {
+    // Arrange
+    final var source = range(0, 2_000);
+    final var sut = source.asTransient();
+
+    // Act
+    final var result = sut.set(0, -1).set(1_000, -2).set(1_999, -3).toImmutableList();
+
+    // Assert
+    softly.assertThat(result.getOption(0)).isEqualTo(Option.some(-1));
+    softly.assertThat(result.getOption(1_000)).isEqualTo(Option.some(-2));
+    softly.assertThat(result.getOption(1_999)).isEqualTo(Option.some(-3));
+    softly.assertThat(source.toList()).isEqualTo(range(0, 2_000).toList());
+  }
+
+  @Test
+  void set_withSlicedSource_expectedSourceUnchanged() {
+    // Arrange
+    final var source = range(0, 1_000).drop(100).take(500);
+    final var sut = source.asTransient();
+
+    // Act
+    final var result = sut.set(0, -1).prepend(-2).append(-3).toImmutableList();
+
+    // Assert
+    softly.assertThat(result.size()).isEqualTo(502);
+    softly.assertThat(result.take(3).toList()).isEqualTo(List.of(-2, -1, 101));
+    softly.assertThat(result.getOption(501)).isEqualTo(Option.some(-3));
+    softly.assertThat(source.toList()).isEqualTo(range(100, 600).toList());
+  }
+
+  @Test
+  void toImmutableList_thenEdit_expectedFrozenListUnchanged() {
+    // Arrange
+    final var sut = range(0, 100).asTransient();
+    final var frozen = sut.set(50, -1).toImmutableList();
+
+    // Act
+    final var result = sut.set(50, -2).append(100).toImmutableList();
+
+    // Assert
+    softly.assertThat(frozen.size()).isEqualTo(100);
+    softly.assertThat(frozen.getOption(50)).isEqualTo(Option.some(-1));
+    softly.assertThat(result.size()).isEqualTo(101);
+    softly.assertThat(result.getOption(50)).isEqualTo(Option.some(-2));
+  }
+
+  @Test
+  void toImmutableList_withoutEdits_expectedSharedEmpty() {
+    // Arrange
+    final var sut = ImmutableList.empty().asTransient();
+
+    // Act
+    final var result = sut.toImmutableList();
+
+    // Assert
+    softly.assertThat(result).isSameAs(ImmutableList.empty());
+    softly.assertThat(sut.isEmpty()).isTrue();
+  }
+
+  @Test
+  void getOption_outOfRange_expectedNone() {
+    // Arrange
+    final var sut = range(0, 3).asTransient();
+
+    // Act
+    final var result = sut.getOption(3);
+
+    // Assert
+    softly.assertThat(result).isEqualTo(Option.none());
+    softly.assertThat(sut.getOption(-1)).isEqualTo(Option.none());
+  }
+
+  @Test
+  void set_outOfRange_expectedIndexOutOfBoundsException() {
+    // Arrange
+    final var sut = range(0, 3).asTransient();
+
+    // Act
+    final ThrowingCallable action = () -> sut.set(3, 0);
+
+    // Assert
+    softly.assertThatThrownBy(action).isInstanceOf(IndexOutOfBoundsException.class);
+  }
+
+  @Test
+  void appendAll_withNull_expectedNullPointerException() {
+    // Arrange
+    final var sut = ImmutableList.<Integer>empty().asTransient();
+
+    // Act
+    final ThrowingCallable action = () -> sut.appendAll(null);
+
+    // Assert
+    softly.assertThatThrownBy(action).isInstanceOf(NullPointerException.class);
+  }
+
+  @Test
+  void toString_expectedValue() {
+    // Arrange
+    final var sut = ImmutableList.of("a").asTransient().append("b");
+
+    // Act
+    final var result = sut.toString();
+
+    // Assert
+    softly.assertThat(result).isEqualTo("TransientList[a, b]");
+  }
+
+  @Test
+  void toString_withNullAndLaterEdit_expectedCurrentContents() {
+    // Arrange
+    final var sut = range(0, 40).asTransient().set(0, null);
+    final var before = sut.toString();
+
+    // Act
+    final var result = sut.set(39, -1).toString();
+
+    // Assert
+    softly.assertThat(before).startsWith("TransientList[null, 1, ").endsWith(", 38, 39]");
+    softly.assertThat(result).endsWith(", 38, -1]");
+  }
+}
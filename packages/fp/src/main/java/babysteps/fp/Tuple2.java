@@ -1,5 +1,8 @@
 package babysteps.fp;
 
+import java.util.AbstractMap;
+import java.util.Map;
+import java.util.Objects;
 import java.util.function.Function;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
@@ -27,6 +30,21 @@ public record Tuple2<A, B>(@Nullable A first, @Nullable B second) {
     return new Tuple2<>(first, second);
   }
 
+  /**
+   * Creates a {@link Tuple2} from the key and value of a map entry.
+   *
+   * @param entry entry to convert
+   * @param <A> key type
+   * @param <B> value type
+   * @return a tuple of the entry's key and value
+   * @throws NullPointerException if {@code entry} is {@code null}
+   */
+  public static <A, B> @NonNull Tuple2<@Nullable A, @Nullable B> fromEntry(
+      Map.@NonNull Entry<? extends @Nullable A, ? extends @Nullable B> entry) {
+    Objects.requireNonNull(entry, "entry");
+    return new Tuple2<>(entry.getKey(), entry.getValue());
+  }
+
   /**
    * Returns the first element.
    *
@@ -45,6 +63,15 @@ public record Tuple2<A, B>(@Nullable A first, @Nullable B second) {
     return second;
   }
 
+  /**
+   * Converts the tuple into an immutable map entry; both elements may be {@code null}.
+   *
+   * @return an entry with the first element as key and the second element as value
+   */
+  public Map.@NonNull Entry<@Nullable A, @Nullable B> toEntry() {
+    return new AbstractMap.SimpleImmutableEntry<>(first, second);
+  }
+
   /**
    * Swap the tuple elements.
    *
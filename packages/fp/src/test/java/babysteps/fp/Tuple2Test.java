@@ -1,5 +1,9 @@
 package babysteps.fp;
 
+import babysteps.core.ImmutableList;
+import babysteps.core.ImmutableMap;
+import babysteps.core.Option;
+import java.util.Map;
 import org.assertj.core.api.SoftAssertions;
 import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
 import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
@@ -23,6 +27,44 @@ class Tuple2Test {
     softly.assertThat(result._2()).isEqualTo("right");
   }
 
+  @Test
+  void fromEntry_expectedKeyAndValue() {
+    // Arrange
+    final var entry = Map.entry("key", 1);
+
+    // Act
+    final var result = Tuple2.fromEntry(entry);
+
+    // Assert
+    softly.assertThat(result).isEqualTo(Tuple2.of("key", 1));
+  }
+
+  @Test
+  void toEntry_withNullValue_expectedEntry() {
+    // Arrange
+    final var sut = Tuple2.of("key", (Integer) null);
+
+    // Act
+    final var result = sut.toEntry();
+
+    // Assert
+    softly.assertThat(result.getKey()).isEqualTo("key");
+    softly.assertThat(result.getValue()).isNull();
+  }
+
+  @Test
+  void toEntry_withImmutableMap_expectedRoundTrip() {
+    // Arrange
+    final var tuples = ImmutableList.of(Tuple2.of("a", 1), Tuple2.of("b", 2));
+
+    // Act
+    final var result = ImmutableMap.fromEntries(tuples.map(Tuple2::toEntry));
+
+    // Assert
+    softly.assertThat(result.get("b")).isEqualTo(Option.some(2));
+    softly.assertThat(result.toList().map(Tuple2::fromEntry).size()).isEqualTo(2);
+  }
+
   @Test
   void swap_expectedSwappedTuple() {
     // Arrange